@@ -0,0 +1,86 @@
+package backend.databaseproject.benchmark;
+
+import backend.databaseproject.domain.route.simulation.FlightTrajectory;
+import backend.databaseproject.global.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시뮬레이션 틱 위치 계산 벤치마크
+ * gc 프로파일러의 gc.alloc.rate.norm 값이 틱 1회당 할당 바이트입니다.
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FlightTrajectoryBenchmark {
+
+    private static final double START_LAT = 37.5665;
+    private static final double START_LNG = 126.9780;
+    private static final double END_LAT = 37.5512;
+    private static final double END_LNG = 126.9882;
+    private static final int STEPS = 120;
+
+    @Param({"false", "true"})
+    public boolean greatCircle;
+
+    private FlightTrajectory trajectory;
+    private int step;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        trajectory = FlightTrajectory.of(START_LAT, START_LNG, END_LAT, END_LNG, STEPS, greatCircle);
+    }
+
+    /**
+     * 기존 방식: 틱마다 보간 배열과 BigDecimal 생성
+     */
+    @Benchmark
+    public void legacyTick(Blackhole blackhole) {
+        int current = nextStep();
+        double[] position = GeoUtils.interpolate(START_LAT, START_LNG, END_LAT, END_LNG, (double) current / STEPS);
+        blackhole.consume(BigDecimal.valueOf(position[0]).setScale(6, RoundingMode.HALF_UP));
+        blackhole.consume(BigDecimal.valueOf(position[1]).setScale(6, RoundingMode.HALF_UP));
+        blackhole.consume(position[0]);
+        blackhole.consume(position[1]);
+    }
+
+    /**
+     * 궤적 방식: 미리 계산된 배열 조회만 수행
+     */
+    @Benchmark
+    public void trajectoryTick(Blackhole blackhole) {
+        int current = nextStep();
+        blackhole.consume(trajectory.scaledLat(current));
+        blackhole.consume(trajectory.scaledLng(current));
+        blackhole.consume(trajectory.lat(current));
+        blackhole.consume(trajectory.lng(current));
+    }
+
+    /**
+     * 구간당 1회 발생하는 궤적 생성 비용
+     */
+    @Benchmark
+    public FlightTrajectory buildTrajectory() {
+        return FlightTrajectory.of(START_LAT, START_LNG, END_LAT, END_LNG, STEPS, greatCircle);
+    }
+
+    private int nextStep() {
+        int current = step;
+        step = current == STEPS ? 0 : current + 1;
+        return current;
+    }
+}
@@ -0,0 +1,116 @@
+package backend.databaseproject.domain.analytics.controller;
+
+import backend.databaseproject.domain.analytics.dto.response.FleetStatsResponse;
+import backend.databaseproject.domain.analytics.entity.StatGranularity;
+import backend.databaseproject.domain.analytics.service.FleetAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 운항 통계 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "드론/매장 운항 통계 API")
+@Slf4j
+public class AnalyticsController {
+
+    private final FleetAnalyticsService fleetAnalyticsService;
+
+    /**
+     * 드론 운항 통계 조회
+     *
+     * @param droneId     드론 ID
+     * @param granularity 버킷 단위
+     * @param from        조회 시작 시각 (선택)
+     * @param to          조회 종료 시각 (선택)
+     * @return 버킷별 통계와 구간 합계
+     */
+    @GetMapping("/drones/{droneId}")
+    @Operation(
+            summary = "드론 운항 통계 조회",
+            description = "드론의 시간별/일별 비행 수, 비행 거리, 배송 수, 가동률, 평균 배터리 사용량을 조회합니다. " +
+                         "비행 완료 시 누적되는 요약 테이블만 읽습니다. " +
+                         "from/to를 생략하면 최근 24시간(HOUR) 또는 30일(DAY)을 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "조회 성공"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "조회 구간 오류 (from >= to 또는 최대 버킷 수 초과)"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "존재하지 않는 드론"
+                    )
+            }
+    )
+    public FleetStatsResponse getDroneStats(
+            @Parameter(name = "droneId", description = "드론 ID", required = true, example = "1")
+            @PathVariable Long droneId,
+            @Parameter(name = "granularity", description = "버킷 단위 (HOUR / DAY)", example = "HOUR")
+            @RequestParam(defaultValue = "HOUR") StatGranularity granularity,
+            @Parameter(name = "from", description = "조회 시작 시각 (포함)", example = "2024-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(name = "to", description = "조회 종료 시각 (제외)", example = "2024-01-16T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.info("API 호출: GET /api/analytics/drones/{}?granularity={}&from={}&to={}", droneId, granularity, from, to);
+        return fleetAnalyticsService.getDroneStats(droneId, granularity, from, to);
+    }
+
+    /**
+     * 매장 운항 통계 조회
+     *
+     * @param storeId     매장 ID
+     * @param granularity 버킷 단위
+     * @param from        조회 시작 시각 (선택)
+     * @param to          조회 종료 시각 (선택)
+     * @return 버킷별 통계와 구간 합계
+     */
+    @GetMapping("/stores/{storeId}")
+    @Operation(
+            summary = "매장 운항 통계 조회",
+            description = "매장 소속 드론 전체의 시간별/일별 비행 수, 비행 거리, 배송 수, 가동률, 평균 배터리 사용량을 조회합니다. " +
+                         "가동률은 현재 소속 드론 수 기준입니다. " +
+                         "from/to를 생략하면 최근 24시간(HOUR) 또는 30일(DAY)을 조회합니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "조회 성공"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "조회 구간 오류 (from >= to 또는 최대 버킷 수 초과)"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "존재하지 않는 매장"
+                    )
+            }
+    )
+    public FleetStatsResponse getStoreStats(
+            @Parameter(name = "storeId", description = "매장 ID", required = true, example = "1")
+            @PathVariable Long storeId,
+            @Parameter(name = "granularity", description = "버킷 단위 (HOUR / DAY)", example = "HOUR")
+            @RequestParam(defaultValue = "HOUR") StatGranularity granularity,
+            @Parameter(name = "from", description = "조회 시작 시각 (포함)", example = "2024-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(name = "to", description = "조회 종료 시각 (제외)", example = "2024-01-16T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        log.info("API 호출: GET /api/analytics/stores/{}?granularity={}&from={}&to={}", storeId, granularity, from, to);
+        return fleetAnalyticsService.getStoreStats(storeId, granularity, from, to);
+    }
+}
@@ -0,0 +1,42 @@
+package backend.databaseproject.domain.analytics.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 운항 통계 버킷 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "운항 통계 (버킷 또는 조회 구간 합계)")
+public class FleetStatBucketResponse {
+
+    @Schema(description = "버킷 시작 시각 (합계는 조회 시작 시각)", example = "2024-01-15T14:00:00")
+    private LocalDateTime bucketStart;
+
+    @Schema(description = "완료된 비행 수", example = "4")
+    private int flights;
+
+    @Schema(description = "배송 완료 주문 수", example = "9")
+    private int deliveries;
+
+    @Schema(description = "비행 거리 (km)", example = "12.345")
+    private BigDecimal distanceKm;
+
+    @Schema(description = "비행 시간 (초)", example = "1800")
+    private long flightSeconds;
+
+    @Schema(description = "가동률 (비행 시간 / (버킷 길이 x 드론 수), 0~1)", example = "0.5")
+    private double utilization;
+
+    @Schema(description = "비행당 평균 배터리 사용량 (%)", example = "23.5", nullable = true)
+    private Double avgBatteryUsedPct;
+}
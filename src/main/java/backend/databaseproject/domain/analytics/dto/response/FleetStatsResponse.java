@@ -0,0 +1,45 @@
+package backend.databaseproject.domain.analytics.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 운항 통계 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "드론/매장 운항 통계")
+public class FleetStatsResponse {
+
+    @Schema(description = "집계 대상 (DRONE / STORE)", example = "STORE")
+    private String scope;
+
+    @Schema(description = "드론 ID 또는 매장 ID", example = "1")
+    private Long scopeId;
+
+    @Schema(description = "버킷 단위 (HOUR / DAY)", example = "HOUR")
+    private String granularity;
+
+    @Schema(description = "조회 시작 시각 (버킷 시작으로 내림, 포함)", example = "2024-01-15T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "조회 종료 시각 (제외)", example = "2024-01-16T00:00:00")
+    private LocalDateTime to;
+
+    @Schema(description = "가동률 계산에 사용한 드론 수 (매장은 현재 소속 드론 수)", example = "3")
+    private long droneCount;
+
+    @Schema(description = "조회 구간 합계")
+    private FleetStatBucketResponse total;
+
+    @Schema(description = "비행 기록이 있는 버킷 (시간순, 기록 없는 버킷은 생략)")
+    private List<FleetStatBucketResponse> buckets;
+}
@@ -0,0 +1,79 @@
+package backend.databaseproject.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 드론/매장 운항 통계 요약 엔티티 (조회 전용)
+ * 비행 완료 시 {@code FleetStatsRecorder}가 UPSERT로 누적하며, 엔티티로는 읽기만 합니다.
+ */
+@Entity
+@Table(name = "fleet_stat_rollup")
+@IdClass(FleetStatRollup.FleetStatRollupId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FleetStatRollup {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatScope scope;
+
+    @Id
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatGranularity granularity;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    // 버킷에서 끝난 비행 수
+    @Column(nullable = false)
+    private Integer flights;
+
+    // 버킷에서 끝난 비행의 배송 완료 주문 수
+    @Column(nullable = false)
+    private Integer deliveries;
+
+    @Column(name = "distance_km", nullable = false, precision = 12, scale = 3)
+    private BigDecimal distanceKm;
+
+    // 버킷과 겹친 비행 시간 합계 (가동률 계산용)
+    @Column(name = "flight_seconds", nullable = false)
+    private Long flightSeconds;
+
+    // 배터리 사용량(%) 합계 (평균 = battery_used_sum / flights)
+    @Column(name = "battery_used_sum", nullable = false)
+    private Long batteryUsedSum;
+
+    /**
+     * 복합 키 클래스
+     */
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @EqualsAndHashCode
+    public static class FleetStatRollupId implements Serializable {
+        private StatScope scope;
+        private Long scopeId;
+        private StatGranularity granularity;
+        private LocalDateTime bucketStart;
+
+        public FleetStatRollupId(StatScope scope, Long scopeId, StatGranularity granularity, LocalDateTime bucketStart) {
+            this.scope = scope;
+            this.scopeId = scopeId;
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+        }
+    }
+}
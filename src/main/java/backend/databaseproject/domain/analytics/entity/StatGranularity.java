@@ -0,0 +1,33 @@
+package backend.databaseproject.domain.analytics.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 운항 통계 버킷 단위
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatGranularity {
+    HOUR(ChronoUnit.HOURS),  // 시간별
+    DAY(ChronoUnit.DAYS);    // 일별
+
+    private final ChronoUnit unit;
+
+    /**
+     * 시각이 속한 버킷의 시작 시각
+     */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * 버킷 길이 (초)
+     */
+    public long seconds() {
+        return unit.getDuration().getSeconds();
+    }
+}
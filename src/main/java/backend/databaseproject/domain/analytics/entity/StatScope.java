@@ -0,0 +1,9 @@
+package backend.databaseproject.domain.analytics.entity;
+
+/**
+ * 운항 통계 집계 대상
+ */
+public enum StatScope {
+    DRONE,  // 드론별
+    STORE   // 매장별 (매장 소속 드론 합계)
+}
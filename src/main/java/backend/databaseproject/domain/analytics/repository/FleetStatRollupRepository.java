@@ -0,0 +1,58 @@
+package backend.databaseproject.domain.analytics.repository;
+
+import backend.databaseproject.domain.analytics.entity.FleetStatRollup;
+import backend.databaseproject.domain.analytics.entity.StatGranularity;
+import backend.databaseproject.domain.analytics.entity.StatScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 운항 통계 요약 Repository
+ */
+@Repository
+public interface FleetStatRollupRepository extends JpaRepository<FleetStatRollup, FleetStatRollup.FleetStatRollupId> {
+
+    /**
+     * 버킷에 비행 한 건의 값 누적 (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO fleet_stat_rollup (scope, scope_id, granularity, bucket_start, flights, deliveries, " +
+                   "                               distance_km, flight_seconds, battery_used_sum) " +
+                   "VALUES (:scope, :scopeId, :granularity, :bucketStart, :flights, :deliveries, " +
+                   "        :distanceKm, :flightSeconds, :batteryUsed) " +
+                   "ON DUPLICATE KEY UPDATE flights = flights + VALUES(flights), " +
+                   "deliveries = deliveries + VALUES(deliveries), " +
+                   "distance_km = distance_km + VALUES(distance_km), " +
+                   "flight_seconds = flight_seconds + VALUES(flight_seconds), " +
+                   "battery_used_sum = battery_used_sum + VALUES(battery_used_sum)",
+           nativeQuery = true)
+    int accumulate(@Param("scope") String scope,
+                   @Param("scopeId") Long scopeId,
+                   @Param("granularity") String granularity,
+                   @Param("bucketStart") LocalDateTime bucketStart,
+                   @Param("flights") int flights,
+                   @Param("deliveries") int deliveries,
+                   @Param("distanceKm") BigDecimal distanceKm,
+                   @Param("flightSeconds") long flightSeconds,
+                   @Param("batteryUsed") long batteryUsed);
+
+    /**
+     * 구간 [from, to)의 버킷 조회 (기본 키 범위 스캔)
+     */
+    @Query("SELECT f FROM FleetStatRollup f " +
+           "WHERE f.scope = :scope AND f.scopeId = :scopeId AND f.granularity = :granularity " +
+           "AND f.bucketStart >= :from AND f.bucketStart < :to " +
+           "ORDER BY f.bucketStart")
+    List<FleetStatRollup> findBuckets(@Param("scope") StatScope scope,
+                                      @Param("scopeId") Long scopeId,
+                                      @Param("granularity") StatGranularity granularity,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+}
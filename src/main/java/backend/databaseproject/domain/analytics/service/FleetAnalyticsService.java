@@ -0,0 +1,145 @@
+package backend.databaseproject.domain.analytics.service;
+
+import backend.databaseproject.domain.analytics.dto.response.FleetStatBucketResponse;
+import backend.databaseproject.domain.analytics.dto.response.FleetStatsResponse;
+import backend.databaseproject.domain.analytics.entity.FleetStatRollup;
+import backend.databaseproject.domain.analytics.entity.StatGranularity;
+import backend.databaseproject.domain.analytics.entity.StatScope;
+import backend.databaseproject.domain.analytics.repository.FleetStatRollupRepository;
+import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.domain.store.repository.StoreRepository;
+import backend.databaseproject.global.common.BaseException;
+import backend.databaseproject.global.common.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 운항 통계 조회 서비스
+ * fleet_stat_rollup의 기본 키 범위만 읽으므로 비행 기록이 얼마나 쌓여도 조회 비용은 버킷 수에만 비례합니다.
+ * 읽기 전용 트랜잭션이므로 복제본 라우팅이 켜져 있으면 복제본에서 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class FleetAnalyticsService {
+
+    private final FleetStatRollupRepository fleetStatRollupRepository;
+    private final DroneRepository droneRepository;
+    private final StoreRepository storeRepository;
+    private final SimulationClock simulationClock;
+
+    // 한 번에 조회할 수 있는 최대 버킷 수
+    @Value("${fleet-analytics.max-buckets:1000}")
+    private long maxBuckets;
+
+    /**
+     * 드론 운항 통계 조회
+     *
+     * @throws BaseException DRONE_NOT_FOUND, INVALID_INPUT_VALUE
+     */
+    public FleetStatsResponse getDroneStats(Long droneId, StatGranularity granularity,
+                                            LocalDateTime from, LocalDateTime to) {
+        if (!droneRepository.existsById(droneId)) {
+            log.error("드론을 찾을 수 없습니다 - DroneId: {}", droneId);
+            throw new BaseException(ErrorCode.DRONE_NOT_FOUND);
+        }
+        return getStats(StatScope.DRONE, droneId, 1, granularity, from, to);
+    }
+
+    /**
+     * 매장 운항 통계 조회 (가동률은 현재 소속 드론 수 기준)
+     *
+     * @throws BaseException STORE_NOT_FOUND, INVALID_INPUT_VALUE
+     */
+    public FleetStatsResponse getStoreStats(Long storeId, StatGranularity granularity,
+                                            LocalDateTime from, LocalDateTime to) {
+        if (!storeRepository.existsById(storeId)) {
+            log.error("매장을 찾을 수 없습니다 - StoreId: {}", storeId);
+            throw new BaseException(ErrorCode.STORE_NOT_FOUND);
+        }
+        long droneCount = droneRepository.countByStoreStoreId(storeId);
+        return getStats(StatScope.STORE, storeId, droneCount, granularity, from, to);
+    }
+
+    private FleetStatsResponse getStats(StatScope scope, Long scopeId, long droneCount, StatGranularity granularity,
+                                        LocalDateTime from, LocalDateTime to) {
+        // 기본 구간: 현재(가상 시각)까지 시간 단위는 24시간, 일 단위는 30일
+        LocalDateTime end = to != null ? to : simulationClock.now();
+        LocalDateTime start = granularity.bucketOf(from != null ? from
+                : end.minus(granularity == StatGranularity.HOUR ? Duration.ofHours(24) : Duration.ofDays(30)));
+
+        if (!start.isBefore(end)
+                || Duration.between(start, end).getSeconds() > maxBuckets * granularity.seconds()) {
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        List<FleetStatRollup> rows = fleetStatRollupRepository.findBuckets(scope, scopeId, granularity, start, end);
+
+        int flights = 0;
+        int deliveries = 0;
+        BigDecimal distanceKm = BigDecimal.ZERO;
+        long flightSeconds = 0;
+        long batteryUsed = 0;
+        for (FleetStatRollup row : rows) {
+            flights += row.getFlights();
+            deliveries += row.getDeliveries();
+            distanceKm = distanceKm.add(row.getDistanceKm());
+            flightSeconds += row.getFlightSeconds();
+            batteryUsed += row.getBatteryUsedSum();
+        }
+
+        FleetStatBucketResponse total = FleetStatBucketResponse.builder()
+                .bucketStart(start)
+                .flights(flights)
+                .deliveries(deliveries)
+                .distanceKm(distanceKm)
+                .flightSeconds(flightSeconds)
+                .utilization(utilization(flightSeconds, Duration.between(start, end).getSeconds(), droneCount))
+                .avgBatteryUsedPct(average(batteryUsed, flights))
+                .build();
+
+        List<FleetStatBucketResponse> buckets = rows.stream()
+                .map(row -> FleetStatBucketResponse.builder()
+                        .bucketStart(row.getBucketStart())
+                        .flights(row.getFlights())
+                        .deliveries(row.getDeliveries())
+                        .distanceKm(row.getDistanceKm())
+                        .flightSeconds(row.getFlightSeconds())
+                        .utilization(utilization(row.getFlightSeconds(), granularity.seconds(), droneCount))
+                        .avgBatteryUsedPct(average(row.getBatteryUsedSum(), row.getFlights()))
+                        .build())
+                .toList();
+
+        return FleetStatsResponse.builder()
+                .scope(scope.name())
+                .scopeId(scopeId)
+                .granularity(granularity.name())
+                .from(start)
+                .to(end)
+                .droneCount(droneCount)
+                .total(total)
+                .buckets(buckets)
+                .build();
+    }
+
+    private static double utilization(long flightSeconds, long periodSeconds, long droneCount) {
+        if (periodSeconds <= 0 || droneCount <= 0) {
+            return 0.0;
+        }
+        return Math.min(1.0, (double) flightSeconds / ((double) periodSeconds * droneCount));
+    }
+
+    private static Double average(long sum, int count) {
+        return count == 0 ? null : Math.round(sum * 10.0 / count) / 10.0;
+    }
+}
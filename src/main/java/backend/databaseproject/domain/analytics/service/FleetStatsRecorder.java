@@ -0,0 +1,108 @@
+package backend.databaseproject.domain.analytics.service;
+
+import backend.databaseproject.domain.analytics.entity.StatGranularity;
+import backend.databaseproject.domain.analytics.entity.StatScope;
+import backend.databaseproject.domain.analytics.repository.FleetStatRollupRepository;
+import backend.databaseproject.domain.route.entity.FlightLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운항 통계 요약 누적
+ * 비행 로그를 저장하는 트랜잭션 안에서 드론/매장별 시간·일 버킷에 비행 한 건을 더하므로,
+ * 요약은 flight_log와 함께 커밋/롤백되고 분석 조회는 flight_log를 다시 읽지 않습니다.
+ *
+ * - 비행 시간은 비행이 걸친 시간 버킷마다 겹친 만큼 나눠 더하고, 일 버킷에는 그 날 시간 버킷의 합을 더합니다 (가동률).
+ * - 비행 수, 배송 수, 거리, 배터리 사용량은 비행이 끝난 버킷에 더합니다.
+ *
+ * 같은 행을 여러 비행이 동시에 갱신할 수 있으므로 읽고 쓰지 않고 UPSERT 한 번으로 누적하며,
+ * 잠금 순서가 어긋나지 않도록 항상 드론 -> 매장, 시간 -> 일 순서로 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FleetStatsRecorder {
+
+    private final FleetStatRollupRepository fleetStatRollupRepository;
+
+    /**
+     * 완료된 비행 누적 (트랜잭션 필수)
+     *
+     * @param flightLog  저장한 비행 로그
+     * @param storeId    경로의 매장 ID
+     * @param deliveries 비행에서 배송 완료한 주문 수
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordFlight(FlightLog flightLog, Long storeId, int deliveries) {
+        Long droneId = flightLog.getDrone().getDroneId();
+        List<HourSlice> hours = splitByHour(flightLog.getStartTime(), flightLog.getEndTime());
+        for (StatScope scope : StatScope.values()) {
+            Long scopeId = scope == StatScope.DRONE ? droneId : storeId;
+            for (StatGranularity granularity : StatGranularity.values()) {
+                accumulate(scope, scopeId, granularity, hours, flightLog, deliveries);
+            }
+        }
+        log.debug("운항 통계 누적 - DroneId: {}, StoreId: {}, 거리: {}km, 배송: {}건",
+                droneId, storeId, flightLog.getDistance(), deliveries);
+    }
+
+    private void accumulate(StatScope scope, Long scopeId, StatGranularity granularity,
+                            List<HourSlice> hours, FlightLog flightLog, int deliveries) {
+        // 시간 조각을 버킷별로 합산 (일 버킷의 비행 시간 = 그 날 시간 버킷의 합)
+        Map<LocalDateTime, Long> secondsByBucket = new LinkedHashMap<>();
+        for (HourSlice hour : hours) {
+            secondsByBucket.merge(granularity.bucketOf(hour.bucketStart()), hour.seconds(), Long::sum);
+        }
+        // 비행이 끝난 버킷 (끝 시각이 버킷 경계와 같으면 앞 버킷)
+        LocalDateTime lastBucket = granularity.bucketOf(hours.get(hours.size() - 1).bucketStart());
+
+        for (Map.Entry<LocalDateTime, Long> bucket : secondsByBucket.entrySet()) {
+            boolean last = bucket.getKey().equals(lastBucket);
+            fleetStatRollupRepository.accumulate(scope.name(), scopeId, granularity.name(), bucket.getKey(),
+                    last ? 1 : 0,
+                    last ? deliveries : 0,
+                    last ? flightLog.getDistance() : BigDecimal.ZERO,
+                    bucket.getValue(),
+                    last ? flightLog.getBatteryUsed() : 0);
+        }
+    }
+
+    /**
+     * 비행을 시간 버킷별로 나눔 (초 미만은 버킷마다 버림, V6 채우기의 TIMESTAMPDIFF와 같은 값)
+     */
+    private static List<HourSlice> splitByHour(LocalDateTime start, LocalDateTime end) {
+        List<HourSlice> hours = new ArrayList<>();
+        LocalDateTime bucket = StatGranularity.HOUR.bucketOf(start);
+        while (true) {
+            LocalDateTime next = bucket.plusHours(1);
+            long seconds = Duration.between(max(start, bucket), min(end, next)).getSeconds();
+            hours.add(new HourSlice(bucket, Math.max(0, seconds)));
+            if (!next.isBefore(end)) {
+                return hours;
+            }
+            bucket = next;
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private record HourSlice(LocalDateTime bucketStart, long seconds) {
+    }
+}
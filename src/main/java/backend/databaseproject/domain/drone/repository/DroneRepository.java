@@ -4,7 +4,9 @@ import backend.databaseproject.domain.drone.entity.Drone;
 import backend.databaseproject.domain.drone.entity.DroneStatus;
 import backend.databaseproject.domain.store.entity.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
@@ -44,10 +46,26 @@ public interface DroneRepository extends JpaRepository<Drone, Long> {
      */
     List<Drone> findByStore(Store store);
 
+    /**
+     * 특정 매장의 드론 수 조회 (매장 가동률 계산)
+     */
+    long countByStoreStoreId(Long storeId);
+
     /**
      * 시스템 드론들의 최소 최대 적재 무게 조회
      * 주문 생성 시 무게 검증에 사용
      */
     @Query("SELECT MIN(d.maxPayloadKg) FROM Drone d")
     Optional<BigDecimal> findMinMaxPayloadKg();
+
+    /**
+     * 드론 상태 조건부 변경 (현재 상태가 expected일 때만)
+     *
+     * @return 변경 성공 시 1
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Drone d SET d.status = :status WHERE d.droneId = :droneId AND d.status = :expected")
+    int changeStatusIf(@Param("droneId") Long droneId,
+                       @Param("expected") DroneStatus expected,
+                       @Param("status") DroneStatus status);
 }
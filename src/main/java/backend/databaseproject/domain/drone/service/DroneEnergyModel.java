@@ -0,0 +1,86 @@
+package backend.databaseproject.domain.drone.service;
+
+import backend.databaseproject.domain.drone.entity.Drone;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 드론 에너지 소모 모델
+ * 구간 거리, 현재 적재 무게, 호버링 시간으로 배터리 소모량(mAh)을 계산합니다.
+ * 주문 선택, 경로 최적화, 비행 시뮬레이션이 모두 이 모델을 공유합니다.
+ *
+ * 순항 소모량 = (공차 km당 소모량 + kg당 추가 소모량 * 적재 무게) * 거리
+ * 호버링 소모량 = (공차 초당 소모량 + kg당 추가 소모량 * 적재 무게) * 시간
+ */
+@Component
+public class DroneEnergyModel {
+
+    // 순항 속도 (km/h) - km당 소모량의 기준 속도이며, 계획 소요 시간과 비행 시뮬레이션이 같은 값을 사용
+    public static final double CRUISE_SPEED_KMH = 30.0;
+
+    // 공차 순항 시 km당 소모량 (mAh/km)
+    @Value("${drone.energy.cruise-mah-per-km:200}")
+    private double cruiseMahPerKm;
+
+    // 적재 1kg당 순항 추가 소모량 (mAh/km/kg)
+    @Value("${drone.energy.cruise-mah-per-km-per-kg:30}")
+    private double cruiseMahPerKmPerKg;
+
+    // 공차 호버링 시 초당 소모량 (mAh/s)
+    @Value("${drone.energy.hover-mah-per-second:1.9}")
+    private double hoverMahPerSecond;
+
+    // 적재 1kg당 호버링 추가 소모량 (mAh/s/kg)
+    @Value("${drone.energy.hover-mah-per-second-per-kg:0.3}")
+    private double hoverMahPerSecondPerKg;
+
+    // 배송지(DROP)당 호버링 시간 (초)
+    @Value("${drone.energy.drop-hover-seconds:30}")
+    private double dropHoverSeconds;
+
+    // 예비 배터리 비율 (계획 시 사용하지 않는 용량)
+    @Value("${drone.energy.reserve-ratio:0.2}")
+    private double reserveRatio;
+
+    /**
+     * 순항 구간 소모량 (mAh)
+     *
+     * @param distanceKm 구간 거리 (km)
+     * @param payloadKg  구간 비행 중 적재 무게 (kg)
+     */
+    public double cruiseMah(double distanceKm, double payloadKg) {
+        return (cruiseMahPerKm + cruiseMahPerKmPerKg * payloadKg) * distanceKm;
+    }
+
+    /**
+     * 호버링 소모량 (mAh)
+     *
+     * @param seconds   호버링 시간 (초)
+     * @param payloadKg 호버링 중 적재 무게 (kg)
+     */
+    public double hoverMah(double seconds, double payloadKg) {
+        return (hoverMahPerSecond + hoverMahPerSecondPerKg * payloadKg) * seconds;
+    }
+
+    /**
+     * 배송지 1곳에서의 호버링 소모량 (mAh)
+     * 하역 전 무게 기준으로 계산합니다.
+     */
+    public double dropHoverMah(double payloadKg) {
+        return hoverMah(dropHoverSeconds, payloadKg);
+    }
+
+    /**
+     * 계획에 사용할 수 있는 배터리 용량 (mAh, 예비 용량 제외)
+     */
+    public double usableCapacityMah(Drone drone) {
+        return drone.getBatteryCapacity() * (1.0 - reserveRatio);
+    }
+
+    /**
+     * 소모량을 배터리 잔량 기준 백분율로 변환
+     */
+    public double toBatteryPercent(Drone drone, double consumedMah) {
+        return consumedMah * 100.0 / drone.getBatteryCapacity();
+    }
+}
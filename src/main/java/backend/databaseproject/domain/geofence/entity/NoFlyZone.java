@@ -0,0 +1,67 @@
+package backend.databaseproject.domain.geofence.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비행 금지 구역 엔티티
+ * 구역 경계는 "위도,경도;위도,경도;..." 형식의 다각형 꼭짓점 목록으로 저장합니다.
+ */
+@Entity
+@Table(name = "no_fly_zone")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NoFlyZone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "zone_id")
+    private Long zoneId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String polygon;
+
+    @Column(name = "is_active", nullable = false)
+    private Boolean isActive = true;
+
+    @Column(name = "registered_at", nullable = false, updatable = false)
+    private LocalDateTime registeredAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (registeredAt == null) {
+            registeredAt = LocalDateTime.now();
+        }
+    }
+
+    @Builder
+    public NoFlyZone(String name, String polygon, Boolean isActive) {
+        this.name = name;
+        this.polygon = polygon;
+        this.isActive = isActive != null ? isActive : true;
+    }
+
+    /**
+     * 다각형 꼭짓점 파싱
+     *
+     * @return [꼭짓점 수][2] 배열 (0: 위도, 1: 경도)
+     */
+    public double[][] parsePolygon() {
+        String[] points = polygon.trim().split(";");
+        double[][] vertices = new double[points.length][2];
+        for (int i = 0; i < points.length; i++) {
+            String[] latLng = points[i].trim().split(",");
+            vertices[i][0] = Double.parseDouble(latLng[0].trim());
+            vertices[i][1] = Double.parseDouble(latLng[1].trim());
+        }
+        return vertices;
+    }
+}
@@ -0,0 +1,10 @@
+package backend.databaseproject.domain.geofence.exception;
+
+/**
+ * 비행 금지 구역을 우회할 수 없어 구간을 비행할 수 없을 때 발생하는 예외
+ */
+public class NoFlyZoneUnreachableException extends RuntimeException {
+    public NoFlyZoneUnreachableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package backend.databaseproject.domain.geofence.repository;
+
+import backend.databaseproject.domain.geofence.entity.NoFlyZone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 비행 금지 구역 Repository
+ */
+@Repository
+public interface NoFlyZoneRepository extends JpaRepository<NoFlyZone, Long> {
+
+    /**
+     * 활성화된 비행 금지 구역 조회
+     */
+    List<NoFlyZone> findByIsActiveTrue();
+}
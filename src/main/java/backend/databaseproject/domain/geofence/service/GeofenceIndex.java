@@ -0,0 +1,352 @@
+package backend.databaseproject.domain.geofence.service;
+
+import backend.databaseproject.global.util.GeoUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비행 금지 구역 공간 색인 (불변)
+ * 구역 다각형을 균일 격자(grid)에 등록해 두고, 구간(leg)과 교차할 수 있는 구역만 골라
+ * 선분-다각형 교차 검사를 수행합니다. 교차하는 구간은 구역 외곽(여유 거리 포함)의 꼭짓점을
+ * 노드로 하는 가시성 그래프에서 최단 우회 경로를 계산합니다.
+ *
+ * 좌표는 도시 규모에서 평면으로 근사하여 경도를 x, 위도를 y로 취급합니다.
+ */
+public class GeofenceIndex {
+
+    private static final double CELL_SIZE_DEG = 0.01;        // 격자 크기 (약 1.1km)
+    private static final double DETOUR_MARGIN_DEG = 0.0005;  // 우회 여유 거리 (약 50m)
+    private static final int LINEAR_SCAN_THRESHOLD = 16;     // 구역이 적으면 격자 대신 전체 순회
+    private static final int MAX_GRID_CELLS_PER_QUERY = 4096;
+
+    private static final GeofenceIndex EMPTY = new GeofenceIndex(List.of(), List.of());
+
+    private final long[] zoneIds;
+    private final double[][] zoneLats;
+    private final double[][] zoneLngs;
+    private final double[] minLat;
+    private final double[] maxLat;
+    private final double[] minLng;
+    private final double[] maxLng;
+    private final Map<Long, int[]> grid;
+
+    /**
+     * @param ids      구역 ID 목록
+     * @param polygons 구역별 꼭짓점 배열 ([i][0]: 위도, [i][1]: 경도)
+     */
+    public GeofenceIndex(List<Long> ids, List<double[][]> polygons) {
+        int n = polygons.size();
+        this.zoneIds = new long[n];
+        this.zoneLats = new double[n][];
+        this.zoneLngs = new double[n][];
+        this.minLat = new double[n];
+        this.maxLat = new double[n];
+        this.minLng = new double[n];
+        this.maxLng = new double[n];
+
+        Map<Long, List<Integer>> cells = new HashMap<>();
+        for (int z = 0; z < n; z++) {
+            double[][] vertices = polygons.get(z);
+            zoneIds[z] = ids.get(z);
+            zoneLats[z] = new double[vertices.length];
+            zoneLngs[z] = new double[vertices.length];
+            minLat[z] = Double.MAX_VALUE;
+            maxLat[z] = -Double.MAX_VALUE;
+            minLng[z] = Double.MAX_VALUE;
+            maxLng[z] = -Double.MAX_VALUE;
+            for (int v = 0; v < vertices.length; v++) {
+                zoneLats[z][v] = vertices[v][0];
+                zoneLngs[z][v] = vertices[v][1];
+                minLat[z] = Math.min(minLat[z], vertices[v][0]);
+                maxLat[z] = Math.max(maxLat[z], vertices[v][0]);
+                minLng[z] = Math.min(minLng[z], vertices[v][1]);
+                maxLng[z] = Math.max(maxLng[z], vertices[v][1]);
+            }
+
+            for (int row = cell(minLat[z]); row <= cell(maxLat[z]); row++) {
+                for (int col = cell(minLng[z]); col <= cell(maxLng[z]); col++) {
+                    cells.computeIfAbsent(cellKey(row, col), key -> new ArrayList<>()).add(z);
+                }
+            }
+        }
+
+        this.grid = new HashMap<>(cells.size() * 2);
+        for (Map.Entry<Long, List<Integer>> entry : cells.entrySet()) {
+            this.grid.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    public static GeofenceIndex empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return zoneIds.length;
+    }
+
+    /**
+     * 지점이 비행 금지 구역 내부인지 확인
+     */
+    public boolean containsPoint(double lat, double lng) {
+        int[] candidates = grid.get(cellKey(cell(lat), cell(lng)));
+        if (candidates == null) {
+            return false;
+        }
+        for (int z : candidates) {
+            if (lat >= minLat[z] && lat <= maxLat[z] && lng >= minLng[z] && lng <= maxLng[z]
+                    && pointInPolygon(z, lat, lng)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 구간이 어떤 비행 금지 구역과도 교차하지 않는지 확인
+     */
+    public boolean isSegmentClear(double lat1, double lng1, double lat2, double lng2) {
+        return firstBlockingZone(lat1, lng1, lat2, lng2) < 0;
+    }
+
+    /**
+     * 구간 비행 계획
+     * 직선 구간이 구역과 교차하지 않으면 직선 거리를, 교차하면 우회 경유지와 우회 거리를 반환합니다.
+     * 우회 경로를 찾지 못하면 null을 반환합니다.
+     */
+    public LegPlan planLeg(double lat1, double lng1, double lat2, double lng2) {
+        int blocking = firstBlockingZone(lat1, lng1, lat2, lng2);
+        if (blocking < 0) {
+            return LegPlan.direct(GeoUtils.calculateDistance(lat1, lng1, lat2, lng2));
+        }
+        return planDetour(lat1, lng1, lat2, lng2, blocking);
+    }
+
+    /**
+     * 가시성 그래프 + 다익스트라로 우회 경로 계산
+     */
+    private LegPlan planDetour(double lat1, double lng1, double lat2, double lng2, int blocking) {
+        // 1. 우회 후보 영역: 구간 + 교차 구역 외곽
+        double regionMinLat = Math.min(Math.min(lat1, lat2), minLat[blocking]) - DETOUR_MARGIN_DEG;
+        double regionMaxLat = Math.max(Math.max(lat1, lat2), maxLat[blocking]) + DETOUR_MARGIN_DEG;
+        double regionMinLng = Math.min(Math.min(lng1, lng2), minLng[blocking]) - DETOUR_MARGIN_DEG;
+        double regionMaxLng = Math.max(Math.max(lng1, lng2), maxLng[blocking]) + DETOUR_MARGIN_DEG;
+
+        // 2. 노드: 출발지, 도착지, 영역과 겹치는 구역들의 외곽 꼭짓점 (다른 구역 내부의 꼭짓점 제외)
+        List<double[]> nodes = new ArrayList<>();
+        nodes.add(new double[]{lat1, lng1});
+        nodes.add(new double[]{lat2, lng2});
+        for (int z = 0; z < zoneIds.length; z++) {
+            if (maxLat[z] < regionMinLat || minLat[z] > regionMaxLat
+                    || maxLng[z] < regionMinLng || minLng[z] > regionMaxLng) {
+                continue;
+            }
+            double south = minLat[z] - DETOUR_MARGIN_DEG;
+            double north = maxLat[z] + DETOUR_MARGIN_DEG;
+            double west = minLng[z] - DETOUR_MARGIN_DEG;
+            double east = maxLng[z] + DETOUR_MARGIN_DEG;
+            double[][] corners = {{south, west}, {south, east}, {north, east}, {north, west}};
+            for (double[] corner : corners) {
+                if (!containsPoint(corner[0], corner[1])) {
+                    nodes.add(corner);
+                }
+            }
+        }
+
+        // 3. 다익스트라 (노드 수가 적으므로 O(V^2), 간선은 필요할 때 검사)
+        int size = nodes.size();
+        double[] dist = new double[size];
+        int[] prev = new int[size];
+        boolean[] done = new boolean[size];
+        Arrays.fill(dist, Double.MAX_VALUE);
+        Arrays.fill(prev, -1);
+        dist[0] = 0.0;
+
+        for (int iter = 0; iter < size; iter++) {
+            int u = -1;
+            for (int i = 0; i < size; i++) {
+                if (!done[i] && (u < 0 || dist[i] < dist[u])) {
+                    u = i;
+                }
+            }
+            if (u < 0 || dist[u] == Double.MAX_VALUE) {
+                break;
+            }
+            if (u == 1) {
+                break;
+            }
+            done[u] = true;
+
+            double[] from = nodes.get(u);
+            for (int v = 0; v < size; v++) {
+                if (done[v]) {
+                    continue;
+                }
+                double[] to = nodes.get(v);
+                double candidate = dist[u] + GeoUtils.calculateDistance(from[0], from[1], to[0], to[1]);
+                if (candidate < dist[v] && isSegmentClear(from[0], from[1], to[0], to[1])) {
+                    dist[v] = candidate;
+                    prev[v] = u;
+                }
+            }
+        }
+
+        if (prev[1] < 0) {
+            return null;
+        }
+
+        // 4. 경유지 역추적 (출발/도착 제외)
+        List<double[]> waypoints = new ArrayList<>();
+        for (int node = prev[1]; node > 0; node = prev[node]) {
+            waypoints.add(0, nodes.get(node));
+        }
+        double[] waypointLats = new double[waypoints.size()];
+        double[] waypointLngs = new double[waypoints.size()];
+        for (int i = 0; i < waypoints.size(); i++) {
+            waypointLats[i] = waypoints.get(i)[0];
+            waypointLngs[i] = waypoints.get(i)[1];
+        }
+        return new LegPlan(waypointLats, waypointLngs, dist[1]);
+    }
+
+    /**
+     * 구간과 교차하는 첫 번째 구역 인덱스 (없으면 -1)
+     */
+    private int firstBlockingZone(double lat1, double lng1, double lat2, double lng2) {
+        if (zoneIds.length == 0) {
+            return -1;
+        }
+        double sMinLat = Math.min(lat1, lat2);
+        double sMaxLat = Math.max(lat1, lat2);
+        double sMinLng = Math.min(lng1, lng2);
+        double sMaxLng = Math.max(lng1, lng2);
+
+        int rowFrom = cell(sMinLat);
+        int rowTo = cell(sMaxLat);
+        int colFrom = cell(sMinLng);
+        int colTo = cell(sMaxLng);
+        long cellCount = (long) (rowTo - rowFrom + 1) * (colTo - colFrom + 1);
+
+        if (zoneIds.length <= LINEAR_SCAN_THRESHOLD || cellCount > MAX_GRID_CELLS_PER_QUERY) {
+            for (int z = 0; z < zoneIds.length; z++) {
+                if (segmentIntersectsZone(z, lat1, lng1, lat2, lng2, sMinLat, sMaxLat, sMinLng, sMaxLng)) {
+                    return z;
+                }
+            }
+            return -1;
+        }
+
+        boolean[] checked = new boolean[zoneIds.length];
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                int[] candidates = grid.get(cellKey(row, col));
+                if (candidates == null) {
+                    continue;
+                }
+                for (int z : candidates) {
+                    if (checked[z]) {
+                        continue;
+                    }
+                    checked[z] = true;
+                    if (segmentIntersectsZone(z, lat1, lng1, lat2, lng2, sMinLat, sMaxLat, sMinLng, sMaxLng)) {
+                        return z;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 선분-다각형 교차 검사 (경계 박스 → 끝점 포함 → 변 교차 순)
+     */
+    private boolean segmentIntersectsZone(int z, double lat1, double lng1, double lat2, double lng2,
+                                          double sMinLat, double sMaxLat, double sMinLng, double sMaxLng) {
+        if (sMaxLat < minLat[z] || sMinLat > maxLat[z] || sMaxLng < minLng[z] || sMinLng > maxLng[z]) {
+            return false;
+        }
+        if (pointInPolygon(z, lat1, lng1) || pointInPolygon(z, lat2, lng2)) {
+            return true;
+        }
+        double[] lats = zoneLats[z];
+        double[] lngs = zoneLngs[z];
+        for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+            if (segmentsIntersect(lng1, lat1, lng2, lat2, lngs[j], lats[j], lngs[i], lats[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 점-다각형 포함 검사 (ray casting)
+     */
+    private boolean pointInPolygon(int z, double lat, double lng) {
+        double[] lats = zoneLats[z];
+        double[] lngs = zoneLngs[z];
+        boolean inside = false;
+        for (int i = 0, j = lats.length - 1; i < lats.length; j = i++) {
+            if ((lats[i] > lat) != (lats[j] > lat)
+                    && lng < (lngs[j] - lngs[i]) * (lat - lats[i]) / (lats[j] - lats[i]) + lngs[i]) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    private static boolean segmentsIntersect(double ax, double ay, double bx, double by,
+                                             double cx, double cy, double dx, double dy) {
+        double d1 = cross(cx, cy, dx, dy, ax, ay);
+        double d2 = cross(cx, cy, dx, dy, bx, by);
+        double d3 = cross(ax, ay, bx, by, cx, cy);
+        double d4 = cross(ax, ay, bx, by, dx, dy);
+
+        if (((d1 > 0 && d2 < 0) || (d1 < 0 && d2 > 0)) && ((d3 > 0 && d4 < 0) || (d3 < 0 && d4 > 0))) {
+            return true;
+        }
+        return (d1 == 0 && onSegment(cx, cy, dx, dy, ax, ay))
+                || (d2 == 0 && onSegment(cx, cy, dx, dy, bx, by))
+                || (d3 == 0 && onSegment(ax, ay, bx, by, cx, cy))
+                || (d4 == 0 && onSegment(ax, ay, bx, by, dx, dy));
+    }
+
+    private static double cross(double ax, double ay, double bx, double by, double px, double py) {
+        return (bx - ax) * (py - ay) - (by - ay) * (px - ax);
+    }
+
+    private static boolean onSegment(double ax, double ay, double bx, double by, double px, double py) {
+        return px >= Math.min(ax, bx) && px <= Math.max(ax, bx)
+                && py >= Math.min(ay, by) && py <= Math.max(ay, by);
+    }
+
+    private static int cell(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE_DEG);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    /**
+     * 구간 비행 계획
+     *
+     * @param waypointLats 우회 경유지 위도 (출발/도착 제외, 직선이면 빈 배열)
+     * @param waypointLngs 우회 경유지 경도
+     * @param distanceKm   비행 거리 (km)
+     */
+    public record LegPlan(double[] waypointLats, double[] waypointLngs, double distanceKm) {
+
+        private static final double[] NONE = new double[0];
+
+        public static LegPlan direct(double distanceKm) {
+            return new LegPlan(NONE, NONE, distanceKm);
+        }
+
+        public boolean isDetour() {
+            return waypointLats.length > 0;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package backend.databaseproject.domain.geofence.service;
+
+import backend.databaseproject.domain.geofence.entity.NoFlyZone;
+import backend.databaseproject.domain.geofence.exception.NoFlyZoneUnreachableException;
+import backend.databaseproject.domain.geofence.repository.NoFlyZoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비행 금지 구역(지오펜스) 서비스
+ * DB의 비행 금지 구역을 공간 색인으로 메모리에 올려 두고, 경로 계획 시 구간 교차 검사와 우회 경유지 생성을 제공합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GeofenceService {
+
+    private final NoFlyZoneRepository noFlyZoneRepository;
+
+    private volatile GeofenceIndex index = GeofenceIndex.empty();
+
+    /**
+     * 비행 금지 구역 색인 갱신
+     * 기동 시 1회, 이후 1분마다 DB의 활성 구역으로 색인을 다시 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${geofence.refresh-interval-ms:60000}", initialDelayString = "${geofence.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            List<NoFlyZone> zones = noFlyZoneRepository.findByIsActiveTrue();
+            List<Long> ids = new ArrayList<>(zones.size());
+            List<double[][]> polygons = new ArrayList<>(zones.size());
+            for (NoFlyZone zone : zones) {
+                double[][] vertices = zone.parsePolygon();
+                if (vertices.length < 3) {
+                    log.warn("꼭짓점이 3개 미만인 비행 금지 구역은 무시합니다 - ZoneId: {}", zone.getZoneId());
+                    continue;
+                }
+                ids.add(zone.getZoneId());
+                polygons.add(vertices);
+            }
+            int previousSize = index.size();
+            index = new GeofenceIndex(ids, polygons);
+            if (previousSize != index.size()) {
+                log.info("비행 금지 구역 색인 갱신 - 구역 수: {}", index.size());
+            }
+        } catch (Exception e) {
+            log.error("비행 금지 구역 색인 갱신 실패 - 기존 색인을 유지합니다.", e);
+        }
+    }
+
+    /**
+     * 구간이 비행 금지 구역과 교차하지 않는지 확인
+     */
+    public boolean isLegClear(double lat1, double lng1, double lat2, double lng2) {
+        return index.isSegmentClear(lat1, lng1, lat2, lng2);
+    }
+
+    /**
+     * 지점이 비행 금지 구역 내부인지 확인
+     */
+    public boolean isRestricted(double lat, double lng) {
+        return index.containsPoint(lat, lng);
+    }
+
+    /**
+     * 구간 비행 계획 (우회 경유지 포함)
+     *
+     * @throws NoFlyZoneUnreachableException 우회 경로를 찾을 수 없는 경우 (도착지가 구역 내부이거나 구역에 둘러싸인 경우)
+     */
+    public GeofenceIndex.LegPlan planLeg(double lat1, double lng1, double lat2, double lng2) {
+        GeofenceIndex.LegPlan plan = index.planLeg(lat1, lng1, lat2, lng2);
+        if (plan == null) {
+            throw new NoFlyZoneUnreachableException(String.format(
+                    "비행 금지 구역을 우회할 수 없습니다. (%.6f, %.6f) -> (%.6f, %.6f)", lat1, lng1, lat2, lng2));
+        }
+        return plan;
+    }
+
+    /**
+     * 구간 비행 거리 (km)
+     * 비행 금지 구역을 우회해야 하면 우회 거리를, 우회할 수 없으면 {@link Double#POSITIVE_INFINITY}를 반환합니다.
+     * 경로 계획은 무한대 구간이 포함된 주문을 배터리 한도를 넘는 것으로 보고 배차에서 제외합니다.
+     */
+    public double legDistanceKm(double lat1, double lng1, double lat2, double lng2) {
+        GeofenceIndex.LegPlan plan = index.planLeg(lat1, lng1, lat2, lng2);
+        return plan != null ? plan.distanceKm() : Double.POSITIVE_INFINITY;
+    }
+}
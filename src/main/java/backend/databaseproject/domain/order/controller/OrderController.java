@@ -3,6 +3,7 @@ package backend.databaseproject.domain.order.controller;
 import backend.databaseproject.domain.order.dto.request.OrderCreateRequest;
 import backend.databaseproject.domain.order.dto.response.OrderCreateResponse;
 import backend.databaseproject.domain.order.dto.response.OrderResponse;
+import backend.databaseproject.domain.order.dto.response.OrderTrackingResponse;
 import backend.databaseproject.domain.order.entity.OrderStatus;
 import backend.databaseproject.domain.order.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,8 +15,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -100,4 +103,61 @@ public class OrderController {
         OrderResponse orderResponse = orderService.getOrder(orderId);
         return ResponseEntity.ok(orderResponse);
     }
+
+    /**
+     * 주문 추적 조회
+     * 주문 상태, 배송 경로, 도착 예정 시각, 드론 마지막 위치를 한 번에 조회합니다.
+     */
+    @GetMapping("/{orderId}/tracking")
+    @Operation(
+            summary = "주문 추적 조회",
+            description = "주문 상태, 배송 경로 ID, 도착 예정 시각(ETA), 드론 마지막 위치, 주문 항목 요약을 조회합니다. " +
+                    "주문 추적 조회 모델에서 기본 키로 읽으며, 진행 중인 주문은 서버 메모리에서 바로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "주문 추적 조회 성공",
+                    content = @Content(schema = @Schema(implementation = OrderTrackingResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "주문을 찾을 수 없음"
+            )
+    })
+    public ResponseEntity<OrderTrackingResponse> getTracking(
+            @PathVariable("orderId")
+            @Schema(description = "주문 ID", example = "1")
+            Long orderId
+    ) {
+        return ResponseEntity.ok(orderService.getTracking(orderId));
+    }
+
+    /**
+     * 주문 실시간 추적 (SSE)
+     * STOMP/SockJS 없이 EventSource로 배송 중인 드론 위치를 구독합니다.
+     */
+    @GetMapping(value = "/{orderId}/tracking/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "주문 실시간 추적 (SSE)",
+            description = "배송 중인 주문의 드론 위치를 Server-Sent Events로 구독합니다. " +
+                    "position(위치), plan(구간 계획), status(배송 완료) 이벤트를 전송하며, 배송 완료 후 스트림이 종료됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "구독 성공 (text/event-stream)"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "주문을 찾을 수 없음"
+            )
+    })
+    public SseEmitter streamTracking(
+            @PathVariable("orderId")
+            @Schema(description = "주문 ID", example = "1")
+            Long orderId
+    ) {
+        return orderService.subscribeTracking(orderId);
+    }
 }
@@ -0,0 +1,90 @@
+package backend.databaseproject.domain.order.dto.response;
+
+import backend.databaseproject.domain.order.entity.OrderTracking;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 추적 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = "주문 추적 정보")
+public class OrderTrackingResponse {
+
+    @Schema(description = "주문 ID", example = "1")
+    private Long orderId;
+
+    @Schema(description = "매장 ID", example = "1")
+    private Long storeId;
+
+    @Schema(description = "매장명", example = "스타벅스 강남점")
+    private String storeName;
+
+    @Schema(description = "주문 상태", example = "ASSIGNED")
+    private String status;
+
+    @Schema(description = "배송 경로 ID", example = "1", nullable = true)
+    private Long routeId;
+
+    @Schema(description = "도착 예정 시각", nullable = true)
+    private LocalDateTime eta;
+
+    @Schema(description = "주문 항목 요약", example = "아메리카노 x2, 카페라떼 x1")
+    private String itemsSummary;
+
+    @Schema(description = "주문 항목 수", example = "3")
+    private Integer itemCount;
+
+    @Schema(description = "총 금액(원)", example = "15000")
+    private Integer totalAmount;
+
+    @Schema(description = "드론 마지막 위치 위도", example = "37.123456", nullable = true)
+    private BigDecimal lastLat;
+
+    @Schema(description = "드론 마지막 위치 경도", example = "127.123456", nullable = true)
+    private BigDecimal lastLng;
+
+    @Schema(description = "드론 마지막 위치 기록 시각", nullable = true)
+    private LocalDateTime lastPositionAt;
+
+    @Schema(description = "주문 생성 시간")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "배송 할당 시간", nullable = true)
+    private LocalDateTime assignedAt;
+
+    @Schema(description = "배송 완료 시간", nullable = true)
+    private LocalDateTime completedAt;
+
+    /**
+     * OrderTracking 엔티티로부터 Response 생성 (Factory Method)
+     */
+    public static OrderTrackingResponse from(OrderTracking tracking) {
+        return OrderTrackingResponse.builder()
+                .orderId(tracking.getOrderId())
+                .storeId(tracking.getStoreId())
+                .storeName(tracking.getStoreName())
+                .status(tracking.getStatus().toString())
+                .routeId(tracking.getRouteId())
+                .eta(tracking.getEta())
+                .itemsSummary(tracking.getItemsSummary())
+                .itemCount(tracking.getItemCount())
+                .totalAmount(tracking.getTotalAmount())
+                .lastLat(tracking.getLastLat())
+                .lastLng(tracking.getLastLng())
+                .lastPositionAt(tracking.getLastPositionAt())
+                .createdAt(tracking.getCreatedAt())
+                .assignedAt(tracking.getAssignedAt())
+                .completedAt(tracking.getCompletedAt())
+                .build();
+    }
+}
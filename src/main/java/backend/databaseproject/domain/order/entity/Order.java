@@ -2,6 +2,8 @@ package backend.databaseproject.domain.order.entity;
 
 import backend.databaseproject.domain.user.entity.User;
 import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.common.IdSequences;
+import backend.databaseproject.global.common.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,7 +25,7 @@ import java.util.List;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(IdSequences.ORDERS)
     @Column(name = "order_id")
     private Long orderId;
 
@@ -93,7 +95,7 @@ public class Order {
                  BigDecimal originLat, BigDecimal originLng,
                  BigDecimal destLat, BigDecimal destLng,
                  BigDecimal totalWeightKg, Integer totalAmount, Integer itemCount,
-                 String note) {
+                 String note, LocalDateTime createdAt) {
         this.store = store;
         this.user = user;
         this.originLat = originLat;
@@ -105,6 +107,7 @@ public class Order {
         this.itemCount = itemCount;
         this.status = OrderStatus.CREATED;
         this.note = note;
+        this.createdAt = createdAt;
     }
 
     /**
@@ -117,26 +120,32 @@ public class Order {
 
     /**
      * 배송 할당
+     *
+     * @param now 시뮬레이션 시계 기준 현재 시각
      */
-    public void assignDelivery() {
+    public void assignDelivery(LocalDateTime now) {
         this.status = OrderStatus.ASSIGNED;
-        this.assignedAt = LocalDateTime.now();
+        this.assignedAt = now;
     }
 
     /**
      * 배송 완료
+     *
+     * @param now 시뮬레이션 시계 기준 현재 시각
      */
-    public void completeDelivery() {
+    public void completeDelivery(LocalDateTime now) {
         this.status = OrderStatus.FULFILLED;
-        this.completedAt = LocalDateTime.now();
+        this.completedAt = now;
     }
 
     /**
      * 주문 취소
+     *
+     * @param now 시뮬레이션 시계 기준 현재 시각
      */
-    public void cancel() {
+    public void cancel(LocalDateTime now) {
         this.status = OrderStatus.CANCELED;
-        this.canceledAt = LocalDateTime.now();
+        this.canceledAt = now;
     }
 
     /**
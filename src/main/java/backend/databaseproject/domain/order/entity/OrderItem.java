@@ -1,6 +1,8 @@
 package backend.databaseproject.domain.order.entity;
 
 import backend.databaseproject.domain.product.entity.Product;
+import backend.databaseproject.global.common.IdSequences;
+import backend.databaseproject.global.common.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,7 +21,7 @@ import java.math.BigDecimal;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(IdSequences.ORDER_ITEM)
     @Column(name = "order_item_id")
     private Long orderItemId;
 
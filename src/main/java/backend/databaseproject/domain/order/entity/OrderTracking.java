@@ -0,0 +1,148 @@
+package backend.databaseproject.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 추적 조회 모델 엔티티
+ * 주문/매장/상품/경로를 조인하지 않고 주문 추적 화면에 필요한 값을 한 행에 모아 둔 비정규화 테이블입니다.
+ * 주문 상태가 바뀌는 트랜잭션에서 {@code OrderTrackingProjector}가 함께 갱신합니다 (배송 완료는 커밋 후 아웃박스 이벤트로 갱신).
+ *
+ * ID는 주문 ID를 그대로 사용하므로, 새 행 저장 시 merge(SELECT) 없이 INSERT 하도록 {@link Persistable}을 구현합니다.
+ */
+@Entity
+@Table(name = "order_tracking")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderTracking implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "store_name", nullable = false, length = 100)
+    private String storeName;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "route_id")
+    private Long routeId;
+
+    @Column(name = "eta")
+    private LocalDateTime eta;
+
+    @Column(name = "items_summary", nullable = false, length = 255)
+    private String itemsSummary;
+
+    @Column(name = "item_count", nullable = false)
+    private Integer itemCount;
+
+    @Column(name = "total_amount", nullable = false)
+    private Integer totalAmount;
+
+    @Column(name = "last_lat", precision = 9, scale = 6)
+    private BigDecimal lastLat;
+
+    @Column(name = "last_lng", precision = 9, scale = 6)
+    private BigDecimal lastLng;
+
+    @Column(name = "last_position_at")
+    private LocalDateTime lastPositionAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "assigned_at")
+    private LocalDateTime assignedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "canceled_at")
+    private LocalDateTime canceledAt;
+
+    @Column(name = "failure_reason", length = 255)
+    private String failureReason;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    @Builder
+    public OrderTracking(Long orderId, Long storeId, String storeName, Long userId, String itemsSummary,
+                         Integer itemCount, Integer totalAmount, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.storeId = storeId;
+        this.storeName = storeName;
+        this.userId = userId;
+        this.status = OrderStatus.CREATED;
+        this.itemsSummary = itemsSummary;
+        this.itemCount = itemCount;
+        this.totalAmount = totalAmount;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 배송 할당
+     * 변경 시각(updatedAt)은 모두 호출자가 넘긴 시뮬레이션 시계 기준 시각을 사용합니다.
+     */
+    public void assign(Long routeId, LocalDateTime eta, LocalDateTime assignedAt) {
+        this.status = OrderStatus.ASSIGNED;
+        this.routeId = routeId;
+        this.eta = eta;
+        this.assignedAt = assignedAt;
+        this.updatedAt = assignedAt;
+    }
+
+    /**
+     * 주문 취소
+     */
+    public void cancel(LocalDateTime canceledAt) {
+        this.status = OrderStatus.CANCELED;
+        this.canceledAt = canceledAt;
+        this.updatedAt = canceledAt;
+    }
+
+    /**
+     * 배송 실패
+     */
+    public void fail(String reason, LocalDateTime failedAt) {
+        this.status = OrderStatus.FAILED;
+        this.failureReason = reason != null && reason.length() > 255 ? reason.substring(0, 255) : reason;
+        this.updatedAt = failedAt;
+    }
+}
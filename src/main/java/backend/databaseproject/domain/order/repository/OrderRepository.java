@@ -3,10 +3,13 @@ package backend.databaseproject.domain.order.repository;
 import backend.databaseproject.domain.order.entity.Order;
 import backend.databaseproject.domain.order.entity.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -77,4 +80,25 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "LEFT JOIN FETCH oi.product " +
            "WHERE o.orderId = :orderId")
     Optional<Order> findByIdWithDetails(@Param("orderId") Long orderId);
+
+    /**
+     * 배송 배정 일괄 처리 (CREATED 상태인 주문만 ASSIGNED로 변경)
+     * 보류 중인 INSERT(경로 저장 등)를 먼저 반영한 뒤 UPDATE 한 번으로 처리합니다.
+     *
+     * @return 변경된 주문 수 (요청 수보다 적으면 다른 배차가 먼저 배정한 주문이 있음)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :assigned, o.assignedAt = :assignedAt " +
+           "WHERE o.orderId IN :orderIds AND o.status = :expected")
+    int assignDelivery(@Param("orderIds") Collection<Long> orderIds,
+                       @Param("assignedAt") LocalDateTime assignedAt,
+                       @Param("expected") OrderStatus expected,
+                       @Param("assigned") OrderStatus assigned);
+
+    /**
+     * 경로에 배정된 주문 중 특정 상태인 주문 수 (비행 완료 시 배송 건수 집계)
+     */
+    @Query("SELECT COUNT(rso) FROM RouteStopOrder rso " +
+           "WHERE rso.routeStop.route.routeId = :routeId AND rso.order.status = :status")
+    long countByRouteIdAndStatus(@Param("routeId") Long routeId, @Param("status") OrderStatus status);
 }
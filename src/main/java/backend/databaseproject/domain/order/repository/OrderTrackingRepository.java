@@ -0,0 +1,44 @@
+package backend.databaseproject.domain.order.repository;
+
+import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.entity.OrderTracking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 추적 조회 모델 Repository
+ */
+@Repository
+public interface OrderTrackingRepository extends JpaRepository<OrderTracking, Long> {
+
+    /**
+     * 경로의 배송 중 주문 마지막 위치 갱신 (시뮬레이션 스레드에서 트랜잭션 없이 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderTracking t SET t.lastLat = :lat, t.lastLng = :lng, t.lastPositionAt = :ts " +
+           "WHERE t.routeId = :routeId AND t.status = :status")
+    int updateLastPosition(@Param("routeId") Long routeId,
+                           @Param("lat") BigDecimal lat,
+                           @Param("lng") BigDecimal lng,
+                           @Param("ts") LocalDateTime ts,
+                           @Param("status") OrderStatus status);
+
+    /**
+     * 배송 완료 반영 (아웃박스 리스너에서 트랜잭션 없이 호출, 같은 이벤트가 다시 전달되어도 같은 값으로 갱신)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderTracking t SET t.status = :status, t.completedAt = :completedAt, t.updatedAt = :completedAt " +
+           "WHERE t.orderId = :orderId")
+    int updateCompleted(@Param("orderId") Long orderId,
+                        @Param("completedAt") LocalDateTime completedAt,
+                        @Param("status") OrderStatus status);
+}
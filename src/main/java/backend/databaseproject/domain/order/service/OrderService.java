@@ -5,14 +5,18 @@ import backend.databaseproject.domain.order.dto.request.OrderCreateRequest;
 import backend.databaseproject.domain.order.dto.request.OrderItemRequest;
 import backend.databaseproject.domain.order.dto.response.OrderCreateResponse;
 import backend.databaseproject.domain.order.dto.response.OrderResponse;
+import backend.databaseproject.domain.order.dto.response.OrderTrackingResponse;
 import backend.databaseproject.domain.order.entity.Order;
 import backend.databaseproject.domain.order.entity.OrderItem;
 import backend.databaseproject.domain.order.entity.OrderStatus;
 import backend.databaseproject.domain.order.repository.OrderRepository;
 import backend.databaseproject.domain.order.repository.OrderItemRepository;
+import backend.databaseproject.domain.order.repository.OrderTrackingRepository;
 import backend.databaseproject.domain.product.entity.Product;
 import backend.databaseproject.domain.product.repository.ProductRepository;
 import backend.databaseproject.domain.route.repository.RouteStopOrderRepository;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.domain.route.tracking.SseTrackingHub;
 import backend.databaseproject.domain.store.entity.Store;
 import backend.databaseproject.domain.store.entity.StoreProduct;
 import backend.databaseproject.domain.store.repository.StoreProductRepository;
@@ -21,10 +25,13 @@ import backend.databaseproject.domain.user.entity.User;
 import backend.databaseproject.domain.user.repository.UserRepository;
 import backend.databaseproject.global.common.BaseException;
 import backend.databaseproject.global.common.ErrorCode;
+import backend.databaseproject.global.datasource.ReplicaStalenessGuard;
 import backend.databaseproject.global.util.GeoUtils;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -47,6 +54,11 @@ public class OrderService {
     private final StoreProductRepository storeProductRepository;
     private final DroneRepository droneRepository;
     private final RouteStopOrderRepository routeStopOrderRepository;
+    private final SseTrackingHub sseTrackingHub;
+    private final ReplicaStalenessGuard replicaStalenessGuard;
+    private final OrderTrackingProjector orderTrackingProjector;
+    private final OrderTrackingRepository orderTrackingRepository;
+    private final SimulationClock simulationClock;
 
     /**
      * 주문 생성
@@ -67,6 +79,7 @@ public class OrderService {
      * 11. 재고 감소 (storeProduct.decreaseStock(quantity))
      * 12. 저장 후 OrderCreateResponse 반환 (orderId만 포함)
      */
+    @Timed(value = "drone.order.create", description = "주문 생성 처리 시간")
     public OrderCreateResponse createOrder(OrderCreateRequest request) {
         // 1. Store 조회
         Store store = storeRepository.findById(request.getStoreId())
@@ -152,6 +165,7 @@ public class OrderService {
                 .totalAmount(totalAmount)
                 .itemCount(itemCount)
                 .note(request.getNote())
+                .createdAt(simulationClock.now())
                 .build();
 
         // 9. Order 저장
@@ -181,6 +195,12 @@ public class OrderService {
             storeProduct.decreaseStock(itemRequest.getQuantity());
         }
 
+        // 주문 추적 조회 모델 생성 (같은 트랜잭션)
+        orderTrackingProjector.created(savedOrder);
+
+        // 커밋 직후 매장 주문 목록은 복제 지연과 무관하게 PRIMARY에서 읽도록 기록
+        replicaStalenessGuard.markWritten("store-orders:" + request.getStoreId());
+
         // 12. 저장 후 OrderCreateResponse 반환 (orderId만 포함)
         return OrderCreateResponse.of(savedOrder.getOrderId());
     }
@@ -196,6 +216,8 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public OrderResponse getOrder(Long orderId) {
+        replicaStalenessGuard.pinIfRecentlyWritten("order:" + orderId);
+
         // N+1 문제 해결: JOIN FETCH로 OrderItems, Product, Store, User를 함께 조회
         Order order = orderRepository.findByIdWithDetails(orderId)
                 .orElseThrow(() -> new BaseException(ErrorCode.ORDER_NOT_FOUND));
@@ -206,6 +228,39 @@ public class OrderService {
         return OrderResponse.from(order, routeId);
     }
 
+    /**
+     * 주문 추적 조회
+     * 조회 모델(order_tracking)을 기본 키로 한 번 조회하며, 진행 중인 주문은 메모리 캐시에서 바로 반환합니다.
+     * 조회 모델이 없으면 ORDER_NOT_FOUND
+     */
+    @Transactional(readOnly = true)
+    public OrderTrackingResponse getTracking(Long orderId) {
+        OrderTrackingResponse cached = orderTrackingProjector.cached(orderId);
+        if (cached != null) {
+            return cached;
+        }
+
+        replicaStalenessGuard.pinIfRecentlyWritten("order:" + orderId);
+        OrderTrackingResponse tracking = orderTrackingRepository.findById(orderId)
+                .map(OrderTrackingResponse::from)
+                .orElseThrow(() -> new BaseException(ErrorCode.ORDER_NOT_FOUND));
+        orderTrackingProjector.cacheIfActive(tracking);
+        return tracking;
+    }
+
+    /**
+     * 주문 실시간 추적 SSE 스트림 구독
+     * Order가 없으면 ORDER_NOT_FOUND
+     * 배송 완료(status 이벤트) 후 스트림이 종료됩니다.
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribeTracking(Long orderId) {
+        if (!orderRepository.existsById(orderId)) {
+            throw new BaseException(ErrorCode.ORDER_NOT_FOUND);
+        }
+        return sseTrackingHub.subscribeOrder(orderId);
+    }
+
     /**
      * 특정 가게의 주문 목록 조회
      * storeId로 가게의 주문들을 조회합니다.
@@ -216,6 +271,8 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public List<OrderResponse> getStoreOrders(Long storeId, OrderStatus status) {
+        replicaStalenessGuard.pinIfRecentlyWritten("store-orders:" + storeId);
+
         // Store 존재 확인
         storeRepository.findById(storeId)
                 .orElseThrow(() -> new BaseException(ErrorCode.STORE_NOT_FOUND));
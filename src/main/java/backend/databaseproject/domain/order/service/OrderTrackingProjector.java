@@ -0,0 +1,266 @@
+package backend.databaseproject.domain.order.service;
+
+import backend.databaseproject.domain.order.dto.response.OrderTrackingResponse;
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.entity.OrderTracking;
+import backend.databaseproject.domain.order.repository.OrderTrackingRepository;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.RouteStopOrder;
+import backend.databaseproject.domain.route.entity.StopType;
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.domain.route.tracking.TrackingListener;
+import backend.databaseproject.global.datasource.ReplicaStalenessGuard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 추적 조회 모델 갱신
+ * 주문 생성/배정/취소/실패는 처리하는 트랜잭션 안에서 order_tracking 행을 함께 갱신하므로 조회 모델이 원본과 같이 커밋/롤백됩니다.
+ * 배송 완료는 비행 스레드의 출발 처리 트랜잭션을 늘리지 않도록, 같은 트랜잭션에 기록된 ORDER_FULFILLED 아웃박스 이벤트로 커밋 후 반영합니다
+ * ({@code OrderTrackingOutboxListener}).
+ *
+ * 변경한 주문은 {@link ReplicaStalenessGuard}에 기록하여 커밋 직후 조회가 복제본의 이전 상태를 읽지 않게 합니다.
+ *
+ * 진행 중인(CREATED/ASSIGNED) 주문은 조회 결과를 메모리에 보관하여 반복 조회를 DB 없이 처리합니다.
+ * - 상태 변경은 커밋 후 캐시에서 제거하고, 다음 조회가 DB에서 다시 읽습니다.
+ * - 드론 위치는 틱마다 캐시에 반영하고, DB에는 경로당 position-write-interval-ms마다 한 번만 기록합니다.
+ * - 캐시 항목은 cache-ttl-ms가 지나면 DB에서 다시 읽으므로, 다른 노드가 바꾼 상태나 커밋과 겹친 조회로 들어간 이전 상태도 이 시간 안에 바로잡힙니다.
+ *   배송 완료/경로 완료 이벤트는 중계로 모든 노드에 전달되므로 받는 즉시 제거합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderTrackingProjector implements TrackingListener {
+
+    private static final int ITEMS_SUMMARY_LENGTH = 255;
+
+    private final OrderTrackingRepository orderTrackingRepository;
+    private final ReplicaStalenessGuard replicaStalenessGuard;
+    private final SimulationClock simulationClock;
+
+    // 진행 중 주문 캐시 최대 크기 (초과 시 캐시하지 않고 DB에서 조회)
+    @Value("${order-tracking.cache-size:10000}")
+    private int cacheSize;
+
+    // 캐시 항목 유지 시간 (지나면 DB에서 다시 읽음)
+    @Value("${order-tracking.cache-ttl-ms:10000}")
+    private long cacheTtlMs;
+
+    // 경로별 마지막 위치 DB 기록 최소 간격
+    @Value("${order-tracking.position-write-interval-ms:10000}")
+    private long positionWriteIntervalMs;
+
+    private final Map<Long, CachedTracking> activeCache = new ConcurrentHashMap<>();
+
+    // 경로 ID -> 캐시된 주문 ID (위치 반영용)
+    private final Map<Long, Set<Long>> routeOrders = new ConcurrentHashMap<>();
+
+    // 경로 ID -> 마지막 위치 DB 기록 시각 (epoch ms)
+    private final Map<Long, Long> positionWrittenAt = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 생성 (주문 항목과 상품이 로드된 상태)
+     */
+    public void created(Order order) {
+        String itemsSummary = order.getOrderItems().stream()
+                .map(item -> item.getProduct().getName() + " x" + item.getQuantity())
+                .collect(Collectors.joining(", "));
+
+        orderTrackingRepository.save(OrderTracking.builder()
+                .orderId(order.getOrderId())
+                .storeId(order.getStore().getStoreId())
+                .storeName(order.getStore().getName())
+                .userId(order.getUser().getUserId())
+                .itemsSummary(truncate(itemsSummary))
+                .itemCount(order.getItemCount())
+                .totalAmount(order.getTotalAmount())
+                .createdAt(order.getCreatedAt() != null ? order.getCreatedAt() : simulationClock.now())
+                .build());
+        replicaStalenessGuard.markWritten("order:" + order.getOrderId());
+    }
+
+    /**
+     * 배송 배정 (ETA는 주문의 배송지 정류장 도착 예정 시각)
+     *
+     * @param route    stop/주문 매핑까지 조립된 경로
+     * @param orderIds 배정된 주문 ID
+     */
+    public void assigned(Route route, List<Long> orderIds) {
+        Map<Long, LocalDateTime> etaByOrder = new HashMap<>();
+        for (RouteStop stop : route.getRouteStops()) {
+            if (stop.getStopType() != StopType.DROP) {
+                continue;
+            }
+            for (RouteStopOrder routeStopOrder : stop.getRouteStopOrders()) {
+                etaByOrder.put(routeStopOrder.getOrder().getOrderId(), stop.getPlannedArrivalAt());
+            }
+        }
+
+        for (OrderTracking tracking : orderTrackingRepository.findAllById(orderIds)) {
+            tracking.assign(route.getRouteId(), etaByOrder.get(tracking.getOrderId()), route.getPlannedStartAt());
+        }
+        evictAfterCommit(orderIds);
+    }
+
+    /**
+     * 배송 완료 (ORDER_FULFILLED 아웃박스 이벤트로 커밋 후 호출)
+     */
+    public void completed(Long orderId, LocalDateTime completedAt) {
+        orderTrackingRepository.updateCompleted(orderId, completedAt, OrderStatus.FULFILLED);
+        evictAfterCommit(List.of(orderId));
+    }
+
+    /**
+     * 주문 취소 ({@link Order#cancel(LocalDateTime)}과 같은 트랜잭션에서 호출)
+     */
+    public void canceled(Order order) {
+        orderTrackingRepository.findById(order.getOrderId())
+                .ifPresent(tracking -> tracking.cancel(order.getCanceledAt()));
+        evictAfterCommit(List.of(order.getOrderId()));
+    }
+
+    /**
+     * 배송 실패 ({@link Order#fail(String)}과 같은 트랜잭션에서 호출)
+     */
+    public void failed(Order order) {
+        orderTrackingRepository.findById(order.getOrderId())
+                .ifPresent(tracking -> tracking.fail(order.getFailureReason(), simulationClock.now()));
+        evictAfterCommit(List.of(order.getOrderId()));
+    }
+
+    /**
+     * 드론 위치 틱 (시뮬레이션 스레드, 트랜잭션 밖)
+     */
+    public void positionUpdated(Long routeId, BigDecimal lat, BigDecimal lng, LocalDateTime ts) {
+        long nowMs = System.currentTimeMillis();
+
+        Set<Long> orderIds = routeOrders.get(routeId);
+        if (orderIds != null) {
+            for (Long orderId : orderIds) {
+                // 위치만 바꾸고 적재 시각은 유지 (만료 후 DB에서 상태를 다시 확인)
+                activeCache.computeIfPresent(orderId, (id, cached) -> new CachedTracking(
+                        cached.response().toBuilder().lastLat(lat).lastLng(lng).lastPositionAt(ts).build(),
+                        cached.loadedAtMs()));
+            }
+        }
+
+        Long writtenAt = positionWrittenAt.get(routeId);
+        if (writtenAt == null || nowMs - writtenAt >= positionWriteIntervalMs) {
+            positionWrittenAt.put(routeId, nowMs);
+            try {
+                orderTrackingRepository.updateLastPosition(routeId, lat, lng, ts, OrderStatus.ASSIGNED);
+            } catch (Exception e) {
+                log.warn("주문 추적 위치 기록 실패 - RouteId: {}", routeId, e);
+            }
+        }
+    }
+
+    /**
+     * 캐시된 진행 중 주문 조회 (없거나 만료되었으면 null)
+     */
+    public OrderTrackingResponse cached(Long orderId) {
+        CachedTracking cached = activeCache.get(orderId);
+        if (cached == null || System.currentTimeMillis() - cached.loadedAtMs() > cacheTtlMs) {
+            return null;
+        }
+        return cached.response();
+    }
+
+    /**
+     * DB에서 읽은 조회 결과를 진행 중 주문이면 캐시
+     */
+    public void cacheIfActive(OrderTrackingResponse response) {
+        boolean active = OrderStatus.CREATED.name().equals(response.getStatus())
+                || OrderStatus.ASSIGNED.name().equals(response.getStatus());
+        if (!active || activeCache.size() >= cacheSize) {
+            return;
+        }
+        activeCache.put(response.getOrderId(), new CachedTracking(response, System.currentTimeMillis()));
+        if (response.getRouteId() != null) {
+            routeOrders.computeIfAbsent(response.getRouteId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(response.getOrderId());
+        }
+    }
+
+    @Override
+    public void onPosition(PositionFanOutPlan plan, PositionFrameEncoder encoder) {
+    }
+
+    @Override
+    public void onPlan(PositionFanOutPlan plan, byte[] payload) {
+    }
+
+    @Override
+    public void onOrderStatus(Long orderId, byte[] payload) {
+        evict(orderId);
+    }
+
+    @Override
+    public void onRouteCompleted(Long routeId, byte[] payload) {
+        positionWrittenAt.remove(routeId);
+        Set<Long> orderIds = routeOrders.remove(routeId);
+        if (orderIds != null) {
+            orderIds.forEach(activeCache::remove);
+        }
+    }
+
+    /**
+     * 만료된 캐시 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${order-tracking.cache-ttl-ms:10000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - cacheTtlMs;
+        activeCache.entrySet().removeIf(entry -> entry.getValue().loadedAtMs() < cutoff);
+        routeOrders.values().forEach(orderIds -> orderIds.removeIf(orderId -> !activeCache.containsKey(orderId)));
+        routeOrders.values().removeIf(Set::isEmpty);
+    }
+
+    private void evictAfterCommit(List<Long> orderIds) {
+        orderIds.forEach(orderId -> replicaStalenessGuard.markWritten("order:" + orderId));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    orderIds.forEach(OrderTrackingProjector.this::evict);
+                }
+            });
+        } else {
+            orderIds.forEach(this::evict);
+        }
+    }
+
+    private void evict(Long orderId) {
+        CachedTracking removed = activeCache.remove(orderId);
+        if (removed != null && removed.response().getRouteId() != null) {
+            Set<Long> orderIds = routeOrders.get(removed.response().getRouteId());
+            if (orderIds != null) {
+                orderIds.remove(orderId);
+            }
+        }
+    }
+
+    private static String truncate(String value) {
+        return value.length() > ITEMS_SUMMARY_LENGTH ? value.substring(0, ITEMS_SUMMARY_LENGTH - 1) + "…" : value;
+    }
+
+    private record CachedTracking(OrderTrackingResponse response, long loadedAtMs) {
+    }
+}
@@ -3,8 +3,10 @@ package backend.databaseproject.domain.route.controller;
 import backend.databaseproject.domain.route.dto.request.StartDeliveryRequest;
 import backend.databaseproject.domain.route.dto.response.DronePositionResponse;
 import backend.databaseproject.domain.route.dto.response.RouteResponse;
+import backend.databaseproject.domain.route.dto.response.RouteTrackResponse;
 import backend.databaseproject.domain.route.service.DeliveryBatchService;
 import backend.databaseproject.domain.route.service.RouteService;
+import backend.databaseproject.domain.route.service.RouteTrackService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,8 +18,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -33,6 +37,7 @@ public class RouteController {
 
     private final RouteService routeService;
     private final DeliveryBatchService deliveryBatchService;
+    private final RouteTrackService routeTrackService;
 
     /**
      * 경로 상세 조회
@@ -99,6 +104,76 @@ public class RouteController {
         return position;
     }
 
+    /**
+     * 경로 궤적 이력 조회
+     * 경로의 드론 위치 이력을 단순화하여 Encoded Polyline으로 조회합니다.
+     *
+     * @param routeId    경로 ID
+     * @param toleranceM 단순화 허용 오차 (m)
+     * @return 단순화된 궤적
+     */
+    @GetMapping("/{routeId}/track")
+    @Operation(
+            summary = "경로 궤적 이력 조회",
+            description = "배송 경로의 드론 위치 이력을 Douglas–Peucker로 단순화하여 Encoded Polyline(정밀도 1e-5)으로 반환합니다. " +
+                         "toleranceM(0~1000m)이 클수록 점이 줄어들며, 0이면 모든 위치를 반환합니다. " +
+                         "완료된 경로의 결과는 캐시됩니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "조회 성공"
+                    ),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "허용 오차 범위 오류"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "존재하지 않는 배송 경로"
+                    )
+            }
+    )
+    public RouteTrackResponse getTrack(
+            @Parameter(name = "routeId", description = "경로 ID", required = true, example = "1")
+            @PathVariable Long routeId,
+            @Parameter(name = "toleranceM", description = "단순화 허용 오차 (m)", example = "5")
+            @RequestParam(defaultValue = "5") double toleranceM
+    ) {
+        log.info("API 호출: GET /api/routes/{}/track?toleranceM={}", routeId, toleranceM);
+        return routeTrackService.getTrack(routeId, toleranceM);
+    }
+
+    /**
+     * 경로 실시간 추적 (SSE)
+     * STOMP/SockJS 없이 EventSource로 드론 위치를 구독합니다.
+     *
+     * @param routeId 경로 ID
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/{routeId}/tracking/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "경로 실시간 추적 (SSE)",
+            description = "배송 경로의 드론 위치를 Server-Sent Events로 구독합니다. " +
+                         "position(위치), plan(구간 계획), status(경로 완료) 이벤트를 전송하며, 경로 완료 후 스트림이 종료됩니다.",
+            responses = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "구독 성공 (text/event-stream)"
+                    ),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "존재하지 않는 배송 경로"
+                    )
+            }
+    )
+    public SseEmitter streamTracking(
+            @Parameter(name = "routeId", description = "경로 ID", required = true, example = "1")
+            @PathVariable Long routeId
+    ) {
+        log.info("API 호출: GET /api/routes/{}/tracking/stream", routeId);
+        return routeService.subscribeTracking(routeId);
+    }
+
     /**
      * 진행 중인 배송 목록 조회
      * 현재 진행 중인 모든 배송 경로 목록을 조회합니다.
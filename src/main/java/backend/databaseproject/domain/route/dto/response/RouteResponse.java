@@ -58,7 +58,7 @@ public class RouteResponse {
     @Schema(description = "계획 총 무게 (kg)", example = "3.500")
     private BigDecimal plannedTotalPayloadKg;
 
-    @Schema(description = "사용된 휴리스틱", example = "Nearest Neighbor")
+    @Schema(description = "사용된 휴리스틱 (none, nearest-neighbor-2opt, input-order)", example = "nearest-neighbor-2opt")
     private String heuristic;
 
     @Schema(description = "정류장 목록")
@@ -0,0 +1,44 @@
+package backend.databaseproject.domain.route.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경로 궤적 이력 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "경로 궤적 이력 (단순화된 Encoded Polyline)")
+public class RouteTrackResponse {
+
+    @Schema(description = "경로 ID", example = "1")
+    private Long routeId;
+
+    @Schema(description = "경로 상태", example = "COMPLETED")
+    private String status;
+
+    @Schema(description = "적용한 허용 오차 (m)", example = "5.0")
+    private double toleranceM;
+
+    @Schema(description = "단순화 전 위치 수", example = "1800")
+    private int sourcePointCount;
+
+    @Schema(description = "단순화 후 위치 수", example = "42")
+    private int pointCount;
+
+    @Schema(description = "첫 위치 기록 시각", example = "2024-01-15T14:30:00")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "Encoded Polyline (정밀도 1e-5, 위도/경도 순)", example = "_p~iF~ps|U_ulLnnqC")
+    private String polyline;
+
+    @Schema(description = "각 점의 startedAt 기준 경과 시간 (ms), polyline 점 순서와 같음")
+    private long[] offsetsMs;
+}
@@ -1,6 +1,8 @@
 package backend.databaseproject.domain.route.entity;
 
 import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.global.common.IdSequences;
+import backend.databaseproject.global.common.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -20,7 +22,7 @@ import java.time.LocalDateTime;
 public class FlightLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(IdSequences.FLIGHT_LOG)
     @Column(name = "log_id")
     private Long logId;
 
@@ -0,0 +1,38 @@
+package backend.databaseproject.domain.route.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비행 시뮬레이션 노드 엔티티
+ * 노드마다 주기적으로 하트비트 시각을 갱신하며, 샤드를 하나도 갖지 않은 노드도 공정 분배 계산에 포함됩니다.
+ */
+@Entity
+@Table(name = "flight_node")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FlightNode {
+
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    public FlightNode(String nodeId, LocalDateTime heartbeatAt) {
+        this.nodeId = nodeId;
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    /**
+     * 하트비트 갱신
+     */
+    public void heartbeat(LocalDateTime now) {
+        this.heartbeatAt = now;
+    }
+}
@@ -0,0 +1,35 @@
+package backend.databaseproject.domain.route.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비행 시뮬레이션 샤드 임대(lease) 엔티티
+ * 경로는 routeId % 샤드 수로 샤드에 속하며, 샤드를 임대한 노드만 해당 경로를 시뮬레이션합니다.
+ * 소유 노드가 임대 만료 시각 전에 갱신하지 못하면 다른 노드가 샤드를 넘겨받습니다.
+ */
+@Entity
+@Table(name = "flight_shard_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FlightShardLease {
+
+    @Id
+    @Column(name = "shard_no")
+    private Integer shardNo;
+
+    // 임대 노드 ID (null이면 미임대)
+    @Column(name = "owner_node", length = 100)
+    private String ownerNode;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    public FlightShardLease(Integer shardNo) {
+        this.shardNo = shardNo;
+    }
+}
@@ -2,6 +2,8 @@ package backend.databaseproject.domain.route.entity;
 
 import backend.databaseproject.domain.drone.entity.Drone;
 import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.common.IdSequences;
+import backend.databaseproject.global.common.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,7 +25,7 @@ import java.util.List;
 public class Route {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(IdSequences.ROUTE)
     @Column(name = "route_id")
     private Long routeId;
 
@@ -95,18 +97,22 @@ public class Route {
 
     /**
      * 배송 시작
+     *
+     * @param now 시뮬레이션 시계 기준 현재 시각
      */
-    public void launch() {
+    public void launch(LocalDateTime now) {
         this.status = RouteStatus.LAUNCHED;
-        this.actualStartAt = LocalDateTime.now();
+        this.actualStartAt = now;
     }
 
     /**
      * 배송 완료
+     *
+     * @param now 시뮬레이션 시계 기준 현재 시각
      */
-    public void complete() {
+    public void complete(LocalDateTime now) {
         this.status = RouteStatus.COMPLETED;
-        this.actualEndAt = LocalDateTime.now();
+        this.actualEndAt = now;
     }
 
     /**
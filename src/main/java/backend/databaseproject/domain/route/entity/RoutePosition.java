@@ -1,5 +1,7 @@
 package backend.databaseproject.domain.route.entity;
 
+import backend.databaseproject.global.common.IdSequences;
+import backend.databaseproject.global.common.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -11,6 +13,7 @@ import java.time.LocalDateTime;
 
 /**
  * 배송 경로 드론 위치 추적 엔티티
+ * 테이블은 ts 기준 일별 파티션이며 (RoutePositionRetentionService), 파티션 테이블은 외래 키를 가질 수 없어 연관 컬럼에 제약을 두지 않습니다.
  */
 @Entity
 @Table(name = "route_position")
@@ -19,20 +22,20 @@ import java.time.LocalDateTime;
 public class RoutePosition {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(IdSequences.ROUTE_POSITION)
     @Column(name = "pos_id")
     private Long posId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "route_id", nullable = false)
+    @JoinColumn(name = "route_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Route route;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "stop_from_id")
+    @JoinColumn(name = "stop_from_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private RouteStop stopFrom;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "stop_to_id")
+    @JoinColumn(name = "stop_to_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private RouteStop stopTo;
 
     @Column(nullable = false, precision = 9, scale = 6)
@@ -2,6 +2,8 @@ package backend.databaseproject.domain.route.entity;
 
 import backend.databaseproject.domain.store.entity.Store;
 import backend.databaseproject.domain.user.entity.User;
+import backend.databaseproject.global.common.IdSequences;
+import backend.databaseproject.global.common.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -23,7 +25,7 @@ import java.util.List;
 public class RouteStop {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(IdSequences.ROUTE_STOP)
     @Column(name = "stop_id")
     private Long stopId;
 
@@ -117,18 +119,22 @@ public class RouteStop {
 
     /**
      * 도착 표시
+     *
+     * @param now 시뮬레이션 시계 기준 현재 시각
      */
-    public void arrive() {
+    public void arrive(LocalDateTime now) {
         this.status = StopStatus.ARRIVED;
-        this.actualArrivalAt = LocalDateTime.now();
+        this.actualArrivalAt = now;
     }
 
     /**
      * 출발 표시
+     *
+     * @param now 시뮬레이션 시계 기준 현재 시각
      */
-    public void depart() {
+    public void depart(LocalDateTime now) {
         this.status = StopStatus.DEPARTED;
-        this.actualDepartureAt = LocalDateTime.now();
+        this.actualDepartureAt = now;
     }
 
     /**
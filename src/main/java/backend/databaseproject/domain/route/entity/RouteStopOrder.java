@@ -1,6 +1,8 @@
 package backend.databaseproject.domain.route.entity;
 
 import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.global.common.IdSequences;
+import backend.databaseproject.global.common.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,7 +21,7 @@ import java.time.LocalDateTime;
 public class RouteStopOrder {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId(IdSequences.ROUTE_STOP_ORDER)
     @Column(name = "route_stop_order_id")
     private Long routeStopOrderId;
 
@@ -6,5 +6,6 @@ package backend.databaseproject.domain.route.entity;
 public enum StopType {
     PICKUP,  // 픽업 (매장에서 물건 싣기)
     DROP,    // 드롭 (고객에게 배송)
+    WAYPOINT, // 경유지 (비행 금지 구역 우회)
     RETURN   // 복귀 (매장으로 돌아오기)
 }
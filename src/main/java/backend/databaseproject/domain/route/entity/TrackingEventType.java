@@ -0,0 +1,11 @@
+package backend.databaseproject.domain.route.entity;
+
+/**
+ * 노드 간 중계되는 실시간 추적 이벤트 종류
+ */
+public enum TrackingEventType {
+    POSITION,        // 위치 틱
+    PLAN,            // 구간 계획
+    ORDER_STATUS,    // 주문 상태 변경
+    ROUTE_COMPLETED  // 경로 완료
+}
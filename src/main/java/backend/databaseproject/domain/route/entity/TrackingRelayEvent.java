@@ -0,0 +1,75 @@
+package backend.databaseproject.domain.route.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 노드 간 실시간 추적 이벤트 중계 엔티티
+ * 비행을 시뮬레이션하는 노드가 추적 이벤트를 기록하면, 다른 노드가 폴링하여 자신에게 연결된 구독자에게 전달합니다.
+ * 짧은 보관 기간이 지나면 삭제되는 임시 데이터입니다.
+ */
+@Entity
+@Table(name = "tracking_relay_event",
+        indexes = @Index(name = "idx_tracking_relay_event_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TrackingRelayEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    // 이벤트를 발생시킨 노드 ID (자기 이벤트는 폴링 시 건너뜀)
+    @Column(name = "origin_node", nullable = false, length = 100)
+    private String originNode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private TrackingEventType eventType;
+
+    @Column(name = "route_id")
+    private Long routeId;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    // 위치/계획 이벤트를 받을 미배송 주문 ID 목록 (쉼표 구분)
+    @Column(name = "order_ids", length = 1000)
+    private String orderIds;
+
+    // JSON 본문 (위치 이벤트는 머리말을 뺀 위치 본문)
+    @Column(nullable = false, length = 4096)
+    private byte[] payload;
+
+    // 압축 바이너리 위치 프레임 (위치 이벤트만)
+    @Column(name = "compact_payload", length = 128)
+    private byte[] compactPayload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    @Builder
+    public TrackingRelayEvent(String originNode, TrackingEventType eventType, Long routeId, Long orderId,
+                              String orderIds, byte[] payload, byte[] compactPayload) {
+        this.originNode = originNode;
+        this.eventType = eventType;
+        this.routeId = routeId;
+        this.orderId = orderId;
+        this.orderIds = orderIds;
+        this.payload = payload;
+        this.compactPayload = compactPayload;
+    }
+}
@@ -0,0 +1,14 @@
+package backend.databaseproject.domain.route.planning;
+
+/**
+ * 경로 최적화 결과
+ *
+ * @param indices   방문 순서의 주문 인덱스 배열 (제외된 배송지가 있으면 입력보다 짧음)
+ * @param heuristic 결과 순서를 만든 휴리스틱 (none, nearest-neighbor-2opt, input-order)
+ */
+public record OptimizedRoute(int[] indices, String heuristic) {
+
+    public static final String NONE = "none";
+    public static final String NEAREST_NEIGHBOR_2OPT = "nearest-neighbor-2opt";
+    public static final String INPUT_ORDER = "input-order";
+}
@@ -0,0 +1,261 @@
+package backend.databaseproject.domain.route.planning;
+
+import backend.databaseproject.domain.drone.service.DroneEnergyModel;
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.store.entity.Store;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경로 계획용 배송 묶음
+ * 배차 1회마다 주문 엔티티를 한 번만 변환하여 좌표는 마이크로도(1e-6도) 정수, 무게는 그램 정수의 평면 배열로 보관합니다.
+ * 주문 선택과 경로 최적화 루프는 주문 인덱스와 기본형 값만 다루며, BigDecimal은 엔티티 저장 시점에만 사용합니다.
+ *
+ * 노드 번호는 주문 인덱스(0 ~ size-1)이고, 출발 매장은 {@link #ORIGIN}입니다.
+ */
+public final class PlanningBatch {
+
+    public static final int ORIGIN = -1;
+
+    private static final double MICRO_DEGREES = 1_000_000.0;
+    private static final int MAX_PAIR_CACHE_SLOTS = 4096;
+
+    private final List<Order> orders;
+    private final long[] orderIds;
+    private final int[] latE6;
+    private final int[] lngE6;
+    private final long[] weightGrams;
+    private final int originLatE6;
+    private final int originLngE6;
+    private final LegDistanceFunction legDistance;
+
+    // 매장 -> 배송지, 배송지 -> 매장 구간 거리 (NaN = 미계산)
+    private final double[] fromOrigin;
+    private final double[] toOrigin;
+
+    // 배송지 간 구간 거리 캐시 (직접 사상, 크기 제한)
+    // 대기 주문 전체로 묶음을 만들어도 실제로 조회하는 배송지 쌍은 선택/최적화 대상 몇 건뿐이므로 N^2 행렬을 만들지 않습니다.
+    private final long[] pairKeys;
+    private final double[] pairDistances;
+
+    private PlanningBatch(Store store, List<Order> orders, LegDistanceFunction legDistance) {
+        int size = orders.size();
+        this.orders = List.copyOf(orders);
+        this.orderIds = new long[size];
+        this.latE6 = new int[size];
+        this.lngE6 = new int[size];
+        this.weightGrams = new long[size];
+        for (int i = 0; i < size; i++) {
+            Order order = orders.get(i);
+            orderIds[i] = order.getOrderId();
+            latE6[i] = toMicroDegrees(order.getDestLat());
+            lngE6[i] = toMicroDegrees(order.getDestLng());
+            weightGrams[i] = toGrams(order.getTotalWeightKg());
+        }
+        this.originLatE6 = toMicroDegrees(store.getLat());
+        this.originLngE6 = toMicroDegrees(store.getLng());
+        this.legDistance = legDistance;
+        this.fromOrigin = new double[size];
+        this.toOrigin = new double[size];
+        Arrays.fill(fromOrigin, Double.NaN);
+        Arrays.fill(toOrigin, Double.NaN);
+        int pairSlots = (int) Math.min(MAX_PAIR_CACHE_SLOTS, Math.max(16L, Long.highestOneBit((long) size * size) << 1));
+        this.pairKeys = new long[pairSlots];
+        this.pairDistances = new double[pairSlots];
+        Arrays.fill(pairKeys, -1L);
+    }
+
+    /**
+     * 매장과 주문 목록으로 계획용 묶음 생성
+     *
+     * @param store       출발 매장
+     * @param orders      주문 목록 (인덱스 순서가 노드 번호가 됨)
+     * @param legDistance 구간 거리 함수 (비행 금지 구역 우회 반영)
+     */
+    public static PlanningBatch of(Store store, List<Order> orders, LegDistanceFunction legDistance) {
+        return new PlanningBatch(store, orders, legDistance);
+    }
+
+    public int size() {
+        return orderIds.length;
+    }
+
+    public long orderId(int index) {
+        return orderIds[index];
+    }
+
+    public long weightGrams(int index) {
+        return weightGrams[index];
+    }
+
+    public Order order(int index) {
+        return orders.get(index);
+    }
+
+    /**
+     * 인덱스 순서대로 주문 엔티티 목록 반환 (저장 경계에서 사용)
+     */
+    public List<Order> orders(int[] indices) {
+        List<Order> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(orders.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * 노드 위도 (도)
+     */
+    public double lat(int node) {
+        return (node == ORIGIN ? originLatE6 : latE6[node]) / MICRO_DEGREES;
+    }
+
+    /**
+     * 노드 경도 (도)
+     */
+    public double lng(int node) {
+        return (node == ORIGIN ? originLngE6 : lngE6[node]) / MICRO_DEGREES;
+    }
+
+    /**
+     * 두 노드 간 구간 거리 (km)
+     * 매장이 끼는 구간은 주문별 배열에, 배송지 간 구간은 크기가 제한된 캐시에 보관하여 다시 계산하지 않습니다.
+     */
+    public double distanceKm(int from, int to) {
+        if (from == to) {
+            return 0.0;
+        }
+        if (from == ORIGIN) {
+            if (Double.isNaN(fromOrigin[to])) {
+                fromOrigin[to] = compute(ORIGIN, to);
+            }
+            return fromOrigin[to];
+        }
+        if (to == ORIGIN) {
+            if (Double.isNaN(toOrigin[from])) {
+                toOrigin[from] = compute(from, ORIGIN);
+            }
+            return toOrigin[from];
+        }
+
+        long key = (long) from * orderIds.length + to;
+        int slot = (int) (mix(key) & (pairKeys.length - 1));
+        if (pairKeys[slot] == key) {
+            return pairDistances[slot];
+        }
+        double distance = compute(from, to);
+        pairKeys[slot] = key;
+        pairDistances[slot] = distance;
+        return distance;
+    }
+
+    private double compute(int from, int to) {
+        return legDistance.distanceKm(lat(from), lng(from), lat(to), lng(to));
+    }
+
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        return key ^ (key >>> 33);
+    }
+
+    /**
+     * 매장에서 배송지까지 갔다가 돌아올 수 있는지 확인
+     * 구간 거리 함수가 비행 금지 구역을 우회할 수 없는 구간에 무한대를 반환하는 것을 이용합니다.
+     */
+    public boolean isReachable(int index) {
+        return Double.isFinite(distanceKm(ORIGIN, index)) && Double.isFinite(distanceKm(index, ORIGIN));
+    }
+
+    /**
+     * 주어진 방문 순서의 총 거리 (매장 -> 배송지들 -> 매장, km)
+     */
+    public double tourDistanceKm(int[] indices) {
+        if (indices.length == 0) {
+            return 0.0;
+        }
+        double total = 0.0;
+        int current = ORIGIN;
+        for (int index : indices) {
+            total += distanceKm(current, index);
+            current = index;
+        }
+        return total + distanceKm(current, ORIGIN);
+    }
+
+    /**
+     * 주어진 방문 순서의 총 배터리 소모량 (mAh)
+     * 매장에서 모든 주문을 싣고 출발하여, 배송지마다 호버링 후 해당 주문 무게만큼 가벼워진 상태로 다음 구간을 비행합니다.
+     *
+     * @param energyModel 에너지 소모 모델
+     * @param indices     방문 순서 (주문 인덱스)
+     * @param length      indices 중 앞에서부터 사용할 개수
+     */
+    public double tourEnergyMah(DroneEnergyModel energyModel, int[] indices, int length) {
+        if (length == 0) {
+            return 0.0;
+        }
+        long payloadGrams = 0L;
+        for (int i = 0; i < length; i++) {
+            payloadGrams += weightGrams[indices[i]];
+        }
+
+        double total = 0.0;
+        int current = ORIGIN;
+        for (int i = 0; i < length; i++) {
+            int index = indices[i];
+            double payloadKg = payloadGrams / 1000.0;
+            total += energyModel.cruiseMah(distanceKm(current, index), payloadKg);
+            total += energyModel.dropHoverMah(payloadKg);
+            payloadGrams -= weightGrams[index];
+            current = index;
+        }
+        return total + energyModel.cruiseMah(distanceKm(current, ORIGIN), payloadGrams / 1000.0);
+    }
+
+    /**
+     * 주어진 주문들의 총 무게 (g)
+     */
+    public long totalWeightGrams(int[] indices) {
+        long total = 0L;
+        for (int index : indices) {
+            total += weightGrams[index];
+        }
+        return total;
+    }
+
+    /**
+     * 전체 주문 인덱스 (0 ~ size-1)
+     */
+    public int[] allIndices() {
+        int[] indices = new int[orderIds.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    public static int toMicroDegrees(BigDecimal degrees) {
+        return degrees.movePointRight(6).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    public static long toGrams(BigDecimal kg) {
+        return kg.movePointRight(3).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    public static BigDecimal toKg(long grams) {
+        return BigDecimal.valueOf(grams, 3);
+    }
+
+    /**
+     * 구간 거리 함수
+     */
+    @FunctionalInterface
+    public interface LegDistanceFunction {
+        double distanceKm(double lat1, double lng1, double lat2, double lng2);
+    }
+}
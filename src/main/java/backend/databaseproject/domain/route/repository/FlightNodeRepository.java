@@ -0,0 +1,29 @@
+package backend.databaseproject.domain.route.repository;
+
+import backend.databaseproject.domain.route.entity.FlightNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비행 시뮬레이션 노드 Repository
+ */
+@Repository
+public interface FlightNodeRepository extends JpaRepository<FlightNode, String> {
+
+    /**
+     * 하트비트가 유효한 노드 수
+     */
+    long countByHeartbeatAtGreaterThanEqual(LocalDateTime since);
+
+    /**
+     * 하트비트가 끊긴 노드 정리
+     */
+    @Modifying
+    @Query("DELETE FROM FlightNode n WHERE n.heartbeatAt < :before")
+    int deleteStale(@Param("before") LocalDateTime before);
+}
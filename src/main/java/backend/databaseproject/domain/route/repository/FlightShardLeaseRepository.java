@@ -0,0 +1,62 @@
+package backend.databaseproject.domain.route.repository;
+
+import backend.databaseproject.domain.route.entity.FlightShardLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비행 샤드 임대 Repository
+ * 임대 획득/갱신/반납은 조건부 UPDATE 한 번으로 수행하여, 여러 노드가 동시에 시도해도 한 노드만 성공합니다.
+ */
+@Repository
+public interface FlightShardLeaseRepository extends JpaRepository<FlightShardLease, Integer> {
+
+    /**
+     * 미임대이거나 만료된 샤드 임대 획득 (자기 임대 갱신 포함)
+     *
+     * @return 획득 성공 시 1
+     */
+    @Modifying
+    @Query("UPDATE FlightShardLease l SET l.ownerNode = :node, l.leaseUntil = :until " +
+           "WHERE l.shardNo = :shardNo " +
+           "AND (l.ownerNode IS NULL OR l.ownerNode = :node OR l.leaseUntil < :now)")
+    int claim(@Param("shardNo") Integer shardNo, @Param("node") String node,
+              @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * 노드가 보유한 모든 샤드 임대 갱신
+     *
+     * @return 갱신된 샤드 수
+     */
+    @Modifying
+    @Query("UPDATE FlightShardLease l SET l.leaseUntil = :until WHERE l.ownerNode = :node")
+    int renew(@Param("node") String node, @Param("until") LocalDateTime until);
+
+    /**
+     * 샤드 임대 반납
+     */
+    @Modifying
+    @Query("UPDATE FlightShardLease l SET l.ownerNode = NULL, l.leaseUntil = NULL " +
+           "WHERE l.shardNo = :shardNo AND l.ownerNode = :node")
+    int release(@Param("shardNo") Integer shardNo, @Param("node") String node);
+
+    /**
+     * 노드가 유효하게 보유한 샤드 번호 조회
+     */
+    @Query("SELECT l.shardNo FROM FlightShardLease l " +
+           "WHERE l.ownerNode = :node AND l.leaseUntil >= :now ORDER BY l.shardNo")
+    List<Integer> findOwnedShardNos(@Param("node") String node, @Param("now") LocalDateTime now);
+
+    /**
+     * 임대 가능한 샤드 번호 조회 (미임대 또는 만료)
+     */
+    @Query("SELECT l.shardNo FROM FlightShardLease l " +
+           "WHERE l.shardNo < :shardCount AND (l.ownerNode IS NULL OR l.leaseUntil < :now) ORDER BY l.shardNo")
+    List<Integer> findClaimableShardNos(@Param("shardCount") int shardCount, @Param("now") LocalDateTime now);
+}
@@ -3,10 +3,14 @@ package backend.databaseproject.domain.route.repository;
 import backend.databaseproject.domain.route.entity.RoutePosition;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 드론 위치 Repository
@@ -22,4 +26,21 @@ public interface RoutePositionRepository extends JpaRepository<RoutePosition, Lo
            "ORDER BY rp.ts DESC " +
            "LIMIT 1")
     Optional<RoutePosition> findLatestByRouteId(@Param("routeId") Long routeId);
+
+    /**
+     * 경로 궤적 스트리밍 조회 ([lat, lng, ts], 시간순)
+     * 보관 기간이 지나 요약된 구간(route_track_rollup)과 원본 위치를 이어서 반환합니다.
+     * 엔티티 대신 스칼라 행을 MySQL 스트리밍 결과셋(fetch size = Integer.MIN_VALUE)으로 읽으므로 트랜잭션 안에서 소비해야 합니다.
+     */
+    @Query(value = "SELECT t.lat, t.lng, t.ts FROM (" +
+                   "SELECT lat, lng, bucket_start AS ts FROM route_track_rollup WHERE route_id = :routeId " +
+                   "UNION ALL " +
+                   "SELECT lat, lng, ts FROM route_position WHERE route_id = :routeId" +
+                   ") t ORDER BY t.ts",
+           nativeQuery = true)
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<Object[]> streamTrackByRouteId(@Param("routeId") Long routeId);
 }
@@ -21,6 +21,12 @@ public interface RouteRepository extends JpaRepository<Route, Long> {
      */
     List<Route> findByStatus(RouteStatus status);
 
+    /**
+     * 상태별 경로 ID 조회 (비행 복구/샤드 재조정용)
+     */
+    @Query("SELECT r.routeId FROM Route r WHERE r.status = :status ORDER BY r.routeId")
+    List<Long> findIdsByStatus(@Param("status") RouteStatus status);
+
     /**
      * 드론 ID와 상태로 경로 조회
      */
@@ -1,11 +1,14 @@
 package backend.databaseproject.domain.route.repository;
 
 import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.StopStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,4 +50,18 @@ public interface RouteStopRepository extends JpaRepository<RouteStop, Long> {
            "LEFT JOIN FETCH rso.order " +
            "WHERE rs.stopId IN :stopIds")
     List<RouteStop> findAllWithOrdersByIds(@Param("stopIds") List<Long> stopIds);
+
+    /**
+     * 상태 전이 조건부 처리 (현재 상태가 expected인 경우에만 변경)
+     * 같은 경유지를 두 노드가 동시에 처리해도 행 잠금으로 한쪽만 성공합니다.
+     *
+     * @return 변경된 행 수 (0이면 다른 처리가 먼저 상태를 바꿈)
+     */
+    @Modifying
+    @Query("UPDATE RouteStop rs SET rs.status = :departed, rs.actualDepartureAt = :departedAt " +
+           "WHERE rs.stopId = :stopId AND rs.status = :expected")
+    int markDeparted(@Param("stopId") Long stopId,
+                     @Param("departedAt") LocalDateTime departedAt,
+                     @Param("expected") StopStatus expected,
+                     @Param("departed") StopStatus departed);
 }
@@ -0,0 +1,43 @@
+package backend.databaseproject.domain.route.repository;
+
+import backend.databaseproject.domain.route.entity.TrackingRelayEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 실시간 추적 이벤트 중계 Repository
+ */
+@Repository
+public interface TrackingRelayEventRepository extends JpaRepository<TrackingRelayEvent, Long> {
+
+    /**
+     * 마지막으로 읽은 이벤트 이후의 이벤트 조회 (ID 순)
+     * 동시에 기록 중인 이벤트를 건너뛰지 않도록 settledBefore 이전에 기록된 이벤트만 읽습니다.
+     */
+    @Query("SELECT e FROM TrackingRelayEvent e " +
+           "WHERE e.eventId > :afterId AND e.createdAt < :settledBefore " +
+           "ORDER BY e.eventId")
+    List<TrackingRelayEvent> findAfter(@Param("afterId") Long afterId,
+                                       @Param("settledBefore") LocalDateTime settledBefore,
+                                       Pageable pageable);
+
+    /**
+     * 가장 최근 이벤트 ID (없으면 0)
+     */
+    @Query("SELECT COALESCE(MAX(e.eventId), 0) FROM TrackingRelayEvent e")
+    Long findMaxEventId();
+
+    /**
+     * 보관 기간이 지난 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM TrackingRelayEvent e WHERE e.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
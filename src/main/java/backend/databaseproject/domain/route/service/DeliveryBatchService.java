@@ -3,18 +3,22 @@ package backend.databaseproject.domain.route.service;
 import backend.databaseproject.domain.drone.entity.Drone;
 import backend.databaseproject.domain.drone.entity.DroneStatus;
 import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.drone.service.DroneEnergyModel;
 import backend.databaseproject.domain.order.entity.Order;
 import backend.databaseproject.domain.order.entity.OrderStatus;
 import backend.databaseproject.domain.order.repository.OrderRepository;
 import backend.databaseproject.domain.route.entity.*;
-import backend.databaseproject.domain.route.repository.RouteRepository;
-import backend.databaseproject.domain.route.repository.RouteStopRepository;
-import backend.databaseproject.domain.route.repository.RouteStopOrderRepository;
+import backend.databaseproject.domain.route.planning.OptimizedRoute;
+import backend.databaseproject.domain.route.planning.PlanningBatch;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
 import backend.databaseproject.domain.store.entity.Store;
 import backend.databaseproject.domain.store.repository.StoreRepository;
 import backend.databaseproject.global.exception.BatteryInsufficientException;
 import backend.databaseproject.global.exception.PayloadExceededException;
-import backend.databaseproject.global.util.GeoUtils;
+import backend.databaseproject.domain.geofence.exception.NoFlyZoneUnreachableException;
+import backend.databaseproject.domain.geofence.service.GeofenceIndex;
+import backend.databaseproject.domain.geofence.service.GeofenceService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -38,20 +43,15 @@ public class DeliveryBatchService {
 
     private final OrderRepository orderRepository;
     private final DroneRepository droneRepository;
-    private final RouteRepository routeRepository;
-    private final RouteStopRepository routeStopRepository;
-    private final RouteStopOrderRepository routeStopOrderRepository;
+    private final RoutePlanWriter routePlanWriter;
     private final StoreRepository storeRepository;
     private final RouteOptimizerService routeOptimizerService;
-    private final DroneSimulatorService droneSimulatorService;
+    private final GeofenceService geofenceService;
+    private final DroneEnergyModel droneEnergyModel;
+    private final SimulationClock simulationClock;
 
-    private static final double DRONE_SPEED_KMH = 30.0; // 드론 평균 속도
     private static final int STOP_DELAY_MIN = 2; // 각 stop당 지연 시간 (분)
 
-    // 배터리-거리 변환 상수
-    private static final double BATTERY_TO_DISTANCE_RATIO = 0.004; // mAh당 km (5000mAh = 20km 기준)
-    private static final double SAFETY_MARGIN = 0.8; // 안전 마진 (80% 사용, 20% 여유)
-
     /**
      * 선택된 주문들로 배송 시작
      * 점주가 선택한 주문 ID들을 받아 배송을 시작합니다.
@@ -60,8 +60,10 @@ public class DeliveryBatchService {
      * @throws IllegalArgumentException 주문을 찾을 수 없거나, 상태가 CREATED가 아니거나, 매장이 다른 경우
      * @throws PayloadExceededException 드론의 적재량을 초과한 경우
      * @throws BatteryInsufficientException 배터리 용량이 부족한 경우
+     * @throws NoFlyZoneUnreachableException 비행 금지 구역을 우회하여 배송지에 갈 수 없는 경우
      */
     @Transactional
+    @Timed(value = "drone.delivery.selected", description = "선택 주문 배송 시작 처리 시간")
     public void processSelectedOrders(List<Long> orderIds) {
         log.info("=== 선택된 주문 배송 시작 ===");
         log.info("요청된 주문 ID: {}", orderIds);
@@ -105,35 +107,37 @@ public class DeliveryBatchService {
         log.info("드론 할당 - DroneId: {}, Model: {}, MaxPayload: {}kg",
                 availableDrone.getDroneId(), availableDrone.getModel(), availableDrone.getMaxPayloadKg());
 
-        // 5. 무게 및 거리 검증
-        validatePayloadAndDistance(orders, availableDrone, store);
-
-        // 6. 주문 시간순 정렬
+        // 5. 주문 시간순 정렬 후 계획용 묶음으로 변환 (좌표/무게를 정수 배열로 한 번만 변환)
         orders.sort((o1, o2) -> o1.getCreatedAt().compareTo(o2.getCreatedAt()));
+        PlanningBatch batch = PlanningBatch.of(store, orders, geofenceService::legDistanceKm);
+
+        // 6. 비행 금지 구역 때문에 갈 수 없는 배송지가 있으면 거부
+        for (int index = 0; index < batch.size(); index++) {
+            if (!batch.isReachable(index)) {
+                throw new NoFlyZoneUnreachableException(
+                        String.format("주문 ID %d의 배송지는 비행 금지 구역을 우회하여 갈 수 없습니다.", batch.orderId(index)));
+            }
+        }
 
         // 7. 경로 최적화
-        List<Order> optimizedOrders = routeOptimizerService.optimizeRoute(orders, store);
+        OptimizedRoute optimized = routeOptimizerService.optimizeRoute(batch, batch.allIndices());
+        int[] optimizedIndices = optimized.indices();
+        if (optimizedIndices.length < batch.size() || Double.isInfinite(batch.tourDistanceKm(optimizedIndices))) {
+            throw new NoFlyZoneUnreachableException("비행 금지 구역 때문에 선택한 배송지들을 한 번에 비행할 수 없습니다.");
+        }
+        List<Order> optimizedOrders = batch.orders(optimizedIndices);
 
-        // 8. Route 생성
-        Route route = createRoute(availableDrone, store, optimizedOrders);
-        routeRepository.save(route);
-        log.info("Route 생성 완료 - RouteId: {}", route.getRouteId());
+        // 8. 무게 및 배터리 검증 (최적화된 방문 순서 기준)
+        validatePayloadAndEnergy(batch, optimizedIndices, availableDrone);
 
-        // 9. RouteStop 생성
+        // 9. Route + RouteStop + RouteStopOrder 조립
+        Route route = createRoute(availableDrone, store, batch, optimized);
         createRouteStops(route, store, optimizedOrders);
 
-        // 10. Order 상태 변경
-        for (Order order : optimizedOrders) {
-            order.assignDelivery();
-        }
-        orderRepository.saveAll(optimizedOrders);
-
-        // 11. 드론 상태 변경
-        availableDrone.changeStatus(DroneStatus.IN_FLIGHT);
-        droneRepository.save(availableDrone);
-
-        // 12. 비행 시뮬레이션 시작 (비동기)
-        droneSimulatorService.simulateFlight(route.getRouteId());
+        // 10. 경로 일괄 저장 + 주문 배정 + 드론 출동 (배치 INSERT와 조건부 UPDATE)
+        //    비행 시뮬레이션은 커밋 후 아웃박스 ROUTE_PLANNED 이벤트로 시작
+        routePlanWriter.write(route, optimizedOrders, availableDrone);
+        log.info("Route 생성 완료 - RouteId: {}", route.getRouteId());
 
         log.info("=== 선택된 주문 배송 시작 완료 - RouteId: {} ===", route.getRouteId());
     }
@@ -143,6 +147,7 @@ public class DeliveryBatchService {
      * 대기 중인 배송 요청들을 매장별로 그룹화하여 처리합니다.
      */
     @Transactional
+    @Timed(value = "drone.delivery.batch", description = "배송 배치 처리 시간")
     public void processBatch() {
         log.info("=== 배송 배치 처리 시작 ===");
 
@@ -192,52 +197,40 @@ public class DeliveryBatchService {
                         availableDrone.getDroneId(), availableDrone.getModel(),
                         availableDrone.getMaxPayloadKg(), store.getName());
 
+                // 계획용 묶음으로 변환 (좌표/무게를 정수 배열로 한 번만 변환)
+                PlanningBatch batch = PlanningBatch.of(store, orders, geofenceService::legDistanceKm);
+
                 // 드론의 적재량과 배터리를 고려하여 할당 가능한 주문 선택
-                List<Order> selectedOrders = selectOrdersForDrone(orders, availableDrone, store);
+                int[] selectedIndices = selectOrdersForDrone(batch, availableDrone);
 
-                if (selectedOrders.isEmpty()) {
+                if (selectedIndices.length == 0) {
                     log.warn("드론에 할당 가능한 주문이 없습니다. 매장 ID {} 스킵", storeId);
                     continue;
                 }
 
-                log.info("할당 가능한 주문: {}건 / 전체 {}건", selectedOrders.size(), orders.size());
+                log.info("할당 가능한 주문: {}건 / 전체 {}건", selectedIndices.length, orders.size());
 
                 // 경로 최적화
-                List<Order> optimizedOrders = routeOptimizerService.optimizeRoute(selectedOrders, store);
+                OptimizedRoute optimized = routeOptimizerService.optimizeRoute(batch, selectedIndices);
+                int[] optimizedIndices = optimized.indices();
 
-                if (optimizedOrders.isEmpty()) {
+                if (optimizedIndices.length == 0) {
                     log.warn("최적화된 경로가 없습니다. 매장 ID {} 스킵", storeId);
                     continue;
                 }
+                // 우회 경유지 생성(planLeg)이 예외를 던지면 다른 매장의 경로까지 롤백되므로, 막힌 구간이 남은 매장은 건너뜀
+                if (Double.isInfinite(batch.tourDistanceKm(optimizedIndices))) {
+                    log.warn("비행 금지 구역 때문에 경로를 비행할 수 없습니다. 매장 ID {} 스킵", storeId);
+                    continue;
+                }
+                List<Order> optimizedOrders = batch.orders(optimizedIndices);
 
-                // Route 생성
-                Route route = createRoute(availableDrone, store, optimizedOrders);
-                routeRepository.save(route);
-                log.info("Route 생성 완료 - RouteId: {}", route.getRouteId());
-
-                // RouteStop 생성
+                // Route + RouteStop + RouteStopOrder 조립 후 일괄 저장 + 주문 배정 + 드론 출동
+                // (비행 시뮬레이션은 커밋 후 아웃박스 ROUTE_PLANNED 이벤트로 시작)
+                Route route = createRoute(availableDrone, store, batch, optimized);
                 createRouteStops(route, store, optimizedOrders);
-
-                // Order 상태 변경
-                for (Order order : optimizedOrders) {
-                    order.assignDelivery();
-                }
-                orderRepository.saveAll(optimizedOrders);
-
-                // 드론 상태 변경
-                availableDrone.changeStatus(DroneStatus.IN_FLIGHT);
-                droneRepository.save(availableDrone);
-
-                // 트랜잭션 커밋 후 비행 시뮬레이션 시작 (비동기)
-                Long routeIdForSimulation = route.getRouteId();
-                org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization(
-                        new org.springframework.transaction.support.TransactionSynchronization() {
-                            @Override
-                            public void afterCommit() {
-                                droneSimulatorService.simulateFlight(routeIdForSimulation);
-                            }
-                        }
-                );
+                routePlanWriter.write(route, optimizedOrders, availableDrone);
+                log.info("Route 생성 완료 - RouteId: {}", route.getRouteId());
 
                 processedCount += optimizedOrders.size();
                 log.info("매장 ID {} 처리 완료 - {}건 배송 할당", storeId, optimizedOrders.size());
@@ -252,25 +245,27 @@ public class DeliveryBatchService {
     }
 
     /**
-     * Route 엔티티 생성
+     * Route 엔티티 생성 (최적화에 사용한 휴리스틱을 함께 기록)
      */
-    private Route createRoute(Drone drone, Store store, List<Order> orders) {
-        // 총 거리 계산
-        BigDecimal totalDistance = calculateTotalDistance(store, orders);
+    private Route createRoute(Drone drone, Store store, PlanningBatch batch, OptimizedRoute optimized) {
+        int[] optimizedIndices = optimized.indices();
+
+        // 총 거리 계산 (매장 -> 배송지들 -> 매장)
+        BigDecimal totalDistance = BigDecimal.valueOf(batch.tourDistanceKm(optimizedIndices))
+                .setScale(2, RoundingMode.HALF_UP);
 
         // 총 무게 계산
-        BigDecimal totalWeight = orders.stream()
-                .map(Order::getTotalWeightKg)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalWeight = PlanningBatch.toKg(batch.totalWeightGrams(optimizedIndices));
 
         // 예상 소요 시간 계산 (거리 / 속도 + 각 stop당 지연 시간)
         double distanceKm = totalDistance.doubleValue();
-        double travelTimeHours = distanceKm / DRONE_SPEED_KMH;
+        double travelTimeHours = distanceKm / DroneEnergyModel.CRUISE_SPEED_KMH;
         int travelTimeMin = (int) Math.ceil(travelTimeHours * 60);
-        int stopDelayMin = (orders.size() + 2) * STOP_DELAY_MIN; // PICKUP + DROP들 + RETURN
+        int stopDelayMin = (optimizedIndices.length + 2) * STOP_DELAY_MIN; // PICKUP + DROP들 + RETURN
         int estimatedDuration = travelTimeMin + stopDelayMin;
 
-        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        // 계획 시각은 시뮬레이션 시계 기준 (가속 재생 시에도 예상 도착 시각이 일관되도록)
+        java.time.LocalDateTime now = simulationClock.now();
 
         return Route.builder()
                 .drone(drone)
@@ -279,13 +274,14 @@ public class DeliveryBatchService {
                 .plannedTotalPayloadKg(totalWeight)
                 .plannedStartAt(now)
                 .plannedEndAt(now.plusMinutes(estimatedDuration))
-                .heuristic("Nearest Neighbor")
+                .heuristic(optimized.heuristic())
                 .note("Batch processed at " + now)
                 .build();
     }
 
     /**
-     * RouteStop들 생성
+     * RouteStop들 생성 (Route에 추가만 하고 저장은 {@link RoutePlanWriter}가 cascade로 수행)
+     * 구간이 비행 금지 구역과 교차하면 우회 경유지(WAYPOINT)를 사이에 추가합니다.
      */
     private void createRouteStops(Route route, Store store, List<Order> orders) {
         int sequence = 1;
@@ -293,28 +289,60 @@ public class DeliveryBatchService {
         // 1. PICKUP (매장)
         RouteStop pickupStop = createRouteStop(route, sequence++, StopType.PICKUP,
                 store.getName(), store, null, store.getLat(), store.getLng(), null);
-        routeStopRepository.save(pickupStop);
+        route.addRouteStop(pickupStop);
+
+        BigDecimal prevLat = store.getLat();
+        BigDecimal prevLng = store.getLng();
 
         // 2. DROP들 (각 배송지)
         for (Order order : orders) {
+            sequence = createWaypointStops(route, sequence, prevLat, prevLng, order.getDestLat(), order.getDestLng());
+
             RouteStop dropStop = createRouteStop(route, sequence++, StopType.DROP,
                     order.getUser().getName(), null, order.getUser(),
                     order.getDestLat(), order.getDestLng(),
                     order.getTotalWeightKg().negate()); // 배송으로 무게 감소
-            routeStopRepository.save(dropStop);
+            route.addRouteStop(dropStop);
 
             // RouteStopOrder 생성 (Stop과 Order 매핑)
-            RouteStopOrder routeStopOrder = RouteStopOrder.builder()
+            dropStop.addRouteStopOrder(RouteStopOrder.builder()
                     .routeStop(dropStop)
                     .order(order)
-                    .build();
-            routeStopOrderRepository.save(routeStopOrder);
+                    .build());
+
+            prevLat = order.getDestLat();
+            prevLng = order.getDestLng();
         }
 
         // 3. RETURN (매장으로 귀환)
+        sequence = createWaypointStops(route, sequence, prevLat, prevLng, store.getLat(), store.getLng());
         RouteStop returnStop = createRouteStop(route, sequence, StopType.RETURN,
                 store.getName(), store, null, store.getLat(), store.getLng(), null);
-        routeStopRepository.save(returnStop);
+        route.addRouteStop(returnStop);
+    }
+
+    /**
+     * 비행 금지 구역 우회 경유지 생성
+     *
+     * @return 다음 정류장 순서
+     */
+    private int createWaypointStops(Route route, int sequence,
+                                    BigDecimal fromLat, BigDecimal fromLng, BigDecimal toLat, BigDecimal toLng) {
+        GeofenceIndex.LegPlan legPlan = geofenceService.planLeg(
+                fromLat.doubleValue(), fromLng.doubleValue(), toLat.doubleValue(), toLng.doubleValue());
+
+        for (int i = 0; i < legPlan.waypointLats().length; i++) {
+            RouteStop waypointStop = createRouteStop(route, sequence++, StopType.WAYPOINT, "우회 경유지", null, null,
+                    BigDecimal.valueOf(legPlan.waypointLats()[i]).setScale(6, RoundingMode.HALF_UP),
+                    BigDecimal.valueOf(legPlan.waypointLngs()[i]).setScale(6, RoundingMode.HALF_UP),
+                    null);
+            route.addRouteStop(waypointStop);
+        }
+        if (legPlan.isDetour()) {
+            log.info("비행 금지 구역 우회 - DroneId: {}, 경유지 {}개 추가, 구간 거리: {}km",
+                    route.getDrone().getDroneId(), legPlan.waypointLats().length, String.format("%.2f", legPlan.distanceKm()));
+        }
+        return sequence;
     }
 
     /**
@@ -336,204 +364,110 @@ public class DeliveryBatchService {
                 .build();
     }
 
-    /**
-     * 총 거리 계산 (매장 -> 배송지들 -> 매장)
-     */
-    private BigDecimal calculateTotalDistance(Store store, List<Order> orders) {
-        double totalDistance = 0.0;
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
-
-        // 매장에서 각 배송지까지
-        for (Order order : orders) {
-            double distance = GeoUtils.calculateDistance(
-                    currentLat.doubleValue(), currentLng.doubleValue(),
-                    order.getDestLat().doubleValue(), order.getDestLng().doubleValue()
-            );
-            totalDistance += distance;
-            currentLat = order.getDestLat();
-            currentLng = order.getDestLng();
-        }
-
-        // 마지막 배송지에서 매장으로 귀환
-        double returnDistance = GeoUtils.calculateDistance(
-                currentLat.doubleValue(), currentLng.doubleValue(),
-                store.getLat().doubleValue(), store.getLng().doubleValue()
-        );
-        totalDistance += returnDistance;
-
-        return BigDecimal.valueOf(totalDistance).setScale(2, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * 두 지점 간 거리 계산
-     */
-    private BigDecimal calculateDistance(BigDecimal lat1, BigDecimal lng1,
-                                          BigDecimal lat2, BigDecimal lng2) {
-        double distance = GeoUtils.calculateDistance(
-                lat1.doubleValue(), lng1.doubleValue(),
-                lat2.doubleValue(), lng2.doubleValue()
-        );
-        return BigDecimal.valueOf(distance).setScale(2, RoundingMode.HALF_UP);
-    }
-
     /**
      * 드론의 적재량과 배터리를 고려하여 할당 가능한 주문 선택
      * 주문 시간순으로 처리하되, 드론의 물리적 제약을 초과하지 않는 주문들만 선택합니다.
+     * 주문을 추가하면 앞선 모든 구간의 적재 무게도 늘어나므로, 후보마다 선택 순서 전체의 소모량을 다시 계산합니다.
      *
-     * @param orders 같은 매장의 대기 중인 주문들 (이미 시간순 정렬됨)
+     * @param batch 같은 매장의 대기 중인 주문들 (이미 시간순 정렬됨)
      * @param drone 할당할 드론
-     * @param store 출발 매장
-     * @return 할당 가능한 주문 리스트
+     * @return 할당 가능한 주문 인덱스 배열 (선택 순서)
      */
-    private List<Order> selectOrdersForDrone(List<Order> orders, Drone drone, Store store) {
-        List<Order> selectedOrders = new ArrayList<>();
-        BigDecimal totalWeight = BigDecimal.ZERO;
-        double totalDistance = 0.0;
-
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
-
-        // 드론의 배터리 용량으로 최대 거리 계산
-        double maxDistance = calculateMaxDistance(drone);
-
-        log.info("주문 선택 시작 - 드론 최대 적재량: {}kg, 최대 거리: {}km (배터리: {}mAh)",
-                drone.getMaxPayloadKg(), String.format("%.2f", maxDistance), drone.getBatteryCapacity());
+    private int[] selectOrdersForDrone(PlanningBatch batch, Drone drone) {
+        int[] selected = new int[batch.size()];
+        int selectedCount = 0;
+        long totalWeightGrams = 0L;
+        double totalEnergyMah = 0.0;
+
+        // 드론의 적재량(g)과 사용 가능 배터리 용량
+        long maxPayloadGrams = PlanningBatch.toGrams(drone.getMaxPayloadKg());
+        double usableCapacityMah = droneEnergyModel.usableCapacityMah(drone);
+
+        log.info("주문 선택 시작 - 드론 최대 적재량: {}kg, 사용 가능 용량: {}mAh (배터리: {}mAh)",
+                drone.getMaxPayloadKg(), String.format("%.0f", usableCapacityMah), drone.getBatteryCapacity());
+
+        for (int index = 0; index < batch.size(); index++) {
+            // 0. 비행 금지 구역 체크 (우회할 수 없는 배송지는 배차에서 제외하고 대기 상태로 둠)
+            if (!batch.isReachable(index)) {
+                log.warn("비행 금지 구역 우회 불가로 주문 스킵 - OrderId: {}", batch.orderId(index));
+                continue;
+            }
 
-        for (Order order : orders) {
             // 1. 적재량 체크
-            BigDecimal newTotalWeight = totalWeight.add(order.getTotalWeightKg());
-            if (newTotalWeight.compareTo(drone.getMaxPayloadKg()) > 0) {
+            long newTotalWeightGrams = totalWeightGrams + batch.weightGrams(index);
+            if (newTotalWeightGrams > maxPayloadGrams) {
                 log.info("적재량 초과로 주문 스킵 - OrderId: {}, 현재 무게: {}kg, 주문 무게: {}kg, 최대: {}kg",
-                        order.getOrderId(), totalWeight, order.getTotalWeightKg(), drone.getMaxPayloadKg());
+                        batch.orderId(index), PlanningBatch.toKg(totalWeightGrams),
+                        PlanningBatch.toKg(batch.weightGrams(index)), drone.getMaxPayloadKg());
                 continue; // 적재량 초과, 다음 주문 확인
             }
 
-            // 2. 거리 체크 (현재 위치 -> 배송지 -> 매장 귀환 거리 계산)
-            double distanceToOrder = GeoUtils.calculateDistance(
-                    currentLat.doubleValue(), currentLng.doubleValue(),
-                    order.getDestLat().doubleValue(), order.getDestLng().doubleValue()
-            );
-
-            double distanceBackToStore = GeoUtils.calculateDistance(
-                    order.getDestLat().doubleValue(), order.getDestLng().doubleValue(),
-                    store.getLat().doubleValue(), store.getLng().doubleValue()
-            );
-
-            double newTotalDistance = totalDistance + distanceToOrder + distanceBackToStore;
-
-            // 현재까지의 거리에서 귀환 거리를 빼고 새로운 경로를 추가
-            if (!selectedOrders.isEmpty()) {
-                // 이전 귀환 거리 제거
-                double prevReturnDistance = GeoUtils.calculateDistance(
-                        currentLat.doubleValue(), currentLng.doubleValue(),
-                        store.getLat().doubleValue(), store.getLng().doubleValue()
-                );
-                newTotalDistance = totalDistance - prevReturnDistance + distanceToOrder + distanceBackToStore;
-            }
+            // 2. 배터리 체크 (선택된 주문들 + 후보 주문을 순서대로 배송하고 매장으로 귀환)
+            selected[selectedCount] = index;
+            double newTotalEnergyMah = batch.tourEnergyMah(droneEnergyModel, selected, selectedCount + 1);
 
-            if (newTotalDistance > maxDistance) {
-                log.info("거리 초과로 주문 스킵 - OrderId: {}, 예상 총 거리: {}km, 최대: {}km",
-                        order.getOrderId(), String.format("%.2f", newTotalDistance), String.format("%.2f", maxDistance));
-                continue; // 거리 초과, 다음 주문 확인
+            if (newTotalEnergyMah > usableCapacityMah) {
+                log.info("배터리 초과로 주문 스킵 - OrderId: {}, 예상 소모량: {}mAh, 사용 가능: {}mAh",
+                        batch.orderId(index), String.format("%.0f", newTotalEnergyMah), String.format("%.0f", usableCapacityMah));
+                continue; // 배터리 초과, 다음 주문 확인
             }
 
             // 3. 제약 조건 통과 - 주문 추가
-            selectedOrders.add(order);
-            totalWeight = newTotalWeight;
-            totalDistance = newTotalDistance;
-            currentLat = order.getDestLat();
-            currentLng = order.getDestLng();
-
-            log.info("주문 선택 - OrderId: {}, 누적 무게: {}kg, 예상 거리: {}km",
-                    order.getOrderId(), totalWeight, String.format("%.2f", totalDistance));
+            selectedCount++;
+            totalWeightGrams = newTotalWeightGrams;
+            totalEnergyMah = newTotalEnergyMah;
+
+            log.info("주문 선택 - OrderId: {}, 누적 무게: {}kg, 예상 소모량: {}mAh",
+                    batch.orderId(index), PlanningBatch.toKg(totalWeightGrams), String.format("%.0f", totalEnergyMah));
         }
 
-        log.info("주문 선택 완료 - 선택: {}건, 총 무게: {}kg, 예상 거리: {}km",
-                selectedOrders.size(), totalWeight, String.format("%.2f", totalDistance));
+        int[] result = Arrays.copyOf(selected, selectedCount);
+        log.info("주문 선택 완료 - 선택: {}건, 총 무게: {}kg, 예상 거리: {}km, 예상 소모량: {}mAh",
+                selectedCount, PlanningBatch.toKg(totalWeightGrams),
+                String.format("%.2f", batch.tourDistanceKm(result)), String.format("%.0f", totalEnergyMah));
 
-        return selectedOrders;
+        return result;
     }
 
     /**
-     * 무게 및 거리 검증
-     * 주문들의 총 무게와 예상 거리가 드론의 제한을 초과하는지 확인합니다.
+     * 무게 및 배터리 검증
+     * 주문들의 총 무게와 방문 순서대로 비행할 때의 예상 배터리 소모량이 드론의 제한을 초과하는지 확인합니다.
      *
-     * @param orders 검증할 주문 리스트
-     * @param drone 할당된 드론
-     * @param store 출발 매장
+     * @param batch   검증할 주문들 (계획용 묶음)
+     * @param indices 방문 순서 (주문 인덱스)
+     * @param drone   할당된 드론
      * @throws PayloadExceededException 적재량 초과 시
      * @throws BatteryInsufficientException 배터리 용량 부족 시
      */
-    private void validatePayloadAndDistance(List<Order> orders, Drone drone, Store store) {
+    private void validatePayloadAndEnergy(PlanningBatch batch, int[] indices, Drone drone) {
         // 1. 총 무게 계산
-        BigDecimal totalWeight = orders.stream()
-                .map(Order::getTotalWeightKg)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalWeightGrams = batch.totalWeightGrams(indices);
+        BigDecimal totalWeight = PlanningBatch.toKg(totalWeightGrams);
 
         log.info("총 무게: {}kg / 최대 적재량: {}kg", totalWeight, drone.getMaxPayloadKg());
 
-        if (totalWeight.compareTo(drone.getMaxPayloadKg()) > 0) {
+        if (totalWeightGrams > PlanningBatch.toGrams(drone.getMaxPayloadKg())) {
             throw new PayloadExceededException(
                     String.format("드론의 최대 적재량을 초과했습니다. 총 무게: %skg, 최대 적재량: %skg",
                             totalWeight, drone.getMaxPayloadKg()));
         }
 
-        // 2. 드론의 배터리 용량으로 최대 거리 계산
-        double maxDistance = calculateMaxDistance(drone);
-
-        // 3. 예상 거리 계산 (매장 -> 각 배송지 -> 매장)
-        double totalDistance = 0.0;
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
-
-        // 매장에서 각 배송지까지
-        for (Order order : orders) {
-            double distance = GeoUtils.calculateDistance(
-                    currentLat.doubleValue(), currentLng.doubleValue(),
-                    order.getDestLat().doubleValue(), order.getDestLng().doubleValue()
-            );
-            totalDistance += distance;
-            currentLat = order.getDestLat();
-            currentLng = order.getDestLng();
-        }
-
-        // 마지막 배송지에서 매장으로 귀환
-        double returnDistance = GeoUtils.calculateDistance(
-                currentLat.doubleValue(), currentLng.doubleValue(),
-                store.getLat().doubleValue(), store.getLng().doubleValue()
-        );
-        totalDistance += returnDistance;
+        // 2. 예상 거리 및 배터리 소모량 계산 (매장 -> 각 배송지 -> 매장, 배송지마다 적재 무게 감소)
+        double totalDistance = batch.tourDistanceKm(indices);
+        double totalEnergyMah = batch.tourEnergyMah(droneEnergyModel, indices, indices.length);
+        double usableCapacityMah = droneEnergyModel.usableCapacityMah(drone);
 
-        log.info("예상 총 거리: {}km / 최대 거리: {}km (배터리: {}mAh)",
-                String.format("%.2f", totalDistance), String.format("%.2f", maxDistance), drone.getBatteryCapacity());
+        log.info("예상 총 거리: {}km, 예상 소모량: {}mAh / 사용 가능: {}mAh (배터리: {}mAh)",
+                String.format("%.2f", totalDistance), String.format("%.0f", totalEnergyMah),
+                String.format("%.0f", usableCapacityMah), drone.getBatteryCapacity());
 
-        if (totalDistance > maxDistance) {
+        if (totalEnergyMah > usableCapacityMah) {
             throw new BatteryInsufficientException(
-                    String.format("배터리 용량이 부족합니다. 예상 거리: %.2fkm, 최대 거리: %.2fkm (배터리: %dmAh)",
-                            totalDistance, maxDistance, drone.getBatteryCapacity()));
+                    String.format("배터리 용량이 부족합니다. 예상 거리: %.2fkm, 예상 소모량: %.0fmAh, 사용 가능: %.0fmAh (배터리: %dmAh)",
+                            totalDistance, totalEnergyMah, usableCapacityMah, drone.getBatteryCapacity()));
         }
 
-        log.info("무게 및 거리 검증 통과");
-    }
-
-    /**
-     * 드론의 배터리 용량을 기반으로 최대 비행 가능 거리 계산
-     *
-     * @param drone 드론
-     * @return 최대 비행 가능 거리 (km) - 안전 마진 포함
-     */
-    private double calculateMaxDistance(Drone drone) {
-        // 배터리 용량(mAh)을 최대 거리(km)로 변환
-        double maxDistance = drone.getBatteryCapacity() * BATTERY_TO_DISTANCE_RATIO;
-
-        // 안전 마진 적용 (80% 사용, 20% 여유)
-        double safeDistance = maxDistance * SAFETY_MARGIN;
-
-        log.debug("드론 ID {}: 배터리 {}mAh, 최대 거리 {}km, 안전 거리 {}km",
-                drone.getDroneId(), drone.getBatteryCapacity(), String.format("%.2f", maxDistance), String.format("%.2f", safeDistance));
-
-        return safeDistance;
+        log.info("무게 및 배터리 검증 통과");
     }
 
     /**
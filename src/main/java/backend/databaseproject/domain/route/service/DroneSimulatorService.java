@@ -1,17 +1,40 @@
 package backend.databaseproject.domain.route.service;
 
+import backend.databaseproject.domain.analytics.service.FleetStatsRecorder;
+import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.domain.drone.service.DroneEnergyModel;
 import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.order.entity.OrderStatus;
 import backend.databaseproject.domain.order.repository.OrderRepository;
+import backend.databaseproject.domain.order.service.OrderTrackingProjector;
 import backend.databaseproject.domain.route.entity.*;
 import backend.databaseproject.domain.route.repository.FlightLogRepository;
 import backend.databaseproject.domain.route.repository.RoutePositionRepository;
 import backend.databaseproject.domain.route.repository.RouteRepository;
 import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.route.simulation.FlightProgress;
+import backend.databaseproject.domain.route.simulation.FlightTrajectory;
+import backend.databaseproject.domain.route.simulation.LegPlanFrame;
+import backend.databaseproject.domain.route.simulation.LegPlanTracker;
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.domain.route.simulation.TrackingMode;
+import backend.databaseproject.domain.route.tracking.TrackingStream;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import backend.databaseproject.global.outbox.OutboxEventType;
+import backend.databaseproject.global.outbox.OutboxWriter;
 import backend.databaseproject.global.util.GeoUtils;
+import backend.databaseproject.global.websocket.CompactSubscriptionRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,13 +42,26 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 드론 비행 시뮬레이터 서비스
- * 드론의 실시간 위치를 시뮬레이션하고 WebSocket으로 브로드캐스트합니다.
+ * 드론의 실시간 위치를 시뮬레이션하고 추적 스트림(WebSocket, SSE)으로 브로드캐스트합니다.
+ *
+ * 여러 노드로 실행할 때는 {@link FlightShardService}가 임대한 샤드의 경로만 시뮬레이션하며,
+ * 비행 도중 샤드를 잃으면 틱 단위로 비행을 멈추고 새 소유 노드가 DB 상태에서 이어서 비행합니다.
+ *
+ * 비행 스레드(@Async)는 구간을 비행하는 동안(틱 대기 포함)만 사용하고, 경유지 처리(하역 대기)가 끝나기를 기다리는 동안에는 반납합니다.
+ * 다음 구간은 경유지 처리 future의 후속 작업으로 비행 스레드 풀에서 이어서 실행됩니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -37,19 +73,61 @@ public class DroneSimulatorService {
     private final RoutePositionRepository routePositionRepository;
     private final FlightLogRepository flightLogRepository;
     private final OrderRepository orderRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final TrackingStream trackingStream;
     private final RouteStopProcessingService routeStopProcessingService;
     private final org.springframework.transaction.PlatformTransactionManager transactionManager;
     private final backend.databaseproject.domain.drone.repository.DroneRepository droneRepository;
+    private final DroneEnergyModel droneEnergyModel;
+    private final ObjectMapper objectMapper;
+    private final SimulationClock simulationClock;
+    private final FlightShardService flightShardService;
+    private final OrderTrackingProjector orderTrackingProjector;
+    private final OutboxWriter outboxWriter;
+    private final FleetStatsRecorder fleetStatsRecorder;
+    private final MeterRegistry meterRegistry;
+    private final CompactSubscriptionRegistry compactSubscriptions;
+    // 비행 스레드 풀 (@Async 실행자) - 경유지 처리가 끝난 비행을 이어서 실행
+    private final ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    // 이 노드에서 시뮬레이션 중인 경로 (같은 경로의 중복 실행 방지)
+    private final Set<Long> activeFlights = ConcurrentHashMap.newKeySet();
+
+    // 마지막 틱 처리 시간 (ms) - 틱 간격(2초 대기)에 더해지는 지연
+    private final AtomicLong lastTickLagMs = new AtomicLong();
 
     private static final int UPDATE_INTERVAL_MS = 2000; // 2초마다 업데이트
-    private static final double DRONE_SPEED_KMH = 30.0; // 드론 평균 속도 30km/h
+    private static final double DRONE_SPEED_KMH = DroneEnergyModel.CRUISE_SPEED_KMH; // 드론 순항 속도 30km/h
     private static final double DRONE_SPEED_MS = DRONE_SPEED_KMH / 3.6; // m/s로 변환
     private static final int INITIAL_BATTERY = 100; // 초기 배터리 100%
     private static final BigDecimal ALTITUDE_M = new BigDecimal("50.00"); // 고도 50m
-
-    // 배터리-거리 변환 상수 (DeliveryBatchService와 동일)
-    private static final double BATTERY_TO_DISTANCE_RATIO = 0.004; // mAh당 km (5000mAh = 20km 기준)
+    private static final BigDecimal SPEED_MPS = BigDecimal.valueOf(DRONE_SPEED_MS).setScale(2, RoundingMode.HALF_UP);
+
+    // 구간 궤적 보간 방식 (true: 대권 보간, false: 위경도 선형 보간)
+    @Value("${simulation.great-circle-interpolation:false}")
+    private boolean greatCircleInterpolation;
+
+    // 실시간 추적 전송 방식 (POSITION / PLAN / BOTH)
+    @Value("${tracking.mode:POSITION}")
+    private TrackingMode trackingMode;
+
+    // 구간 계획 모드에서 실제 위치와 클라이언트 보간 위치의 허용 오차 (m)
+    @Value("${tracking.plan.correction-threshold-m:30}")
+    private double correctionThresholdM;
+
+    // 압축 위치 프레임의 키프레임 간격 (프레임 수)
+    @Value("${tracking.compact.keyframe-interval:10}")
+    private int compactKeyframeInterval;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("drone.flights.active", activeFlights, Set::size)
+                .description("이 노드에서 시뮬레이션 중인 비행 수")
+                .register(meterRegistry);
+        Gauge.builder("drone.simulator.tick.lag", lastTickLagMs, AtomicLong::get)
+                .description("마지막 시뮬레이션 틱 처리 시간 (위치 저장, 추적 전송)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
 
     /**
      * 비행 시뮬레이션 시작 (비동기)
@@ -58,246 +136,495 @@ public class DroneSimulatorService {
      */
     @Async
     public void simulateFlight(Long routeId) {
+        if (!flightShardService.owns(routeId)) {
+            log.info("다른 노드 샤드의 경로 - 소유 노드에서 시작 - RouteId: {}, Shard: {}",
+                    routeId, flightShardService.shardOf(routeId));
+            return;
+        }
+        if (!activeFlights.add(routeId)) {
+            return;
+        }
         log.info("드론 비행 시뮬레이션 시작 - RouteId: {}", routeId);
 
+        CompletableFuture<Void> flight;
         try {
-            // 트랜잭션 커밋 완료를 위한 짧은 대기
-            Thread.sleep(100);
-
-            // 1. Route 조회 및 상태 변경 (별도 트랜잭션)
-            org.springframework.transaction.support.DefaultTransactionDefinition txDef =
-                new org.springframework.transaction.support.DefaultTransactionDefinition();
-            txDef.setPropagationBehavior(org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-            org.springframework.transaction.TransactionStatus txStatus = transactionManager.getTransaction(txDef);
-
-            Route route;
-            List<RouteStop> stops;
-            backend.databaseproject.domain.drone.entity.Drone drone;
-
-            try {
-                // 1차 조회: Route, RouteStops, Drone, Store
-                route = routeRepository.findByIdWithDetails(routeId)
-                        .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
-
-                stops = route.getRouteStops();
-                if (stops.isEmpty()) {
-                    log.error("RouteStops가 없습니다 - RouteId: {}", routeId);
-                    transactionManager.rollback(txStatus);
-                    return;
-                }
+            flight = launch(routeId);
+        } catch (Exception e) {
+            flight = CompletableFuture.failedFuture(e);
+        }
+        whenLanded(routeId, flight);
+    }
 
-                // 2차 조회: RouteStopOrders를 fetch (MultipleBagFetchException 회피)
-                // RouteStop ID 목록 조회
-                List<Long> stopIds = routeRepository.findStopIdsByRouteId(routeId);
-                // RouteStopOrders를 한 번에 fetch
-                routeStopRepository.findAllWithOrdersByIds(stopIds);
+    /**
+     * 경로 출발 처리 후 비행 시작
+     *
+     * @return 비행이 끝나면 완료되는 future (이미 출발했거나 stop이 없으면 즉시 완료)
+     */
+    private CompletableFuture<Void> launch(Long routeId) {
+        // 1. Route 조회 및 상태 변경 (별도 트랜잭션)
+        org.springframework.transaction.support.DefaultTransactionDefinition txDef =
+            new org.springframework.transaction.support.DefaultTransactionDefinition();
+        txDef.setPropagationBehavior(org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        org.springframework.transaction.TransactionStatus txStatus = transactionManager.getTransaction(txDef);
 
-                // Route 상태를 LAUNCHED로 변경
-                route.launch();
-                routeRepository.saveAndFlush(route);
-                drone = route.getDrone();
+        Route route;
+        List<RouteStop> stops;
+        backend.databaseproject.domain.drone.entity.Drone drone;
 
-                transactionManager.commit(txStatus);
-                log.info("Route 상태를 LAUNCHED로 변경 - RouteId: {}", routeId);
-            } catch (Exception e) {
+        try {
+            // 1차 조회: Route, RouteStops, Drone, Store
+            route = routeRepository.findByIdWithDetails(routeId)
+                    .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
+            if (route.getStatus() != RouteStatus.PLANNED) {
+                // 다른 경로(재조정, 복구)로 이미 출발한 경로
                 transactionManager.rollback(txStatus);
-                throw e;
+                return CompletableFuture.completedFuture(null);
             }
 
-            // Store 정보 추출 (첫 stop에서 가져오기)
-            BigDecimal storeLat = stops.get(0).getStopType() == backend.databaseproject.domain.route.entity.StopType.PICKUP ?
-                    stops.get(0).getLat() : null;
-            BigDecimal storeLng = stops.get(0).getStopType() == backend.databaseproject.domain.route.entity.StopType.PICKUP ?
-                    stops.get(0).getLng() : null;
-
-            LocalDateTime flightStartTime = LocalDateTime.now();
-            int totalBatteryUsed = 0;
-            double totalDistanceTraveled = 0.0;
-
-            // 드론의 배터리 용량으로 배터리 소모율 계산
-            double maxDistance = drone.getBatteryCapacity() * BATTERY_TO_DISTANCE_RATIO;
-            double batteryDrainRatePerKm = 100.0 / maxDistance; // %/km
-
-            log.info("드론 배터리 정보 - 용량: {}mAh, 최대 거리: {}km, 소모율: {}%/km",
-                    drone.getBatteryCapacity(),
-                    String.format("%.2f", maxDistance),
-                    String.format("%.2f", batteryDrainRatePerKm));
-
-            // 3. RouteStops를 순회하면서 시뮬레이션
-            for (int i = 0; i < stops.size(); i++) {
-                RouteStop currentStop = stops.get(i);
-
-                BigDecimal startLat;
-                BigDecimal startLng;
-
-                // 시작 위치 결정
-                if (i == 0) {
-                    // 첫 번째 stop은 매장에서 출발
-                    startLat = storeLat != null ? storeLat : currentStop.getLat();
-                    startLng = storeLng != null ? storeLng : currentStop.getLng();
-                } else {
-                    // 이전 stop에서 출발
-                    RouteStop prevStop = stops.get(i - 1);
-                    startLat = prevStop.getLat();
-                    startLng = prevStop.getLng();
-                }
+            stops = route.getRouteStops().stream()
+                    .sorted(Comparator.comparing(RouteStop::getStopSequence))
+                    .toList();
+            if (stops.isEmpty()) {
+                log.error("RouteStops가 없습니다 - RouteId: {}", routeId);
+                transactionManager.rollback(txStatus);
+                return CompletableFuture.completedFuture(null);
+            }
 
-                BigDecimal endLat = currentStop.getLat();
-                BigDecimal endLng = currentStop.getLng();
-
-                // 구간 거리 계산 (km)
-                double segmentDistanceKm = GeoUtils.calculateDistance(
-                        startLat.doubleValue(), startLng.doubleValue(),
-                        endLat.doubleValue(), endLng.doubleValue()
-                );
-                totalDistanceTraveled += segmentDistanceKm;
-
-                // 예상 이동 시간 계산 (초)
-                double segmentTimeSeconds = (segmentDistanceKm * 1000) / DRONE_SPEED_MS;
-                int steps = Math.max(1, (int) Math.ceil(segmentTimeSeconds / (UPDATE_INTERVAL_MS / 1000.0)));
-
-                log.info("구간 시뮬레이션 시작 - Stop: {}/{}, 거리: {}km, 단계: {}",
-                        i + 1, stops.size(), String.format("%.2f", segmentDistanceKm), steps);
-
-                // 선형 보간으로 이동
-                for (int step = 0; step <= steps; step++) {
-                    double fraction = (steps > 0) ? (double) step / steps : 0.0;
-                    double[] position = GeoUtils.interpolate(
-                            startLat.doubleValue(), startLng.doubleValue(),
-                            endLat.doubleValue(), endLng.doubleValue(),
-                            fraction
-                    );
-
-                    // 배터리 소모 계산 (드론별 소모율 적용)
-                    double batteryPct = Math.max(0, INITIAL_BATTERY - (totalDistanceTraveled * batteryDrainRatePerKm));
-
-                    // RoutePosition 생성 및 저장 (트랜잭션 없이 직접 저장)
-                    Route routeRef = routeRepository.getReferenceById(routeId);
-                    RouteStop stopFrom = (i > 0) ? routeStopRepository.getReferenceById(stops.get(i - 1).getStopId()) : null;
-                    RouteStop stopTo = routeStopRepository.getReferenceById(currentStop.getStopId());
-
-                    RoutePosition routePosition = RoutePosition.builder()
-                            .route(routeRef)
-                            .stopFrom(stopFrom)
-                            .stopTo(stopTo)
-                            .lat(BigDecimal.valueOf(position[0]).setScale(6, RoundingMode.HALF_UP))
-                            .lng(BigDecimal.valueOf(position[1]).setScale(6, RoundingMode.HALF_UP))
-                            .speedMps(BigDecimal.valueOf(DRONE_SPEED_MS).setScale(2, RoundingMode.HALF_UP))
-                            .batteryPct(BigDecimal.valueOf(batteryPct).setScale(2, RoundingMode.HALF_UP))
-                            .ts(LocalDateTime.now())
-                            .build();
-
-                    routePositionRepository.save(routePosition);
-
-                    // WebSocket으로 브로드캐스트
-                    Map<String, Object> positionData = new HashMap<>();
-                    positionData.put("routeId", routeId);
-                    positionData.put("lat", position[0]);
-                    positionData.put("lng", position[1]);
-                    positionData.put("speed", DRONE_SPEED_KMH);
-                    positionData.put("battery", batteryPct);
-                    positionData.put("timestamp", LocalDateTime.now());
-
-                    // Route 구독자에게 전송 (점주용)
-                    messagingTemplate.convertAndSend("/topic/route/" + routeId, positionData);
-
-                    // 아직 배송되지 않은 모든 주문들에게 위치 정보 전송 (고객용)
-                    // 현재 stop 이후의 모든 DROP stop들의 주문에게 전송 (단, 이미 도착한 stop은 제외)
-                    for (int j = i; j < stops.size(); j++) {
-                        RouteStop futureStop = stops.get(j);
-
-                        // DROP 타입이고, 아직 도착하지 않은 stop만 처리
-                        if (futureStop.getStopType() == StopType.DROP &&
-                            futureStop.getStatus() != StopStatus.ARRIVED &&
-                            futureStop.getStatus() != StopStatus.DEPARTED) {
-
-                            List<RouteStopOrder> routeStopOrders = futureStop.getRouteStopOrders();
-                            for (RouteStopOrder routeStopOrder : routeStopOrders) {
-                                Long orderId = routeStopOrder.getOrder().getOrderId();
-                                Map<String, Object> customerPositionData = new HashMap<>();
-                                customerPositionData.put("orderId", orderId);
-                                customerPositionData.put("lat", position[0]);
-                                customerPositionData.put("lng", position[1]);
-                                customerPositionData.put("speed", DRONE_SPEED_KMH);
-                                customerPositionData.put("battery", batteryPct);
-                                customerPositionData.put("timestamp", LocalDateTime.now());
-                                customerPositionData.put("status", "IN_TRANSIT");
-
-                                messagingTemplate.convertAndSend("/topic/order/" + orderId + "/position", customerPositionData);
-                            }
-                        }
-                    }
+            // 2차 조회: RouteStopOrders를 fetch (MultipleBagFetchException 회피)
+            // RouteStop ID 목록 조회
+            List<Long> stopIds = routeRepository.findStopIdsByRouteId(routeId);
+            // RouteStopOrders를 한 번에 fetch
+            routeStopRepository.findAllWithOrdersByIds(stopIds);
 
-                    // 진행 상황 로그 (10% 간격으로만)
-                    if (step % Math.max(1, steps / 10) == 0 || step == steps) {
-                        log.info("이동 중 - Stop {}/{}, 진행: {}% ({}/{}), 배터리: {}%",
-                                i + 1, stops.size(),
-                                (int)(fraction * 100), step, steps,
-                                String.format("%.1f", batteryPct));
-                    }
+            // Route 상태를 LAUNCHED로 변경
+            route.launch(simulationClock.now());
+            routeRepository.saveAndFlush(route);
+            drone = route.getDrone();
 
-                    // 2초 대기
-                    if (step < steps) {
-                        Thread.sleep(UPDATE_INTERVAL_MS);
-                    }
-                }
+            transactionManager.commit(txStatus);
+            log.info("Route 상태를 LAUNCHED로 변경 - RouteId: {}", routeId);
+        } catch (Exception e) {
+            transactionManager.rollback(txStatus);
+            throw e;
+        }
+
+        // 출발 시 적재 무게 = 모든 DROP stop의 하역 무게 합
+        return fly(routeId, stops, drone, FlightProgress.departure(initialPayloadKg(stops), route.getActualStartAt()));
+    }
 
-                // Stop 도착 처리 (별도 서비스의 별도 트랜잭션으로 즉시 커밋)
-                routeStopProcessingService.processStopArrival(currentStop.getStopId());
+    /**
+     * 중단된 비행 재개 (비동기)
+     * 서버 재시작 후 {@link FlightRecoveryService}가 DB 상태로 재구성한 진행 지점부터 이어서 비행합니다.
+     *
+     * @param routeId  경로 ID
+     * @param stops    stop 목록 (stop 순서, 주문 fetch 완료)
+     * @param drone    배정 드론
+     * @param progress 재개 지점
+     */
+    @Async
+    public void resumeFlight(Long routeId, List<RouteStop> stops, Drone drone, FlightProgress progress) {
+        if (!activeFlights.add(routeId)) {
+            return;
+        }
+        log.info("드론 비행 시뮬레이션 재개 - RouteId: {}, 다음 Stop: {}/{}",
+                routeId, progress.nextStopIndex() + 1, stops.size());
+
+        CompletableFuture<Void> flight;
+        try {
+            flight = fly(routeId, stops, drone, progress);
+        } catch (Exception e) {
+            flight = CompletableFuture.failedFuture(e);
+        }
+        whenLanded(routeId, flight);
+    }
+
+    /**
+     * 이 노드에서 시뮬레이션 중인 경로인지 여부
+     */
+    public boolean isFlying(Long routeId) {
+        return activeFlights.contains(routeId);
+    }
+
+    /**
+     * 이 노드에서 해당 샤드의 경로를 시뮬레이션 중인지 여부 (샤드 반납 전 확인)
+     */
+    public boolean isFlyingInShard(int shardNo) {
+        for (Long routeId : activeFlights) {
+            if (flightShardService.shardOf(routeId) == shardNo) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 출발 시 적재 무게 (모든 DROP stop의 하역 무게 합, kg)
+     */
+    public static double initialPayloadKg(List<RouteStop> stops) {
+        double payloadKg = 0.0;
+        for (RouteStop stop : stops) {
+            if (stop.getStopType() == StopType.DROP && stop.getPayloadDeltaKg() != null) {
+                payloadKg -= stop.getPayloadDeltaKg().doubleValue();
             }
+        }
+        return payloadKg;
+    }
+
+    /**
+     * 진행 지점부터 남은 stop을 비행하고 경로 완료 처리
+     *
+     * @return 비행이 끝나면(경로 완료 또는 샤드 소유권 상실) 완료되는 future
+     */
+    private CompletableFuture<Void> fly(Long routeId, List<RouteStop> stops, Drone drone, FlightProgress progress) {
+        log.info("드론 배터리 정보 - 용량: {}mAh, 현재 적재 무게: {}kg",
+                drone.getBatteryCapacity(),
+                String.format("%.3f", progress.payloadKg()));
+
+        // 위치 브로드캐스트 대상 계획 (출발 시 한 번 컴파일, stop 도착 시에만 갱신)
+        FlightRun run = new FlightRun(routeId, stops, drone, progress,
+                PositionFanOutPlan.compile(routeId, stops),
+                new PositionFrameEncoder(objectMapper, compactKeyframeInterval),
+                new LegPlanTracker(routeId, DRONE_SPEED_KMH, correctionThresholdM, simulationClock.timeScale()));
+        return flyFrom(run, progress.nextStopIndex());
+    }
 
-            // 4. 모든 Stop 완료 후 Route 상태를 COMPLETED로 변경 및 FlightLog 생성 (별도 트랜잭션)
-            org.springframework.transaction.support.DefaultTransactionDefinition txDef2 =
-                new org.springframework.transaction.support.DefaultTransactionDefinition();
-            txDef2.setPropagationBehavior(org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-            org.springframework.transaction.TransactionStatus txStatus2 = transactionManager.getTransaction(txDef2);
-
-            try {
-                Route routeToComplete = routeRepository.findById(routeId)
-                        .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
-
-                routeToComplete.complete();
-                routeRepository.saveAndFlush(routeToComplete);
-                log.info("Route 완료 - RouteId: {}", routeId);
-
-                // 드론 상태를 IDLE로 변경
-                backend.databaseproject.domain.drone.entity.Drone droneToUpdate =
-                    droneRepository.findById(drone.getDroneId())
-                        .orElseThrow(() -> new IllegalArgumentException("Drone not found: " + drone.getDroneId()));
-                droneToUpdate.changeStatus(backend.databaseproject.domain.drone.entity.DroneStatus.IDLE);
-                droneRepository.saveAndFlush(droneToUpdate);
-                log.info("드론 상태 변경 - DroneId: {}, Status: IDLE", droneToUpdate.getDroneId());
-
-                // FlightLog 생성
-                LocalDateTime flightEndTime = LocalDateTime.now();
-                int batteryUsed = (int) Math.min(INITIAL_BATTERY, totalDistanceTraveled * 5);
-
-                FlightLog flightLog = FlightLog.builder()
-                        .route(routeToComplete)
-                        .drone(drone)
-                        .startTime(flightStartTime)
-                        .endTime(flightEndTime)
-                        .distance(BigDecimal.valueOf(totalDistanceTraveled).setScale(3, RoundingMode.HALF_UP))
-                        .batteryUsed(batteryUsed)
-                        .result(FlightResult.SUCCESS)
-                        .note("Flight completed successfully")
-                        .build();
-
-                flightLogRepository.saveAndFlush(flightLog);
-                log.info("FlightLog 생성 완료 - 총 거리: {}km, 배터리 사용: {}%",
-                        String.format("%.2f", totalDistanceTraveled), batteryUsed);
-
-                transactionManager.commit(txStatus2);
-            } catch (Exception e) {
-                transactionManager.rollback(txStatus2);
-                throw e;
+    /**
+     * stopIndex 구간부터 비행
+     * 경유지에 도착하면 비행 스레드를 반납하고, 경유지 처리(DROP은 예약된 하역 대기 후 출발)가 끝나면
+     * 비행 스레드 풀에서 다음 구간부터 이어서 비행합니다.
+     */
+    private CompletableFuture<Void> flyFrom(FlightRun run, int stopIndex) {
+        if (stopIndex == run.stops.size()) {
+            if (!ownershipLost(run.routeId)) {
+                completeRoute(run);
             }
+            return CompletableFuture.completedFuture(null);
+        }
 
+        try {
+            if (!flyLeg(run, stopIndex)) {
+                return CompletableFuture.completedFuture(null);
+            }
         } catch (InterruptedException e) {
-            log.error("비행 시뮬레이션 중단됨 - RouteId: {}", routeId, e);
             Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        // Stop 도착 처리 (도착/출발을 각각 짧은 트랜잭션으로 커밋, DROP은 예약된 하역 대기 후 출발)
+        Long stopId = run.stops.get(stopIndex).getStopId();
+        return routeStopProcessingService.processStopArrival(stopId)
+                .handle((ignored, e) -> {
+                    if (e != null) {
+                        throw new IllegalStateException("Stop 처리 실패 - StopId: " + stopId, unwrap(e));
+                    }
+                    return null;
+                })
+                .thenComposeAsync(ignored -> {
+                    run.fanOutPlan.onStopArrived(stopIndex);
+                    return flyFrom(run, stopIndex + 1);
+                }, applicationTaskExecutor);
+    }
+
+    /**
+     * stopIndex 경유지까지 한 구간 비행 (틱마다 위치 저장 및 추적 전송)
+     *
+     * @return 경유지에 도착했으면 true, 샤드 소유권을 잃어 중단했으면 false
+     */
+    private boolean flyLeg(FlightRun run, int i) throws InterruptedException {
+        Long routeId = run.routeId;
+        List<RouteStop> stops = run.stops;
+        RouteStop currentStop = stops.get(i);
+        FlightProgress progress = run.progress;
+
+        BigDecimal startLat;
+        BigDecimal startLng;
+
+        // 시작 위치 결정
+        if (i == progress.nextStopIndex() && progress.resumesMidLeg()) {
+            // 구간 도중에 중단된 비행은 마지막 기록 위치에서 재출발
+            startLat = progress.resumeLat();
+            startLng = progress.resumeLng();
+        } else if (i == 0) {
+            // 첫 번째 stop은 매장에서 출발
+            startLat = currentStop.getLat();
+            startLng = currentStop.getLng();
+        } else {
+            // 이전 stop에서 출발
+            RouteStop prevStop = stops.get(i - 1);
+            startLat = prevStop.getLat();
+            startLng = prevStop.getLng();
+        }
+
+        BigDecimal endLat = currentStop.getLat();
+        BigDecimal endLng = currentStop.getLng();
+
+        // 구간 거리 계산 (km)
+        double segmentDistanceKm = GeoUtils.calculateDistance(
+                startLat.doubleValue(), startLng.doubleValue(),
+                endLat.doubleValue(), endLng.doubleValue()
+        );
+        run.totalDistanceKm += segmentDistanceKm;
+
+        // 예상 이동 시간 계산 (초)
+        double segmentTimeSeconds = (segmentDistanceKm * 1000) / DRONE_SPEED_MS;
+        int steps = Math.max(1, (int) Math.ceil(segmentTimeSeconds / (UPDATE_INTERVAL_MS / 1000.0)));
+
+        // 구간 궤적을 한 번만 계산 (틱마다 위치/BigDecimal을 새로 만들지 않음)
+        FlightTrajectory trajectory = FlightTrajectory.of(
+                startLat.doubleValue(), startLng.doubleValue(),
+                endLat.doubleValue(), endLng.doubleValue(),
+                steps, greatCircleInterpolation
+        );
+
+        log.info("구간 시뮬레이션 시작 - Stop: {}/{}, 거리: {}km, 단계: {}",
+                i + 1, stops.size(), String.format("%.2f", segmentDistanceKm), steps);
+
+        // 배터리 소모 계산 (현재 적재 무게 기준 구간 소모량, 구간 단위로 갱신)
+        run.totalEnergyMah += droneEnergyModel.cruiseMah(segmentDistanceKm, run.payloadKg);
+        double batteryPct = Math.max(0, INITIAL_BATTERY - droneEnergyModel.toBatteryPercent(run.drone, run.totalEnergyMah));
+        BigDecimal scaledBatteryPct = BigDecimal.valueOf(batteryPct).setScale(2, RoundingMode.HALF_UP);
+
+        // 구간 계획 전송 (출발 시각 + 속도로 클라이언트가 위치를 보간)
+        if (trackingMode.sendsPlans()) {
+            long nowMs = simulationClock.millis();
+            run.legPlanTracker.startLeg(startLat.doubleValue(), startLng.doubleValue(),
+                    endLat.doubleValue(), endLng.doubleValue(), nowMs);
+            publishPlan(run.fanOutPlan, run.legPlanTracker.frame(batteryPct, nowMs));
+        }
+
+        // 미리 계산된 궤적을 따라 이동
+        for (int step = 0; step <= steps; step++) {
+            long tickStartNanos = System.nanoTime();
+            if (ownershipLost(routeId)) {
+                return false;
+            }
+            double fraction = trajectory.fraction(step);
+            double lat = trajectory.lat(step);
+            double lng = trajectory.lng(step);
+
+            // RoutePosition 생성 및 저장 (트랜잭션 없이 직접 저장)
+            Route routeRef = routeRepository.getReferenceById(routeId);
+            RouteStop stopFrom = (i > 0) ? routeStopRepository.getReferenceById(stops.get(i - 1).getStopId()) : null;
+            RouteStop stopTo = routeStopRepository.getReferenceById(currentStop.getStopId());
+
+            LocalDateTime tickTime = simulationClock.now();
+            RoutePosition routePosition = RoutePosition.builder()
+                    .route(routeRef)
+                    .stopFrom(stopFrom)
+                    .stopTo(stopTo)
+                    .lat(trajectory.scaledLat(step))
+                    .lng(trajectory.scaledLng(step))
+                    .speedMps(SPEED_MPS)
+                    .batteryPct(scaledBatteryPct)
+                    .ts(tickTime)
+                    .build();
+
+            routePositionRepository.save(routePosition);
+            orderTrackingProjector.positionUpdated(routeId, routePosition.getLat(), routePosition.getLng(), tickTime);
+
+            if (trackingMode.sendsPositions()) {
+                // 추적 스트림으로 브로드캐스트 (위치 본문은 틱당 한 번만 직렬화)
+                if (compactKeyframeRequested(run.fanOutPlan)) {
+                    run.frameEncoder.requestKeyframe();
+                }
+                run.frameEncoder.encode(lat, lng, DRONE_SPEED_KMH, batteryPct, tickTime);
+                trackingStream.publishPosition(run.fanOutPlan, run.frameEncoder);
+            }
+
+            // 실제 진행이 클라이언트 보간과 임계값 이상 벌어진 경우에만 보정 계획 전송
+            if (trackingMode.sendsPlans() && step < steps) {
+                long nowMs = simulationClock.millis();
+                if (run.legPlanTracker.deviates(lat, lng, nowMs)) {
+                    run.legPlanTracker.correct(lat, lng, nowMs);
+                    publishPlan(run.fanOutPlan, run.legPlanTracker.frame(batteryPct, nowMs));
+                }
+            }
+
+            // 진행 상황 로그 (10% 간격으로만)
+            if (step % Math.max(1, steps / 10) == 0 || step == steps) {
+                log.info("이동 중 - Stop {}/{}, 진행: {}% ({}/{}), 배터리: {}%",
+                        i + 1, stops.size(),
+                        (int)(fraction * 100), step, steps,
+                        String.format("%.1f", batteryPct));
+            }
+
+            lastTickLagMs.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tickStartNanos));
+
+            // 2초 대기 (시뮬레이션 시계 기준, 가속 모드에서는 단축)
+            if (step < steps) {
+                simulationClock.sleep(UPDATE_INTERVAL_MS);
+            }
+        }
+
+        // 경유지 정지 계획 전송
+        if (trackingMode.sendsPlans()) {
+            long nowMs = simulationClock.millis();
+            run.legPlanTracker.hold(endLat.doubleValue(), endLng.doubleValue(), nowMs);
+            publishPlan(run.fanOutPlan, run.legPlanTracker.frame(batteryPct, nowMs));
+        }
+
+        // 배송지에서는 하역 전 무게로 호버링한 뒤 적재 무게 감소
+        if (currentStop.getStopType() == StopType.DROP) {
+            run.totalEnergyMah += droneEnergyModel.dropHoverMah(run.payloadKg);
+            if (currentStop.getPayloadDeltaKg() != null) {
+                run.payloadKg = Math.max(0.0, run.payloadKg + currentStop.getPayloadDeltaKg().doubleValue());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 모든 Stop 완료 후 Route 상태를 COMPLETED로 변경 및 FlightLog 생성 (별도 트랜잭션)
+     */
+    private void completeRoute(FlightRun run) {
+        Long routeId = run.routeId;
+        Drone drone = run.drone;
+
+        org.springframework.transaction.support.DefaultTransactionDefinition txDef2 =
+            new org.springframework.transaction.support.DefaultTransactionDefinition();
+        txDef2.setPropagationBehavior(org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        org.springframework.transaction.TransactionStatus txStatus2 = transactionManager.getTransaction(txDef2);
+
+        try {
+            Route routeToComplete = routeRepository.findById(routeId)
+                    .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
+
+            routeToComplete.complete(simulationClock.now());
+            routeRepository.saveAndFlush(routeToComplete);
+            log.info("Route 완료 - RouteId: {}", routeId);
+
+            // 드론 상태를 IDLE로 변경
+            backend.databaseproject.domain.drone.entity.Drone droneToUpdate =
+                droneRepository.findById(drone.getDroneId())
+                    .orElseThrow(() -> new IllegalArgumentException("Drone not found: " + drone.getDroneId()));
+            droneToUpdate.changeStatus(backend.databaseproject.domain.drone.entity.DroneStatus.IDLE);
+            droneRepository.saveAndFlush(droneToUpdate);
+            log.info("드론 상태 변경 - DroneId: {}, Status: IDLE", droneToUpdate.getDroneId());
+
+            // FlightLog 생성
+            LocalDateTime flightEndTime = routeToComplete.getActualEndAt();
+            int batteryUsed = (int) Math.min(INITIAL_BATTERY,
+                    Math.round(droneEnergyModel.toBatteryPercent(drone, run.totalEnergyMah)));
+
+            FlightLog flightLog = FlightLog.builder()
+                    .route(routeToComplete)
+                    .drone(drone)
+                    .startTime(run.progress.flightStartTime())
+                    .endTime(flightEndTime)
+                    .distance(BigDecimal.valueOf(run.totalDistanceKm).setScale(3, RoundingMode.HALF_UP))
+                    .batteryUsed(batteryUsed)
+                    .result(FlightResult.SUCCESS)
+                    .note("Flight completed successfully")
+                    .build();
+
+            flightLogRepository.saveAndFlush(flightLog);
+            log.info("FlightLog 생성 완료 - 총 거리: {}km, 배터리 사용: {}%",
+                    String.format("%.2f", run.totalDistanceKm), batteryUsed);
+
+            // 드론/매장 운항 통계 요약 누적 (같은 트랜잭션)
+            int deliveries = (int) orderRepository.countByRouteIdAndStatus(routeId, OrderStatus.FULFILLED);
+            fleetStatsRecorder.recordFlight(flightLog, routeToComplete.getStore().getStoreId(), deliveries);
+
+            // 경로 완료 알림 (커밋 후 OrderStatusNotifier가 전송, SSE 경로 스트림 종료)
+            Map<String, Object> completionData = new LinkedHashMap<>();
+            completionData.put("routeId", routeId);
+            completionData.put("status", RouteStatus.COMPLETED);
+            completionData.put("completedAt", flightEndTime);
+            outboxWriter.append(OutboxEventType.ROUTE_COMPLETED, routeId, completionData);
+
+            transactionManager.commit(txStatus2);
         } catch (Exception e) {
-            log.error("비행 시뮬레이션 오류 발생 - RouteId: {}", routeId, e);
+            transactionManager.rollback(txStatus2);
+            throw e;
+        }
+    }
+
+    /**
+     * 샤드 소유권 확인 (잃었으면 비행 중단, 새 소유 노드가 마지막 기록 위치부터 재개)
+     */
+    private boolean ownershipLost(Long routeId) {
+        if (flightShardService.owns(routeId)) {
+            return false;
+        }
+        log.info("샤드 소유권 상실 - 비행 중단 (소유 노드에서 재개) - RouteId: {}, Shard: {}",
+                routeId, flightShardService.shardOf(routeId));
+        return true;
+    }
+
+    /**
+     * 이 경로의 압축 주소에 새 구독자가 생겼는지 확인 (있으면 이번 틱을 키프레임으로 보냄)
+     */
+    private boolean compactKeyframeRequested(PositionFanOutPlan fanOutPlan) {
+        boolean requested = compactSubscriptions.takeKeyframeRequest(fanOutPlan.routeCompactDestination());
+        for (int j = fanOutPlan.firstActive(); j < fanOutPlan.end(); j++) {
+            requested |= compactSubscriptions.takeKeyframeRequest(fanOutPlan.orderCompactDestination(j));
+        }
+        return requested;
+    }
+
+    /**
+     * 비행 종료 처리 (오류 로그, 이 노드의 비행 목록에서 제거)
+     */
+    private void whenLanded(Long routeId, CompletableFuture<Void> flight) {
+        flight.whenComplete((ignored, e) -> {
+            Throwable cause = e == null ? null : unwrap(e);
+            if (cause instanceof InterruptedException) {
+                log.error("비행 시뮬레이션 중단됨 - RouteId: {}", routeId, cause);
+            } else if (cause != null) {
+                log.error("비행 시뮬레이션 오류 발생 - RouteId: {}", routeId, cause);
+            }
+            activeFlights.remove(routeId);
+        });
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /**
+     * 구간 계획 프레임 전송 (한 번 직렬화하여 점주/미배송 고객 구독자에 공유)
+     */
+    private void publishPlan(PositionFanOutPlan fanOutPlan, LegPlanFrame frame) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(frame);
+        } catch (JsonProcessingException e) {
+            log.error("구간 계획 직렬화 실패 - RouteId: {}", frame.routeId(), e);
+            return;
+        }
+        trackingStream.publishPlan(fanOutPlan, payload);
+    }
+
+    /**
+     * 진행 중인 비행 상태 (구간 사이에 비행 스레드가 바뀌어도 이어서 누적)
+     * 한 시점에는 한 스레드만 접근하며, 스레드 전환은 future 완료로 순서가 보장됩니다.
+     */
+    private static final class FlightRun {
+
+        private final Long routeId;
+        private final List<RouteStop> stops;
+        private final Drone drone;
+        private final FlightProgress progress;
+        private final PositionFanOutPlan fanOutPlan;
+        private final PositionFrameEncoder frameEncoder;
+        private final LegPlanTracker legPlanTracker;
+
+        private double totalDistanceKm;
+        private double totalEnergyMah;
+        private double payloadKg;
+
+        private FlightRun(Long routeId, List<RouteStop> stops, Drone drone, FlightProgress progress,
+                          PositionFanOutPlan fanOutPlan, PositionFrameEncoder frameEncoder, LegPlanTracker legPlanTracker) {
+            this.routeId = routeId;
+            this.stops = stops;
+            this.drone = drone;
+            this.progress = progress;
+            this.fanOutPlan = fanOutPlan;
+            this.frameEncoder = frameEncoder;
+            this.legPlanTracker = legPlanTracker;
+            this.totalDistanceKm = progress.distanceKm();
+            this.totalEnergyMah = progress.energyMah();
+            this.payloadKg = progress.payloadKg();
         }
     }
 }
@@ -0,0 +1,32 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.global.outbox.OutboxEvent;
+import backend.databaseproject.global.outbox.OutboxEventListener;
+import backend.databaseproject.global.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 경로 저장 이벤트 구독 - 비행 시뮬레이션 시작
+ * 경로가 커밋된 뒤에만 전달되므로 시뮬레이터가 저장 전 경로를 읽지 않습니다.
+ *
+ * 같은 경로가 다시 전달되어도 시뮬레이터가 이미 비행 중인 경로는 무시하며,
+ * 다른 노드 샤드의 경로는 소유 노드의 샤드 점검(PLANNED 경로 재개)에서 시작됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FlightDispatchListener implements OutboxEventListener {
+
+    private final DroneSimulatorService droneSimulatorService;
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return eventType == OutboxEventType.ROUTE_PLANNED;
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        // 비동기 시작 (비행이 끝날 때까지 릴레이를 붙잡지 않음)
+        droneSimulatorService.simulateFlight(event.getAggregateId());
+    }
+}
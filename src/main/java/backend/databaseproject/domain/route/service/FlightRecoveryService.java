@@ -0,0 +1,239 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.domain.drone.service.DroneEnergyModel;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RoutePosition;
+import backend.databaseproject.domain.route.entity.RouteStatus;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.StopStatus;
+import backend.databaseproject.domain.route.entity.StopType;
+import backend.databaseproject.domain.route.repository.RoutePositionRepository;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.route.simulation.FlightProgress;
+import backend.databaseproject.global.datasource.DataSourceRouting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비행 복구 서비스
+ * 비행 진행 상태는 시뮬레이션 스레드의 지역 변수에만 있으므로, 서버가 재시작되면 LAUNCHED 경로가 멈춘 채로 남습니다.
+ * 시작 시 LAUNCHED 경로마다 stop 상태와 마지막 위치로 진행 지점을 재구성하여 시뮬레이터에서 이어서 비행시키고,
+ * 출발 전에 중단된 PLANNED 경로는 처음부터 다시 시작합니다.
+ *
+ * 진행 상태는 복제본 지연과 무관하게 PRIMARY에서 읽습니다 (읽기/쓰기 분리 사용 시).
+ * 경로별 재구성은 별도 스레드에서 병렬로 수행하며, 전체 대기 시간은 simulation.recovery.timeout-ms로 제한합니다.
+ * 제한 시간 안에 재구성하지 못한 경로는 로그를 남기고 다음 재시작 때 다시 시도합니다.
+ *
+ * 샤드 모드({@link FlightShardService})에서는 이 노드가 임대한 샤드의 경로만 복구하며,
+ * 하트비트 주기마다 같은 복구를 반복하여 다른 노드에서 넘겨받은 샤드의 비행과 다른 노드가 만든 PLANNED 경로를 이어받습니다.
+ * 이미 이 노드에서 시뮬레이션 중인 경로는 건너뜁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightRecoveryService {
+
+    private final RouteRepository routeRepository;
+    private final RouteStopRepository routeStopRepository;
+    private final RoutePositionRepository routePositionRepository;
+    private final DroneSimulatorService droneSimulatorService;
+    private final RouteStopProcessingService routeStopProcessingService;
+    private final DroneEnergyModel droneEnergyModel;
+    private final PlatformTransactionManager transactionManager;
+    private final FlightShardService flightShardService;
+
+    @Value("${simulation.recovery.enabled:true}")
+    private boolean enabled;
+
+    // 경로 재구성 동시 실행 수
+    @Value("${simulation.recovery.parallelism:8}")
+    private int parallelism;
+
+    // 전체 복구 대기 시간
+    @Value("${simulation.recovery.timeout-ms:30000}")
+    private long timeoutMs;
+
+    /**
+     * 시작 시 중단된 비행 복구 (샤드 첫 임대 이후 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void recoverInterruptedFlights() {
+        if (!enabled) {
+            return;
+        }
+        recoverOwnedRoutes();
+    }
+
+    /**
+     * 샤드 모드에서 넘겨받은 샤드의 경로 이어받기
+     */
+    @Scheduled(fixedDelayString = "${simulation.cluster.heartbeat-ms:5000}",
+               initialDelayString = "${simulation.cluster.heartbeat-ms:5000}")
+    public void reconcileOwnedShards() {
+        if (!flightShardService.clustered()) {
+            return;
+        }
+        recoverOwnedRoutes();
+    }
+
+    /**
+     * 이 노드가 소유하고 아직 시뮬레이션하지 않는 LAUNCHED/PLANNED 경로 복구
+     */
+    private synchronized void recoverOwnedRoutes() {
+        List<Long> launched = orphanedRouteIds(RouteStatus.LAUNCHED);
+        List<Long> planned = orphanedRouteIds(RouteStatus.PLANNED);
+        if (launched.isEmpty() && planned.isEmpty()) {
+            return;
+        }
+        log.info("=== 중단된 비행 복구 시작 - LAUNCHED: {}건, PLANNED: {}건 ===", launched.size(), planned.size());
+
+        // 출발 전 경로는 처음부터 다시 시작 (출발 처리부터 시뮬레이터가 수행)
+        for (Long routeId : planned) {
+            droneSimulatorService.simulateFlight(routeId);
+        }
+        if (launched.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger resumed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(parallelism, launched.size())), runnable -> {
+                    Thread thread = new Thread(runnable, "flight-recovery");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(launched.size());
+        for (Long routeId : launched) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    resume(routeId);
+                    resumed.incrementAndGet();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    log.error("비행 복구 실패 - RouteId: {}", routeId, e);
+                }
+            }, executor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("비행 복구 제한 시간 초과 - {}ms", timeoutMs);
+        } catch (ExecutionException e) {
+            log.error("비행 복구 중 오류 발생", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int pending = launched.size() - resumed.get() - failed.get();
+        log.info("=== 중단된 비행 복구 완료 - 재개: {}건, 실패: {}건, 미처리: {}건 ===",
+                resumed.get(), failed.get(), Math.max(0, pending));
+    }
+
+    /**
+     * 경로 하나의 진행 지점 재구성 후 비행 재개
+     */
+    private void resume(Long routeId) {
+        // 재시작/샤드 인계 직후에는 복제본이 뒤처져 있을 수 있으므로 진행 상태는 PRIMARY에서 읽음
+        RestorePoint restorePoint = DataSourceRouting.forcePrimary(() -> loadRestorePoint(routeId));
+        if (restorePoint == null) {
+            return;
+        }
+        List<RouteStop> stops = restorePoint.stops();
+        FlightProgress progress = restorePoint.progress();
+
+        // 제한 시간 초과로 취소된 경우 재개하지 않음 (다음 재시작 때 다시 시도)
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IllegalStateException("비행 복구 취소됨 - RouteId: " + routeId);
+        }
+
+        // 하역 대기 중에 중단된 배송지는 바로 출발 처리 (주문 완료)
+        for (RouteStop stop : stops) {
+            if (stop.getStopType() == StopType.DROP && stop.getStatus() == StopStatus.ARRIVED) {
+                routeStopProcessingService.depart(stop.getStopId());
+            }
+        }
+
+        log.info("비행 진행 지점 재구성 - RouteId: {}, 다음 Stop: {}/{}, 비행 거리: {}km, 재개 위치: {}",
+                routeId, progress.nextStopIndex() + 1, stops.size(),
+                String.format("%.2f", progress.distanceKm()),
+                progress.resumesMidLeg() ? progress.resumeLat() + ", " + progress.resumeLng() : "이전 stop");
+        droneSimulatorService.resumeFlight(routeId, stops, restorePoint.drone(), progress);
+    }
+
+    /**
+     * 경로 상태와 마지막 위치로 진행 지점 재구성 (LAUNCHED가 아니면 null)
+     */
+    private RestorePoint loadRestorePoint(Long routeId) {
+        DefaultTransactionDefinition def = new DefaultTransactionDefinition();
+        def.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        def.setReadOnly(true);
+        TransactionStatus status = transactionManager.getTransaction(def);
+
+        try {
+            Route route = routeRepository.findByIdWithDetails(routeId)
+                    .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
+            if (route.getStatus() != RouteStatus.LAUNCHED) {
+                transactionManager.commit(status);
+                return null;
+            }
+
+            List<RouteStop> stops = route.getRouteStops().stream()
+                    .sorted(Comparator.comparing(RouteStop::getStopSequence))
+                    .toList();
+            if (stops.isEmpty()) {
+                throw new IllegalStateException("RouteStops가 없습니다 - RouteId: " + routeId);
+            }
+            // 위치 브로드캐스트 대상 계산용 주문 fetch
+            routeStopRepository.findAllWithOrdersByIds(stops.stream().map(RouteStop::getStopId).toList());
+
+            RoutePosition latestPosition = routePositionRepository.findLatestByRouteId(routeId).orElse(null);
+            FlightProgress progress = FlightProgress.restore(stops, latestPosition,
+                    DroneSimulatorService.initialPayloadKg(stops), route.getActualStartAt(), droneEnergyModel);
+
+            transactionManager.commit(status);
+            return new RestorePoint(stops, route.getDrone(), progress);
+        } catch (RuntimeException e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+    }
+
+    private List<Long> orphanedRouteIds(RouteStatus status) {
+        return routeRepository.findIdsByStatus(status).stream()
+                .filter(flightShardService::owns)
+                .filter(routeId -> !droneSimulatorService.isFlying(routeId))
+                .toList();
+    }
+
+    private record RestorePoint(List<RouteStop> stops, Drone drone, FlightProgress progress) {
+    }
+}
@@ -0,0 +1,269 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.route.entity.FlightNode;
+import backend.databaseproject.domain.route.entity.FlightShardLease;
+import backend.databaseproject.domain.route.repository.FlightNodeRepository;
+import backend.databaseproject.domain.route.repository.FlightShardLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 비행 시뮬레이션 샤드 임대 서비스
+ * 경로를 routeId % shard-count로 샤드에 나누고, 노드마다 flight_shard_lease 테이블에서 샤드를 임대하여 자기 샤드의 경로만 시뮬레이션합니다.
+ *
+ * 하트비트마다 보유 임대를 갱신하고, 살아 있는 노드 수로 나눈 공정 몫보다 적게 가졌으면 미임대/만료 샤드를 가져오며,
+ * 많이 가졌으면 초과분을 반납하여 새로 합류한 노드가 가져가게 합니다.
+ * 반납할 샤드는 먼저 보유 목록에서 빼서 이 노드의 비행이 다음 틱에 멈추게 하고, 이 노드에서 시뮬레이션 중인 경로가 남아 있으면
+ * 임대는 계속 갱신하며 비운 뒤(draining) 다음 하트비트에 반납합니다. 반납 직후 다른 노드가 같은 경로를 이어받아도 두 노드가 동시에 비행시키지 않습니다.
+ * 노드가 죽으면 임대가 lease-ttl-ms 뒤 만료되고, 다른 노드가 넘겨받아 {@link FlightRecoveryService}로 비행을 이어갑니다.
+ *
+ * 임대 갱신에 실패한 노드는 마지막 갱신 시각 기준으로 임대가 만료되기 전에 스스로 소유권을 잃은 것으로 보고 비행을 멈추므로,
+ * 같은 경로를 두 노드가 동시에 시뮬레이션하지 않습니다.
+ *
+ * simulation.cluster.enabled=false(기본)이면 단일 노드로 동작하여 모든 경로를 소유합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightShardService {
+
+    private final FlightShardLeaseRepository flightShardLeaseRepository;
+    private final FlightNodeRepository flightNodeRepository;
+    private final PlatformTransactionManager transactionManager;
+    // 비행 시뮬레이터가 이 서비스에 의존하므로 지연 조회
+    private final ObjectProvider<DroneSimulatorService> droneSimulatorService;
+
+    @Value("${simulation.cluster.enabled:false}")
+    private boolean enabled;
+
+    // 노드 ID (비우면 호스트명 + 임의 접미사)
+    @Value("${simulation.cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${simulation.cluster.shard-count:16}")
+    private int shardCount;
+
+    // 임대 유지 시간 (이 시간 동안 갱신이 없으면 다른 노드가 넘겨받음)
+    @Value("${simulation.cluster.lease-ttl-ms:15000}")
+    private long leaseTtlMs;
+
+    @Value("${simulation.cluster.heartbeat-ms:5000}")
+    private long heartbeatMs;
+
+    private String nodeId;
+
+    // 보유 샤드 (하트비트에서만 교체)
+    private volatile Set<Integer> ownedShards = Set.of();
+
+    // 이 시각(epoch ms)이 지나면 갱신 실패로 보고 보유 샤드를 무효 처리
+    private volatile long ownershipValidUntilMs;
+
+    // 반납 대기 샤드 (보유 목록에서는 빠졌지만 이 노드의 비행이 끝날 때까지 임대 유지, 하트비트에서만 변경)
+    private final Set<Integer> drainingShards = new HashSet<>();
+
+    @PostConstruct
+    void init() {
+        nodeId = configuredNodeId == null || configuredNodeId.isBlank() ? generateNodeId() : configuredNodeId;
+        if (!enabled) {
+            log.info("비행 시뮬레이션 단일 노드 모드 - NodeId: {}", nodeId);
+        } else {
+            log.info("비행 시뮬레이션 샤드 모드 - NodeId: {}, 샤드 수: {}", nodeId, shardCount);
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public boolean clustered() {
+        return enabled;
+    }
+
+    /**
+     * 경로가 속한 샤드 번호
+     */
+    public int shardOf(Long routeId) {
+        return (int) Math.floorMod(routeId, (long) shardCount);
+    }
+
+    /**
+     * 이 노드가 경로를 시뮬레이션해야 하는지 여부
+     */
+    public boolean owns(Long routeId) {
+        if (!enabled) {
+            return true;
+        }
+        return System.currentTimeMillis() < ownershipValidUntilMs && ownedShards.contains(shardOf(routeId));
+    }
+
+    /**
+     * 시작 시 첫 임대 (비행 복구보다 먼저 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void onApplicationReady() {
+        heartbeat();
+    }
+
+    /**
+     * 노드 하트비트 + 샤드 임대 갱신/획득/반납
+     */
+    @Scheduled(fixedDelayString = "${simulation.cluster.heartbeat-ms:5000}",
+               initialDelayString = "${simulation.cluster.heartbeat-ms:5000}")
+    public synchronized void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        long startedMs = System.currentTimeMillis();
+        try {
+            ensureShardRows();
+            List<Integer> owned = rebalance();
+            Set<Integer> previous = ownedShards;
+            ownedShards = Set.copyOf(owned);
+            ownershipValidUntilMs = startedMs + leaseTtlMs - heartbeatMs;
+            if (!previous.equals(ownedShards)) {
+                log.info("샤드 임대 변경 - NodeId: {}, 보유: {}", nodeId, owned);
+            }
+        } catch (Exception e) {
+            log.warn("샤드 임대 갱신 실패 - NodeId: {}", nodeId, e);
+        }
+    }
+
+    /**
+     * 임대 테이블에 샤드 행이 없으면 생성 (여러 노드가 동시에 만들면 한쪽만 성공)
+     */
+    private void ensureShardRows() {
+        if (flightShardLeaseRepository.count() >= shardCount) {
+            return;
+        }
+        Set<Integer> existing = new HashSet<>();
+        flightShardLeaseRepository.findAll().forEach(lease -> existing.add(lease.getShardNo()));
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            if (existing.contains(shardNo)) {
+                continue;
+            }
+            TransactionStatus status = transactionManager.getTransaction(requiresNew());
+            try {
+                flightShardLeaseRepository.saveAndFlush(new FlightShardLease(shardNo));
+                transactionManager.commit(status);
+            } catch (DataIntegrityViolationException e) {
+                transactionManager.rollback(status);
+            } catch (RuntimeException e) {
+                transactionManager.rollback(status);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 하트비트 기록, 보유 임대 갱신, 공정 몫에 맞춰 샤드 획득/반납
+     * 반납할 샤드에 이 노드의 비행이 남아 있으면 바로 반납하지 않고 반납 대기로 돌립니다.
+     *
+     * @return 갱신 후 유효하게 보유한 샤드 번호 (반납 대기 샤드 제외)
+     */
+    private List<Integer> rebalance() {
+        TransactionStatus status = transactionManager.getTransaction(requiresNew());
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime until = now.plusNanos(leaseTtlMs * 1_000_000L);
+            LocalDateTime liveSince = now.minusNanos(leaseTtlMs * 1_000_000L);
+
+            FlightNode node = flightNodeRepository.findById(nodeId).orElse(null);
+            if (node == null) {
+                flightNodeRepository.save(new FlightNode(nodeId, now));
+            } else {
+                node.heartbeat(now);
+            }
+            flightNodeRepository.flush();
+            flightNodeRepository.deleteStale(liveSince);
+
+            long liveNodes = Math.max(1, flightNodeRepository.countByHeartbeatAtGreaterThanEqual(liveSince));
+            int fairShare = (int) ((shardCount + liveNodes - 1) / liveNodes);
+
+            flightShardLeaseRepository.renew(nodeId, until);
+            List<Integer> leased = flightShardLeaseRepository.findOwnedShardNos(nodeId, now);
+
+            // 비행이 모두 멈춘 반납 대기 샤드 반납
+            drainingShards.retainAll(leased);
+            drainingShards.removeIf(shardNo -> releaseIfIdle(shardNo));
+
+            List<Integer> owned = leased.stream().filter(shardNo -> !drainingShards.contains(shardNo)).toList();
+            if (owned.size() > fairShare) {
+                // 초과분 반납 (번호가 큰 샤드부터, 비행 중인 경로가 있으면 반납 대기)
+                for (int i = owned.size() - 1; i >= fairShare; i--) {
+                    if (!releaseIfIdle(owned.get(i))) {
+                        drainingShards.add(owned.get(i));
+                    }
+                }
+            } else if (owned.size() < fairShare) {
+                int needed = fairShare - owned.size();
+                for (Integer shardNo : flightShardLeaseRepository.findClaimableShardNos(shardCount, now)) {
+                    if (needed == 0) {
+                        break;
+                    }
+                    needed -= flightShardLeaseRepository.claim(shardNo, nodeId, now, until);
+                }
+            }
+
+            owned = flightShardLeaseRepository.findOwnedShardNos(nodeId, now).stream()
+                    .filter(shardNo -> !drainingShards.contains(shardNo))
+                    .toList();
+            transactionManager.commit(status);
+            return owned;
+        } catch (RuntimeException e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+    }
+
+    /**
+     * 이 노드에서 시뮬레이션 중인 경로가 없으면 샤드 반납
+     *
+     * @return 반납 여부
+     */
+    private boolean releaseIfIdle(Integer shardNo) {
+        DroneSimulatorService simulator = droneSimulatorService.getIfAvailable();
+        if (simulator != null && simulator.isFlyingInShard(shardNo)) {
+            log.info("샤드 반납 대기 - 비행 중단 대기 - NodeId: {}, Shard: {}", nodeId, shardNo);
+            return false;
+        }
+        flightShardLeaseRepository.release(shardNo, nodeId);
+        return true;
+    }
+
+    private static DefaultTransactionDefinition requiresNew() {
+        DefaultTransactionDefinition def = new DefaultTransactionDefinition();
+        def.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return def;
+    }
+
+    private static String generateNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -1,130 +1,235 @@
 package backend.databaseproject.domain.route.service;
 
-import backend.databaseproject.domain.order.entity.Order;
-import backend.databaseproject.domain.store.entity.Store;
-import backend.databaseproject.global.util.GeoUtils;
+import backend.databaseproject.domain.drone.service.DroneEnergyModel;
+import backend.databaseproject.domain.route.planning.OptimizedRoute;
+import backend.databaseproject.domain.route.planning.PlanningBatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 배송 경로 최적화 서비스
  * TSP (Traveling Salesman Problem) 알고리즘을 구현하여 최적의 배송 경로를 계산합니다.
+ * 구간 거리는 비행 금지 구역 우회 거리를 반영하며,
+ * 거리 기반 초기 경로를 적재 무게를 고려한 배터리 소모량 기준으로 개선합니다.
+ *
+ * 최적화 시간은 drone.route.optimize 타이머에 결과 경로를 만든 휴리스틱(heuristic)과 주문 수 구간(size) 태그로 기록합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RouteOptimizerService {
 
+    private final DroneEnergyModel droneEnergyModel;
+    private final MeterRegistry meterRegistry;
+
     /**
-     * Nearest Neighbor 휴리스틱을 사용한 경로 최적화
+     * Nearest Neighbor 휴리스틱 + 배터리 소모량 기준 2-opt 개선 (계획용 묶음 기반)
+     * 주문 인덱스와 캐시된 구간 거리만 사용하므로 탐색 루프에서 객체를 생성하지 않습니다.
+     * 결과 경로의 소모량은 입력 순서의 소모량을 넘지 않으므로, 입력 순서로 검증된 배송 묶음은 최적화 후에도 비행 가능합니다.
+     * 비행 금지 구역으로 막힌 구간은 선택하지 않으며, 입력 순서로도 이어서 갈 수 없는 배송지는 결과에서 제외합니다.
      *
-     * @param orders 같은 매장의 배송 요청들
-     * @param store    출발 매장
-     * @return 최적화된 순서의 배송 요청 리스트
+     * @param batch   계획용 배송 묶음
+     * @param indices 최적화할 주문 인덱스들
+     * @return 최적화된 방문 순서(제외된 배송지가 있으면 입력보다 짧음)와 사용한 휴리스틱
      */
-    public List<Order> optimizeRoute(List<Order> orders, Store store) {
-        if (orders == null || orders.isEmpty()) {
-            log.warn("최적화할 배송 요청이 없습니다.");
-            return new ArrayList<>();
-        }
-
-        if (orders.size() == 1) {
-            log.info("배송 요청이 1개이므로 최적화를 생략합니다.");
-            return new ArrayList<>(orders);
+    public OptimizedRoute optimizeRoute(PlanningBatch batch, int[] indices) {
+        long startNanos = System.nanoTime();
+        if (indices.length <= 1) {
+            if (indices.length == 1) {
+                log.info("배송 요청이 1개이므로 최적화를 생략합니다.");
+            } else {
+                log.warn("최적화할 배송 요청이 없습니다.");
+            }
+            recordOptimization(OptimizedRoute.NONE, indices.length, startNanos);
+            return new OptimizedRoute(indices.clone(), OptimizedRoute.NONE);
         }
 
-        log.info("경로 최적화 시작 - 매장: {}, 배송 요청 수: {}", store.getName(), orders.size());
+        log.info("경로 최적화 시작 - 배송 요청 수: {}", indices.length);
 
-        List<Order> optimizedRoute = new ArrayList<>();
-        Set<Order> unvisited = new HashSet<>(orders);
+        int[] optimizedRoute = new int[indices.length];
+        boolean[] visited = new boolean[indices.length];
+        int routeLength = 0;
 
         // 현재 위치 (매장에서 시작)
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
+        int current = PlanningBatch.ORIGIN;
 
         // Nearest Neighbor 알고리즘 적용
-        while (!unvisited.isEmpty()) {
-            Order nearest = null;
-            double minDistance = Double.MAX_VALUE;
-
-            // 방문하지 않은 요청 중 가장 가까운 것 찾기
-            for (Order order : unvisited) {
-                double distance = GeoUtils.calculateDistance(
-                        currentLat.doubleValue(),
-                        currentLng.doubleValue(),
-                        order.getDestLat().doubleValue(),
-                        order.getDestLng().doubleValue()
-                );
-
+        for (int position = 0; position < indices.length; position++) {
+            int nearest = -1;
+            double minDistance = Double.POSITIVE_INFINITY;
+
+            // 방문하지 않은 요청 중 가장 가까운 것 찾기 (비행 금지 구역으로 막힌 구간은 무한대 거리이므로 선택하지 않음)
+            for (int candidate = 0; candidate < indices.length; candidate++) {
+                if (visited[candidate]) {
+                    continue;
+                }
+                double distance = batch.distanceKm(current, indices[candidate]);
                 if (distance < minDistance) {
                     minDistance = distance;
-                    nearest = order;
+                    nearest = candidate;
                 }
             }
+            if (nearest < 0) {
+                // 남은 배송지로 가는 구간이 모두 막힘
+                break;
+            }
 
-            // 가장 가까운 요청을 경로에 추가
-            if (nearest != null) {
-                optimizedRoute.add(nearest);
-                unvisited.remove(nearest);
-
-                // 현재 위치를 방금 추가한 배송지로 업데이트
-                currentLat = nearest.getDestLat();
-                currentLng = nearest.getDestLng();
+            // 가장 가까운 요청을 경로에 추가하고 현재 위치를 갱신
+            visited[nearest] = true;
+            current = indices[nearest];
+            optimizedRoute[routeLength++] = current;
 
+            if (log.isDebugEnabled()) {
                 log.debug("다음 배송지 선택 - OrderId: {}, 거리: {}km",
-                         nearest.getOrderId(), String.format("%.2f", minDistance));
+                        batch.orderId(current), String.format("%.2f", minDistance));
+            }
+        }
+
+        double inputEnergyMah = batch.tourEnergyMah(droneEnergyModel, indices, indices.length);
+        String heuristic = OptimizedRoute.NEAREST_NEIGHBOR_2OPT;
+        double energyMah;
+        if (routeLength < indices.length) {
+            if (Double.isFinite(inputEnergyMah)) {
+                // 입력 순서로는 모두 비행할 수 있으면 입력 순서 유지
+                optimizedRoute = indices.clone();
+                energyMah = inputEnergyMah;
+                heuristic = OptimizedRoute.INPUT_ORDER;
+            } else {
+                // 막힌 구간 때문에 이어서 갈 수 없는 배송지는 이번 경로에서 제외
+                for (int candidate = 0; candidate < indices.length; candidate++) {
+                    if (!visited[candidate]) {
+                        log.warn("비행 금지 구역 때문에 경로에서 제외 - OrderId: {}", batch.orderId(indices[candidate]));
+                    }
+                }
+                optimizedRoute = Arrays.copyOf(optimizedRoute, routeLength);
+                energyMah = improveByEnergy(batch, optimizedRoute);
+            }
+        } else {
+            // 무거운 주문을 먼저 내리는 편이 유리한 경우를 반영하여 소모량 기준으로 개선
+            energyMah = improveByEnergy(batch, optimizedRoute);
+            if (inputEnergyMah < energyMah) {
+                optimizedRoute = indices.clone();
+                energyMah = inputEnergyMah;
+                heuristic = OptimizedRoute.INPUT_ORDER;
             }
         }
 
         // 총 경로 거리 계산
-        double totalDistance = calculateTotalDistance(optimizedRoute, store);
-        log.info("경로 최적화 완료 - 총 거리: {}km, 배송지 수: {}",
-                String.format("%.2f", totalDistance), optimizedRoute.size());
+        double totalDistance = batch.tourDistanceKm(optimizedRoute);
+        log.info("경로 최적화 완료 - 총 거리: {}km, 예상 소모량: {}mAh, 배송지 수: {}",
+                String.format("%.2f", totalDistance), String.format("%.0f", energyMah), optimizedRoute.length);
 
-        return optimizedRoute;
+        recordOptimization(heuristic, indices.length, startNanos);
+        return new OptimizedRoute(optimizedRoute, heuristic);
     }
 
     /**
-     * 최적화된 경로의 총 거리 계산
+     * 최적화 시간 기록 (주문 수는 태그 수가 늘지 않도록 구간으로 묶음)
      */
-    private double calculateTotalDistance(List<Order> route, Store store) {
-        if (route.isEmpty()) {
-            return 0.0;
-        }
+    private void recordOptimization(String heuristic, int size, long startNanos) {
+        String sizeBucket = size <= 1 ? "0-1" : size <= 3 ? String.valueOf(size) : size <= 5 ? "4-5"
+                : size <= 10 ? "6-10" : "11+";
+        Timer.builder("drone.route.optimize")
+                .description("배송 경로 최적화 시간")
+                .tag("heuristic", heuristic)
+                .tag("size", sizeBucket)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
 
-        double totalDistance = 0.0;
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
-
-        // 매장에서 첫 배송지까지
-        for (Order order : route) {
-            double distance = GeoUtils.calculateDistance(
-                    currentLat.doubleValue(),
-                    currentLng.doubleValue(),
-                    order.getDestLat().doubleValue(),
-                    order.getDestLng().doubleValue()
-            );
-            totalDistance += distance;
-            currentLat = order.getDestLat();
-            currentLng = order.getDestLng();
+    /**
+     * 배터리 소모량 기준 2-opt 개선 (경로 배열을 제자리에서 수정)
+     * 구간 뒤집기로 소모량이 줄어드는 동안 반복합니다.
+     *
+     * 후보마다 경로 전체 소모량을 다시 계산하지 않고 뒤집는 구간의 변화량만 계산합니다.
+     * 뒤집으면 양 끝 구간이 바뀌고, 구간 내부는 방향과 함께 적재 무게(먼저 내리는 주문)도 바뀝니다.
+     * i를 고정하고 j를 늘려 가며 내부 합을 누적하고, 소모량이 적재 무게에 선형이므로
+     * 새 주문이 맨 앞에 올 때 기존 내부 구간의 적재 무게가 일제히 줄어드는 효과를 거리 합으로 한 번에 반영합니다.
+     *
+     * @return 개선된 경로의 소모량 (mAh)
+     */
+    private double improveByEnergy(PlanningBatch batch, int[] route) {
+        int n = route.length;
+        double[] payloadBefore = new double[n + 1];
+        double bestEnergy = batch.tourEnergyMah(droneEnergyModel, route, n);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            fillPayloadBefore(batch, route, payloadBefore);
+            for (int i = 0; i < n - 1; i++) {
+                int prev = i == 0 ? PlanningBatch.ORIGIN : route[i - 1];
+                double payloadI = payloadBefore[i];
+
+                // 원래 내부(i+1..j 진입 구간)와 뒤집은 내부(j..i 방향) 순항 소모량, 구간 내 배송지 호버링 소모량
+                double oldInnerMah = 0.0;
+                double newInnerMah = 0.0;
+                double newInnerKm = 0.0;
+                double oldHoverMah = droneEnergyModel.dropHoverMah(payloadI);
+                double newHoverMah = oldHoverMah;
+
+                for (int j = i + 1; j < n; j++) {
+                    int added = route[j];
+                    double addedKg = batch.weightGrams(added) / 1000.0;
+                    double reversedKm = batch.distanceKm(added, route[j - 1]);
+                    if (Double.isInfinite(reversedKm)) {
+                        // 뒤집은 내부에 막힌 구간이 생기면 더 긴 구간도 모두 막힘
+                        break;
+                    }
+
+                    oldInnerMah += droneEnergyModel.cruiseMah(batch.distanceKm(route[j - 1], added), payloadBefore[j]);
+                    oldHoverMah += droneEnergyModel.dropHoverMah(payloadBefore[j]);
+
+                    // 새 주문을 맨 앞에서 먼저 내리므로 기존 내부 구간과 호버링의 적재 무게가 addedKg만큼 줄어듦
+                    newInnerMah += droneEnergyModel.cruiseMah(newInnerKm, 0.0) - droneEnergyModel.cruiseMah(newInnerKm, addedKg);
+                    newInnerMah += droneEnergyModel.cruiseMah(reversedKm, payloadI - addedKg);
+                    newInnerKm += reversedKm;
+                    newHoverMah += (j - i) * (droneEnergyModel.dropHoverMah(0.0) - droneEnergyModel.dropHoverMah(addedKg));
+                    newHoverMah += droneEnergyModel.dropHoverMah(payloadI);
+
+                    int next = j == n - 1 ? PlanningBatch.ORIGIN : route[j + 1];
+                    double payloadNext = payloadBefore[j + 1];
+                    double oldEdgeMah = droneEnergyModel.cruiseMah(batch.distanceKm(prev, route[i]), payloadI)
+                            + droneEnergyModel.cruiseMah(batch.distanceKm(route[j], next), payloadNext);
+                    double newEdgeMah = droneEnergyModel.cruiseMah(batch.distanceKm(prev, route[j]), payloadI)
+                            + droneEnergyModel.cruiseMah(batch.distanceKm(route[i], next), payloadNext);
+
+                    double delta = (newEdgeMah + newInnerMah + newHoverMah) - (oldEdgeMah + oldInnerMah + oldHoverMah);
+                    if (delta < -1e-9) {
+                        reverse(route, i, j);
+                        bestEnergy = batch.tourEnergyMah(droneEnergyModel, route, n);
+                        fillPayloadBefore(batch, route, payloadBefore);
+                        improved = true;
+                        break;
+                    }
+                }
+            }
         }
+        return bestEnergy;
+    }
 
-        // 마지막 배송지에서 매장으로 귀환
-        double returnDistance = GeoUtils.calculateDistance(
-                currentLat.doubleValue(),
-                currentLng.doubleValue(),
-                store.getLat().doubleValue(),
-                store.getLng().doubleValue()
-        );
-        totalDistance += returnDistance;
+    /**
+     * 각 방문 위치에 도착할 때의 적재 무게 (kg, 마지막 칸은 귀환 구간 = 0)
+     */
+    private static void fillPayloadBefore(PlanningBatch batch, int[] route, double[] payloadBefore) {
+        long payloadGrams = batch.totalWeightGrams(route);
+        for (int k = 0; k < route.length; k++) {
+            payloadBefore[k] = payloadGrams / 1000.0;
+            payloadGrams -= batch.weightGrams(route[k]);
+        }
+        payloadBefore[route.length] = payloadGrams / 1000.0;
+    }
 
-        return totalDistance;
+    private static void reverse(int[] route, int from, int to) {
+        while (from < to) {
+            int tmp = route[from];
+            route[from++] = route[to];
+            route[to--] = tmp;
+        }
     }
 }
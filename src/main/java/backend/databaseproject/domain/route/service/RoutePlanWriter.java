@@ -0,0 +1,88 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.domain.drone.entity.DroneStatus;
+import backend.databaseproject.domain.drone.exception.DroneNotAvailableException;
+import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.exception.OrderAlreadyProcessedException;
+import backend.databaseproject.domain.order.repository.OrderRepository;
+import backend.databaseproject.domain.order.service.OrderTrackingProjector;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.global.datasource.ReplicaStalenessGuard;
+import backend.databaseproject.global.outbox.OutboxEventType;
+import backend.databaseproject.global.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배송 경로 계획 저장
+ * 메모리에서 조립한 경로 집합(Route -> RouteStop -> RouteStopOrder)을 cascade로 한 번에 저장하고,
+ * 주문 배정과 드론 출동은 조건부 UPDATE 한 번씩으로 처리합니다.
+ *
+ * ID를 미리 할당받으므로(pooled-lo) INSERT는 flush 시점에 테이블별 JDBC 배치로 묶이며,
+ * 경로 1건 저장의 DB 왕복은 INSERT 배치 3회(route, route_stop, route_stop_order)와 UPDATE 2회입니다.
+ *
+ * 호출자의 트랜잭션 안에서 실행되며, 다른 배차가 먼저 주문이나 드론을 가져간 경우 예외로 전체를 롤백합니다.
+ * 비행 시작은 같은 트랜잭션에 기록한 ROUTE_PLANNED 아웃박스 이벤트로 커밋 후에 이루어집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoutePlanWriter {
+
+    private final RouteRepository routeRepository;
+    private final OrderRepository orderRepository;
+    private final DroneRepository droneRepository;
+    private final OrderTrackingProjector orderTrackingProjector;
+    private final ReplicaStalenessGuard replicaStalenessGuard;
+    private final OutboxWriter outboxWriter;
+
+    /**
+     * 경로 계획 저장
+     *
+     * @param route  stop/주문 매핑까지 조립된 경로 (미저장)
+     * @param orders 경로에 배정할 주문 (CREATED 상태)
+     * @param drone  출동할 드론 (IDLE 상태)
+     */
+    public Route write(Route route, List<Order> orders, Drone drone) {
+        routeRepository.save(route);
+
+        // 보류 중인 경로 INSERT 배치를 먼저 반영한 뒤 주문을 한 번에 배정
+        List<Long> orderIds = orders.stream().map(Order::getOrderId).toList();
+        int assigned = orderRepository.assignDelivery(orderIds, route.getPlannedStartAt(),
+                OrderStatus.CREATED, OrderStatus.ASSIGNED);
+        if (assigned != orderIds.size()) {
+            throw new OrderAlreadyProcessedException(
+                    String.format("이미 다른 배송에 배정된 주문이 있습니다. 요청: %d건, 배정: %d건", orderIds.size(), assigned));
+        }
+
+        if (droneRepository.changeStatusIf(drone.getDroneId(), DroneStatus.IDLE, DroneStatus.IN_FLIGHT) != 1) {
+            throw new DroneNotAvailableException(
+                    String.format("드론 ID %d가 이미 배송 중입니다.", drone.getDroneId()));
+        }
+
+        // 주문 추적 조회 모델도 같은 트랜잭션에서 배정 (경로/ETA)
+        orderTrackingProjector.assigned(route, orderIds);
+
+        // 배정 직후 매장 주문 목록은 PRIMARY에서 읽도록 기록
+        replicaStalenessGuard.markWritten("store-orders:" + route.getStore().getStoreId());
+
+        // 커밋되면 비행 시작 (FlightDispatchListener)
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("routeId", route.getRouteId());
+        payload.put("orderIds", orderIds);
+        outboxWriter.append(OutboxEventType.ROUTE_PLANNED, route.getRouteId(), payload);
+
+        log.debug("경로 계획 저장 - RouteId: {}, Stop: {}개, 주문: {}건",
+                route.getRouteId(), route.getRouteStops().size(), orderIds.size());
+        return route;
+    }
+}
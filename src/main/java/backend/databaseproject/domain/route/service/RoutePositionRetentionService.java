@@ -0,0 +1,231 @@
+package backend.databaseproject.domain.route.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 드론 위치 보관 서비스
+ * route_position은 ts 기준 일별 RANGE 파티션(pYYYYMMDD)과 마지막 p_future(MAXVALUE) 파티션으로 나뉩니다 (V3 마이그레이션).
+ *
+ * 매일 한 번 다음을 수행합니다.
+ * 1. 앞으로 precreate-days일치의 일별 파티션을 p_future에서 미리 나눔 (비어 있는 미래 구간이라 데이터 복사 없음)
+ * 2. raw-days보다 오래된 파티션을 경로별 bucket-seconds 단위 평균 궤적으로 요약해 route_track_rollup에 저장한 뒤 DROP PARTITION
+ * 3. rollup-days보다 오래된 요약 궤적 삭제
+ *
+ * 파티션을 통째로 삭제하므로 오래된 위치 정리 비용이 행 수와 무관하고, 최신 위치 조회는 보관 중인 파티션 수만큼만 인덱스를 탐색합니다.
+ * 여러 노드가 동시에 실행해도 MySQL GET_LOCK으로 한 노드만 DDL을 수행합니다.
+ * 버킷은 각 위치의 날짜 0시부터 bucket-seconds 단위로 나누고 bucket-seconds는 하루(86400초)의 약수여야 하므로,
+ * 0시 경계로 나뉜 파티션 두 개에 걸치는 버킷이 없습니다. DATETIME 연산만 사용하므로 세션 시간대와도 무관합니다.
+ * 따라서 요약은 (route_id, bucket_start) 기준 덮어쓰기로 충분하며, 삭제 전에 중단되어 다시 실행해도 결과가 같습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoutePositionRetentionService {
+
+    private static final String TABLE = "route_position";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String LOCK_NAME = "route_position_retention";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    // 요약 궤적 삭제 1회당 최대 행 수 (긴 잠금 방지)
+    private static final int ROLLUP_DELETE_CHUNK = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${route-position.retention.enabled:true}")
+    private boolean enabled;
+
+    // 원본 위치 보관 일수
+    @Value("${route-position.retention.raw-days:7}")
+    private int rawDays;
+
+    // 요약 궤적 보관 일수 (0 이하면 삭제하지 않음)
+    @Value("${route-position.retention.rollup-days:365}")
+    private int rollupDays;
+
+    // 요약 궤적 버킷 크기 (초)
+    @Value("${route-position.retention.bucket-seconds:60}")
+    private int bucketSeconds;
+
+    // 미리 만들어 둘 일별 파티션 수 (오늘 이후)
+    @Value("${route-position.retention.precreate-days:3}")
+    private int precreateDays;
+
+    @PostConstruct
+    void validate() {
+        if (bucketSeconds <= 0 || SECONDS_PER_DAY % bucketSeconds != 0) {
+            throw new IllegalStateException(
+                    "route-position.retention.bucket-seconds must divide 86400: " + bucketSeconds);
+        }
+    }
+
+    /**
+     * 시작 시 미래 파티션 확보 (미래 위치가 p_future에 쌓이면 나중에 나눌 때 데이터 복사가 필요함)
+     * 밀린 파티션 요약과 DDL로 오래 걸릴 수 있으므로 스케줄러 스레드에서 실행하여 시작과 readiness를 막지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            taskScheduler.schedule(this::maintain, Instant.now());
+        }
+    }
+
+    @Scheduled(cron = "${route-position.retention.cron:0 10 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                // 잠금과 DDL을 같은 세션에서 실행
+                JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Integer locked = session.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+                if (locked == null || locked != 1) {
+                    log.debug("위치 보관 작업 건너뜀 - 다른 노드가 실행 중");
+                    return null;
+                }
+                try {
+                    runLocked(session);
+                } finally {
+                    session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("위치 보관 작업 실패", e);
+        }
+    }
+
+    private void runLocked(JdbcTemplate session) {
+        List<Partition> partitions = loadPartitions(session);
+        if (partitions.isEmpty()) {
+            log.warn("{} 테이블이 파티션되어 있지 않아 보관 작업을 건너뜀", TABLE);
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        precreatePartitions(session, partitions, today.plusDays(precreateDays + 1L).atStartOfDay());
+
+        LocalDateTime rawCutoff = today.minusDays(Math.max(rawDays, 1)).atStartOfDay();
+        for (Partition partition : partitions) {
+            if (partition.upperBound() != null && !partition.upperBound().isAfter(rawCutoff)) {
+                rollUpAndDrop(session, partition);
+            }
+        }
+
+        if (rollupDays > 0) {
+            purgeRollups(session, today.minusDays(rollupDays).atStartOfDay());
+        }
+    }
+
+    private List<Partition> loadPartitions(JdbcTemplate session) {
+        return session.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new Partition(rs.getString(1), parseBound(rs.getString(2))),
+                TABLE);
+    }
+
+    /**
+     * 마지막 일별 파티션 경계가 target에 닿을 때까지 p_future를 하루 단위로 나눔
+     */
+    private void precreatePartitions(JdbcTemplate session, List<Partition> partitions, LocalDateTime target) {
+        LocalDateTime last = partitions.stream()
+                .map(Partition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDateTime::compareTo)
+                .orElse(LocalDate.now().atStartOfDay());
+
+        List<String> definitions = new ArrayList<>();
+        while (last.isBefore(target)) {
+            LocalDateTime next = last.plusDays(1);
+            definitions.add("PARTITION " + PARTITION_NAME.format(last)
+                    + " VALUES LESS THAN ('" + BOUND.format(next) + "')");
+            last = next;
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        session.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("위치 파티션 생성 - {}개, 마지막 경계: {}", definitions.size() - 1, last);
+    }
+
+    /**
+     * 파티션의 위치를 경로별 버킷 평균 궤적으로 요약한 뒤 파티션 삭제
+     * 버킷 시작 = 위치 날짜 0시 + FLOOR(0시부터 경과 초 / bucket-seconds) * bucket-seconds
+     */
+    private void rollUpAndDrop(JdbcTemplate session, Partition partition) {
+        int rolledUp = session.update(
+                "INSERT INTO route_track_rollup " +
+                "(route_id, bucket_start, lat, lng, speed_mps, battery_pct, sample_count) " +
+                "SELECT route_id, bucket_start, ROUND(AVG(lat), 6), ROUND(AVG(lng), 6), " +
+                "       ROUND(AVG(speed_mps), 2), MIN(battery_pct), COUNT(*) " +
+                "FROM (SELECT route_id, lat, lng, speed_mps, battery_pct, " +
+                "             DATE(ts) + INTERVAL (FLOOR(TIME_TO_SEC(ts) / ?) * ?) SECOND AS bucket_start " +
+                "      FROM " + TABLE + " PARTITION (" + partition.name() + ")) p " +
+                "GROUP BY route_id, bucket_start " +
+                "ON DUPLICATE KEY UPDATE lat = VALUES(lat), lng = VALUES(lng), speed_mps = VALUES(speed_mps), " +
+                "battery_pct = VALUES(battery_pct), sample_count = VALUES(sample_count)",
+                bucketSeconds, bucketSeconds);
+
+        session.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name());
+        log.info("위치 파티션 요약 후 삭제 - {} (경계: {}), 요약 궤적 {}건",
+                partition.name(), partition.upperBound(), rolledUp);
+    }
+
+    private void purgeRollups(JdbcTemplate session, LocalDateTime cutoff) {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = session.update(
+                    "DELETE FROM route_track_rollup WHERE bucket_start < ? LIMIT " + ROLLUP_DELETE_CHUNK, cutoff);
+            total += deleted;
+        } while (deleted == ROLLUP_DELETE_CHUNK);
+        if (total > 0) {
+            log.info("요약 궤적 삭제 - {}건 ({} 이전)", total, cutoff);
+        }
+    }
+
+    /**
+     * RANGE COLUMNS 경계값 ('2026-10-20 00:00:00' 또는 MAXVALUE) 해석, MAXVALUE는 null
+     */
+    private static LocalDateTime parseBound(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay();
+        }
+        return LocalDateTime.parse(value.substring(0, 19), BOUND);
+    }
+
+    private record Partition(String name, LocalDateTime upperBound) {
+    }
+}
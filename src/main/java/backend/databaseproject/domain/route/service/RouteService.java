@@ -6,12 +6,14 @@ import backend.databaseproject.domain.route.entity.Route;
 import backend.databaseproject.domain.route.entity.RoutePosition;
 import backend.databaseproject.domain.route.repository.RoutePositionRepository;
 import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.domain.route.tracking.SseTrackingHub;
 import backend.databaseproject.global.common.BaseException;
 import backend.databaseproject.global.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -28,6 +30,7 @@ public class RouteService {
 
     private final RouteRepository routeRepository;
     private final RoutePositionRepository routePositionRepository;
+    private final SseTrackingHub sseTrackingHub;
 
     /**
      * 경로 상세 조회
@@ -79,6 +82,21 @@ public class RouteService {
         return DronePositionResponse.from(latestPosition);
     }
 
+    /**
+     * 경로 실시간 추적 SSE 스트림 구독
+     *
+     * @param routeId 경로 ID
+     * @return SSE 스트림 (position, plan, status 이벤트)
+     * @throws BaseException ROUTE_NOT_FOUND
+     */
+    public SseEmitter subscribeTracking(Long routeId) {
+        if (!routeRepository.existsById(routeId)) {
+            log.error("경로를 찾을 수 없습니다 - RouteId: {}", routeId);
+            throw new BaseException(ErrorCode.ROUTE_NOT_FOUND);
+        }
+        return sseTrackingHub.subscribeRoute(routeId);
+    }
+
     /**
      * 진행 중인 배송 목록 조회
      *
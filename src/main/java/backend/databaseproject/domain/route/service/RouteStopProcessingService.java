@@ -4,25 +4,31 @@ import backend.databaseproject.domain.order.entity.Order;
 import backend.databaseproject.domain.order.repository.OrderRepository;
 import backend.databaseproject.domain.route.entity.RouteStop;
 import backend.databaseproject.domain.route.entity.RouteStopOrder;
+import backend.databaseproject.domain.route.entity.StopStatus;
 import backend.databaseproject.domain.route.entity.StopType;
 import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.global.outbox.OutboxEventType;
+import backend.databaseproject.global.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * RouteStop 처리 서비스 (별도 트랜잭션)
  * DroneSimulatorService에서 각 경유지 도착 처리를 즉시 커밋하기 위한 서비스
+ *
+ * 도착과 출발은 각각 짧은 독립 트랜잭션으로 처리하고, DROP 경유지의 하역 대기는 시뮬레이션 시계의 예약 작업으로 기다립니다.
+ * 드론이 호버링하는 동안 DB 커넥션이나 트랜잭션은 붙잡지 않습니다.
+ * 비행 스레드({@link DroneSimulatorService})도 반환된 future를 기다리지 않고, 완료되면 다음 구간을 후속 작업으로 이어서 비행합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,76 +37,121 @@ public class RouteStopProcessingService {
 
     private final RouteStopRepository routeStopRepository;
     private final OrderRepository orderRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final OutboxWriter outboxWriter;
     private final PlatformTransactionManager transactionManager;
+    private final SimulationClock simulationClock;
+
+    private static final long DROP_DWELL_MS = 3000; // 배송지 하역 대기 (가상 시간)
 
     /**
-     * Stop 도착 처리 (새로운 독립 트랜잭션)
-     * 각 경유지마다 즉시 DB에 커밋하여 실시간으로 상태가 반영되도록 함
+     * Stop 도착 처리
+     * 도착을 즉시 커밋하고, DROP 타입은 하역 대기 후 출발 처리를 예약합니다.
+     *
+     * @param stopId 경유지 ID
+     * @return 경유지 처리 완료(DROP은 출발 및 주문 완료까지) 시 완료되는 future
      */
-    public void processStopArrival(Long stopId) {
-        // 새로운 트랜잭션 정의
-        DefaultTransactionDefinition def = new DefaultTransactionDefinition();
-        def.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-        TransactionStatus status = transactionManager.getTransaction(def);
+    public CompletableFuture<Void> processStopArrival(Long stopId) {
+        StopType stopType = arrive(stopId);
+        if (stopType != StopType.DROP) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // DROP 타입은 잠시 대기 (배송 시뮬레이션) - 대기 중에는 커넥션/트랜잭션을 점유하지 않음
+        CompletableFuture<Void> departed = new CompletableFuture<>();
+        simulationClock.schedule(() -> {
+            try {
+                depart(stopId);
+                departed.complete(null);
+            } catch (Exception e) {
+                departed.completeExceptionally(e);
+            }
+        }, DROP_DWELL_MS);
+        return departed;
+    }
+
+    /**
+     * 도착 표시 (새로운 독립 트랜잭션)
+     *
+     * @return 경유지 타입
+     */
+    private StopType arrive(Long stopId) {
+        TransactionStatus status = transactionManager.getTransaction(requiresNew());
 
         try {
             log.info("Stop 처리 시작 - StopId: {}", stopId);
 
-            // 새 트랜잭션에서 RouteStop 조회
-            RouteStop currentStop = routeStopRepository.findByIdWithOrders(stopId)
+            RouteStop currentStop = routeStopRepository.findById(stopId)
                     .orElseThrow(() -> new IllegalArgumentException("RouteStop not found: " + stopId));
 
-            log.info("RouteStop 조회 완료 - StopId: {}, Type: {}", currentStop.getStopId(), currentStop.getStopType());
-
-            // Stop 도착 처리
-            currentStop.arrive();
+            currentStop.arrive(simulationClock.now());
             routeStopRepository.saveAndFlush(currentStop);
-            log.info("Stop 도착 완료 - StopId: {}, Type: {}", currentStop.getStopId(), currentStop.getStopType());
-
-            // DROP 타입은 잠시 대기 (배송 시뮬레이션)
-            if (currentStop.getStopType() == StopType.DROP) {
-                Thread.sleep(3000); // 3초 대기
-                currentStop.depart();
-                routeStopRepository.saveAndFlush(currentStop);
-
-                // 이 정류장과 연결된 주문들을 완료 처리
-                List<RouteStopOrder> routeStopOrders = currentStop.getRouteStopOrders();
-                for (RouteStopOrder routeStopOrder : routeStopOrders) {
-                    Order order = routeStopOrder.getOrder();
-                    order.completeDelivery();
-                    orderRepository.saveAndFlush(order);
-
-                    log.info("주문 완료 처리 - OrderId: {}, User: {}",
-                            order.getOrderId(), order.getUser().getName());
-
-                    // WebSocket으로 배송 완료 알림 전송
-                    Map<String, Object> completionData = new HashMap<>();
-                    completionData.put("orderId", order.getOrderId());
-                    completionData.put("status", "FULFILLED");
-                    completionData.put("message", "배송이 완료되었습니다!");
-                    completionData.put("completedAt", LocalDateTime.now());
-                    messagingTemplate.convertAndSend(
-                            "/topic/order/" + order.getOrderId(),
-                            completionData
-                    );
-
-                    log.info("배송 완료 알림 전송 - OrderId: {}", order.getOrderId());
-                }
-            }
 
-            // 트랜잭션 커밋
             transactionManager.commit(status);
-            log.info("Stop 처리 완료 및 커밋됨 - StopId: {}", stopId);
+            log.info("Stop 도착 완료 및 커밋됨 - StopId: {}, Type: {}", stopId, currentStop.getStopType());
+            return currentStop.getStopType();
 
         } catch (Exception e) {
-            // 트랜잭션 롤백
             transactionManager.rollback(status);
-            log.error("Stop 처리 중 오류 발생 - StopId: {}", stopId, e);
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
+            log.error("Stop 도착 처리 중 오류 발생 - StopId: {}", stopId, e);
+            throw new RuntimeException("Stop 처리 실패", e);
+        }
+    }
+
+    /**
+     * DROP 경유지 출발 및 연결된 주문 완료 처리 (새로운 독립 트랜잭션)
+     * 주문 추적 조회 모델 갱신과 배송 완료 알림은 같은 트랜잭션에 ORDER_FULFILLED 아웃박스 이벤트로 기록하여 커밋 후 처리됩니다.
+     * ARRIVED 상태인 경우에만 조건부 UPDATE로 출발 처리하므로, 샤드 인계 중 두 노드가 같은 경유지를 처리해도 주문은 한 번만 완료됩니다.
+     *
+     * @param stopId 경유지 ID
+     */
+    public void depart(Long stopId) {
+        TransactionStatus status = transactionManager.getTransaction(requiresNew());
+
+        try {
+            // 상태 확인과 변경을 한 문장으로 처리 (먼저 커밋한 쪽만 1행 변경, 나머지는 행 잠금 해제 후 0행)
+            int departed = routeStopRepository.markDeparted(stopId, simulationClock.now(),
+                    StopStatus.ARRIVED, StopStatus.DEPARTED);
+            if (departed == 0) {
+                transactionManager.commit(status);
+                log.info("이미 출발 처리된 Stop - StopId: {}", stopId);
+                return;
             }
+
+            RouteStop currentStop = routeStopRepository.findByIdWithOrders(stopId)
+                    .orElseThrow(() -> new IllegalArgumentException("RouteStop not found: " + stopId));
+
+            // 이 정류장과 연결된 주문들을 완료 처리
+            for (RouteStopOrder routeStopOrder : currentStop.getRouteStopOrders()) {
+                Order order = routeStopOrder.getOrder();
+                order.completeDelivery(simulationClock.now());
+                orderRepository.saveAndFlush(order);
+
+                // 주문 추적 조회 모델 갱신과 추적 스트림(WebSocket, SSE) 배송 완료 알림
+                // (커밋 후 OrderTrackingOutboxListener, OrderStatusNotifier 순서로 처리)
+                Map<String, Object> completionData = new LinkedHashMap<>();
+                completionData.put("orderId", order.getOrderId());
+                completionData.put("status", "FULFILLED");
+                completionData.put("message", "배송이 완료되었습니다!");
+                completionData.put("completedAt", order.getCompletedAt());
+                outboxWriter.append(OutboxEventType.ORDER_FULFILLED, order.getOrderId(), completionData);
+
+                log.info("주문 완료 처리 - OrderId: {}, User: {}",
+                        order.getOrderId(), order.getUser().getName());
+            }
+
+            transactionManager.commit(status);
+            log.info("Stop 출발 완료 및 커밋됨 - StopId: {}", stopId);
+
+        } catch (Exception e) {
+            transactionManager.rollback(status);
+            log.error("Stop 출발 처리 중 오류 발생 - StopId: {}", stopId, e);
             throw new RuntimeException("Stop 처리 실패", e);
         }
     }
+
+    private static DefaultTransactionDefinition requiresNew() {
+        DefaultTransactionDefinition def = new DefaultTransactionDefinition();
+        def.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return def;
+    }
 }
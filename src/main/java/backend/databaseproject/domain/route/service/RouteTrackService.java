@@ -0,0 +1,153 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.route.dto.response.RouteTrackResponse;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RouteStatus;
+import backend.databaseproject.domain.route.repository.RoutePositionRepository;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.global.common.BaseException;
+import backend.databaseproject.global.common.ErrorCode;
+import backend.databaseproject.global.util.PolylineUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 경로 궤적 이력 서비스
+ * 경로의 위치를 스트리밍으로 읽어 Douglas–Peucker로 단순화하고 Encoded Polyline으로 반환합니다.
+ *
+ * 위치는 엔티티 대신 기본형 배열에 모으므로 경로당 수천 건이어도 메모리 사용이 작습니다.
+ * COMPLETED 경로는 궤적이 더 바뀌지 않으므로 (경로, 허용 오차)별 결과를 LRU 캐시에 보관합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Slf4j
+public class RouteTrackService {
+
+    private static final double MAX_TOLERANCE_M = 1000.0;
+
+    private final RouteRepository routeRepository;
+    private final RoutePositionRepository routePositionRepository;
+
+    // 캐시할 단순화 결과 수 (COMPLETED 경로만)
+    @Value("${route-track.cache-size:256}")
+    private int cacheSize;
+
+    private final Map<TrackKey, RouteTrackResponse> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TrackKey, RouteTrackResponse> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    /**
+     * 경로 궤적 이력 조회
+     *
+     * @param routeId    경로 ID
+     * @param toleranceM 단순화 허용 오차 (m, 0이면 단순화하지 않음)
+     * @return 단순화된 궤적
+     * @throws BaseException ROUTE_NOT_FOUND, INVALID_INPUT_VALUE
+     */
+    public RouteTrackResponse getTrack(Long routeId, double toleranceM) {
+        if (Double.isNaN(toleranceM) || toleranceM < 0 || toleranceM > MAX_TOLERANCE_M) {
+            throw new BaseException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        // 0.1m 단위로 맞춰 캐시 키 수를 제한
+        double tolerance = Math.round(toleranceM * 10) / 10.0;
+
+        Route route = routeRepository.findById(routeId)
+                .orElseThrow(() -> {
+                    log.error("경로를 찾을 수 없습니다 - RouteId: {}", routeId);
+                    return new BaseException(ErrorCode.ROUTE_NOT_FOUND);
+                });
+
+        boolean cacheable = route.getStatus() == RouteStatus.COMPLETED;
+        TrackKey key = new TrackKey(routeId, tolerance);
+        if (cacheable) {
+            synchronized (cache) {
+                RouteTrackResponse cached = cache.get(key);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
+        RouteTrackResponse track = buildTrack(route, tolerance);
+        if (cacheable) {
+            synchronized (cache) {
+                cache.put(key, track);
+            }
+        }
+        return track;
+    }
+
+    private RouteTrackResponse buildTrack(Route route, double tolerance) {
+        double[] lats = new double[256];
+        double[] lngs = new double[256];
+        long[] times = new long[256];
+        int count = 0;
+
+        try (Stream<Object[]> rows = routePositionRepository.streamTrackByRouteId(route.getRouteId())) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                if (count == lats.length) {
+                    lats = Arrays.copyOf(lats, count * 2);
+                    lngs = Arrays.copyOf(lngs, count * 2);
+                    times = Arrays.copyOf(times, count * 2);
+                }
+                lats[count] = ((Number) row[0]).doubleValue();
+                lngs[count] = ((Number) row[1]).doubleValue();
+                times[count] = toEpochMillis(row[2]);
+                count++;
+            }
+        }
+
+        boolean[] keep = PolylineUtils.simplify(lats, lngs, count, tolerance);
+        long[] offsets = new long[count];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (keep[i]) {
+                offsets[kept++] = times[i] - times[0];
+            }
+        }
+
+        log.info("경로 궤적 단순화 - RouteId: {}, 허용 오차: {}m, 위치: {} -> {}",
+                route.getRouteId(), tolerance, count, kept);
+
+        return RouteTrackResponse.builder()
+                .routeId(route.getRouteId())
+                .status(route.getStatus().name())
+                .toleranceM(tolerance)
+                .sourcePointCount(count)
+                .pointCount(kept)
+                .startedAt(count > 0 ? toLocalDateTime(times[0]) : null)
+                .polyline(PolylineUtils.encode(lats, lngs, count, keep))
+                .offsetsMs(Arrays.copyOf(offsets, kept))
+                .build();
+    }
+
+    private static long toEpochMillis(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.getTime();
+        }
+        return ((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private record TrackKey(Long routeId, double toleranceM) {
+    }
+}
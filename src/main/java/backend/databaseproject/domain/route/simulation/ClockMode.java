@@ -0,0 +1,10 @@
+package backend.databaseproject.domain.route.simulation;
+
+/**
+ * 시뮬레이션 시계 동작 방식
+ */
+public enum ClockMode {
+    REALTIME,       // 실제 시각 그대로 진행
+    ACCELERATED,    // 실제 시각의 simulation.clock.speed배로 진행 (대기 시간도 같은 비율로 단축)
+    STEPPED         // SimulationClock.advance() 호출 시에만 진행 (테스트용)
+}
@@ -0,0 +1,105 @@
+package backend.databaseproject.domain.route.simulation;
+
+import java.util.Arrays;
+
+/**
+ * 압축 바이너리 위치 프레임 인코더
+ * 경로 하나의 위치 스트림을 고정 순서의 varint 필드로 인코딩합니다. 좌표와 시각은 직전 프레임 대비 차이(delta)만 보내고,
+ * 주기적으로 절대값 키프레임을 보내 중간에 구독한 클라이언트가 동기화할 수 있게 합니다.
+ *
+ * 레이아웃 (모든 정수는 LEB128 varint, 부호 있는 값은 zigzag)
+ * <pre>
+ * [0]  flags     bit0 = 키프레임
+ *      seq       프레임 순번 (uint, 경로 스트림 단위)
+ *      lat       마이크로도 (sint, 키프레임은 절대값 / 아니면 직전 대비 차이)
+ *      lng       마이크로도 (sint, 위와 동일)
+ *      ts        epoch millis (키프레임은 절대값 uint / 아니면 직전 대비 차이 sint)
+ *      speed     0.1 km/h 단위 (uint)
+ *      battery   0.1 % 단위 (uint)
+ * </pre>
+ * 순번이 끊긴 클라이언트는 다음 키프레임까지 델타 프레임을 무시해야 합니다.
+ * 경로/주문 ID는 구독 주소로 구분하므로 프레임에 담지 않으며, 같은 경로의 모든 압축 구독 주소가 한 프레임을 공유합니다.
+ *
+ * 시뮬레이션 스레드 하나에서만 사용합니다 (스레드 안전하지 않음).
+ */
+public final class CompactFrameEncoder {
+
+    public static final int FLAG_KEYFRAME = 0x01;
+
+    // 필드 7개 * varint 최대 10바이트 (실제 프레임은 키프레임 약 20바이트, 델타 약 12바이트)
+    private static final int MAX_FRAME_BYTES = 70;
+
+    private final int keyframeInterval;
+    private final byte[] buffer = new byte[MAX_FRAME_BYTES];
+
+    private int length;
+    private long sequence;
+    private long framesSinceKeyframe;
+    private int prevLatE6;
+    private int prevLngE6;
+    private long prevEpochMs;
+
+    /**
+     * @param keyframeInterval 키프레임 간격 (프레임 수, 1이면 매 프레임 키프레임)
+     */
+    public CompactFrameEncoder(int keyframeInterval) {
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+        this.framesSinceKeyframe = this.keyframeInterval;
+    }
+
+    /**
+     * 이번 틱의 위치 프레임 인코딩
+     */
+    public void encode(double lat, double lng, double speedKmh, double batteryPct, long epochMs) {
+        int latE6 = (int) Math.round(lat * 1_000_000.0);
+        int lngE6 = (int) Math.round(lng * 1_000_000.0);
+        boolean keyframe = framesSinceKeyframe >= keyframeInterval;
+
+        length = 0;
+        buffer[length++] = (byte) (keyframe ? FLAG_KEYFRAME : 0);
+        writeVarLong(sequence++);
+        if (keyframe) {
+            writeVarLong(zigzag(latE6));
+            writeVarLong(zigzag(lngE6));
+            writeVarLong(epochMs);
+            framesSinceKeyframe = 1;
+        } else {
+            writeVarLong(zigzag((long) latE6 - prevLatE6));
+            writeVarLong(zigzag((long) lngE6 - prevLngE6));
+            writeVarLong(zigzag(epochMs - prevEpochMs));
+            framesSinceKeyframe++;
+        }
+        writeVarLong(Math.max(0L, Math.round(speedKmh * 10.0)));
+        writeVarLong(Math.max(0L, Math.round(batteryPct * 10.0)));
+
+        prevLatE6 = latE6;
+        prevLngE6 = lngE6;
+        prevEpochMs = epochMs;
+    }
+
+    /**
+     * 다음 프레임을 키프레임으로 강제 (구독자 재동기화 필요 시)
+     */
+    public void requestKeyframe() {
+        framesSinceKeyframe = keyframeInterval;
+    }
+
+    /**
+     * 현재 프레임 바이트 (전송용 복사본)
+     */
+    public byte[] frameBytes() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0L) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -0,0 +1,101 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.domain.drone.service.DroneEnergyModel;
+import backend.databaseproject.domain.route.entity.RoutePosition;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.StopStatus;
+import backend.databaseproject.domain.route.entity.StopType;
+import backend.databaseproject.global.util.GeoUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비행 진행 상태 (시뮬레이션 시작/재개 지점)
+ * 새 비행은 첫 stop부터 시작하고, 재시작 후 복구된 비행은 DB에 남은 stop 상태와 마지막 위치로부터 재구성한 지점에서 이어서 비행합니다.
+ *
+ * @param nextStopIndex   다음으로 향할 stop 인덱스 (stop 개수와 같으면 모든 stop 완료, 경로 완료 처리만 남음)
+ * @param resumeLat       재개 위치 위도 (null이면 이전 stop 또는 매장에서 출발)
+ * @param resumeLng       재개 위치 경도
+ * @param distanceKm      지금까지 비행한 거리 (km)
+ * @param energyMah       지금까지 소모한 배터리 (mAh)
+ * @param payloadKg       현재 적재 무게 (kg)
+ * @param flightStartTime 비행 시작 시각
+ */
+public record FlightProgress(int nextStopIndex, BigDecimal resumeLat, BigDecimal resumeLng,
+                             double distanceKm, double energyMah, double payloadKg,
+                             LocalDateTime flightStartTime) {
+
+    /**
+     * 매장 출발 시점
+     */
+    public static FlightProgress departure(double payloadKg, LocalDateTime flightStartTime) {
+        return new FlightProgress(0, null, null, 0.0, 0.0, payloadKg, flightStartTime);
+    }
+
+    /**
+     * DB에 남은 상태로 진행 지점 재구성 (재시작 후 복구용)
+     * 도착 처리된 stop까지의 구간 거리와 소모량은 시뮬레이터와 같은 모델로 다시 계산하고,
+     * 마지막 기록 위치가 다음 stop으로 향하던 구간이면 그 위치에서 재개합니다.
+     *
+     * @param stops           stop 목록 (stop 순서)
+     * @param latestPosition  마지막 기록 위치 (없으면 null)
+     * @param initialPayloadKg 출발 시 적재 무게
+     * @param flightStartTime 비행 시작 시각
+     * @param energyModel     에너지 소모 모델
+     */
+    public static FlightProgress restore(List<RouteStop> stops, RoutePosition latestPosition,
+                                         double initialPayloadKg, LocalDateTime flightStartTime,
+                                         DroneEnergyModel energyModel) {
+        int next = 0;
+        while (next < stops.size() && stops.get(next).getStatus() != StopStatus.PENDING) {
+            next++;
+        }
+
+        double distanceKm = 0.0;
+        double energyMah = 0.0;
+        double payloadKg = initialPayloadKg;
+        for (int i = 0; i < next; i++) {
+            RouteStop stop = stops.get(i);
+            double legKm = legDistanceKm(stops, i, null, null);
+            distanceKm += legKm;
+            energyMah += energyModel.cruiseMah(legKm, payloadKg);
+            if (stop.getStopType() == StopType.DROP) {
+                energyMah += energyModel.dropHoverMah(payloadKg);
+                if (stop.getPayloadDeltaKg() != null) {
+                    payloadKg = Math.max(0.0, payloadKg + stop.getPayloadDeltaKg().doubleValue());
+                }
+            }
+        }
+
+        BigDecimal resumeLat = null;
+        BigDecimal resumeLng = null;
+        if (next < stops.size() && latestPosition != null && latestPosition.getStopTo() != null
+                && stops.get(next).getStopId().equals(latestPosition.getStopTo().getStopId())) {
+            resumeLat = latestPosition.getLat();
+            resumeLng = latestPosition.getLng();
+            double flownKm = legDistanceKm(stops, next, null, null)
+                    - legDistanceKm(stops, next, resumeLat, resumeLng);
+            distanceKm += Math.max(0.0, flownKm);
+            energyMah += energyModel.cruiseMah(Math.max(0.0, flownKm), payloadKg);
+        }
+
+        return new FlightProgress(next, resumeLat, resumeLng, distanceKm, energyMah, payloadKg, flightStartTime);
+    }
+
+    /**
+     * stop i로 향하는 구간 거리 (from 좌표가 없으면 이전 stop 또는 첫 stop에서 출발)
+     */
+    private static double legDistanceKm(List<RouteStop> stops, int i, BigDecimal fromLat, BigDecimal fromLng) {
+        RouteStop to = stops.get(i);
+        RouteStop from = stops.get(Math.max(0, i - 1));
+        double lat1 = fromLat != null ? fromLat.doubleValue() : from.getLat().doubleValue();
+        double lng1 = fromLng != null ? fromLng.doubleValue() : from.getLng().doubleValue();
+        return GeoUtils.calculateDistance(lat1, lng1, to.getLat().doubleValue(), to.getLng().doubleValue());
+    }
+
+    public boolean resumesMidLeg() {
+        return resumeLat != null && resumeLng != null;
+    }
+}
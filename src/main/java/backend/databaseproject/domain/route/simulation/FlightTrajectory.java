@@ -0,0 +1,157 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.global.util.GeoUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 구간 비행 궤적
+ * 한 구간(출발지 -> 도착지)의 단계별 위치를 생성 시점에 한 번만 계산하여 기본형 배열에 보관합니다.
+ * 시뮬레이션 틱에서는 배열 조회만 수행하므로 위치 계산과 BigDecimal 변환으로 인한 객체 할당이 발생하지 않습니다.
+ */
+public final class FlightTrajectory {
+
+    // 대권 보간 시 두 지점 사이 각거리가 이보다 작으면 선형 보간으로 대체 (sin(d) -> 0 방지)
+    private static final double MIN_ANGULAR_DISTANCE_RAD = 1e-12;
+
+    private final int steps;
+    private final double distanceKm;
+    private final double[] lats;
+    private final double[] lngs;
+
+    // DB 저장용 좌표 (scale 6)
+    private final BigDecimal[] scaledLats;
+    private final BigDecimal[] scaledLngs;
+
+    private FlightTrajectory(int steps, double distanceKm, double[] lats, double[] lngs) {
+        this.steps = steps;
+        this.distanceKm = distanceKm;
+        this.lats = lats;
+        this.lngs = lngs;
+        this.scaledLats = new BigDecimal[lats.length];
+        this.scaledLngs = new BigDecimal[lngs.length];
+        for (int i = 0; i < lats.length; i++) {
+            scaledLats[i] = BigDecimal.valueOf(lats[i]).setScale(6, RoundingMode.HALF_UP);
+            scaledLngs[i] = BigDecimal.valueOf(lngs[i]).setScale(6, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * 구간 궤적 생성
+     *
+     * @param lat1        시작점 위도
+     * @param lng1        시작점 경도
+     * @param lat2        도착점 위도
+     * @param lng2        도착점 경도
+     * @param steps       구간 분할 수 (위치는 steps + 1개 생성)
+     * @param greatCircle true면 대권(구면 선형) 보간, false면 위경도 선형 보간
+     * @return 구간 궤적
+     */
+    public static FlightTrajectory of(double lat1, double lng1, double lat2, double lng2,
+                                      int steps, boolean greatCircle) {
+        if (steps < 1) {
+            throw new IllegalArgumentException("steps는 1 이상이어야 합니다: " + steps);
+        }
+        double[] lats = new double[steps + 1];
+        double[] lngs = new double[steps + 1];
+        if (greatCircle) {
+            fillGreatCircle(lat1, lng1, lat2, lng2, steps, lats, lngs);
+        } else {
+            fillLinear(lat1, lng1, lat2, lng2, steps, lats, lngs);
+        }
+        // 양 끝점은 보간 오차 없이 출발지/도착지 좌표와 정확히 일치시킴
+        lats[0] = lat1;
+        lngs[0] = lng1;
+        lats[steps] = lat2;
+        lngs[steps] = lng2;
+        return new FlightTrajectory(steps, GeoUtils.calculateDistance(lat1, lng1, lat2, lng2), lats, lngs);
+    }
+
+    private static void fillLinear(double lat1, double lng1, double lat2, double lng2,
+                                   int steps, double[] lats, double[] lngs) {
+        for (int step = 0; step <= steps; step++) {
+            double fraction = (double) step / steps;
+            lats[step] = lat1 + (lat2 - lat1) * fraction;
+            lngs[step] = lng1 + (lng2 - lng1) * fraction;
+        }
+    }
+
+    private static void fillGreatCircle(double lat1, double lng1, double lat2, double lng2,
+                                        int steps, double[] lats, double[] lngs) {
+        double phi1 = Math.toRadians(lat1);
+        double lambda1 = Math.toRadians(lng1);
+        double phi2 = Math.toRadians(lat2);
+        double lambda2 = Math.toRadians(lng2);
+
+        // 단위 구 위의 직교 좌표
+        double x1 = Math.cos(phi1) * Math.cos(lambda1);
+        double y1 = Math.cos(phi1) * Math.sin(lambda1);
+        double z1 = Math.sin(phi1);
+        double x2 = Math.cos(phi2) * Math.cos(lambda2);
+        double y2 = Math.cos(phi2) * Math.sin(lambda2);
+        double z2 = Math.sin(phi2);
+
+        double dot = Math.max(-1.0, Math.min(1.0, x1 * x2 + y1 * y2 + z1 * z2));
+        double angularDistance = Math.acos(dot);
+        double sinDistance = Math.sin(angularDistance);
+        if (angularDistance < MIN_ANGULAR_DISTANCE_RAD || sinDistance < MIN_ANGULAR_DISTANCE_RAD) {
+            fillLinear(lat1, lng1, lat2, lng2, steps, lats, lngs);
+            return;
+        }
+
+        for (int step = 0; step <= steps; step++) {
+            double fraction = (double) step / steps;
+            double a = Math.sin((1 - fraction) * angularDistance) / sinDistance;
+            double b = Math.sin(fraction * angularDistance) / sinDistance;
+            double x = a * x1 + b * x2;
+            double y = a * y1 + b * y2;
+            double z = a * z1 + b * z2;
+            lats[step] = Math.toDegrees(Math.atan2(z, Math.sqrt(x * x + y * y)));
+            lngs[step] = Math.toDegrees(Math.atan2(y, x));
+        }
+    }
+
+    /**
+     * 구간 분할 수
+     */
+    public int steps() {
+        return steps;
+    }
+
+    /**
+     * 구간 거리 (km)
+     */
+    public double distanceKm() {
+        return distanceKm;
+    }
+
+    /**
+     * 단계별 진행률 (0.0 ~ 1.0)
+     */
+    public double fraction(int step) {
+        return (double) step / steps;
+    }
+
+    public double lat(int step) {
+        return lats[step];
+    }
+
+    public double lng(int step) {
+        return lngs[step];
+    }
+
+    /**
+     * 단계별 위도 (DB 저장용, scale 6)
+     */
+    public BigDecimal scaledLat(int step) {
+        return scaledLats[step];
+    }
+
+    /**
+     * 단계별 경도 (DB 저장용, scale 6)
+     */
+    public BigDecimal scaledLng(int step) {
+        return scaledLngs[step];
+    }
+}
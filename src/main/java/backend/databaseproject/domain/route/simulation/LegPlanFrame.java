@@ -0,0 +1,25 @@
+package backend.databaseproject.domain.route.simulation;
+
+/**
+ * 구간 계획 프레임 (/topic/route/{routeId}/plan, /topic/order/{orderId}/plan)
+ * 클라이언트는 startedAt부터 speedKmh로 from -> to 직선을 따라 이동한다고 보고 위치를 직접 보간합니다.
+ *
+ * @param type       프레임 종류 (항상 LEG_PLAN)
+ * @param routeId    경로 ID
+ * @param phase      LEG(구간 출발), CORRECTION(오차 보정), HOLD(경유지 정지)
+ * @param fromLat    구간 시작 위도
+ * @param fromLng    구간 시작 경도
+ * @param toLat      구간 도착 위도
+ * @param toLng      구간 도착 경도
+ * @param startedAt  구간 시작 시각 (epoch ms)
+ * @param serverTime 프레임 생성 시각 (epoch ms, 클라이언트 시계 보정용)
+ * @param timeScale  실제 1ms당 흐르는 서버 시간 (시뮬레이션 가속 배율, 1 = 실시간)
+ * @param speedKmh   비행 속도 (HOLD는 0)
+ * @param distanceKm 구간 거리 (km)
+ * @param battery    배터리 잔량 (%)
+ */
+public record LegPlanFrame(String type, Long routeId, String phase,
+                           double fromLat, double fromLng, double toLat, double toLng,
+                           long startedAt, long serverTime, double timeScale, double speedKmh, double distanceKm,
+                           double battery) {
+}
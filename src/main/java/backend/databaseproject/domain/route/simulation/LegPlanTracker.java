@@ -0,0 +1,94 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.global.util.GeoUtils;
+
+/**
+ * 구간 계획 추적기
+ * 클라이언트에 보낸 마지막 구간 계획을 기억하고, 실제 위치가 클라이언트 보간 위치와 임계값 이상 벌어졌는지 판단합니다.
+ *
+ * 시뮬레이션 스레드 하나에서만 사용합니다 (스레드 안전하지 않음).
+ */
+public final class LegPlanTracker {
+
+    public static final String PHASE_LEG = "LEG";
+    public static final String PHASE_CORRECTION = "CORRECTION";
+    public static final String PHASE_HOLD = "HOLD";
+
+    private final Long routeId;
+    private final double speedKmh;
+    private final double correctionThresholdM;
+    private final double timeScale;
+
+    private String phase;
+    private double fromLat;
+    private double fromLng;
+    private double toLat;
+    private double toLng;
+    private long startedAtMs;
+    private double distanceKm;
+
+    /**
+     * @param timeScale 실제 1ms당 흐르는 가상 시간 (시뮬레이션 시계 배율, 클라이언트 보간용)
+     */
+    public LegPlanTracker(Long routeId, double speedKmh, double correctionThresholdM, double timeScale) {
+        this.routeId = routeId;
+        this.speedKmh = speedKmh;
+        this.correctionThresholdM = correctionThresholdM;
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * 구간 출발 (출발 시각 기준으로 from -> to 이동)
+     */
+    public void startLeg(double fromLat, double fromLng, double toLat, double toLng, long nowMs) {
+        anchor(PHASE_LEG, fromLat, fromLng, toLat, toLng, nowMs);
+    }
+
+    /**
+     * 현재 실제 위치에서 같은 도착지로 다시 출발한 것으로 계획 보정
+     */
+    public void correct(double lat, double lng, long nowMs) {
+        anchor(PHASE_CORRECTION, lat, lng, toLat, toLng, nowMs);
+    }
+
+    /**
+     * 경유지 정지
+     */
+    public void hold(double lat, double lng, long nowMs) {
+        anchor(PHASE_HOLD, lat, lng, lat, lng, nowMs);
+    }
+
+    /**
+     * 실제 위치가 클라이언트 보간 위치와 임계값 이상 벗어났는지 확인
+     */
+    public boolean deviates(double lat, double lng, long nowMs) {
+        if (PHASE_HOLD.equals(phase) || distanceKm <= 0.0) {
+            return false;
+        }
+        double travelledKm = Math.max(0L, nowMs - startedAtMs) / 3_600_000.0 * speedKmh;
+        double fraction = Math.min(1.0, travelledKm / distanceKm);
+        double predictedLat = fromLat + (toLat - fromLat) * fraction;
+        double predictedLng = fromLng + (toLng - fromLng) * fraction;
+        return GeoUtils.calculateDistance(predictedLat, predictedLng, lat, lng) * 1000.0 > correctionThresholdM;
+    }
+
+    /**
+     * 현재 계획으로 전송용 프레임 생성
+     */
+    public LegPlanFrame frame(double batteryPct, long nowMs) {
+        return new LegPlanFrame("LEG_PLAN", routeId, phase,
+                fromLat, fromLng, toLat, toLng,
+                startedAtMs, nowMs, timeScale, PHASE_HOLD.equals(phase) ? 0.0 : speedKmh, distanceKm,
+                batteryPct);
+    }
+
+    private void anchor(String phase, double fromLat, double fromLng, double toLat, double toLng, long nowMs) {
+        this.phase = phase;
+        this.fromLat = fromLat;
+        this.fromLng = fromLng;
+        this.toLat = toLat;
+        this.toLng = toLng;
+        this.startedAtMs = nowMs;
+        this.distanceKm = GeoUtils.calculateDistance(fromLat, fromLng, toLat, toLng);
+    }
+}
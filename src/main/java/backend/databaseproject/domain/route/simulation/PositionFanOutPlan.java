@@ -0,0 +1,185 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.RouteStopOrder;
+import backend.databaseproject.domain.route.entity.StopStatus;
+import backend.databaseproject.domain.route.entity.StopType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위치 브로드캐스트 대상 계획
+ * 경로 출발 시 한 번 컴파일하여 위치를 받을 고객 주문의 구독 주소, 주문 ID, 프레임 머리말을 stop 순서대로 배열에 보관합니다.
+ * stop 도착 시에는 활성 구간의 시작 인덱스만 앞으로 옮기므로, 틱마다 stop/주문 목록을 다시 순회하지 않습니다.
+ *
+ * 시뮬레이션 스레드 하나에서만 사용합니다 (스레드 안전하지 않음).
+ */
+public final class PositionFanOutPlan {
+
+    private final Long routeId;
+    private final String routeDestination;
+    private final String routePlanDestination;
+    private final String routeCompactDestination;
+    private final byte[] routePrefix;
+
+    // 주문별 위치/계획/압축 위치 구독 주소 / 주문 ID / 프레임 머리말 / 해당 주문의 DROP stop 인덱스 (stop 순서로 정렬)
+    private final String[] orderDestinations;
+    private final String[] orderPlanDestinations;
+    private final String[] orderCompactDestinations;
+    private final Long[] orderIds;
+    private final byte[][] orderPrefixes;
+    private final int[] stopIndexes;
+
+    // 아직 배송되지 않은 첫 번째 항목 인덱스
+    private int firstActive;
+
+    private PositionFanOutPlan(Long routeId, String[] orderDestinations,
+                               Long[] orderIds, int[] stopIndexes) {
+        this.routeId = routeId;
+        this.routeDestination = "/topic/route/" + routeId;
+        this.routePlanDestination = routeDestination + "/plan";
+        this.routeCompactDestination = routeDestination + "/compact";
+        this.routePrefix = PositionFrameEncoder.routePrefix(routeId);
+        this.orderDestinations = orderDestinations;
+        this.orderIds = orderIds;
+        this.orderPlanDestinations = new String[orderIds.length];
+        this.orderCompactDestinations = new String[orderIds.length];
+        this.orderPrefixes = new byte[orderIds.length][];
+        for (int i = 0; i < orderIds.length; i++) {
+            orderPlanDestinations[i] = "/topic/order/" + orderIds[i] + "/plan";
+            orderCompactDestinations[i] = orderDestinations[i] + "/compact";
+            orderPrefixes[i] = PositionFrameEncoder.orderPrefix(orderIds[i]);
+        }
+        this.stopIndexes = stopIndexes;
+        this.firstActive = 0;
+    }
+
+    /**
+     * 경로의 stop 목록으로 계획 컴파일
+     * 아직 도착하지 않은 DROP stop의 주문만 포함합니다.
+     *
+     * @param routeId 경로 ID
+     * @param stops   stop 목록 (stop 순서)
+     */
+    public static PositionFanOutPlan compile(Long routeId, List<RouteStop> stops) {
+        List<String> destinations = new ArrayList<>();
+        List<Long> ids = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < stops.size(); i++) {
+            RouteStop stop = stops.get(i);
+            if (stop.getStopType() != StopType.DROP
+                    || stop.getStatus() == StopStatus.ARRIVED
+                    || stop.getStatus() == StopStatus.DEPARTED) {
+                continue;
+            }
+            for (RouteStopOrder routeStopOrder : stop.getRouteStopOrders()) {
+                Long orderId = routeStopOrder.getOrder().getOrderId();
+                destinations.add("/topic/order/" + orderId + "/position");
+                ids.add(orderId);
+                indexes.add(i);
+            }
+        }
+
+        int[] stopIndexes = new int[indexes.size()];
+        for (int i = 0; i < stopIndexes.length; i++) {
+            stopIndexes[i] = indexes.get(i);
+        }
+        return new PositionFanOutPlan(routeId,
+                destinations.toArray(new String[0]), ids.toArray(new Long[0]), stopIndexes);
+    }
+
+    /**
+     * 다른 노드에서 중계된 이벤트용 계획
+     * 중계 시점의 미배송 주문만 담으므로 모든 항목이 활성 상태입니다.
+     *
+     * @param routeId  경로 ID
+     * @param orderIds 미배송 주문 ID 목록
+     */
+    public static PositionFanOutPlan relayed(Long routeId, Long[] orderIds) {
+        String[] destinations = new String[orderIds.length];
+        for (int i = 0; i < orderIds.length; i++) {
+            destinations[i] = "/topic/order/" + orderIds[i] + "/position";
+        }
+        return new PositionFanOutPlan(routeId, destinations, orderIds, new int[orderIds.length]);
+    }
+
+    /**
+     * stop 도착 반영
+     * 해당 stop까지의 주문을 브로드캐스트 대상에서 제외합니다.
+     *
+     * @param stopIndex 도착한 stop 인덱스
+     */
+    public void onStopArrived(int stopIndex) {
+        while (firstActive < stopIndexes.length && stopIndexes[firstActive] <= stopIndex) {
+            firstActive++;
+        }
+    }
+
+    public Long routeId() {
+        return routeId;
+    }
+
+    /**
+     * 점주용 경로 구독 주소
+     */
+    public String routeDestination() {
+        return routeDestination;
+    }
+
+    /**
+     * 점주용 구간 계획 구독 주소
+     */
+    public String routePlanDestination() {
+        return routePlanDestination;
+    }
+
+    /**
+     * 점주용 압축 위치 구독 주소
+     */
+    public String routeCompactDestination() {
+        return routeCompactDestination;
+    }
+
+    /**
+     * 점주용 경로 프레임 머리말
+     */
+    public byte[] routePrefix() {
+        return routePrefix;
+    }
+
+    /**
+     * 활성 구간 시작 인덱스 (포함)
+     */
+    public int firstActive() {
+        return firstActive;
+    }
+
+    /**
+     * 활성 구간 끝 인덱스 (미포함)
+     */
+    public int end() {
+        return orderIds.length;
+    }
+
+    public String orderDestination(int index) {
+        return orderDestinations[index];
+    }
+
+    public String orderPlanDestination(int index) {
+        return orderPlanDestinations[index];
+    }
+
+    public String orderCompactDestination(int index) {
+        return orderCompactDestinations[index];
+    }
+
+    public Long orderId(int index) {
+        return orderIds[index];
+    }
+
+    public byte[] orderPrefix(int index) {
+        return orderPrefixes[index];
+    }
+}
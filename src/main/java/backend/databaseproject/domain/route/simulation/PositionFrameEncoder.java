@@ -0,0 +1,185 @@
+package backend.databaseproject.domain.route.simulation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * 위치 프레임 인코더
+ * 틱마다 위치 본문(lat, lng, speed, battery, timestamp)을 재사용 버퍼에 한 번만 JSON으로 직렬화하고,
+ * 구독 주소별로는 미리 인코딩한 머리말({"routeId":1, / {"orderId":7,"status":"IN_TRANSIT",)만 붙여 전송용 메시지를 만듭니다.
+ * 같은 틱의 압축 바이너리 프레임({@link CompactFrameEncoder})도 함께 인코딩합니다.
+ *
+ * 다른 노드에서 중계된 위치는 {@link #relayed(byte[], byte[])}로 이미 인코딩된 본문을 담아 같은 방식으로 전송합니다.
+ *
+ * 시뮬레이션 스레드 하나에서만 사용합니다 (스레드 안전하지 않음).
+ */
+public final class PositionFrameEncoder {
+
+    private final ObjectMapper objectMapper;
+    private final FrameBuffer body = new FrameBuffer();
+    private final CompactFrameEncoder compact;
+
+    // 중계된 압축 프레임 (중계 인코더만 사용)
+    private final byte[] relayedCompact;
+
+    /**
+     * @param objectMapper            JSON 직렬화 설정
+     * @param compactKeyframeInterval 압축 프레임 키프레임 간격 (프레임 수)
+     */
+    public PositionFrameEncoder(ObjectMapper objectMapper, int compactKeyframeInterval) {
+        this.objectMapper = objectMapper;
+        this.compact = new CompactFrameEncoder(compactKeyframeInterval);
+        this.relayedCompact = null;
+    }
+
+    private PositionFrameEncoder(byte[] encodedBody, byte[] compactFrame) {
+        this.objectMapper = null;
+        this.compact = null;
+        this.relayedCompact = compactFrame;
+        this.body.write(encodedBody, 0, encodedBody.length);
+    }
+
+    /**
+     * 다른 노드에서 인코딩된 위치 본문/압축 프레임을 담은 인코더 (encode 호출 불가)
+     *
+     * @param encodedBody  {@link #bodyBytes()}로 얻은 위치 본문
+     * @param compactFrame {@link #compactFrameBytes()}로 얻은 압축 프레임
+     */
+    public static PositionFrameEncoder relayed(byte[] encodedBody, byte[] compactFrame) {
+        return new PositionFrameEncoder(encodedBody, compactFrame);
+    }
+
+    /**
+     * 경로 구독용 머리말 ({"routeId":N,)
+     */
+    public static byte[] routePrefix(Long routeId) {
+        return ("{\"routeId\":" + routeId + ",").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 주문 위치 구독용 머리말 ({"orderId":N,"status":"IN_TRANSIT",)
+     */
+    public static byte[] orderPrefix(Long orderId) {
+        return ("{\"orderId\":" + orderId + ",\"status\":\"IN_TRANSIT\",").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 이번 틱의 위치 본문 직렬화
+     * 이후 {@link #frame(byte[])} 호출은 모두 이 본문을 공유합니다.
+     */
+    public void encode(double lat, double lng, double speedKmh, double batteryPct, LocalDateTime timestamp) {
+        if (compact == null) {
+            throw new IllegalStateException("중계된 위치 프레임은 다시 인코딩할 수 없습니다");
+        }
+        compact.encode(lat, lng, speedKmh, batteryPct,
+                timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        body.reset();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeNumberField("lat", lat);
+            generator.writeNumberField("lng", lng);
+            generator.writeNumberField("speed", speedKmh);
+            generator.writeNumberField("battery", batteryPct);
+            generator.writeFieldName("timestamp");
+            objectMapper.writeValue(generator, timestamp);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("위치 프레임 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 다음 압축 프레임을 키프레임으로 강제 (새 압축 구독자 동기화용)
+     */
+    public void requestKeyframe() {
+        if (compact != null) {
+            compact.requestKeyframe();
+        }
+    }
+
+    /**
+     * 머리말 + 현재 본문으로 전송용 메시지 생성
+     * 본문의 여는 중괄호를 머리말이 대신합니다.
+     *
+     * @param prefix 구독 주소별 머리말
+     */
+    public Message<byte[]> frame(byte[] prefix) {
+        return message(frameBytes(prefix));
+    }
+
+    /**
+     * 머리말 + 현재 본문으로 JSON 바이트 생성
+     *
+     * @param prefix 구독 주소별 머리말
+     */
+    public byte[] frameBytes(byte[] prefix) {
+        int bodyLength = body.size() - 1;
+        byte[] payload = new byte[prefix.length + bodyLength];
+        System.arraycopy(prefix, 0, payload, 0, prefix.length);
+        System.arraycopy(body.buffer(), 1, payload, prefix.length, bodyLength);
+        return payload;
+    }
+
+    /**
+     * 이번 틱의 압축 바이너리 프레임 (경로의 모든 압축 구독 주소가 공유)
+     */
+    public byte[] compactFrameBytes() {
+        return compact != null ? compact.frameBytes() : relayedCompact;
+    }
+
+    /**
+     * 이번 틱의 위치 본문 복사본 (노드 간 중계용)
+     */
+    public byte[] bodyBytes() {
+        return Arrays.copyOf(body.buffer(), body.size());
+    }
+
+    /**
+     * 인코딩된 JSON 본문으로 전송용 메시지 생성
+     * 헤더는 목적지 지정을 위해 변경 가능한 상태로 둡니다.
+     */
+    public static Message<byte[]> message(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    /**
+     * 압축 바이너리 프레임으로 전송용 메시지 생성
+     * application/octet-stream이므로 SockJS가 아닌 WebSocket 세션에는 바이너리 프레임으로 전송됩니다.
+     */
+    public static Message<byte[]> binaryMessage(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    /**
+     * 내부 배열에 직접 접근할 수 있는 재사용 버퍼
+     */
+    private static final class FrameBuffer extends ByteArrayOutputStream {
+
+        FrameBuffer() {
+            super(256);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package backend.databaseproject.domain.route.simulation;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 시뮬레이션 시계
+ * 비행 시뮬레이션, 경유지 처리, 경로 계획이 현재 시각과 대기 시간을 이 시계에서 얻습니다.
+ * 가속 모드에서는 가상 시각이 실제보다 빠르게 흐르고 대기 시간도 같은 비율로 줄어들어,
+ * 하루치 배송을 몇 분 안에 재생할 수 있습니다. 단계 모드에서는 {@link #advance(Duration)}로만 시간이 흐릅니다.
+ * 트랜잭션을 열어 둔 채 기다리면 안 되는 작업(배송지 하역 후 출발 처리 등)은 {@link #schedule(Runnable, long)}으로 예약합니다.
+ *
+ * 경로/경유지/주문의 시각, 비행 로그, 예상 도착 시각이 모두 가상 시각 기준으로 기록됩니다.
+ * WebSocket/SSE 연결 관리 등 네트워크 타이밍은 실제 시각을 그대로 사용합니다.
+ */
+@Component
+@Slf4j
+public class SimulationClock {
+
+    @Value("${simulation.clock.mode:REALTIME}")
+    private ClockMode mode;
+
+    // 가속 배율 (ACCELERATED 모드, 가상 시간 / 실제 시간)
+    @Value("${simulation.clock.speed:1.0}")
+    private double speed;
+
+    // 예약 작업 실행 스레드 수 (짧은 DB 작업만 실행)
+    @Value("${simulation.clock.scheduler-threads:2}")
+    private int schedulerThreads;
+
+    private ThreadPoolTaskScheduler taskScheduler;
+
+    private long realAnchorMs;
+    private long virtualAnchorMs;
+
+    // STEPPED 모드의 현재 가상 시각, 대기 중인 스레드 수, 예약 작업 (this로 동기화)
+    private long steppedMs;
+    private int sleepers;
+    private long scheduledSequence;
+    private final PriorityQueue<SteppedTask> steppedTasks = new PriorityQueue<>();
+
+    @PostConstruct
+    void start() {
+        if (mode == ClockMode.ACCELERATED && !(speed > 0.0)) {
+            throw new IllegalStateException("simulation.clock.speed must be positive: " + speed);
+        }
+        long now = System.currentTimeMillis();
+        realAnchorMs = now;
+        virtualAnchorMs = now;
+        steppedMs = now;
+
+        taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(schedulerThreads);
+        taskScheduler.setThreadNamePrefix("simulation-clock-");
+        taskScheduler.setDaemon(true);
+        taskScheduler.initialize();
+        log.info("시뮬레이션 시계 - Mode: {}, Speed: {}", mode, mode == ClockMode.ACCELERATED ? speed : 1.0);
+    }
+
+    @PreDestroy
+    void stop() {
+        taskScheduler.shutdown();
+    }
+
+    /**
+     * 현재 가상 시각 (epoch ms)
+     */
+    public long millis() {
+        return switch (mode) {
+            case REALTIME -> System.currentTimeMillis();
+            case ACCELERATED -> virtualAnchorMs + (long) ((System.currentTimeMillis() - realAnchorMs) * speed);
+            case STEPPED -> steppedMillis();
+        };
+    }
+
+    /**
+     * 현재 가상 시각
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis()), ZoneId.systemDefault());
+    }
+
+    /**
+     * 실제 1ms당 흐르는 가상 시간 (ms)
+     * 클라이언트 보간용이며, 단계 모드는 실제 시간과 무관하므로 0입니다.
+     */
+    public double timeScale() {
+        return switch (mode) {
+            case REALTIME -> 1.0;
+            case ACCELERATED -> speed;
+            case STEPPED -> 0.0;
+        };
+    }
+
+    /**
+     * 가상 시간 기준 대기
+     *
+     * @param simulatedMs 대기할 가상 시간 (ms)
+     */
+    public void sleep(long simulatedMs) throws InterruptedException {
+        if (simulatedMs <= 0) {
+            return;
+        }
+        switch (mode) {
+            case REALTIME -> Thread.sleep(simulatedMs);
+            case ACCELERATED -> {
+                long realMs = Math.round(simulatedMs / speed);
+                if (realMs > 0) {
+                    Thread.sleep(realMs);
+                }
+            }
+            case STEPPED -> awaitStep(simulatedMs);
+        }
+    }
+
+    /**
+     * 가상 시간 기준 작업 예약 (호출 스레드를 붙잡지 않음)
+     * STEPPED 모드에서는 {@link #advance(Duration)}를 호출한 스레드에서 실행됩니다.
+     *
+     * @param task        실행할 작업
+     * @param simulatedMs 지연할 가상 시간 (ms)
+     */
+    public void schedule(Runnable task, long simulatedMs) {
+        switch (mode) {
+            case REALTIME -> taskScheduler.schedule(task, Instant.now().plusMillis(Math.max(0, simulatedMs)));
+            case ACCELERATED -> taskScheduler.schedule(task,
+                    Instant.now().plusMillis(Math.max(0, Math.round(simulatedMs / speed))));
+            case STEPPED -> {
+                synchronized (this) {
+                    steppedTasks.add(new SteppedTask(steppedMs + Math.max(0, simulatedMs), scheduledSequence++, task));
+                }
+            }
+        }
+    }
+
+    /**
+     * 가상 시각 진행 (STEPPED 모드 전용)
+     * 진행한 시각까지 대기 중인 스레드를 깨우고, 만기된 예약 작업을 실행합니다.
+     */
+    public void advance(Duration duration) {
+        if (mode != ClockMode.STEPPED) {
+            throw new IllegalStateException("advance is only supported in STEPPED mode: " + mode);
+        }
+        List<Runnable> due = new ArrayList<>();
+        synchronized (this) {
+            steppedMs += duration.toMillis();
+            while (!steppedTasks.isEmpty() && steppedTasks.peek().dueMs() <= steppedMs) {
+                due.add(steppedTasks.poll().task());
+            }
+            notifyAll();
+        }
+        for (Runnable task : due) {
+            task.run();
+        }
+    }
+
+    /**
+     * 가상 시각 진행을 기다리는 스레드 수 (STEPPED 모드, 테스트 동기화용)
+     */
+    public synchronized int sleepingThreads() {
+        return sleepers;
+    }
+
+    /**
+     * 실행을 기다리는 예약 작업 수 (지표용)
+     */
+    public int pendingTasks() {
+        if (mode == ClockMode.STEPPED) {
+            synchronized (this) {
+                return steppedTasks.size();
+            }
+        }
+        return taskScheduler == null ? 0 : taskScheduler.getScheduledThreadPoolExecutor().getQueue().size();
+    }
+
+    public ClockMode mode() {
+        return mode;
+    }
+
+    private synchronized long steppedMillis() {
+        return steppedMs;
+    }
+
+    private synchronized void awaitStep(long simulatedMs) throws InterruptedException {
+        long deadline = steppedMs + simulatedMs;
+        sleepers++;
+        try {
+            while (steppedMs < deadline) {
+                wait();
+            }
+        } finally {
+            sleepers--;
+        }
+    }
+
+    /**
+     * STEPPED 모드 예약 작업 (만기 시각, 예약 순서로 정렬)
+     */
+    private record SteppedTask(long dueMs, long sequence, Runnable task) implements Comparable<SteppedTask> {
+
+        @Override
+        public int compareTo(SteppedTask other) {
+            int byDue = Long.compare(dueMs, other.dueMs);
+            return byDue != 0 ? byDue : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package backend.databaseproject.domain.route.simulation;
+
+/**
+ * 실시간 추적 전송 방식
+ */
+public enum TrackingMode {
+    POSITION,   // 틱(2초)마다 위치 전송
+    PLAN,       // 구간 계획만 전송 (클라이언트가 보간, 오차 초과 시 보정)
+    BOTH;       // 위치 + 구간 계획 모두 전송
+
+    public boolean sendsPositions() {
+        return this != PLAN;
+    }
+
+    public boolean sendsPlans() {
+        return this != POSITION;
+    }
+}
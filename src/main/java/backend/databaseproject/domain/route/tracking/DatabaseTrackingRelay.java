@@ -0,0 +1,185 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.route.entity.TrackingEventType;
+import backend.databaseproject.domain.route.entity.TrackingRelayEvent;
+import backend.databaseproject.domain.route.repository.TrackingRelayEventRepository;
+import backend.databaseproject.domain.route.service.FlightShardService;
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DB 테이블 기반 추적 이벤트 중계기 (tracking.relay.type=database)
+ * 이벤트를 tracking_relay_event 테이블에 기록하고, 모든 노드가 짧은 주기로 새 이벤트를 폴링하여 자기 구독자에게 전달합니다.
+ * 별도 메시지 브로커 없이 노드들이 공유하는 DB만으로 동작하므로, 같은 DB를 쓰는 여러 인스턴스를 한 프로세스에서 띄워 검증할 수 있습니다.
+ *
+ * 위치 이벤트는 머리말을 뺀 위치 본문과 압축 프레임을 그대로 기록하므로, 받는 노드는 다시 직렬화하지 않고 머리말만 붙여 전송합니다.
+ * 기록 중인 이벤트를 건너뛰지 않도록 settle-ms보다 오래된 이벤트만 읽습니다.
+ *
+ * 읽기 위치는 마지막으로 읽은 event_id 하나뿐이므로 다음을 전제로 합니다.
+ * - event_id(AUTO_INCREMENT)는 INSERT 시점에 정해지고, 이벤트는 자동 커밋 INSERT 한 번으로 기록되어
+ *   더 작은 ID의 이벤트가 settle-ms보다 늦게 커밋되지 않습니다. 늦게 커밋된 이벤트는 이미 지나간 읽기 위치 뒤에 있어 전달되지 않습니다.
+ * - created_at은 기록한 노드의 시계, 비교 기준은 읽는 노드의 시계입니다. 기록 노드의 시계가 읽는 노드보다 뒤처진 만큼 settle-ms가 줄어들므로,
+ *   노드 간 시계 차이는 settle-ms보다 충분히 작아야 합니다 (앞선 경우는 전달이 그만큼 늦어질 뿐 누락되지 않음).
+ * 전제가 깨지면 이벤트가 누락될 수 있으며, 추적 스트림은 다음 위치/키프레임으로 복구되는 최선 전달입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "tracking.relay.type", havingValue = "database")
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseTrackingRelay implements TrackingRelay {
+
+    private final TrackingRelayEventRepository trackingRelayEventRepository;
+    private final FlightShardService flightShardService;
+    private final ObjectProvider<TrackingStream> trackingStream;
+
+    // 한 번에 읽을 최대 이벤트 수
+    @Value("${tracking.relay.batch-size:500}")
+    private int batchSize;
+
+    // 기록 후 읽기까지 기다리는 시간 (INSERT-커밋 지연 + 노드 간 시계 차이보다 커야 함)
+    @Value("${tracking.relay.settle-ms:100}")
+    private long settleMs;
+
+    // 이벤트 보관 기간
+    @Value("${tracking.relay.retention-ms:60000}")
+    private long retentionMs;
+
+    // 마지막으로 읽은 이벤트 ID (폴링 스레드에서만 갱신)
+    private volatile long lastEventId;
+
+    @PostConstruct
+    void init() {
+        lastEventId = trackingRelayEventRepository.findMaxEventId();
+        log.info("추적 이벤트 DB 중계 시작 - NodeId: {}, 시작 EventId: {}", flightShardService.nodeId(), lastEventId);
+    }
+
+    @Override
+    public void onPosition(PositionFanOutPlan plan, PositionFrameEncoder encoder) {
+        trackingRelayEventRepository.save(TrackingRelayEvent.builder()
+                .originNode(flightShardService.nodeId())
+                .eventType(TrackingEventType.POSITION)
+                .routeId(plan.routeId())
+                .orderIds(activeOrderIds(plan))
+                .payload(encoder.bodyBytes())
+                .compactPayload(encoder.compactFrameBytes())
+                .build());
+    }
+
+    @Override
+    public void onPlan(PositionFanOutPlan plan, byte[] payload) {
+        trackingRelayEventRepository.save(TrackingRelayEvent.builder()
+                .originNode(flightShardService.nodeId())
+                .eventType(TrackingEventType.PLAN)
+                .routeId(plan.routeId())
+                .orderIds(activeOrderIds(plan))
+                .payload(payload)
+                .build());
+    }
+
+    @Override
+    public void onOrderStatus(Long orderId, byte[] payload) {
+        trackingRelayEventRepository.save(TrackingRelayEvent.builder()
+                .originNode(flightShardService.nodeId())
+                .eventType(TrackingEventType.ORDER_STATUS)
+                .orderId(orderId)
+                .payload(payload)
+                .build());
+    }
+
+    @Override
+    public void onRouteCompleted(Long routeId, byte[] payload) {
+        trackingRelayEventRepository.save(TrackingRelayEvent.builder()
+                .originNode(flightShardService.nodeId())
+                .eventType(TrackingEventType.ROUTE_COMPLETED)
+                .routeId(routeId)
+                .payload(payload)
+                .build());
+    }
+
+    /**
+     * 다른 노드의 새 이벤트 폴링
+     */
+    @Scheduled(fixedDelayString = "${tracking.relay.poll-interval-ms:200}")
+    public void poll() {
+        String nodeId = flightShardService.nodeId();
+        TrackingStream stream = trackingStream.getObject();
+        List<TrackingRelayEvent> events;
+        do {
+            events = trackingRelayEventRepository.findAfter(lastEventId,
+                    LocalDateTime.now().minusNanos(settleMs * 1_000_000L), PageRequest.of(0, batchSize));
+            for (TrackingRelayEvent event : events) {
+                lastEventId = event.getEventId();
+                if (nodeId.equals(event.getOriginNode())) {
+                    continue;
+                }
+                try {
+                    deliver(stream, event);
+                } catch (Exception e) {
+                    log.warn("중계 이벤트 전달 실패 - EventId: {}, Type: {}", event.getEventId(), event.getEventType(), e);
+                }
+            }
+        } while (events.size() == batchSize);
+    }
+
+    /**
+     * 보관 기간이 지난 이벤트 삭제
+     */
+    @Scheduled(fixedDelayString = "${tracking.relay.cleanup-interval-ms:60000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = trackingRelayEventRepository.deleteOlderThan(
+                LocalDateTime.now().minusNanos(retentionMs * 1_000_000L));
+        if (deleted > 0) {
+            log.debug("만료된 중계 이벤트 삭제 - {}건", deleted);
+        }
+    }
+
+    private void deliver(TrackingStream stream, TrackingRelayEvent event) {
+        switch (event.getEventType()) {
+            case POSITION -> stream.deliverRelayedPosition(
+                    PositionFanOutPlan.relayed(event.getRouteId(), parseOrderIds(event.getOrderIds())),
+                    PositionFrameEncoder.relayed(event.getPayload(), event.getCompactPayload()));
+            case PLAN -> stream.deliverRelayedPlan(
+                    PositionFanOutPlan.relayed(event.getRouteId(), parseOrderIds(event.getOrderIds())),
+                    event.getPayload());
+            case ORDER_STATUS -> stream.deliverRelayedOrderStatus(event.getOrderId(), event.getPayload());
+            case ROUTE_COMPLETED -> stream.deliverRelayedRouteCompleted(event.getRouteId(), event.getPayload());
+        }
+    }
+
+    private static String activeOrderIds(PositionFanOutPlan plan) {
+        StringBuilder ids = new StringBuilder();
+        for (int j = plan.firstActive(); j < plan.end(); j++) {
+            if (!ids.isEmpty()) {
+                ids.append(',');
+            }
+            ids.append(plan.orderId(j));
+        }
+        return ids.toString();
+    }
+
+    private static Long[] parseOrderIds(String value) {
+        if (value == null || value.isEmpty()) {
+            return new Long[0];
+        }
+        String[] parts = value.split(",");
+        Long[] ids = new Long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            ids[i] = Long.valueOf(parts[i]);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,35 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.global.outbox.OutboxEvent;
+import backend.databaseproject.global.outbox.OutboxEventListener;
+import backend.databaseproject.global.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 배송/경로 완료 이벤트 구독 - 추적 스트림(WebSocket, SSE) 알림
+ * 기록 시 직렬화한 JSON을 그대로 전송하며, 다른 노드의 구독자에게는 추적 중계로 전달됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusNotifier implements OutboxEventListener {
+
+    private final TrackingStream trackingStream;
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return eventType == OutboxEventType.ORDER_FULFILLED || eventType == OutboxEventType.ROUTE_COMPLETED;
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) {
+        byte[] payload = event.getPayload().getBytes(StandardCharsets.UTF_8);
+        if (event.getEventType() == OutboxEventType.ORDER_FULFILLED) {
+            trackingStream.publishOrderStatus(event.getAggregateId(), payload);
+        } else {
+            trackingStream.publishRouteCompleted(event.getAggregateId(), payload);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.order.service.OrderTrackingProjector;
+import backend.databaseproject.global.outbox.OutboxEvent;
+import backend.databaseproject.global.outbox.OutboxEventListener;
+import backend.databaseproject.global.outbox.OutboxEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배송 완료 이벤트 구독 - 주문 추적 조회 모델(order_tracking) 갱신
+ * 출발 처리 트랜잭션이 커밋된 뒤 반영하며, 알림을 받은 고객이 바로 조회해도 완료 상태가 보이도록
+ * {@link OrderStatusNotifier}보다 먼저 호출됩니다.
+ */
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class OrderTrackingOutboxListener implements OutboxEventListener {
+
+    private final OrderTrackingProjector orderTrackingProjector;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(OutboxEventType eventType) {
+        return eventType == OutboxEventType.ORDER_FULFILLED;
+    }
+
+    @Override
+    public void onEvent(OutboxEvent event) throws Exception {
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        LocalDateTime completedAt = objectMapper.treeToValue(payload.get("completedAt"), LocalDateTime.class);
+        orderTrackingProjector.completed(event.getAggregateId(), completedAt);
+    }
+}
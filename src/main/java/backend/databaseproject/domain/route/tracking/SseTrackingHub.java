@@ -0,0 +1,369 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE(Server-Sent Events) 실시간 추적
+ * STOMP/SockJS 없이 일반 HTTP 응답 스트림으로 경로/주문 위치를 전달합니다.
+ * WebSocket과 같은 내부 추적 스트림({@link TrackingStream})을 구독하며, 이벤트당 JSON 문자열은 한 번만 만들어 모든 연결이 공유합니다.
+ *
+ * 연결마다 작은 전송 큐를 두고 별도 전송 스레드에서 내보내므로 느린 연결이 시뮬레이션 스레드를 막지 않습니다.
+ * 위치(position)/계획(plan)/하트비트는 큐에 가장 최신 것 하나만 남기고, 상태(status) 이벤트는 버리지 않습니다.
+ * 큐가 가득 차면(상태 이벤트만 계속 쌓이는 경우) 연결을 종료하여 메모리를 제한합니다.
+ *
+ * 이벤트 이름: position, plan, status (배송/경로 완료 후 스트림 종료)
+ */
+@Component
+@Slf4j
+public class SseTrackingHub implements TrackingListener {
+
+    private static final String EVENT_POSITION = "position";
+    private static final String EVENT_PLAN = "plan";
+    private static final String EVENT_STATUS = "status";
+
+    // 연결 자체 유지 시간 (만료 시 클라이언트 EventSource가 자동 재연결)
+    @Value("${tracking.sse.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    // 연결별 전송 큐 크기
+    @Value("${tracking.sse.buffer-size:16}")
+    private int bufferSize;
+
+    // 연결 유지용 주석 이벤트 주기
+    @Value("${tracking.sse.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    // 데이터 이벤트 없이 이 시간이 지나면 연결 종료
+    @Value("${tracking.sse.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    // 연결 큐를 비우는 전송 스레드 수
+    @Value("${tracking.sse.sender-threads:4}")
+    private int senderThreads;
+
+    // 경로 ID / 주문 ID -> 연결 목록
+    private final Map<Long, Set<Connection>> routeConnections = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Connection>> orderConnections = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor sender;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        sender = (ThreadPoolExecutor) Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-tracking-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+        closeAll(routeConnections);
+        closeAll(orderConnections);
+    }
+
+    /**
+     * 전송 스레드를 기다리는 연결 수 (지표용)
+     */
+    public int queuedSends() {
+        return sender == null ? 0 : sender.getQueue().size();
+    }
+
+    /**
+     * 경로 추적 스트림 구독 (점주용)
+     */
+    public SseEmitter subscribeRoute(Long routeId) {
+        return register(routeConnections, routeId);
+    }
+
+    /**
+     * 주문 추적 스트림 구독 (고객용)
+     */
+    public SseEmitter subscribeOrder(Long orderId) {
+        return register(orderConnections, orderId);
+    }
+
+    @Override
+    public void onPosition(PositionFanOutPlan plan, PositionFrameEncoder encoder) {
+        Set<Connection> routeTargets = routeConnections.get(plan.routeId());
+        if (routeTargets != null && !routeTargets.isEmpty()) {
+            Frame frame = Frame.conflatable(EVENT_POSITION,
+                    new String(encoder.frameBytes(plan.routePrefix()), StandardCharsets.UTF_8));
+            offerAll(routeTargets, frame);
+        }
+        if (orderConnections.isEmpty()) {
+            return;
+        }
+        for (int j = plan.firstActive(); j < plan.end(); j++) {
+            Set<Connection> orderTargets = orderConnections.get(plan.orderId(j));
+            if (orderTargets != null && !orderTargets.isEmpty()) {
+                Frame frame = Frame.conflatable(EVENT_POSITION,
+                        new String(encoder.frameBytes(plan.orderPrefix(j)), StandardCharsets.UTF_8));
+                offerAll(orderTargets, frame);
+            }
+        }
+    }
+
+    @Override
+    public void onPlan(PositionFanOutPlan plan, byte[] payload) {
+        Frame frame = null;
+        Set<Connection> routeTargets = routeConnections.get(plan.routeId());
+        if (routeTargets != null && !routeTargets.isEmpty()) {
+            frame = Frame.conflatable(EVENT_PLAN, new String(payload, StandardCharsets.UTF_8));
+            offerAll(routeTargets, frame);
+        }
+        if (orderConnections.isEmpty()) {
+            return;
+        }
+        for (int j = plan.firstActive(); j < plan.end(); j++) {
+            Set<Connection> orderTargets = orderConnections.get(plan.orderId(j));
+            if (orderTargets != null && !orderTargets.isEmpty()) {
+                if (frame == null) {
+                    frame = Frame.conflatable(EVENT_PLAN, new String(payload, StandardCharsets.UTF_8));
+                }
+                offerAll(orderTargets, frame);
+            }
+        }
+    }
+
+    @Override
+    public void onOrderStatus(Long orderId, byte[] payload) {
+        Set<Connection> targets = orderConnections.get(orderId);
+        if (targets != null && !targets.isEmpty()) {
+            offerAll(targets, Frame.terminal(EVENT_STATUS, new String(payload, StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Override
+    public void onRouteCompleted(Long routeId, byte[] payload) {
+        Set<Connection> targets = routeConnections.get(routeId);
+        if (targets != null && !targets.isEmpty()) {
+            offerAll(targets, Frame.terminal(EVENT_STATUS, new String(payload, StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * 하트비트 전송 및 유휴 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${tracking.sse.heartbeat-ms:15000}", initialDelayString = "${tracking.sse.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        heartbeat(routeConnections, now);
+        heartbeat(orderConnections, now);
+    }
+
+    private void heartbeat(Map<Long, Set<Connection>> connections, long now) {
+        for (Set<Connection> targets : connections.values()) {
+            for (Connection connection : targets) {
+                if (now - connection.lastDataAt > idleTimeoutMs) {
+                    log.debug("SSE 유휴 연결 종료 - Key: {}", connection.key);
+                    close(connection);
+                } else {
+                    offer(connection, Frame.HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    private SseEmitter register(Map<Long, Set<Connection>> connections, Long key) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Connection connection = new Connection(connections, key, emitter);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(error -> remove(connection));
+        connections.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(connection);
+
+        // 프록시 버퍼링 없이 연결이 열렸음을 바로 알림
+        offer(connection, Frame.HEARTBEAT);
+        log.debug("SSE 추적 연결 - Key: {}", key);
+        return emitter;
+    }
+
+    private void offerAll(Set<Connection> targets, Frame frame) {
+        for (Connection connection : targets) {
+            offer(connection, frame);
+        }
+    }
+
+    private void offer(Connection connection, Frame frame) {
+        boolean overflow = false;
+        synchronized (connection) {
+            if (connection.closed) {
+                return;
+            }
+            if (frame != Frame.HEARTBEAT) {
+                connection.lastDataAt = System.currentTimeMillis();
+            }
+            if (!(frame.conflatable && replaceQueued(connection.queue, frame))) {
+                if (connection.queue.size() >= bufferSize) {
+                    overflow = true;
+                } else {
+                    connection.queue.addLast(frame);
+                }
+            }
+            if (!overflow && connection.draining) {
+                return;
+            }
+            if (!overflow) {
+                connection.draining = true;
+            }
+        }
+        if (overflow) {
+            log.warn("SSE 전송 큐 초과로 연결 종료 - Key: {}", connection.key);
+            close(connection);
+            return;
+        }
+        try {
+            sender.execute(() -> drain(connection));
+        } catch (RuntimeException e) {
+            // 종료 중 등 전송 스레드를 사용할 수 없음
+            synchronized (connection) {
+                connection.draining = false;
+            }
+        }
+    }
+
+    private static boolean replaceQueued(ArrayDeque<Frame> queue, Frame frame) {
+        Iterator<Frame> iterator = queue.descendingIterator();
+        while (iterator.hasNext()) {
+            Frame queued = iterator.next();
+            if (queued.conflatable && Objects.equals(queued.event, frame.event)) {
+                iterator.remove();
+                queue.addLast(frame);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 연결 큐 비우기 (전송 스레드)
+     */
+    private void drain(Connection connection) {
+        while (true) {
+            Frame frame;
+            synchronized (connection) {
+                frame = connection.queue.pollFirst();
+                if (frame == null || connection.closed) {
+                    connection.draining = false;
+                    return;
+                }
+            }
+            try {
+                if (frame.event == null) {
+                    connection.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    connection.emitter.send(SseEmitter.event().name(frame.event).data(frame.data, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊음
+                synchronized (connection) {
+                    connection.closed = true;
+                    connection.draining = false;
+                    connection.queue.clear();
+                }
+                remove(connection);
+                return;
+            }
+            if (frame.terminal) {
+                close(connection);
+            }
+        }
+    }
+
+    private void close(Connection connection) {
+        synchronized (connection) {
+            connection.closed = true;
+            connection.queue.clear();
+        }
+        remove(connection);
+        connection.emitter.complete();
+    }
+
+    private void remove(Connection connection) {
+        Set<Connection> targets = connection.owner.get(connection.key);
+        if (targets != null) {
+            targets.remove(connection);
+            if (targets.isEmpty()) {
+                connection.owner.remove(connection.key, targets);
+            }
+        }
+    }
+
+    private void closeAll(Map<Long, Set<Connection>> connections) {
+        for (Set<Connection> targets : connections.values()) {
+            for (Connection connection : targets) {
+                close(connection);
+            }
+        }
+    }
+
+    /**
+     * SSE 연결 (큐 접근은 연결 객체로 동기화)
+     */
+    private static final class Connection {
+        private final Map<Long, Set<Connection>> owner;
+        private final Long key;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Frame> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+        private volatile long lastDataAt = System.currentTimeMillis();
+
+        Connection(Map<Long, Set<Connection>> owner, Long key, SseEmitter emitter) {
+            this.owner = owner;
+            this.key = key;
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * 전송할 이벤트 (event == null이면 하트비트 주석)
+     */
+    private static final class Frame {
+        private static final Frame HEARTBEAT = new Frame(null, null, true, false);
+
+        private final String event;
+        private final String data;
+        private final boolean conflatable;
+        private final boolean terminal;
+
+        private Frame(String event, String data, boolean conflatable, boolean terminal) {
+            this.event = event;
+            this.data = data;
+            this.conflatable = conflatable;
+            this.terminal = terminal;
+        }
+
+        static Frame conflatable(String event, String data) {
+            return new Frame(event, data, true, false);
+        }
+
+        static Frame terminal(String event, String data) {
+            return new Frame(event, data, false, true);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+
+/**
+ * 실시간 추적 스트림 구독자
+ * 시뮬레이션 스레드에서 동기적으로 호출되므로, 느린 전송은 구현체가 별도 스레드로 넘겨야 합니다.
+ */
+public interface TrackingListener {
+
+    /**
+     * 위치 틱
+     *
+     * @param plan    전송 대상 계획 (경로 + 미배송 주문)
+     * @param encoder 이번 틱 위치 본문이 직렬화된 인코더 (호출 동안만 유효)
+     */
+    void onPosition(PositionFanOutPlan plan, PositionFrameEncoder encoder);
+
+    /**
+     * 구간 계획
+     *
+     * @param plan    전송 대상 계획 (경로 + 미배송 주문)
+     * @param payload 직렬화된 구간 계획 JSON (모든 대상 공유, 수정 금지)
+     */
+    void onPlan(PositionFanOutPlan plan, byte[] payload);
+
+    /**
+     * 주문 상태 변경 (배송 완료 등, 병합/유실 불가)
+     *
+     * @param orderId 주문 ID
+     * @param payload 직렬화된 상태 JSON
+     */
+    void onOrderStatus(Long orderId, byte[] payload);
+
+    /**
+     * 경로 완료
+     *
+     * @param routeId 경로 ID
+     * @param payload 직렬화된 상태 JSON
+     */
+    default void onRouteCompleted(Long routeId, byte[] payload) {
+    }
+}
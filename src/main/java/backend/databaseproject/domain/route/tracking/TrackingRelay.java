@@ -0,0 +1,11 @@
+package backend.databaseproject.domain.route.tracking;
+
+/**
+ * 노드 간 실시간 추적 이벤트 중계기
+ * 이 노드에서 발생한 이벤트를 구독자로서 받아 다른 노드로 보내고,
+ * 다른 노드의 이벤트는 {@link TrackingStream}의 deliverRelayed* 메서드로 이 노드의 구독자에게 전달합니다.
+ *
+ * 중계기 빈이 없으면(tracking.relay.type=local) 이벤트는 발생한 노드 안에서만 전달됩니다.
+ */
+public interface TrackingRelay extends TrackingListener {
+}
@@ -0,0 +1,113 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 내부 실시간 추적 스트림
+ * 시뮬레이터와 경유지 처리에서 발생한 위치/계획/상태 이벤트를 등록된 모든 구독자(WebSocket, SSE 등)에게 전달합니다.
+ * 한 구독자의 오류가 다른 구독자나 시뮬레이션에 영향을 주지 않도록 구독자별로 예외를 격리합니다.
+ *
+ * 여러 노드로 실행할 때는 {@link TrackingRelay} 구독자가 이벤트를 다른 노드로 중계하고,
+ * 다른 노드에서 받은 이벤트는 deliverRelayed* 메서드로 이 노드의 구독자에게만 전달합니다 (다시 중계하지 않음).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrackingStream {
+
+    private final List<TrackingListener> listeners;
+
+    public void publishPosition(PositionFanOutPlan plan, PositionFrameEncoder encoder) {
+        position(plan, encoder, true);
+    }
+
+    public void publishPlan(PositionFanOutPlan plan, byte[] payload) {
+        plan(plan, payload, true);
+    }
+
+    public void publishOrderStatus(Long orderId, byte[] payload) {
+        orderStatus(orderId, payload, true);
+    }
+
+    public void publishRouteCompleted(Long routeId, byte[] payload) {
+        routeCompleted(routeId, payload, true);
+    }
+
+    public void deliverRelayedPosition(PositionFanOutPlan plan, PositionFrameEncoder encoder) {
+        position(plan, encoder, false);
+    }
+
+    public void deliverRelayedPlan(PositionFanOutPlan plan, byte[] payload) {
+        plan(plan, payload, false);
+    }
+
+    public void deliverRelayedOrderStatus(Long orderId, byte[] payload) {
+        orderStatus(orderId, payload, false);
+    }
+
+    public void deliverRelayedRouteCompleted(Long routeId, byte[] payload) {
+        routeCompleted(routeId, payload, false);
+    }
+
+    private void position(PositionFanOutPlan plan, PositionFrameEncoder encoder, boolean relay) {
+        for (TrackingListener listener : listeners) {
+            if (!relay && listener instanceof TrackingRelay) {
+                continue;
+            }
+            try {
+                listener.onPosition(plan, encoder);
+            } catch (Exception e) {
+                log.warn("위치 이벤트 전달 실패 - Listener: {}, RouteId: {}",
+                        listener.getClass().getSimpleName(), plan.routeId(), e);
+            }
+        }
+    }
+
+    private void plan(PositionFanOutPlan plan, byte[] payload, boolean relay) {
+        for (TrackingListener listener : listeners) {
+            if (!relay && listener instanceof TrackingRelay) {
+                continue;
+            }
+            try {
+                listener.onPlan(plan, payload);
+            } catch (Exception e) {
+                log.warn("구간 계획 이벤트 전달 실패 - Listener: {}, RouteId: {}",
+                        listener.getClass().getSimpleName(), plan.routeId(), e);
+            }
+        }
+    }
+
+    private void orderStatus(Long orderId, byte[] payload, boolean relay) {
+        for (TrackingListener listener : listeners) {
+            if (!relay && listener instanceof TrackingRelay) {
+                continue;
+            }
+            try {
+                listener.onOrderStatus(orderId, payload);
+            } catch (Exception e) {
+                log.warn("주문 상태 이벤트 전달 실패 - Listener: {}, OrderId: {}",
+                        listener.getClass().getSimpleName(), orderId, e);
+            }
+        }
+    }
+
+    private void routeCompleted(Long routeId, byte[] payload, boolean relay) {
+        for (TrackingListener listener : listeners) {
+            if (!relay && listener instanceof TrackingRelay) {
+                continue;
+            }
+            try {
+                listener.onRouteCompleted(routeId, payload);
+            } catch (Exception e) {
+                log.warn("경로 완료 이벤트 전달 실패 - Listener: {}, RouteId: {}",
+                        listener.getClass().getSimpleName(), routeId, e);
+            }
+        }
+    }
+}
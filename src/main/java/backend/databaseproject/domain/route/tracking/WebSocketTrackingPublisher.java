@@ -0,0 +1,63 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import backend.databaseproject.global.websocket.CompactSubscriptionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 추적 스트림 -> STOMP 토픽 전송
+ * 위치는 /topic/route/{routeId}, /topic/order/{orderId}/position,
+ * 압축 위치는 각 위치 주소 뒤에 /compact를 붙인 주소(이 노드에 구독자가 있을 때만),
+ * 구간 계획은 /topic/route/{routeId}/plan, /topic/order/{orderId}/plan,
+ * 주문 상태는 /topic/order/{orderId}로 전송합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketTrackingPublisher implements TrackingListener {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final CompactSubscriptionRegistry compactSubscriptions;
+
+    @Override
+    public void onPosition(PositionFanOutPlan plan, PositionFrameEncoder encoder) {
+        // Route 구독자에게 전송 (점주용)
+        messagingTemplate.send(plan.routeDestination(), encoder.frame(plan.routePrefix()));
+
+        // 아직 배송되지 않은 모든 주문들에게 위치 정보 전송 (고객용)
+        for (int j = plan.firstActive(); j < plan.end(); j++) {
+            messagingTemplate.send(plan.orderDestination(j), encoder.frame(plan.orderPrefix(j)));
+        }
+
+        // 압축 바이너리 구독자 (한 프레임을 경로/주문 주소가 공유, 구독자가 있는 주소에만 전송)
+        byte[] compact = null;
+        if (compactSubscriptions.hasSubscribers(plan.routeCompactDestination())) {
+            compact = encoder.compactFrameBytes();
+            messagingTemplate.send(plan.routeCompactDestination(), PositionFrameEncoder.binaryMessage(compact));
+        }
+        for (int j = plan.firstActive(); j < plan.end(); j++) {
+            if (!compactSubscriptions.hasSubscribers(plan.orderCompactDestination(j))) {
+                continue;
+            }
+            if (compact == null) {
+                compact = encoder.compactFrameBytes();
+            }
+            messagingTemplate.send(plan.orderCompactDestination(j), PositionFrameEncoder.binaryMessage(compact));
+        }
+    }
+
+    @Override
+    public void onPlan(PositionFanOutPlan plan, byte[] payload) {
+        messagingTemplate.send(plan.routePlanDestination(), PositionFrameEncoder.message(payload));
+        for (int j = plan.firstActive(); j < plan.end(); j++) {
+            messagingTemplate.send(plan.orderPlanDestination(j), PositionFrameEncoder.message(payload));
+        }
+    }
+
+    @Override
+    public void onOrderStatus(Long orderId, byte[] payload) {
+        messagingTemplate.send("/topic/order/" + orderId, PositionFrameEncoder.message(payload));
+    }
+}
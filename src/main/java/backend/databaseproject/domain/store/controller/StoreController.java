@@ -153,7 +153,7 @@ public class StoreController {
     @GetMapping("/search")
     @Operation(
             summary = "매장 검색",
-            description = "매장명으로 매장을 검색합니다 (부분 일치). 사용자 위치 정보를 제공하면 거리도 함께 반환합니다.",
+            description = "매장명으로 매장을 검색합니다 (부분 일치, 관련도순). 사용자 위치 정보를 제공하면 배달 가능한 매장만 거리와 함께 반환합니다.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
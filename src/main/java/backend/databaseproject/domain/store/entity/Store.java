@@ -1,5 +1,6 @@
 package backend.databaseproject.domain.store.entity;
 
+import backend.databaseproject.domain.store.search.StoreSearchIndexListener;
 import backend.databaseproject.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "store")
+@EntityListeners(StoreSearchIndexListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Store {
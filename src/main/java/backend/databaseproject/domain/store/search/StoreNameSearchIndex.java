@@ -0,0 +1,253 @@
+package backend.databaseproject.domain.store.search;
+
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.util.GeoUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장명 n-gram 역색인
+ * 매장명을 1-gram/2-gram 단위로 분해하여 메모리에 역색인을 유지합니다.
+ * LIKE '%name%' 전체 스캔 없이 부분 일치 검색과 관련도 정렬을 제공하며,
+ * 매장 생성/수정/삭제 시 해당 매장만 증분 갱신됩니다.
+ */
+@Component
+@Slf4j
+public class StoreNameSearchIndex {
+
+    // n-gram -> 매장 ID 집합
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+    // 매장 ID -> 색인 문서
+    private final Map<Long, IndexedStore> documents = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * 전체 재색인
+     *
+     * @param stores 활성화된 매장 목록
+     */
+    public synchronized void rebuild(Collection<Store> stores) {
+        postings.clear();
+        documents.clear();
+        for (Store store : stores) {
+            upsert(store);
+        }
+        ready = true;
+        log.info("매장명 검색 색인 구축 완료 - 매장 수: {}, n-gram 수: {}", documents.size(), postings.size());
+    }
+
+    /**
+     * 매장 색인 추가/갱신 (증분)
+     * 비활성 매장은 색인에서 제거됩니다.
+     */
+    public synchronized void upsert(Store store) {
+        if (store.getStoreId() == null) {
+            return;
+        }
+        remove(store.getStoreId());
+        if (!Boolean.TRUE.equals(store.getIsActive())) {
+            return;
+        }
+
+        String normalized = normalize(store.getName());
+        IndexedStore document = new IndexedStore(
+                store.getStoreId(),
+                store.getName(),
+                normalized,
+                store.getLat().doubleValue(),
+                store.getLng().doubleValue(),
+                store.getDeliveryRadiusKm().doubleValue()
+        );
+        documents.put(document.storeId(), document);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.storeId());
+        }
+    }
+
+    /**
+     * 매장 색인 제거 (증분)
+     */
+    public synchronized void remove(Long storeId) {
+        IndexedStore previous = documents.remove(storeId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous.normalizedName())) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(storeId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * 색인 구축 완료 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 매장명 검색
+     * 검색어의 모든 n-gram을 포함하는 매장을 후보로 뽑고, 실제 부분 일치를 확인한 뒤 관련도 순으로 정렬합니다.
+     * 사용자 위치가 주어지면 각 매장의 배달 가능 거리 내에 있는 매장만 남기고, 같은 관련도에서는 가까운 순으로 정렬합니다.
+     *
+     * @param query 검색어
+     * @param lat   사용자 위도 (optional)
+     * @param lng   사용자 경도 (optional)
+     * @return 관련도 순으로 정렬된 검색 결과
+     */
+    public List<SearchHit> search(String query, Double lat, Double lng) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> queryGrams = grams(normalized, normalized.length() == 1 ? 1 : 2);
+        Set<Long> candidates = intersect(queryGrams);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        boolean hasLocation = lat != null && lng != null;
+        List<SearchHit> hits = new ArrayList<>();
+        for (Long storeId : candidates) {
+            IndexedStore document = documents.get(storeId);
+            if (document == null || !document.normalizedName().contains(normalized)) {
+                continue;
+            }
+
+            Double distanceKm = null;
+            if (hasLocation) {
+                double distance = GeoUtils.calculateDistance(lat, lng, document.lat(), document.lng());
+                // 사용자가 매장의 배달 가능 거리 내에 있는 경우만 포함
+                if (distance > document.deliveryRadiusKm()) {
+                    continue;
+                }
+                distanceKm = distance;
+            }
+            hits.add(new SearchHit(storeId, score(document, normalized), distanceKm));
+        }
+
+        hits.sort(Comparator.comparingInt(SearchHit::score).reversed()
+                .thenComparing(hit -> hit.distanceKm() != null ? hit.distanceKm() : 0.0)
+                .thenComparing(SearchHit::storeId));
+        return hits;
+    }
+
+    /**
+     * 관련도 점수 계산
+     * 완전 일치 > 접두 일치 > 단어 시작 일치 > 부분 일치 순이며, 이름이 짧을수록(검색어 비중이 클수록) 높은 점수를 받습니다.
+     */
+    private int score(IndexedStore document, String normalizedQuery) {
+        String name = document.normalizedName();
+        int base;
+        if (name.equals(normalizedQuery)) {
+            base = 4000;
+        } else if (name.startsWith(normalizedQuery)) {
+            base = 3000;
+        } else if (isWordStart(document.name(), normalizedQuery)) {
+            base = 2000;
+        } else {
+            base = 1000;
+        }
+        int coverage = (normalizedQuery.length() * 999) / name.length();
+        return base + coverage;
+    }
+
+    private boolean isWordStart(String originalName, String normalizedQuery) {
+        for (String word : originalName.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (word.startsWith(normalizedQuery)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 포스팅 목록 교집합 (가장 짧은 목록부터 순회)
+     */
+    private Set<Long> intersect(List<String> queryGrams) {
+        List<Set<Long>> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = ConcurrentHashMap.newKeySet();
+        result.addAll(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 색인용 n-gram 생성 (1-gram + 2-gram)
+     */
+    private static List<String> grams(String normalized) {
+        List<String> result = grams(normalized, 1);
+        result.addAll(grams(normalized, 2));
+        return result;
+    }
+
+    private static List<String> grams(String normalized, int n) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i + n <= normalized.length(); i++) {
+            result.add(normalized.substring(i, i + n));
+        }
+        return result;
+    }
+
+    /**
+     * 검색 정규화 (소문자 변환 + 공백 제거)
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 색인 문서
+     */
+    private record IndexedStore(Long storeId, String name, String normalizedName,
+                                double lat, double lng, double deliveryRadiusKm) {
+    }
+
+    /**
+     * 검색 결과
+     *
+     * @param storeId    매장 ID
+     * @param score      관련도 점수
+     * @param distanceKm 사용자로부터의 거리 (위치 미제공 시 null)
+     */
+    public record SearchHit(Long storeId, int score, Double distanceKm) {
+    }
+}
@@ -0,0 +1,32 @@
+package backend.databaseproject.domain.store.search;
+
+import backend.databaseproject.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장명 검색 색인 초기화
+ * 애플리케이션 기동 시 활성 매장 전체로 색인을 한 번 구축합니다.
+ * 이후 변경분은 StoreSearchIndexListener가 증분 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreSearchIndexInitializer {
+
+    private final StoreRepository storeRepository;
+    private final StoreNameSearchIndex storeNameSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        try {
+            storeNameSearchIndex.rebuild(storeRepository.findByIsActiveTrue());
+        } catch (Exception e) {
+            // 색인 구축 실패 시 검색은 DB 부분 일치 조회로 동작
+            log.error("매장명 검색 색인 구축 실패", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package backend.databaseproject.domain.store.search;
+
+import backend.databaseproject.domain.store.entity.Store;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 매장 엔티티 변경 리스너
+ * 매장이 저장/수정/삭제될 때 매장명 검색 색인을 증분 갱신합니다.
+ *
+ * JPA 콜백은 flush 시점(커밋 전)에 호출되므로, 트랜잭션 안에서는 커밋 후에만 색인에 반영합니다.
+ * 롤백된 변경은 색인에 남지 않으며, 트랜잭션 밖의 변경은 즉시 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreSearchIndexListener {
+
+    private final StoreNameSearchIndex storeNameSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Store store) {
+        // 커밋 시점의 엔티티 값으로 색인 (같은 트랜잭션에서 여러 번 수정해도 마지막 값이 반영됨)
+        afterCommit(() -> storeNameSearchIndex.upsert(store));
+    }
+
+    @PostRemove
+    public void onRemove(Store store) {
+        Long storeId = store.getStoreId();
+        afterCommit(() -> storeNameSearchIndex.remove(storeId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import backend.databaseproject.domain.store.entity.Store;
 import backend.databaseproject.domain.store.entity.StoreProduct;
 import backend.databaseproject.domain.store.repository.StoreProductRepository;
 import backend.databaseproject.domain.store.repository.StoreRepository;
+import backend.databaseproject.domain.store.search.StoreNameSearchIndex;
 import backend.databaseproject.global.common.BaseException;
 import backend.databaseproject.global.common.ErrorCode;
 import backend.databaseproject.global.util.GeoUtils;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +33,7 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final StoreProductRepository storeProductRepository;
     private final DroneRepository droneRepository;
+    private final StoreNameSearchIndex storeNameSearchIndex;
 
     /**
      * 사용자 위치 기반 배달 가능한 매장 조회
@@ -124,14 +127,48 @@ public class StoreService {
 
     /**
      * 매장명으로 매장 검색
+     * 매장명 n-gram 색인으로 후보를 찾아 관련도 순으로 반환합니다.
      * 사용자 위치가 제공된 경우, 각 매장의 배달 가능 거리 내에 있는 매장만 반환합니다.
      *
      * @param name 매장명 (부분 일치)
      * @param lat  사용자 위도 (거리 계산용, optional)
      * @param lng  사용자 경도 (거리 계산용, optional)
-     * @return 검색된 매장 목록 (사용자 위치 제공 시 배달 가능한 매장만 포함)
+     * @return 검색된 매장 목록 (관련도순, 같은 관련도에서는 거리순)
      */
     public List<StoreResponse> searchStoresByName(String name, BigDecimal lat, BigDecimal lng) {
+        if (!storeNameSearchIndex.isReady()) {
+            // 색인 구축 전에는 DB 부분 일치 조회로 처리
+            return searchStoresByNameFromDatabase(name, lat, lng);
+        }
+
+        boolean hasLocation = lat != null && lng != null;
+        List<StoreNameSearchIndex.SearchHit> hits = storeNameSearchIndex.search(
+                name,
+                hasLocation ? lat.doubleValue() : null,
+                hasLocation ? lng.doubleValue() : null
+        );
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        // 색인에서 걸러진 매장만 PK로 조회
+        List<Long> storeIds = hits.stream()
+                .map(StoreNameSearchIndex.SearchHit::storeId)
+                .toList();
+        Map<Long, Store> storesById = storeRepository.findAllById(storeIds).stream()
+                .collect(Collectors.toMap(Store::getStoreId, store -> store));
+
+        return hits.stream()
+                .filter(hit -> storesById.containsKey(hit.storeId()))
+                .map(hit -> StoreResponse.from(storesById.get(hit.storeId()), hit.distanceKm()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 매장명으로 매장 검색 (DB 부분 일치)
+     * 검색 색인이 준비되지 않았을 때 사용합니다.
+     */
+    private List<StoreResponse> searchStoresByNameFromDatabase(String name, BigDecimal lat, BigDecimal lng) {
         List<Store> stores = storeRepository.findByNameContainingAndIsActiveTrue(name);
 
         if (lat != null && lng != null) {
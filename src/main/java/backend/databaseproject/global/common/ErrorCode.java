@@ -51,7 +51,8 @@ public enum ErrorCode {
     ROUTE_ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "R002", "이미 완료된 배송입니다."),
     ROUTE_OPTIMIZATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "R003", "경로 최적화에 실패했습니다."),
     NO_DELIVERY_REQUESTS(HttpStatus.BAD_REQUEST, "R004", "배송 요청이 없습니다."),
-    POSITION_NOT_FOUND(HttpStatus.NOT_FOUND, "R005", "드론 위치 정보를 찾을 수 없습니다.");
+    POSITION_NOT_FOUND(HttpStatus.NOT_FOUND, "R005", "드론 위치 정보를 찾을 수 없습니다."),
+    ROUTE_BLOCKED_BY_NO_FLY_ZONE(HttpStatus.BAD_REQUEST, "R006", "비행 금지 구역을 우회할 수 없는 배송지입니다.");
 
     private final HttpStatus status;
     private final String code;
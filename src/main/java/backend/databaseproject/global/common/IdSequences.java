@@ -0,0 +1,48 @@
+package backend.databaseproject.global.common;
+
+import java.util.List;
+
+/**
+ * 테이블 기반 ID 할당 설정
+ * MySQL에는 시퀀스가 없으므로 id_sequence 테이블의 엔티티별 행에서 ID 구간을 미리 할당받습니다 (pooled-lo).
+ * IDENTITY와 달리 persist 시점에 INSERT가 필요 없어 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있습니다.
+ *
+ * 엔티티는 {@link PooledTableId}로 시퀀스 행을 지정하며, 할당 크기는 spring.jpa.properties.id-sequence.allocation-size로 설정합니다.
+ * 할당 크기를 바꿔도 저장된 값이 다음 구간의 시작 ID이므로(pooled-lo) 기존 ID와 겹치지 않습니다.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "seq_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // 한 번에 할당받는 ID 수 기본값 (할당 1회 = SELECT FOR UPDATE + UPDATE)
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    public static final String ORDERS = "orders";
+    public static final String ORDER_ITEM = "order_item";
+    public static final String ROUTE = "route";
+    public static final String ROUTE_STOP = "route_stop";
+    public static final String ROUTE_STOP_ORDER = "route_stop_order";
+    public static final String ROUTE_POSITION = "route_position";
+    public static final String FLIGHT_LOG = "flight_log";
+
+    /**
+     * 시퀀스 행과 ID를 할당받는 테이블/컬럼 (시작 시 기존 최대 ID 이후로 맞춤)
+     */
+    public static final List<Segment> SEGMENTS = List.of(
+            new Segment(ORDERS, "orders", "order_id"),
+            new Segment(ORDER_ITEM, "order_item", "order_item_id"),
+            new Segment(ROUTE, "route", "route_id"),
+            new Segment(ROUTE_STOP, "route_stop", "stop_id"),
+            new Segment(ROUTE_STOP_ORDER, "route_stop_order", "route_stop_order_id"),
+            new Segment(ROUTE_POSITION, "route_position", "pos_id"),
+            new Segment(FLIGHT_LOG, "flight_log", "log_id")
+    );
+
+    private IdSequences() {
+    }
+
+    public record Segment(String name, String table, String idColumn) {
+    }
+}
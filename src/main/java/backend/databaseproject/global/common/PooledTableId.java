@@ -0,0 +1,28 @@
+package backend.databaseproject.global.common;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * id_sequence 테이블 기반 ID 할당 ({@link PooledTableIdGenerator})
+ *
+ * <pre>
+ * &#64;Id
+ * &#64;PooledTableId(IdSequences.ORDERS)
+ * private Long orderId;
+ * </pre>
+ */
+@IdGeneratorType(PooledTableIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledTableId {
+
+    /**
+     * 시퀀스 행 이름 (id_sequence.seq_name)
+     */
+    String value();
+}
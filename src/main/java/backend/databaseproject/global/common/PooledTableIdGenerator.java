@@ -0,0 +1,54 @@
+package backend.databaseproject.global.common;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * id_sequence 테이블 기반 ID 생성기
+ * &#64;TableGenerator는 할당 크기가 어노테이션 속성(컴파일 시 상수)이므로, 같은 테이블 생성기를 설정값으로 구성합니다.
+ * 할당 크기는 Hibernate 설정 {@value #ALLOCATION_SIZE_SETTING}(spring.jpa.properties)에서 읽고, 없으면 {@link IdSequences#DEFAULT_ALLOCATION_SIZE}를 씁니다.
+ * 최적화 방식은 전역 설정과 관계없이 pooled-lo로 고정합니다 (할당 크기를 바꿔도 기존 ID와 겹치지 않음).
+ *
+ * Hibernate 6.6은 &#64;IdGeneratorType 생성기를 만든 뒤 {@link #configure(Type, Properties, ServiceRegistry)}를 호출합니다.
+ */
+public class PooledTableIdGenerator extends TableGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "id-sequence.allocation-size";
+
+    private final String segment;
+
+    public PooledTableIdGenerator(PooledTableId config) {
+        this.segment = config.value();
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        parameters.setProperty(TABLE_PARAM, IdSequences.TABLE);
+        parameters.setProperty(SEGMENT_COLUMN_PARAM, IdSequences.NAME_COLUMN);
+        parameters.setProperty(VALUE_COLUMN_PARAM, IdSequences.VALUE_COLUMN);
+        parameters.setProperty(SEGMENT_VALUE_PARAM, segment);
+        parameters.setProperty(INITIAL_PARAM, "1");
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize(serviceRegistry)));
+        parameters.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    private static int allocationSize(ServiceRegistry serviceRegistry) {
+        Object value = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings().get(ALLOCATION_SIZE_SETTING);
+        if (value == null || value.toString().isBlank()) {
+            return IdSequences.DEFAULT_ALLOCATION_SIZE;
+        }
+        int allocationSize = Integer.parseInt(value.toString().trim());
+        if (allocationSize < 1) {
+            throw new MappingException(ALLOCATION_SIZE_SETTING + "는 1 이상이어야 합니다: " + allocationSize);
+        }
+        return allocationSize;
+    }
+}
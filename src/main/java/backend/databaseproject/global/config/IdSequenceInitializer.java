@@ -0,0 +1,46 @@
+package backend.databaseproject.global.config;
+
+import backend.databaseproject.global.common.IdSequences;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ID 시퀀스 행 초기화
+ * 기존 DB의 행은 AUTO_INCREMENT로 만들어졌으므로, 시퀀스 행이 없거나 기존 최대 ID보다 뒤처져 있으면 최대 ID + 1로 맞춥니다.
+ * 스키마 갱신(ddl-auto) 이후, 요청/시뮬레이션이 ID를 할당받기 전에 실행합니다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void alignSequences() {
+        for (IdSequences.Segment segment : IdSequences.SEGMENTS) {
+            long next = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + segment.idColumn() + "), 0) + 1 FROM " + segment.table(), Long.class);
+            try {
+                jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE
+                        + " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") VALUES (?, ?)",
+                        segment.name(), next);
+                log.info("ID 시퀀스 생성 - {}: {}", segment.name(), next);
+            } catch (DataIntegrityViolationException e) {
+                int updated = jdbcTemplate.update("UPDATE " + IdSequences.TABLE
+                        + " SET " + IdSequences.VALUE_COLUMN + " = ?"
+                        + " WHERE " + IdSequences.NAME_COLUMN + " = ? AND " + IdSequences.VALUE_COLUMN + " < ?",
+                        next, segment.name(), next);
+                if (updated > 0) {
+                    log.info("ID 시퀀스 보정 - {}: {}", segment.name(), next);
+                }
+            }
+        }
+    }
+}
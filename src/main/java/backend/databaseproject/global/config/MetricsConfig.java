@@ -0,0 +1,52 @@
+package backend.databaseproject.global.config;
+
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.domain.route.tracking.SseTrackingHub;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+
+/**
+ * 운영 지표 설정
+ * 실행기(스레드 풀) 대기열 길이를 drone.executor.queue.depth 게이지로 노출합니다 (executor 태그로 구분).
+ *
+ * - applicationTaskExecutor: 비행 시뮬레이션(@Async) - 쌓이면 동시 비행 수가 풀 크기를 넘어 출발이 밀리는 중
+ * - simulation-clock: 하역 대기 등 예약 작업 (만기 전 작업 포함)
+ * - sse-sender: 전송을 기다리는 SSE 연결
+ *
+ * 그 밖의 지표는 각 컴포넌트가 직접 등록합니다 (타이머 @Timed, 비행/틱 게이지, WebSocket 전송 카운터).
+ * Hikari 커넥션 풀 지표(hikaricp_*)는 Spring Boot가 풀 이름(pool 태그)별로 자동 등록합니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String QUEUE_DEPTH = "drone.executor.queue.depth";
+
+    @Bean
+    public MeterBinder executorQueueMetrics(ListableBeanFactory beanFactory,
+                                            SimulationClock simulationClock,
+                                            SseTrackingHub sseTrackingHub) {
+        return registry -> {
+            // 가상 스레드 설정 등으로 스레드 풀 실행기가 없으면 등록하지 않음
+            Map<String, ThreadPoolTaskExecutor> taskExecutors = beanFactory.getBeansOfType(ThreadPoolTaskExecutor.class);
+            taskExecutors.forEach((name, executor) ->
+                    Gauge.builder(QUEUE_DEPTH, executor, ThreadPoolTaskExecutor::getQueueSize)
+                            .description("실행을 기다리는 작업 수")
+                            .tag("executor", name)
+                            .register(registry));
+            Gauge.builder(QUEUE_DEPTH, simulationClock, SimulationClock::pendingTasks)
+                    .description("실행을 기다리는 작업 수")
+                    .tag("executor", "simulation-clock")
+                    .register(registry);
+            Gauge.builder(QUEUE_DEPTH, sseTrackingHub, SseTrackingHub::queuedSends)
+                    .description("실행을 기다리는 작업 수")
+                    .tag("executor", "sse-sender")
+                    .register(registry);
+        };
+    }
+}
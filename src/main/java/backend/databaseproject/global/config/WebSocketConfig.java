@@ -1,10 +1,14 @@
 package backend.databaseproject.global.config;
 
+import backend.databaseproject.global.websocket.PositionFrameConflator;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket 설정
@@ -12,8 +16,11 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  */
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final PositionFrameConflator positionFrameConflator;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // 클라이언트로 메시지를 보낼 때 prefix
@@ -28,5 +35,21 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*") // 개발 환경에서 모든 origin 허용
                 .withSockJS();
+
+        // 압축 바이너리 위치 구독용 순수 WebSocket 엔드포인트 (SockJS는 텍스트 프레임만 지원)
+        registry.addEndpoint("/ws-binary")
+                .setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 위치 토픽은 느린 구독자에게 최신 프레임만 전달 (배송 완료 알림 등은 그대로 통과)
+        registration.interceptors(positionFrameConflator);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 위치 프레임의 실제 전송 완료 시점 추적
+        registration.addDecoratorFactory(positionFrameConflator::decorate);
     }
 }
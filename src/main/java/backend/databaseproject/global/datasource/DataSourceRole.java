@@ -0,0 +1,9 @@
+package backend.databaseproject.global.datasource;
+
+/**
+ * 라우팅 대상 DataSource
+ */
+public enum DataSourceRole {
+    PRIMARY,   // 쓰기 및 읽기-쓰기 트랜잭션
+    REPLICA    // 읽기 전용 트랜잭션
+}
@@ -0,0 +1,71 @@
+package backend.databaseproject.global.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 DataSource 라우팅 결정
+ * 읽기 전용 트랜잭션은 REPLICA, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 PRIMARY로 보냅니다.
+ * 방금 쓴 데이터를 읽어야 하는 경우 {@link #pinPrimary()} 또는 {@link #forcePrimary(Supplier)}로 읽기 전용 트랜잭션도 PRIMARY로 보냅니다.
+ *
+ * 실제 커넥션은 LazyConnectionDataSourceProxy가 첫 SQL 실행 시점에 가져오므로,
+ * 트랜잭션 시작 후 첫 쿼리 전에 pinPrimary()를 호출하면 해당 트랜잭션 전체가 PRIMARY를 사용합니다.
+ */
+public final class DataSourceRouting {
+
+    private static final ThreadLocal<Integer> PRIMARY_PINS = ThreadLocal.withInitial(() -> 0);
+
+    private DataSourceRouting() {
+    }
+
+    /**
+     * 현재 스레드가 사용할 DataSource
+     */
+    public static DataSourceRole currentRole() {
+        if (PRIMARY_PINS.get() > 0) {
+            return DataSourceRole.PRIMARY;
+        }
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? DataSourceRole.REPLICA
+                : DataSourceRole.PRIMARY;
+    }
+
+    /**
+     * 작업 동안 읽기 전용 트랜잭션도 PRIMARY 사용 (작업 안에서 트랜잭션을 시작해야 함)
+     */
+    public static <T> T forcePrimary(Supplier<T> work) {
+        PRIMARY_PINS.set(PRIMARY_PINS.get() + 1);
+        try {
+            return work.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 PRIMARY 사용 (트랜잭션 밖이면 아무것도 하지 않음, 원래 PRIMARY)
+     */
+    public static void pinPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        PRIMARY_PINS.set(PRIMARY_PINS.get() + 1);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release();
+            }
+        });
+    }
+
+    private static void release() {
+        int pins = PRIMARY_PINS.get() - 1;
+        if (pins <= 0) {
+            PRIMARY_PINS.remove();
+        } else {
+            PRIMARY_PINS.set(pins);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package backend.databaseproject.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * 커넥션을 가져올 때 {@link DataSourceRouting#currentRole()}에 따라 PRIMARY 또는 REPLICA 풀을 선택합니다.
+ * 트랜잭션 속성이 확정된 뒤 커넥션을 가져오도록 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return DataSourceRouting.currentRole();
+    }
+}
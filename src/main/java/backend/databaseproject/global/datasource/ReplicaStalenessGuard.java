@@ -0,0 +1,79 @@
+package backend.databaseproject.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 복제 지연 보호 (read-after-write)
+ * 쓰기 트랜잭션이 커밋한 데이터 키(예: "order:1")를 기록해 두고, staleness-ms 안에 같은 키를 읽는 읽기 전용 트랜잭션은 PRIMARY로 보냅니다.
+ * 주문 생성 직후 주문 조회처럼 복제본에 아직 반영되지 않았을 수 있는 읽기를 막습니다.
+ *
+ * 기록은 이 노드의 메모리에만 있으므로, 다른 노드로 간 요청은 보호되지 않습니다.
+ * datasource.routing.enabled=false면 모든 요청이 원래 PRIMARY로 가므로 아무 효과가 없습니다.
+ */
+@Component
+@Slf4j
+public class ReplicaStalenessGuard {
+
+    @Value("${datasource.routing.enabled:false}")
+    private boolean routingEnabled;
+
+    // 복제 지연 허용 시간 (이 시간 안에 쓴 키는 PRIMARY에서 읽음)
+    @Value("${datasource.routing.staleness-ms:2000}")
+    private long stalenessMs;
+
+    // 키 -> 마지막 커밋 시각 (epoch ms)
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    /**
+     * 키를 변경했음을 기록 (트랜잭션 안이면 커밋 시점에 기록)
+     */
+    public void markWritten(String key) {
+        if (!routingEnabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWrites.put(key, System.currentTimeMillis());
+                }
+            });
+        } else {
+            recentWrites.put(key, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 키가 최근에 변경되었으면 현재 트랜잭션을 PRIMARY로 고정 (첫 쿼리 전에 호출)
+     */
+    public void pinIfRecentlyWritten(String key) {
+        if (!routingEnabled) {
+            return;
+        }
+        Long writtenAt = recentWrites.get(key);
+        if (writtenAt != null && System.currentTimeMillis() - writtenAt < stalenessMs) {
+            log.debug("최근 변경된 데이터 PRIMARY 조회 - Key: {}", key);
+            DataSourceRouting.pinPrimary();
+        }
+    }
+
+    /**
+     * 보호 기간이 지난 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${datasource.routing.staleness-ms:2000}")
+    public void evictExpired() {
+        if (recentWrites.isEmpty()) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - stalenessMs;
+        recentWrites.values().removeIf(writtenAt -> writtenAt < cutoff);
+    }
+}
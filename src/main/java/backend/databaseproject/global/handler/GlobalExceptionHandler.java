@@ -1,6 +1,7 @@
 package backend.databaseproject.global.handler;
 
 import backend.databaseproject.domain.drone.exception.DroneNotAvailableException;
+import backend.databaseproject.domain.geofence.exception.NoFlyZoneUnreachableException;
 import backend.databaseproject.domain.order.exception.OrderAlreadyProcessedException;
 import backend.databaseproject.domain.order.exception.OrderNotFoundException;
 import backend.databaseproject.global.common.BaseException;
@@ -117,6 +118,17 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(ErrorCode.DRONE_NOT_AVAILABLE, e.getMessage()));
     }
 
+    /**
+     * 비행 금지 구역 때문에 배송지에 갈 수 없을 때
+     */
+    @ExceptionHandler(NoFlyZoneUnreachableException.class)
+    protected ResponseEntity<ErrorResponse> handleNoFlyZoneUnreachableException(NoFlyZoneUnreachableException e) {
+        log.error("비행 금지 구역 우회 불가: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ErrorResponse.of(ErrorCode.ROUTE_BLOCKED_BY_NO_FLY_ZONE, e.getMessage()));
+    }
+
     /**
      * 그 외 모든 예외 처리
      */
@@ -0,0 +1,9 @@
+package backend.databaseproject.global.outbox;
+
+/**
+ * 아웃박스 이벤트 집계 유형 (같은 집계의 이벤트는 기록 순서대로 전달)
+ */
+public enum OutboxAggregateType {
+    ROUTE,   // 배송 경로
+    ORDER    // 주문
+}
@@ -0,0 +1,107 @@
+package backend.databaseproject.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트 엔티티
+ * 상태 변경과 같은 트랜잭션에서 기록되어 함께 커밋/롤백되며, {@link OutboxRelay}가 전달한 뒤 삭제합니다.
+ * 전달에 계속 실패한 이벤트는 삭제하지 않고 {@link OutboxEventStatus#DEAD} 상태로 남습니다.
+ */
+@Entity
+@Table(name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_event_aggregate", columnList = "aggregate_type, aggregate_id, event_id"),
+                @Index(name = "idx_outbox_event_status", columnList = "status, event_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 30)
+    private OutboxAggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private OutboxEventType eventType;
+
+    // 직렬화된 JSON 본문
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxEventStatus status = OutboxEventStatus.PENDING;
+
+    // 전달 실패 횟수
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    // 다음 재시도 시각 (null이면 바로 전달)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // 마지막 전달 실패 사유
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
+    @Builder
+    public OutboxEvent(OutboxEventType eventType, Long aggregateId, String payload) {
+        this.aggregateType = eventType.getAggregateType();
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = OutboxEventStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    /**
+     * 전달 실패 기록
+     *
+     * @param error 실패 사유 (500자까지 보관)
+     * @return 누적 실패 횟수
+     */
+    public int recordFailure(String error) {
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        return ++attempts;
+    }
+
+    /**
+     * 재시도 시각 지정 (그 전까지는 같은 집계의 다음 이벤트도 기다림)
+     */
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 전달 포기 (삭제하지 않고 보관, 같은 집계의 다음 이벤트는 전달 재개)
+     */
+    public void markDead() {
+        this.status = OutboxEventStatus.DEAD;
+        this.nextAttemptAt = null;
+    }
+}
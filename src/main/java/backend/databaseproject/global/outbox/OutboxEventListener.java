@@ -0,0 +1,22 @@
+package backend.databaseproject.global.outbox;
+
+/**
+ * 아웃박스 이벤트 구독자
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로(최소 1회 전달) 구현체는 중복 처리에 안전해야 합니다.
+ * 릴레이 트랜잭션 밖에서 호출되므로 DB를 변경하는 구현체는 자체 트랜잭션을 사용하며,
+ * outbox.lease-ms 안에 끝나지 않는 작업은 다른 노드가 같은 이벤트를 다시 전달할 수 있으므로 별도 스레드로 넘겨야 합니다.
+ */
+public interface OutboxEventListener {
+
+    /**
+     * 처리할 이벤트 유형인지 여부
+     */
+    boolean supports(OutboxEventType eventType);
+
+    /**
+     * 이벤트 처리 (예외를 던지면 재시도 간격이 지난 뒤 다시 전달)
+     *
+     * @param event 커밋된 아웃박스 이벤트
+     */
+    void onEvent(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,41 @@
+package backend.databaseproject.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 Repository
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 전달할 이벤트 잠금 조회
+     * 집계별로 가장 오래된 전달 대기 이벤트만 가져오므로, 같은 집계의 다음 이벤트는 앞 이벤트가 삭제(또는 전달 포기)된 뒤에 전달됩니다.
+     * 재시도 시각이 지나지 않은 이벤트는 가져오지 않으며, 그동안 같은 집계의 다음 이벤트도 기다립니다.
+     * 다른 노드가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 노드가 동시에 릴레이해도 서로 기다리지 않습니다.
+     */
+    @Query(value = "SELECT e.* FROM outbox_event e " +
+                   "WHERE e.status = 'PENDING' " +
+                   "  AND (e.next_attempt_at IS NULL OR e.next_attempt_at <= :now) " +
+                   "  AND NOT EXISTS (SELECT 1 FROM outbox_event p " +
+                   "                  WHERE p.aggregate_type = e.aggregate_type " +
+                   "                    AND p.aggregate_id = e.aggregate_id " +
+                   "                    AND p.status = 'PENDING' " +
+                   "                    AND p.event_id < e.event_id) " +
+                   "ORDER BY e.event_id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE OF e SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 상태별 이벤트 수 (전달 포기 이벤트 지표)
+     */
+    long countByStatus(OutboxEventStatus status);
+}
@@ -0,0 +1,9 @@
+package backend.databaseproject.global.outbox;
+
+/**
+ * 아웃박스 이벤트 상태
+ */
+public enum OutboxEventStatus {
+    PENDING,  // 전달 대기 (실패한 이벤트는 next_attempt_at 이후 재시도)
+    DEAD      // 전달 포기 (max-attempts회 실패, 수동 확인 대상)
+}
@@ -0,0 +1,17 @@
+package backend.databaseproject.global.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 이벤트 유형
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    ROUTE_PLANNED(OutboxAggregateType.ROUTE),     // 경로 저장 완료 (비행 시작)
+    ORDER_FULFILLED(OutboxAggregateType.ORDER),   // 주문 배송 완료 (고객 알림)
+    ROUTE_COMPLETED(OutboxAggregateType.ROUTE);   // 경로 완료 (점주 알림, 경로 추적 스트림 종료)
+
+    private final OutboxAggregateType aggregateType;
+}
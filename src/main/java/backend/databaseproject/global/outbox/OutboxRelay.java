@@ -0,0 +1,267 @@
+package backend.databaseproject.global.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스 릴레이
+ * 커밋된 아웃박스 이벤트를 batch-size씩 잠금 조회하여 선점(재시도 시각을 lease-ms 뒤로 기록)한 뒤 커밋하고,
+ * 트랜잭션 밖에서 내부 리스너({@link OutboxEventListener})에 순서대로 전달한 다음 별도 트랜잭션에서 삭제합니다.
+ * 전달 도중 노드가 죽으면 선점이 만료된 뒤 다시 전달됩니다 (최소 1회 전달).
+ *
+ * - 기록 트랜잭션이 커밋되면 {@link OutboxWriter}가 전용 스레드에서 바로 릴레이를 실행하므로 평소 지연은 커밋 직후 수 ms입니다.
+ * - poll-interval-ms 주기 폴링은 깨우기를 놓친 이벤트(다른 노드 장애, 재시작 전 기록분)를 처리합니다.
+ * - 집계별로 가장 오래된 이벤트만 가져오므로 같은 경로/주문의 이벤트는 기록 순서대로 전달되며,
+ *   실패한 이벤트는 max-attempts회까지 재시도하는 동안 같은 집계의 다음 이벤트를 막습니다.
+ * - 재시도 간격은 backoff-initial-ms부터 실패할 때마다 두 배로 늘어나며 backoff-max-ms를 넘지 않습니다 (next_attempt_at).
+ * - max-attempts회 실패한 이벤트는 삭제하지 않고 DEAD 상태로 남깁니다. 같은 집계의 다음 이벤트는 전달을 재개하며,
+ *   보관된 이벤트 수는 outbox.events.dead 게이지와 주기적인 오류 로그로 알립니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<OutboxEventListener> listeners;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    // 이 횟수만큼 실패한 이벤트는 오류 로그를 남기고 DEAD 상태로 보관
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    // 첫 재시도까지의 간격 (실패할 때마다 두 배)
+    @Value("${outbox.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    // 재시도 간격 상한
+    @Value("${outbox.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    // 선점한 이벤트를 다른 노드가 다시 가져가기까지의 시간 (리스너 처리 시간보다 길어야 중복 전달이 없음)
+    @Value("${outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    // DB에 보관된 전달 포기 이벤트 수 (dead-letter-check-ms마다 갱신)
+    private final AtomicLong deadEvents = new AtomicLong();
+
+    private Counter deadLetteredCounter;
+
+    private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    // 실행 중에 들어온 깨우기 요청 (실행이 끝나면 한 번 더 비움)
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("outbox.events.dead", deadEvents, AtomicLong::get)
+                .description("전달을 포기하고 보관 중인 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        deadLetteredCounter = Counter.builder("outbox.events.dead.lettered")
+                .description("전달을 포기하고 DEAD 상태로 옮긴 아웃박스 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋 직후 깨우기 (호출 스레드를 막지 않음)
+     */
+    public void requestDrain() {
+        drainRequested.set(true);
+        drainExecutor.execute(this::drain);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void poll() {
+        drainRequested.set(true);
+        drain();
+    }
+
+    /**
+     * 남은 이벤트가 없을 때까지 batch-size씩 전달
+     */
+    void drain() {
+        if (!drainLock.tryLock()) {
+            // 실행 중인 쪽이 drainRequested를 보고 다시 비움
+            return;
+        }
+        try {
+            while (drainRequested.getAndSet(false)) {
+                int relayed;
+                do {
+                    relayed = relayBatch();
+                } while (relayed == batchSize);
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실패", e);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 이벤트 한 묶음 전달
+     * 잠금 조회한 이벤트에 lease-ms 뒤의 재시도 시각을 적어 커밋한 뒤(선점) 트랜잭션 밖에서 리스너를 호출하고,
+     * 결과(삭제/재시도/DEAD)는 다시 독립 트랜잭션으로 기록합니다. 리스너가 느려도 행 잠금을 붙잡지 않습니다.
+     *
+     * @return 잠금 조회한 이벤트 수
+     */
+    private int relayBatch() {
+        LocalDateTime claimedAt = LocalDateTime.now();
+        List<OutboxEvent> events = claim(claimedAt);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<OutboxEvent> done = new ArrayList<>(events.size());
+        List<OutboxEvent> failed = new ArrayList<>();
+        int deadLettered = 0;
+        for (OutboxEvent event : events) {
+            String error = dispatch(event);
+            if (error == null) {
+                done.add(event);
+                continue;
+            }
+            failed.add(event);
+            int attempts = event.recordFailure(error);
+            if (attempts >= maxAttempts) {
+                event.markDead();
+                deadLettered++;
+                log.error("아웃박스 이벤트 전달 포기 (DEAD 보관) - EventId: {}, Type: {}, AggregateId: {}, Attempts: {}, Error: {}",
+                        event.getEventId(), event.getEventType(), event.getAggregateId(), attempts, error);
+            } else {
+                event.retryAt(LocalDateTime.now().plusNanos(backoffMs(attempts) * 1_000_000L));
+            }
+        }
+        complete(done, failed);
+
+        if (deadLettered > 0) {
+            deadLetteredCounter.increment(deadLettered);
+            deadEvents.addAndGet(deadLettered);
+        }
+        log.debug("아웃박스 이벤트 전달 - {}건 (실패 {}건)", events.size(), failed.size());
+        return events.size();
+    }
+
+    /**
+     * 전달할 이벤트 선점 (독립 트랜잭션)
+     * 커밋 후에는 재시도 시각(lease-ms 뒤)이 지나기 전까지 다른 노드가 가져가지 않으며, 같은 집계의 다음 이벤트도 기다립니다.
+     * 결과를 기록하기 전에 노드가 죽으면 선점이 만료된 뒤 다시 전달됩니다.
+     */
+    private List<OutboxEvent> claim(LocalDateTime now) {
+        TransactionStatus status = transactionManager.getTransaction(requiresNew());
+        try {
+            List<OutboxEvent> events = outboxEventRepository.claimBatch(now, batchSize);
+            LocalDateTime leasedUntil = now.plusNanos(leaseMs * 1_000_000L);
+            events.forEach(event -> event.retryAt(leasedUntil));
+            transactionManager.commit(status);
+            return events;
+        } catch (Exception e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+    }
+
+    /**
+     * 전달 결과 기록 (독립 트랜잭션) - 성공한 이벤트는 삭제, 실패한 이벤트는 재시도 시각/DEAD 상태 반영
+     */
+    private void complete(List<OutboxEvent> done, List<OutboxEvent> failed) {
+        TransactionStatus status = transactionManager.getTransaction(requiresNew());
+        try {
+            outboxEventRepository.deleteAllInBatch(done);
+            outboxEventRepository.saveAll(failed);
+            transactionManager.commit(status);
+        } catch (Exception e) {
+            transactionManager.rollback(status);
+            throw e;
+        }
+    }
+
+    private static DefaultTransactionDefinition requiresNew() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return definition;
+    }
+
+    /**
+     * n번째 실패 후 재시도 간격 (backoff-initial-ms * 2^(n-1), backoff-max-ms 이하)
+     */
+    long backoffMs(int attempts) {
+        int doublings = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(backoffInitialMs << doublings, backoffMaxMs);
+    }
+
+    /**
+     * 구독 리스너에 이벤트 전달
+     *
+     * @return 실패 사유 (모두 성공하면 null)
+     */
+    private String dispatch(OutboxEvent event) {
+        String error = null;
+        for (OutboxEventListener listener : listeners.orderedStream().toList()) {
+            if (!listener.supports(event.getEventType())) {
+                continue;
+            }
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                error = listener.getClass().getSimpleName() + ": " + e;
+                log.warn("아웃박스 이벤트 처리 실패 - Listener: {}, EventId: {}, Type: {}",
+                        listener.getClass().getSimpleName(), event.getEventId(), event.getEventType(), e);
+            }
+        }
+        return error;
+    }
+
+    /**
+     * 보관된 전달 포기 이벤트 수 갱신, 남아 있으면 오류 로그로 알림
+     */
+    @Scheduled(fixedDelayString = "${outbox.dead-letter-check-ms:60000}")
+    public void reportDeadLetters() {
+        try {
+            long dead = outboxEventRepository.countByStatus(OutboxEventStatus.DEAD);
+            deadEvents.set(dead);
+            if (dead > 0) {
+                log.error("전달을 포기한 아웃박스 이벤트 {}건이 보관되어 있음 - outbox_event.status = 'DEAD' 확인 필요", dead);
+            }
+        } catch (Exception e) {
+            log.warn("아웃박스 전달 포기 이벤트 수 조회 실패", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        drainExecutor.shutdown();
+    }
+}
@@ -0,0 +1,54 @@
+package backend.databaseproject.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 아웃박스 이벤트 기록
+ * 호출자의 트랜잭션 안에서 이벤트를 기록하고, 커밋되면 {@link OutboxRelay}를 깨워 바로 전달합니다.
+ * 커밋 직후 노드가 죽어도 이벤트는 테이블에 남아 있으므로 다음 폴링(다른 노드 포함)에서 전달됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 기록 (트랜잭션 필수)
+     *
+     * @param eventType   이벤트 유형
+     * @param aggregateId 집계 ID (경로 ID 또는 주문 ID)
+     * @param payload     JSON으로 직렬화할 본문
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType eventType, Long aggregateId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패 - " + eventType, e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(json)
+                .build());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.requestDrain();
+            }
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package backend.databaseproject.global.util;
+
+import java.util.Arrays;
+
+/**
+ * 궤적 단순화/인코딩 유틸리티 클래스
+ * Douglas–Peucker 단순화와 Encoded Polyline(정밀도 1e-5) 인코딩 기능을 제공합니다.
+ */
+public class PolylineUtils {
+
+    private static final double METERS_PER_DEGREE = 6371000.0 * Math.PI / 180.0;
+
+    /**
+     * Douglas–Peucker 궤적 단순화
+     * 시작점 위도 기준 평면 근사(미터)로 각 점과 양 끝점 선분 사이의 거리를 계산하며,
+     * 재귀 대신 명시적 스택을 사용하므로 점이 많아도 스택 오버플로가 없습니다.
+     *
+     * @param lats       위도 배열
+     * @param lngs       경도 배열
+     * @param count      사용할 점 수 (배열 앞에서부터)
+     * @param toleranceM 허용 오차 (m), 0 이하면 모든 점 유지
+     * @return 유지할 점 표시 배열 (양 끝점은 항상 유지)
+     */
+    public static boolean[] simplify(double[] lats, double[] lngs, int count, double toleranceM) {
+        boolean[] keep = new boolean[count];
+        if (count <= 2 || toleranceM <= 0) {
+            Arrays.fill(keep, true);
+            return keep;
+        }
+
+        double cosLat = Math.cos(Math.toRadians(lats[0]));
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = (lngs[i] - lngs[0]) * cosLat * METERS_PER_DEGREE;
+            ys[i] = (lats[i] - lats[0]) * METERS_PER_DEGREE;
+        }
+
+        double toleranceSq = toleranceM * toleranceM;
+        keep[0] = true;
+        keep[count - 1] = true;
+
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = count - 1;
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+
+            double maxDistSq = -1;
+            int farthest = -1;
+            for (int i = start + 1; i < end; i++) {
+                double distSq = segmentDistanceSq(xs[i], ys[i], xs[start], ys[start], xs[end], ys[end]);
+                if (distSq > maxDistSq) {
+                    maxDistSq = distSq;
+                    farthest = i;
+                }
+            }
+
+            if (farthest >= 0 && maxDistSq > toleranceSq) {
+                keep[farthest] = true;
+                if (top + 4 > stack.length) {
+                    stack = Arrays.copyOf(stack, stack.length * 2);
+                }
+                stack[top++] = start;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = end;
+            }
+        }
+        return keep;
+    }
+
+    /**
+     * Encoded Polyline 인코딩 (Google 알고리즘, 정밀도 1e-5)
+     *
+     * @param lats  위도 배열
+     * @param lngs  경도 배열
+     * @param count 전체 점 수
+     * @param keep  인코딩할 점 표시 (null이면 전체)
+     * @return 인코딩된 문자열
+     */
+    public static String encode(double[] lats, double[] lngs, int count, boolean[] keep) {
+        StringBuilder sb = new StringBuilder(count * 4);
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < count; i++) {
+            if (keep != null && !keep[i]) {
+                continue;
+            }
+            long lat = Math.round(lats[i] * 1e5);
+            long lng = Math.round(lngs[i] * 1e5);
+            encodeValue(lat - prevLat, sb);
+            encodeValue(lng - prevLng, sb);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    private static void encodeValue(long value, StringBuilder sb) {
+        long v = value < 0 ? ~(value << 1) : value << 1;
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+
+    /**
+     * 점 (px, py)와 선분 (ax, ay)-(bx, by) 사이 거리의 제곱
+     */
+    private static double segmentDistanceSq(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSq = dx * dx + dy * dy;
+        double t = lengthSq == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSq;
+        t = Math.max(0, Math.min(1, t));
+        double ex = px - (ax + t * dx);
+        double ey = py - (ay + t * dy);
+        return ex * ex + ey * ey;
+    }
+}
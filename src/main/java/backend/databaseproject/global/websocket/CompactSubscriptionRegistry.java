@@ -0,0 +1,94 @@
+package backend.databaseproject.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 압축 위치 주소(.../compact) 구독 현황
+ * 이 노드의 STOMP 구독/해지/연결 종료 이벤트로 주소별 구독 수를 유지합니다.
+ * - 구독자가 없는 압축 주소에는 프레임을 보내지 않습니다.
+ * - 새 구독이 생긴 주소는 다음 틱에 키프레임을 보내도록 표시하여, 늦게 구독한 클라이언트가 키프레임 간격을 기다리지 않게 합니다.
+ *
+ * 키프레임 요청은 이 노드에서 시뮬레이션 중인 경로에만 적용됩니다.
+ * 다른 노드에서 중계받는 경로를 구독한 클라이언트는 주기적 키프레임(tracking.compact.keyframe-interval)을 기다립니다.
+ */
+@Component
+@Slf4j
+public class CompactSubscriptionRegistry {
+
+    public static final String COMPACT_SUFFIX = "/compact";
+
+    // 세션 ID -> (구독 ID -> 주소)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+
+    // 주소 -> 구독 수
+    private final Map<String, Integer> subscribers = new ConcurrentHashMap<>();
+
+    // 구독 후 아직 키프레임을 보내지 않은 주소
+    private final Set<String> keyframeRequested = ConcurrentHashMap.newKeySet();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null
+                || destination == null || !destination.endsWith(COMPACT_SUFFIX)) {
+            return;
+        }
+        sessions.computeIfAbsent(accessor.getSessionId(), key -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+        subscribers.merge(destination, 1, Integer::sum);
+        keyframeRequested.add(destination);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null ? sessions.get(accessor.getSessionId()) : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String destination = subscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            release(destination);
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = event.getSessionId() != null ? sessions.remove(event.getSessionId()) : null;
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    /**
+     * 주소에 이 노드의 구독자가 있는지 확인
+     */
+    public boolean hasSubscribers(String destination) {
+        return subscribers.containsKey(destination);
+    }
+
+    /**
+     * 새 구독자가 생긴 주소인지 확인하고 표시를 지움 (시뮬레이션 스레드에서 키프레임 여부 결정용)
+     */
+    public boolean takeKeyframeRequest(String destination) {
+        return !keyframeRequested.isEmpty() && keyframeRequested.remove(destination);
+    }
+
+    private void release(String destination) {
+        Integer remaining = subscribers.computeIfPresent(destination, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            keyframeRequested.remove(destination);
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package backend.databaseproject.global.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 위치 프레임 최신값 병합(conflation)
+ * 위치 토픽(/topic/route/{id}, /topic/order/{id}/position)에 대해 세션·구독 주소별로 소켓에 쓰이지 않은 프레임을 최대 1개만 전달하고,
+ * 그 사이 도착한 프레임은 가장 최신 것 하나만 보관했다가 이전 프레임이 실제로 전송된 뒤 내보냅니다.
+ * 느린 클라이언트의 세션 버퍼에 오래된 위치가 쌓이지 않으며, 세션당 메모리는 구독 주소 수만큼으로 제한됩니다.
+ *
+ * 배송 완료(FULFILLED) 알림 등 위치 토픽이 아닌 메시지는 병합하지 않고 그대로 통과시킵니다.
+ * 전송 완료 시점은 세션 데코레이터에서 실제 쓰기가 끝난 STOMP MESSAGE 프레임의 destination 헤더로 판단합니다.
+ *
+ * 소켓에 쓴 MESSAGE 프레임은 drone.websocket.messages.sent, 최신 프레임으로 교체되거나(conflated)
+ * 세션 종료로 보내지 못한(closed) 위치 프레임은 drone.websocket.messages.dropped로 집계합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PositionFrameConflator implements ChannelInterceptor {
+
+    private static final String ROUTE_PREFIX = "/topic/route/";
+    private static final String ORDER_PREFIX = "/topic/order/";
+    private static final String POSITION_SUFFIX = "/position";
+
+    // 재전송 중인 메시지는 병합 검사를 건너뜀
+    private static final ThreadLocal<Boolean> REDISPATCHING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    // 세션 ID -> (구독 주소 -> 슬롯)
+    private final Map<String, Map<String, Slot>> sessions = new ConcurrentHashMap<>();
+
+    // 전송 완료 신호를 받지 못한 프레임을 유실로 간주하는 시간 (세션 종료 중 버려진 프레임 등)
+    @Value("${websocket.conflation.in-flight-timeout-ms:10000}")
+    private long inFlightTimeoutMs;
+
+    private final MeterRegistry meterRegistry;
+
+    private volatile MessageChannel outboundChannel;
+
+    private Counter sentCounter;
+    private Counter conflatedCounter;
+    private Counter closedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        sentCounter = Counter.builder("drone.websocket.messages.sent")
+                .description("소켓에 쓴 STOMP MESSAGE 프레임 수")
+                .register(meterRegistry);
+        conflatedCounter = droppedCounter("conflated");
+        closedCounter = droppedCounter("closed");
+    }
+
+    private Counter droppedCounter(String reason) {
+        return Counter.builder("drone.websocket.messages.dropped")
+                .description("보내지 않고 버린 위치 프레임 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (REDISPATCHING.get()) {
+            return message;
+        }
+        MessageHeaders headers = message.getHeaders();
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || sessionId == null || !isConflatable(destination)) {
+            return message;
+        }
+        outboundChannel = channel;
+
+        Slot slot = sessions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(destination, key -> new Slot());
+        synchronized (slot) {
+            long now = System.currentTimeMillis();
+            if (slot.inFlight && now - slot.inFlightSince < inFlightTimeoutMs) {
+                // 이전 프레임이 아직 소켓에 쓰이지 않음 - 최신 프레임으로 교체
+                if (slot.pending != null) {
+                    conflatedCounter.increment();
+                }
+                slot.pending = message;
+                return null;
+            }
+            if (slot.pending != null) {
+                // 유실로 간주한 프레임 뒤에 보관된 프레임은 지금 보내는 프레임보다 오래됨
+                conflatedCounter.increment();
+                slot.pending = null;
+            }
+            slot.inFlight = true;
+            slot.inFlightSince = now;
+            return message;
+        }
+    }
+
+    /**
+     * 위치 프레임 전송 완료 처리
+     * 보관된 최신 프레임이 있으면 이어서 내보냅니다.
+     */
+    void onFrameWritten(String sessionId, String destination) {
+        Map<String, Slot> slots = sessions.get(sessionId);
+        Slot slot = slots != null ? slots.get(destination) : null;
+        if (slot == null) {
+            return;
+        }
+        Message<?> next;
+        synchronized (slot) {
+            next = slot.pending;
+            slot.pending = null;
+            if (next == null) {
+                slot.inFlight = false;
+                return;
+            }
+            slot.inFlightSince = System.currentTimeMillis();
+        }
+        redispatch(next);
+    }
+
+    private void redispatch(Message<?> message) {
+        MessageChannel channel = outboundChannel;
+        if (channel == null) {
+            return;
+        }
+        REDISPATCHING.set(Boolean.TRUE);
+        try {
+            channel.send(message);
+        } finally {
+            REDISPATCHING.set(Boolean.FALSE);
+        }
+    }
+
+    /**
+     * 세션 종료 시 슬롯 정리
+     */
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        removeSession(event.getSessionId());
+    }
+
+    void removeSession(String sessionId) {
+        Map<String, Slot> slots = sessionId != null ? sessions.remove(sessionId) : null;
+        if (slots == null) {
+            return;
+        }
+        for (Slot slot : slots.values()) {
+            synchronized (slot) {
+                if (slot.pending != null) {
+                    closedCounter.increment();
+                    slot.pending = null;
+                }
+            }
+        }
+        log.debug("위치 프레임 병합 슬롯 정리 - SessionId: {}", sessionId);
+    }
+
+    /**
+     * 전송 완료 추적용 WebSocketHandler 데코레이터 생성
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WriteTrackingHandler(handler);
+    }
+
+    static boolean isConflatable(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        if (destination.startsWith(ROUTE_PREFIX)) {
+            return isDigits(destination, ROUTE_PREFIX.length(), destination.length());
+        }
+        if (destination.startsWith(ORDER_PREFIX) && destination.endsWith(POSITION_SUFFIX)) {
+            return isDigits(destination, ORDER_PREFIX.length(), destination.length() - POSITION_SUFFIX.length());
+        }
+        return false;
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * STOMP MESSAGE 프레임의 destination 헤더 추출 (헤더 영역만 검사)
+     */
+    static String frameDestination(WebSocketMessage<?> message) {
+        String header;
+        if (message instanceof TextMessage textMessage) {
+            header = textMessage.getPayload();
+        } else if (message instanceof BinaryMessage binaryMessage) {
+            ByteBuffer buffer = binaryMessage.getPayload().duplicate();
+            int length = Math.min(buffer.remaining(), 512);
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            header = new String(bytes, StandardCharsets.US_ASCII);
+        } else {
+            return null;
+        }
+        if (!header.startsWith("MESSAGE\n")) {
+            return null;
+        }
+        int headerEnd = header.indexOf("\n\n");
+        int start = header.indexOf("\ndestination:");
+        if (start < 0 || (headerEnd >= 0 && start > headerEnd)) {
+            return null;
+        }
+        start += "\ndestination:".length();
+        int end = header.indexOf('\n', start);
+        return end < 0 ? null : header.substring(start, end);
+    }
+
+    /**
+     * 세션·구독 주소별 슬롯
+     */
+    private static final class Slot {
+        private boolean inFlight;
+        private long inFlightSince;
+        private Message<?> pending;
+    }
+
+    /**
+     * 세션을 전송 완료 추적 데코레이터로 감싸는 핸들러
+     */
+    private final class WriteTrackingHandler extends WebSocketHandlerDecorator {
+
+        WriteTrackingHandler(WebSocketHandler delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+            super.afterConnectionEstablished(new WriteTrackingSession(session));
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+            try {
+                super.afterConnectionClosed(session, closeStatus);
+            } finally {
+                removeSession(session.getId());
+            }
+        }
+    }
+
+    /**
+     * 위치 프레임이 실제로 쓰인 시점을 알리는 세션 데코레이터
+     * 하위 STOMP 핸들러는 연결 시 받은 세션으로 전송하고, 이후 콜백의 세션은 ID로만 식별합니다.
+     */
+    private final class WriteTrackingSession extends WebSocketSessionDecorator {
+
+        WriteTrackingSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            super.sendMessage(message);
+            String destination = frameDestination(message);
+            if (destination != null) {
+                sentCounter.increment();
+            }
+            if (isConflatable(destination)) {
+                onFrameWritten(getId(), destination);
+            }
+        }
+    }
+}
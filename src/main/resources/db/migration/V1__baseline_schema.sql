@@ -0,0 +1,229 @@
+-- ========================================
+-- V1. 기준 스키마
+-- 엔티티 매핑과 같은 형식(Hibernate MySQL 방언)으로 작성합니다.
+-- 이미 ddl-auto로 만들어진 DB에서는 있는 테이블을 건너뛰고 없는 테이블(ID 시퀀스, 샤드 임대 등)만 만듭니다
+-- (baseline-version 0 + IF NOT EXISTS).
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS `user` (
+    user_id       BIGINT        NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(80)   NOT NULL,
+    phone         VARCHAR(20),
+    address       VARCHAR(200),
+    lat           DECIMAL(9, 6) NOT NULL,
+    lng           DECIMAL(9, 6) NOT NULL,
+    role          ENUM ('CUSTOMER', 'OWNER') NOT NULL,
+    registered_at DATETIME(6)   NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS store (
+    store_id           BIGINT        NOT NULL AUTO_INCREMENT,
+    owner_id           BIGINT        NOT NULL,
+    name               VARCHAR(100)  NOT NULL,
+    type               ENUM ('CONVENIENCE', 'PHARMACY', 'OTHER') NOT NULL,
+    phone              VARCHAR(30),
+    address            VARCHAR(200),
+    lat                DECIMAL(9, 6) NOT NULL,
+    lng                DECIMAL(9, 6) NOT NULL,
+    delivery_radius_km DECIMAL(5, 2) NOT NULL,
+    is_active          BIT           NOT NULL,
+    registered_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (store_id),
+    CONSTRAINT fk_store_owner FOREIGN KEY (owner_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS product (
+    product_id            BIGINT        NOT NULL AUTO_INCREMENT,
+    name                  VARCHAR(120)  NOT NULL,
+    category              VARCHAR(60)   NOT NULL,
+    unit_weight_kg        DECIMAL(6, 3) NOT NULL,
+    requires_verification BIT           NOT NULL,
+    is_active             BIT           NOT NULL,
+    PRIMARY KEY (product_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS store_product (
+    store_id          BIGINT  NOT NULL,
+    product_id        BIGINT  NOT NULL,
+    price             INTEGER NOT NULL,
+    stock_qty         INTEGER NOT NULL,
+    max_qty_per_order INTEGER NOT NULL,
+    is_active         BIT     NOT NULL,
+    PRIMARY KEY (store_id, product_id),
+    CONSTRAINT fk_store_product_store FOREIGN KEY (store_id) REFERENCES store (store_id),
+    CONSTRAINT fk_store_product_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS drone (
+    drone_id         BIGINT        NOT NULL AUTO_INCREMENT,
+    store_id         BIGINT        NOT NULL,
+    model            VARCHAR(40)   NOT NULL,
+    battery_capacity INTEGER       NOT NULL,
+    max_payload_kg   DECIMAL(6, 3) NOT NULL,
+    status           ENUM ('IDLE', 'IN_FLIGHT', 'CHARGING', 'MAINTENANCE', 'RETIRED') NOT NULL,
+    registered_at    DATETIME(6)   NOT NULL,
+    PRIMARY KEY (drone_id),
+    CONSTRAINT fk_drone_store FOREIGN KEY (store_id) REFERENCES store (store_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS no_fly_zone (
+    zone_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(100) NOT NULL,
+    polygon       TEXT         NOT NULL,
+    is_active     BIT          NOT NULL,
+    registered_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (zone_id)
+) ENGINE = InnoDB;
+
+-- 테이블 기반 ID 할당 (IdSequences, pooled-lo)
+CREATE TABLE IF NOT EXISTS id_sequence (
+    seq_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (seq_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS orders (
+    order_id        BIGINT        NOT NULL,
+    store_id        BIGINT        NOT NULL,
+    user_id         BIGINT        NOT NULL,
+    origin_lat      DECIMAL(9, 6) NOT NULL,
+    origin_lng      DECIMAL(9, 6) NOT NULL,
+    dest_lat        DECIMAL(9, 6) NOT NULL,
+    dest_lng        DECIMAL(9, 6) NOT NULL,
+    total_weight_kg DECIMAL(8, 3) NOT NULL,
+    total_amount    INTEGER       NOT NULL,
+    item_count      INTEGER       NOT NULL,
+    status          ENUM ('CREATED', 'ASSIGNED', 'FULFILLED', 'CANCELED', 'FAILED') NOT NULL,
+    created_at      DATETIME(6)   NOT NULL,
+    assigned_at     DATETIME(6),
+    completed_at    DATETIME(6),
+    canceled_at     DATETIME(6),
+    failure_reason  TEXT,
+    note            TEXT,
+    PRIMARY KEY (order_id),
+    CONSTRAINT fk_orders_store FOREIGN KEY (store_id) REFERENCES store (store_id),
+    CONSTRAINT fk_orders_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS order_item (
+    order_item_id  BIGINT        NOT NULL,
+    order_id       BIGINT        NOT NULL,
+    product_id     BIGINT        NOT NULL,
+    quantity       INTEGER       NOT NULL,
+    unit_price     INTEGER       NOT NULL,
+    unit_weight_kg DECIMAL(6, 3) NOT NULL,
+    PRIMARY KEY (order_item_id),
+    CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES orders (order_id),
+    CONSTRAINT fk_order_item_product FOREIGN KEY (product_id) REFERENCES product (product_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS route (
+    route_id                  BIGINT        NOT NULL,
+    drone_id                  BIGINT        NOT NULL,
+    store_id                  BIGINT        NOT NULL,
+    status                    ENUM ('PLANNED', 'LAUNCHED', 'COMPLETED', 'ABORTED') NOT NULL,
+    planned_start_at          DATETIME(6),
+    planned_end_at            DATETIME(6),
+    actual_start_at           DATETIME(6),
+    actual_end_at             DATETIME(6),
+    planned_total_distance_km DECIMAL(8, 3),
+    planned_total_payload_kg  DECIMAL(8, 3),
+    heuristic                 VARCHAR(40),
+    note                      TEXT,
+    PRIMARY KEY (route_id),
+    CONSTRAINT fk_route_drone FOREIGN KEY (drone_id) REFERENCES drone (drone_id),
+    CONSTRAINT fk_route_store FOREIGN KEY (store_id) REFERENCES store (store_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS route_stop (
+    stop_id              BIGINT        NOT NULL,
+    route_id             BIGINT        NOT NULL,
+    stop_sequence        INTEGER       NOT NULL,
+    type                 ENUM ('PICKUP', 'DROP', 'WAYPOINT', 'RETURN') NOT NULL,
+    name                 VARCHAR(120),
+    lat                  DECIMAL(9, 6) NOT NULL,
+    lng                  DECIMAL(9, 6) NOT NULL,
+    planned_arrival_at   DATETIME(6),
+    planned_departure_at DATETIME(6),
+    actual_arrival_at    DATETIME(6),
+    actual_departure_at  DATETIME(6),
+    status               ENUM ('PENDING', 'ARRIVED', 'DEPARTED', 'SKIPPED') NOT NULL,
+    payload_delta_kg     DECIMAL(7, 3),
+    store_id             BIGINT,
+    user_id              BIGINT,
+    note                 TEXT,
+    PRIMARY KEY (stop_id),
+    CONSTRAINT fk_route_stop_route FOREIGN KEY (route_id) REFERENCES route (route_id),
+    CONSTRAINT fk_route_stop_store FOREIGN KEY (store_id) REFERENCES store (store_id),
+    CONSTRAINT fk_route_stop_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS route_stop_order (
+    route_stop_order_id BIGINT      NOT NULL,
+    stop_id             BIGINT      NOT NULL,
+    order_id            BIGINT      NOT NULL,
+    created_at          DATETIME(6) NOT NULL,
+    PRIMARY KEY (route_stop_order_id),
+    CONSTRAINT fk_route_stop_order_stop FOREIGN KEY (stop_id) REFERENCES route_stop (stop_id),
+    CONSTRAINT fk_route_stop_order_order FOREIGN KEY (order_id) REFERENCES orders (order_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS route_position (
+    pos_id       BIGINT        NOT NULL,
+    route_id     BIGINT        NOT NULL,
+    stop_from_id BIGINT,
+    stop_to_id   BIGINT,
+    lat          DECIMAL(9, 6) NOT NULL,
+    lng          DECIMAL(9, 6) NOT NULL,
+    speed_mps    DECIMAL(6, 2),
+    battery_pct  DECIMAL(5, 2),
+    ts           DATETIME(6)   NOT NULL,
+    PRIMARY KEY (pos_id),
+    CONSTRAINT fk_route_position_route FOREIGN KEY (route_id) REFERENCES route (route_id),
+    CONSTRAINT fk_route_position_stop_from FOREIGN KEY (stop_from_id) REFERENCES route_stop (stop_id),
+    CONSTRAINT fk_route_position_stop_to FOREIGN KEY (stop_to_id) REFERENCES route_stop (stop_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS flight_log (
+    log_id       BIGINT        NOT NULL,
+    route_id     BIGINT        NOT NULL,
+    drone_id     BIGINT        NOT NULL,
+    start_time   DATETIME(6)   NOT NULL,
+    end_time     DATETIME(6)   NOT NULL,
+    distance     DECIMAL(8, 3) NOT NULL,
+    battery_used INTEGER       NOT NULL,
+    result       ENUM ('SUCCESS', 'ABORTED', 'EMERGENCY_LAND') NOT NULL,
+    note         TEXT,
+    PRIMARY KEY (log_id),
+    CONSTRAINT fk_flight_log_route FOREIGN KEY (route_id) REFERENCES route (route_id),
+    CONSTRAINT fk_flight_log_drone FOREIGN KEY (drone_id) REFERENCES drone (drone_id)
+) ENGINE = InnoDB;
+
+-- 다중 노드 비행 시뮬레이션 (샤드 임대, 노드 하트비트, 추적 이벤트 중계)
+CREATE TABLE IF NOT EXISTS flight_shard_lease (
+    shard_no    INTEGER      NOT NULL,
+    owner_node  VARCHAR(100),
+    lease_until DATETIME(6),
+    PRIMARY KEY (shard_no)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS flight_node (
+    node_id      VARCHAR(100) NOT NULL,
+    heartbeat_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (node_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS tracking_relay_event (
+    event_id        BIGINT          NOT NULL AUTO_INCREMENT,
+    origin_node     VARCHAR(100)    NOT NULL,
+    event_type      ENUM ('POSITION', 'PLAN', 'ORDER_STATUS', 'ROUTE_COMPLETED') NOT NULL,
+    route_id        BIGINT,
+    order_id        BIGINT,
+    order_ids       VARCHAR(1000),
+    payload         VARBINARY(4096) NOT NULL,
+    compact_payload VARBINARY(128),
+    created_at      DATETIME(6)     NOT NULL,
+    PRIMARY KEY (event_id),
+    INDEX idx_tracking_relay_event_created_at (created_at)
+) ENGINE = InnoDB;
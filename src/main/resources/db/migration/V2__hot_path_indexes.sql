@@ -0,0 +1,29 @@
+-- ========================================
+-- V2. 조회 경로 보조 인덱스
+-- 각 인덱스가 받치는 Repository 쿼리를 함께 적습니다 (RepositoryIndexUsageTests에서 EXPLAIN으로 검증).
+-- ========================================
+
+-- OrderRepository.findByStatus, findPendingOrdersWithStoreAndUser (status 조건 + store_id, created_at 정렬)
+CREATE INDEX idx_orders_status_store_created ON orders (status, store_id, created_at);
+
+-- OrderRepository.findByStoreIdWithDetails, findByStoreIdAndStatusWithDetails, findByStoreStoreIdAndStatus
+-- (매장별 주문을 created_at 순으로 조회)
+CREATE INDEX idx_orders_store_created ON orders (store_id, created_at);
+
+-- RoutePositionRepository.findLatestByRouteId (경로별 최신 위치 1건)
+CREATE INDEX idx_route_position_route_ts ON route_position (route_id, ts);
+
+-- RouteStopRepository.findByRouteRouteIdOrderByStopSequence, findNextPendingStop
+CREATE INDEX idx_route_stop_route_sequence ON route_stop (route_id, stop_sequence);
+
+-- DroneRepository.findFirstByStoreAndStatus, findByStore
+CREATE INDEX idx_drone_store_status ON drone (store_id, status);
+
+-- DroneRepository.findByStatus, findFirstByStatus, countByStatus
+CREATE INDEX idx_drone_status ON drone (status);
+
+-- DroneRepository.findMinMaxPayloadKg (주문 생성마다 호출, 인덱스 끝값으로 바로 계산)
+CREATE INDEX idx_drone_max_payload ON drone (max_payload_kg);
+
+-- 주문별 경로 조회 (route_stop_order -> route_stop), 주문 상세의 경로 ID 일괄 조회
+CREATE INDEX idx_route_stop_order_order ON route_stop_order (order_id);
@@ -0,0 +1,48 @@
+-- ========================================
+-- V3. route_position 일별 파티션 + 다운샘플 궤적 테이블
+-- 위치는 비행 중 드론마다 2초에 한 행씩 쌓이므로 ts 기준 RANGE 파티션으로 나누고,
+-- 보관 기간이 지난 날짜는 RoutePositionRetentionService가 궤적으로 요약한 뒤 파티션째 삭제합니다 (DROP PARTITION).
+--
+-- MySQL 파티션 테이블 제약:
+--   - 모든 유일 키에 파티션 키가 포함되어야 하므로 기본 키를 (pos_id, ts)로 변경 (pos_id는 ID 시퀀스로 계속 유일)
+--   - 외래 키를 가질 수 없으므로 route_position의 외래 키 제거 (인덱스는 유지)
+-- ========================================
+
+-- 외래 키 제거 (ddl-auto로 만든 DB는 제약 이름이 다르므로 information_schema에서 조회)
+SET @drop_fks = (SELECT GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`'))
+                 FROM information_schema.TABLE_CONSTRAINTS
+                 WHERE TABLE_SCHEMA = DATABASE()
+                   AND TABLE_NAME = 'route_position'
+                   AND CONSTRAINT_TYPE = 'FOREIGN KEY');
+SET @ddl = IF(@drop_fks IS NULL, 'DO 0', CONCAT('ALTER TABLE route_position ', @drop_fks));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 기본 키에 ts 포함 (AUTO_INCREMENT가 남아 있는 기존 DB도 함께 정리)
+ALTER TABLE route_position
+    MODIFY pos_id BIGINT NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (pos_id, ts);
+
+-- 기존 데이터는 p_history(내일 0시 이전)에, 이후 날짜는 보관 작업이 일별 파티션을 미리 나눠 둠
+SET @bound = DATE_FORMAT(CURDATE() + INTERVAL 1 DAY, '%Y-%m-%d');
+SET @ddl = CONCAT('ALTER TABLE route_position PARTITION BY RANGE COLUMNS (ts) (',
+                  'PARTITION p_history VALUES LESS THAN (''', @bound, '''), ',
+                  'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 경로별 다운샘플 궤적 (버킷 단위 평균 위치)
+CREATE TABLE route_track_rollup (
+    route_id     BIGINT        NOT NULL,
+    bucket_start DATETIME      NOT NULL,
+    lat          DECIMAL(9, 6) NOT NULL,
+    lng          DECIMAL(9, 6) NOT NULL,
+    speed_mps    DECIMAL(6, 2),
+    battery_pct  DECIMAL(5, 2),
+    sample_count INTEGER       NOT NULL,
+    PRIMARY KEY (route_id, bucket_start),
+    INDEX idx_route_track_rollup_bucket (bucket_start)
+) ENGINE = InnoDB;
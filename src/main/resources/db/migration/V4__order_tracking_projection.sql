@@ -0,0 +1,62 @@
+-- ========================================
+-- V4. 주문 추적 조회 모델 (order_tracking)
+-- 주문 추적 조회를 기본 키 한 번으로 처리하기 위한 비정규화 테이블입니다.
+-- 주문 생성/배정/완료/취소/실패 시 같은 트랜잭션에서 OrderTrackingProjector가 갱신합니다.
+-- ========================================
+
+CREATE TABLE order_tracking (
+    order_id         BIGINT        NOT NULL,
+    store_id         BIGINT        NOT NULL,
+    store_name       VARCHAR(100)  NOT NULL,
+    user_id          BIGINT        NOT NULL,
+    status           ENUM ('CREATED', 'ASSIGNED', 'FULFILLED', 'CANCELED', 'FAILED') NOT NULL,
+    route_id         BIGINT,
+    eta              DATETIME(6),
+    items_summary    VARCHAR(255)  NOT NULL,
+    item_count       INTEGER       NOT NULL,
+    total_amount     INTEGER       NOT NULL,
+    last_lat         DECIMAL(9, 6),
+    last_lng         DECIMAL(9, 6),
+    last_position_at DATETIME(6),
+    created_at       DATETIME(6)   NOT NULL,
+    assigned_at      DATETIME(6),
+    completed_at     DATETIME(6),
+    canceled_at      DATETIME(6),
+    failure_reason   VARCHAR(255),
+    updated_at       DATETIME(6)   NOT NULL,
+    PRIMARY KEY (order_id),
+    INDEX idx_order_tracking_route (route_id)
+) ENGINE = InnoDB;
+
+-- 기존 주문 채우기 (경로/ETA는 배송지 정류장 기준, 마지막 위치는 다음 위치 기록부터 채워짐)
+INSERT INTO order_tracking (order_id, store_id, store_name, user_id, status, route_id, eta,
+                            items_summary, item_count, total_amount, created_at, assigned_at,
+                            completed_at, canceled_at, failure_reason, updated_at)
+SELECT o.order_id,
+       o.store_id,
+       s.name,
+       o.user_id,
+       o.status,
+       d.route_id,
+       d.eta,
+       COALESCE(LEFT(i.summary, 255), ''),
+       o.item_count,
+       o.total_amount,
+       o.created_at,
+       o.assigned_at,
+       o.completed_at,
+       o.canceled_at,
+       LEFT(o.failure_reason, 255),
+       NOW(6)
+FROM orders o
+         JOIN store s ON s.store_id = o.store_id
+         LEFT JOIN (SELECT rso.order_id, MAX(rs.route_id) AS route_id, MAX(rs.planned_arrival_at) AS eta
+                    FROM route_stop_order rso
+                             JOIN route_stop rs ON rs.stop_id = rso.stop_id
+                    WHERE rs.type = 'DROP'
+                    GROUP BY rso.order_id) d ON d.order_id = o.order_id
+         LEFT JOIN (SELECT oi.order_id,
+                           GROUP_CONCAT(CONCAT(p.name, ' x', oi.quantity) ORDER BY oi.order_item_id SEPARATOR ', ') AS summary
+                    FROM order_item oi
+                             JOIN product p ON p.product_id = oi.product_id
+                    GROUP BY oi.order_id) i ON i.order_id = o.order_id;
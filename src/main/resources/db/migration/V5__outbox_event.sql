@@ -0,0 +1,18 @@
+-- ========================================
+-- V5. 트랜잭셔널 아웃박스 (outbox_event)
+-- 상태 변경과 같은 트랜잭션에서 후속 작업 이벤트(비행 시작, 배송 완료 알림 등)를 기록하고,
+-- OutboxRelay가 커밋된 이벤트를 읽어 내부 리스너에 전달한 뒤 삭제합니다 (최소 1회 전달).
+-- ========================================
+
+CREATE TABLE outbox_event (
+    event_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    aggregate_type ENUM ('ROUTE', 'ORDER') NOT NULL,
+    aggregate_id   BIGINT       NOT NULL,
+    event_type     ENUM ('ROUTE_PLANNED', 'ORDER_FULFILLED', 'ROUTE_COMPLETED') NOT NULL,
+    payload        TEXT         NOT NULL,
+    attempts       INTEGER      NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (event_id),
+    -- 집계별 가장 오래된 이벤트 판별 (집계 내 순서 보장)
+    INDEX idx_outbox_event_aggregate (aggregate_type, aggregate_id, event_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,99 @@
+-- ========================================
+-- V6. 드론/매장 운항 통계 요약 (fleet_stat_rollup)
+-- 비행이 끝날 때 같은 트랜잭션에서 FleetStatsRecorder가 드론/매장별 시간·일 버킷에 누적합니다.
+-- 분석 API는 이 테이블만 읽으므로 flight_log 전체를 GROUP BY 하지 않습니다.
+--
+-- - 비행 시간(flight_seconds)은 비행이 걸친 버킷마다 겹친 만큼 나눠 담습니다 (가동률 = flight_seconds / 버킷 길이).
+-- - 비행 수, 배송 수, 거리, 배터리 사용량은 비행이 끝난 버킷에 담습니다.
+-- ========================================
+
+CREATE TABLE fleet_stat_rollup (
+    scope            ENUM ('DRONE', 'STORE') NOT NULL,
+    scope_id         BIGINT         NOT NULL,
+    granularity      ENUM ('HOUR', 'DAY') NOT NULL,
+    bucket_start     DATETIME       NOT NULL,
+    flights          INTEGER        NOT NULL,
+    deliveries       INTEGER        NOT NULL,
+    distance_km      DECIMAL(12, 3) NOT NULL,
+    flight_seconds   BIGINT         NOT NULL,
+    battery_used_sum BIGINT         NOT NULL,
+    PRIMARY KEY (scope, scope_id, granularity, bucket_start)
+) ENGINE = InnoDB;
+
+-- 기존 비행 로그 채우기: 비행을 시간 버킷으로 펼친 뒤 드론/매장, 시간/일 단위로 합산
+CREATE TEMPORARY TABLE tmp_flight_hour (
+    drone_id       BIGINT         NOT NULL,
+    store_id       BIGINT         NOT NULL,
+    bucket_start   DATETIME       NOT NULL,
+    flights        INTEGER        NOT NULL,
+    deliveries     INTEGER        NOT NULL,
+    distance_km    DECIMAL(12, 3) NOT NULL,
+    flight_seconds BIGINT         NOT NULL,
+    battery_used   BIGINT         NOT NULL
+) ENGINE = InnoDB;
+
+INSERT INTO tmp_flight_hour (drone_id, store_id, bucket_start, flights, deliveries, distance_km,
+                             flight_seconds, battery_used)
+WITH RECURSIVE flight_hour AS (
+    SELECT f.drone_id,
+           r.store_id,
+           f.start_time,
+           f.end_time,
+           f.distance,
+           f.battery_used,
+           COALESCE(d.deliveries, 0) AS deliveries,
+           CAST(DATE_FORMAT(f.start_time, '%Y-%m-%d %H:00:00') AS DATETIME) AS bucket_start
+    FROM flight_log f
+             JOIN route r ON r.route_id = f.route_id
+             LEFT JOIN (SELECT rs.route_id, COUNT(*) AS deliveries
+                        FROM route_stop_order rso
+                                 JOIN route_stop rs ON rs.stop_id = rso.stop_id
+                                 JOIN orders o ON o.order_id = rso.order_id
+                        WHERE o.status = 'FULFILLED'
+                        GROUP BY rs.route_id) d ON d.route_id = f.route_id
+    UNION ALL
+    SELECT drone_id, store_id, start_time, end_time, distance, battery_used, deliveries,
+           bucket_start + INTERVAL 1 HOUR
+    FROM flight_hour
+    WHERE bucket_start + INTERVAL 1 HOUR < end_time
+)
+SELECT drone_id,
+       store_id,
+       bucket_start,
+       -- 마지막 버킷(비행이 끝난 버킷)에만 건수/거리/배터리 반영
+       IF(bucket_start + INTERVAL 1 HOUR >= end_time, 1, 0),
+       IF(bucket_start + INTERVAL 1 HOUR >= end_time, deliveries, 0),
+       IF(bucket_start + INTERVAL 1 HOUR >= end_time, distance, 0),
+       TIMESTAMPDIFF(SECOND, GREATEST(start_time, bucket_start), LEAST(end_time, bucket_start + INTERVAL 1 HOUR)),
+       IF(bucket_start + INTERVAL 1 HOUR >= end_time, battery_used, 0)
+FROM flight_hour;
+
+INSERT INTO fleet_stat_rollup (scope, scope_id, granularity, bucket_start, flights, deliveries, distance_km,
+                               flight_seconds, battery_used_sum)
+SELECT 'DRONE', drone_id, 'HOUR', bucket_start,
+       SUM(flights), SUM(deliveries), SUM(distance_km), SUM(flight_seconds), SUM(battery_used)
+FROM tmp_flight_hour
+GROUP BY drone_id, bucket_start;
+
+INSERT INTO fleet_stat_rollup (scope, scope_id, granularity, bucket_start, flights, deliveries, distance_km,
+                               flight_seconds, battery_used_sum)
+SELECT 'DRONE', drone_id, 'DAY', DATE(bucket_start),
+       SUM(flights), SUM(deliveries), SUM(distance_km), SUM(flight_seconds), SUM(battery_used)
+FROM tmp_flight_hour
+GROUP BY drone_id, DATE(bucket_start);
+
+INSERT INTO fleet_stat_rollup (scope, scope_id, granularity, bucket_start, flights, deliveries, distance_km,
+                               flight_seconds, battery_used_sum)
+SELECT 'STORE', store_id, 'HOUR', bucket_start,
+       SUM(flights), SUM(deliveries), SUM(distance_km), SUM(flight_seconds), SUM(battery_used)
+FROM tmp_flight_hour
+GROUP BY store_id, bucket_start;
+
+INSERT INTO fleet_stat_rollup (scope, scope_id, granularity, bucket_start, flights, deliveries, distance_km,
+                               flight_seconds, battery_used_sum)
+SELECT 'STORE', store_id, 'DAY', DATE(bucket_start),
+       SUM(flights), SUM(deliveries), SUM(distance_km), SUM(flight_seconds), SUM(battery_used)
+FROM tmp_flight_hour
+GROUP BY store_id, DATE(bucket_start);
+
+DROP TEMPORARY TABLE tmp_flight_hour;
@@ -0,0 +1,9 @@
+-- ========================================
+-- V7. route_stop.type에 WAYPOINT 추가
+-- ddl-auto로 만들어진 기존 DB는 route_stop.type이 ENUM('PICKUP','DROP','RETURN')이고,
+-- V1은 이미 있는 테이블을 건너뛰므로 비행 금지 구역 우회 경유지(WAYPOINT) 저장이 실패합니다.
+-- 새로 만든 DB에서는 같은 정의로 다시 지정하므로 변화가 없습니다.
+-- ========================================
+
+ALTER TABLE route_stop
+    MODIFY type ENUM ('PICKUP', 'DROP', 'WAYPOINT', 'RETURN') NOT NULL;
@@ -0,0 +1,13 @@
+-- ========================================
+-- V8. 아웃박스 재시도 지연과 전달 포기 보관
+-- 실패한 이벤트는 next_attempt_at까지 지수적으로 늘어나는 간격을 두고 재시도하며,
+-- max-attempts회 실패한 이벤트는 삭제하지 않고 DEAD 상태로 남겨 지표와 오류 로그로 알립니다.
+-- DEAD 이벤트는 같은 집계의 다음 이벤트를 막지 않습니다.
+-- ========================================
+
+ALTER TABLE outbox_event
+    ADD COLUMN status          ENUM ('PENDING', 'DEAD') NOT NULL DEFAULT 'PENDING' AFTER payload,
+    ADD COLUMN next_attempt_at DATETIME(6)  NULL AFTER attempts,
+    ADD COLUMN last_error      VARCHAR(500) NULL AFTER next_attempt_at,
+    -- 전달 대기 이벤트 조회, 전달 포기 이벤트 수
+    ADD INDEX idx_outbox_event_status (status, event_id);
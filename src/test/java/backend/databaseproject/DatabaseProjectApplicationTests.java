@@ -1,10 +1,9 @@
 package backend.databaseproject;
 
+import backend.databaseproject.support.MySqlIntegrationTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class DatabaseProjectApplicationTests {
+class DatabaseProjectApplicationTests extends MySqlIntegrationTest {
 
     @Test
     void contextLoads() {
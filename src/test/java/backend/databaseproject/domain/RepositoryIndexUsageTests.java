@@ -0,0 +1,303 @@
+package backend.databaseproject.domain;
+
+import backend.databaseproject.domain.drone.entity.DroneStatus;
+import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.repository.OrderRepository;
+import backend.databaseproject.domain.route.entity.StopStatus;
+import backend.databaseproject.domain.route.repository.RoutePositionRepository;
+import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.store.repository.StoreRepository;
+import backend.databaseproject.support.MySqlIntegrationTest;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository 쿼리 인덱스 사용 회귀 테스트
+ * Flyway 마이그레이션으로 만든 MySQL 스키마에 분포가 실제와 비슷한 데이터를 넣고,
+ * OrderRepository / RoutePositionRepository / RouteStopRepository / DroneRepository 메서드를 실제로 호출하여
+ * Hibernate가 생성한 SQL을 StatementInspector로 가져온 뒤 EXPLAIN하고, 모든 테이블 접근이 인덱스를 사용하는지(전체 스캔이 아닌지) 확인합니다.
+ * 변경 쿼리는 롤백되는 트랜잭션에서 호출합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryIndexUsageTests extends MySqlIntegrationTest {
+
+    private static final int STORES = 20;
+    private static final int ORDERS = 5000;
+    private static final int DRONES = 400;
+    private static final int ROUTES = 200;
+    private static final int STOPS_PER_ROUTE = 6;
+    private static final int POSITIONS_PER_ROUTE = 30;
+
+    private static final Pattern TRAILING_LIMIT = Pattern.compile("(?i)\\blimit\\s+\\?\\s*$");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RoutePositionRepository routePositionRepository;
+
+    @Autowired
+    private RouteStopRepository routeStopRepository;
+
+    @Autowired
+    private DroneRepository droneRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (1, 'owner', 37.28, 127.04, 'OWNER', NOW()), (2, 'customer', 37.29, 127.05, 'CUSTOMER', NOW())");
+        jdbcTemplate.update("INSERT INTO product (product_id, name, category, unit_weight_kg, requires_verification, is_active) " +
+                "VALUES (1, 'water', 'drink', 0.500, 0, 1)");
+
+        List<Object[]> stores = new ArrayList<>();
+        for (int i = 1; i <= STORES; i++) {
+            stores.add(new Object[]{i, "store-" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO store (store_id, owner_id, name, type, lat, lng, delivery_radius_km, is_active, registered_at) " +
+                "VALUES (?, 1, ?, 'CONVENIENCE', 37.28, 127.04, 2.00, 1, NOW())", stores);
+
+        // 대부분 배송 완료, 대기/배정 주문은 소수 (실제 분포)
+        List<Object[]> orders = new ArrayList<>();
+        List<Object[]> items = new ArrayList<>();
+        for (int i = 1; i <= ORDERS; i++) {
+            String status = i % 50 == 0 ? "CREATED" : i % 50 == 1 ? "ASSIGNED" : "FULFILLED";
+            orders.add(new Object[]{i, (i % STORES) + 1, status, i});
+            items.add(new Object[]{i, i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (order_id, store_id, user_id, origin_lat, origin_lng, dest_lat, dest_lng, " +
+                "total_weight_kg, total_amount, item_count, status, created_at) " +
+                "VALUES (?, ?, 2, 37.28, 127.04, 37.29, 127.05, 0.500, 1000, 1, ?, NOW() - INTERVAL ? MINUTE)", orders);
+        jdbcTemplate.batchUpdate("INSERT INTO order_item (order_item_id, order_id, product_id, quantity, unit_price, unit_weight_kg) " +
+                "VALUES (?, ?, 1, 1, 1000, 0.500)", items);
+
+        // 대부분 비행 중, 대기 드론은 소수
+        List<Object[]> drones = new ArrayList<>();
+        for (int i = 1; i <= DRONES; i++) {
+            drones.add(new Object[]{i, (i % STORES) + 1, 2.000 + (i % 7) * 0.5, i % 20 == 0 ? "IDLE" : "IN_FLIGHT"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO drone (drone_id, store_id, model, battery_capacity, max_payload_kg, status, registered_at) " +
+                "VALUES (?, ?, 'DJI', 5000, ?, ?, NOW())", drones);
+
+        List<Object[]> routes = new ArrayList<>();
+        List<Object[]> stops = new ArrayList<>();
+        List<Object[]> stopOrders = new ArrayList<>();
+        List<Object[]> positions = new ArrayList<>();
+        long stopId = 1;
+        long positionId = 1;
+        for (int r = 1; r <= ROUTES; r++) {
+            routes.add(new Object[]{r, r, (r % STORES) + 1});
+            for (int s = 1; s <= STOPS_PER_ROUTE; s++) {
+                stops.add(new Object[]{stopId, r, s, s == 1 ? "PICKUP" : s == STOPS_PER_ROUTE ? "RETURN" : "DROP",
+                        s <= 2 ? "DEPARTED" : "PENDING"});
+                if (s > 1 && s < STOPS_PER_ROUTE) {
+                    stopOrders.add(new Object[]{stopId, stopId, ((r * 4 + s) % ORDERS) + 1});
+                }
+                stopId++;
+            }
+            for (int p = 0; p < POSITIONS_PER_ROUTE; p++) {
+                positions.add(new Object[]{positionId++, r, p});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO route (route_id, drone_id, store_id, status) VALUES (?, ?, ?, 'COMPLETED')", routes);
+        jdbcTemplate.batchUpdate("INSERT INTO route_stop (stop_id, route_id, stop_sequence, type, lat, lng, status) " +
+                "VALUES (?, ?, ?, ?, 37.28, 127.04, ?)", stops);
+        jdbcTemplate.batchUpdate("INSERT INTO route_stop_order (route_stop_order_id, stop_id, order_id, created_at) " +
+                "VALUES (?, ?, ?, NOW())", stopOrders);
+        jdbcTemplate.batchUpdate("INSERT INTO route_position (pos_id, route_id, lat, lng, ts) " +
+                "VALUES (?, ?, 37.28, 127.04, NOW() - INTERVAL ? SECOND)", positions);
+
+        jdbcTemplate.execute("ANALYZE TABLE orders, order_item, drone, route, route_stop, route_stop_order, route_position");
+    }
+
+    /**
+     * Repository 메서드별 호출과 바인딩 값 (Hibernate가 생성한 SQL의 ? 순서, LIMIT ?는 자동으로 1)
+     */
+    Stream<Arguments> repositoryQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+                // OrderRepository
+                query("OrderRepository.findByStatus",
+                        () -> orderRepository.findByStatus(OrderStatus.CREATED), "CREATED"),
+                query("OrderRepository.findByStoreStoreIdAndStatus",
+                        () -> orderRepository.findByStoreStoreIdAndStatus(3L, OrderStatus.CREATED), 3L, "CREATED"),
+                query("OrderRepository.findPendingOrdersWithStoreAndUser",
+                        () -> orderRepository.findPendingOrdersWithStoreAndUser(OrderStatus.CREATED), "CREATED"),
+                query("OrderRepository.findByStoreIdWithDetails",
+                        () -> orderRepository.findByStoreIdWithDetails(3L), 3L),
+                query("OrderRepository.findByStoreIdAndStatusWithDetails",
+                        () -> orderRepository.findByStoreIdAndStatusWithDetails(3L, OrderStatus.CREATED), 3L, "CREATED"),
+                query("OrderRepository.findByIdWithDetails",
+                        () -> orderRepository.findByIdWithDetails(100L), 100L),
+                query("OrderRepository.assignDelivery",
+                        () -> orderRepository.assignDelivery(List.of(50L, 100L, 150L), now,
+                                OrderStatus.CREATED, OrderStatus.ASSIGNED),
+                        "ASSIGNED", now, 50L, 100L, 150L, "CREATED"),
+                query("OrderRepository.countByRouteIdAndStatus",
+                        () -> orderRepository.countByRouteIdAndStatus(10L, OrderStatus.FULFILLED), 10L, "FULFILLED"),
+
+                // RoutePositionRepository
+                query("RoutePositionRepository.findLatestByRouteId",
+                        () -> routePositionRepository.findLatestByRouteId(10L), 10L),
+
+                // RouteStopRepository
+                query("RouteStopRepository.findByRouteRouteIdOrderByStopSequence",
+                        () -> routeStopRepository.findByRouteRouteIdOrderByStopSequence(10L), 10L),
+                query("RouteStopRepository.findNextPendingStop",
+                        () -> routeStopRepository.findNextPendingStop(10L), 10L),
+                query("RouteStopRepository.findByIdWithOrders",
+                        () -> routeStopRepository.findByIdWithOrders(20L), 20L),
+                query("RouteStopRepository.findAllWithOrdersByIds",
+                        () -> routeStopRepository.findAllWithOrdersByIds(List.of(20L, 21L, 22L, 23L)), 20L, 21L, 22L, 23L),
+                query("RouteStopRepository.markDeparted",
+                        () -> routeStopRepository.markDeparted(20L, now, StopStatus.ARRIVED, StopStatus.DEPARTED),
+                        "DEPARTED", now, 20L, "ARRIVED"),
+
+                // DroneRepository
+                query("DroneRepository.findByStatus",
+                        () -> droneRepository.findByStatus(DroneStatus.IDLE), "IDLE"),
+                query("DroneRepository.findFirstByStatus",
+                        () -> droneRepository.findFirstByStatus(DroneStatus.IDLE), "IDLE"),
+                query("DroneRepository.findFirstByStoreAndStatus",
+                        () -> droneRepository.findFirstByStoreAndStatus(storeRepository.getReferenceById(3L), DroneStatus.IDLE),
+                        3L, "IDLE"),
+                query("DroneRepository.countByStatus",
+                        () -> droneRepository.countByStatus(DroneStatus.IDLE), "IDLE"),
+                query("DroneRepository.findByStore",
+                        () -> droneRepository.findByStore(storeRepository.getReferenceById(3L)), 3L),
+                query("DroneRepository.findMinMaxPayloadKg",
+                        () -> droneRepository.findMinMaxPayloadKg()),
+                query("DroneRepository.changeStatusIf",
+                        () -> droneRepository.changeStatusIf(20L, DroneStatus.IDLE, DroneStatus.IN_FLIGHT),
+                        "IN_FLIGHT", 20L, "IDLE")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQueryUsesIndex(String name, Runnable invocation, Object[] binds) {
+        String sql = captureSql(name, invocation);
+        Object[] args = bindArguments(name, sql, binds);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+
+        assertThat(plan).as(name).isNotEmpty();
+        for (Map<String, Object> row : plan) {
+            String extra = String.valueOf(row.get("Extra"));
+            if (extra.contains("Select tables optimized away")) {
+                // MIN/MAX를 인덱스 끝값으로 바로 계산
+                continue;
+            }
+            assertThat(row.get("type"))
+                    .as("%s - 테이블 %s 전체 스캔 (%s)%n%s", name, row.get("table"), row, sql)
+                    .isNotEqualTo("ALL");
+            assertThat(row.get("key"))
+                    .as("%s - 테이블 %s 인덱스 미사용 (%s)%n%s", name, row.get("table"), row, sql)
+                    .isNotNull();
+        }
+    }
+
+    /**
+     * Repository 메서드를 롤백 트랜잭션에서 호출하고 Hibernate가 실행한 SQL 한 건을 가져옴
+     */
+    private String captureSql(String name, Runnable invocation) {
+        List<String> statements = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return sqlCapture.capture(invocation);
+        });
+        assertThat(statements).as("%s - 실행된 SQL", name).hasSize(1);
+        return statements.get(0);
+    }
+
+    /**
+     * SQL의 ? 개수와 바인딩 값 개수 확인 (Hibernate가 LIMIT을 ?로 만든 경우 1을 덧붙임)
+     */
+    private static Object[] bindArguments(String name, String sql, Object[] binds) {
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        Object[] args = binds;
+        if (placeholders == binds.length + 1 && TRAILING_LIMIT.matcher(sql).find()) {
+            args = Arrays.copyOf(binds, binds.length + 1);
+            args[binds.length] = 1;
+        }
+        assertThat(args).as("%s - 바인딩 값 개수가 SQL과 다름%n%s", name, sql).hasSize((int) placeholders);
+        return args;
+    }
+
+    private static Arguments query(String name, Runnable invocation, Object... binds) {
+        return Arguments.of(name, invocation, binds);
+    }
+
+    /**
+     * Hibernate가 준비하는 SQL을 호출 스레드 기준으로 수집 (스케줄러 등 다른 스레드의 SQL은 제외)
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final ThreadLocal<List<String>> active = new ThreadLocal<>();
+
+        List<String> capture(Runnable invocation) {
+            List<String> statements = new ArrayList<>();
+            active.set(statements);
+            try {
+                invocation.run();
+            } finally {
+                active.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = active.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureInspector(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
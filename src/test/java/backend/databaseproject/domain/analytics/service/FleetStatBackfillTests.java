@@ -0,0 +1,116 @@
+package backend.databaseproject.domain.analytics.service;
+
+import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.repository.OrderRepository;
+import backend.databaseproject.domain.route.entity.FlightLog;
+import backend.databaseproject.domain.route.repository.FlightLogRepository;
+import backend.databaseproject.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운항 통계 채우기(V6)와 비행 완료 시 누적의 일치 테스트
+ * 같은 비행 로그를 FleetStatsRecorder로 누적한 결과와, 테이블을 지우고 V6 스크립트(재귀 CTE 채우기)를 다시 실행한 결과를 비교합니다.
+ * 비행은 한 시간 안, 여러 시간, 자정을 넘는 경우이고 시각에는 초 미만 값을 넣습니다.
+ */
+class FleetStatBackfillTests extends MySqlIntegrationTest {
+
+    private static final String SNAPSHOT = "SELECT scope, scope_id, granularity, bucket_start, flights, deliveries, " +
+            "distance_km, flight_seconds, battery_used_sum FROM fleet_stat_rollup " +
+            "ORDER BY scope, scope_id, granularity, bucket_start";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private FleetStatsRecorder fleetStatsRecorder;
+
+    @Autowired
+    private FlightLogRepository flightLogRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void backfillMatchesIncrementalAccumulation() throws Exception {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (1, 'owner', 37.28, 127.04, 'OWNER', NOW())");
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (2, 'customer', 37.29, 127.05, 'CUSTOMER', NOW())");
+        jdbcTemplate.update("INSERT INTO store (store_id, owner_id, name, type, lat, lng, delivery_radius_km, is_active, registered_at) " +
+                "VALUES (1, 1, 'store', 'CONVENIENCE', 37.28, 127.04, 2.00, 1, NOW())");
+        jdbcTemplate.update("INSERT INTO drone (drone_id, store_id, model, battery_capacity, max_payload_kg, status, registered_at) " +
+                "VALUES (1, 1, 'DJI', 5000, 2.000, 'IDLE', NOW()), (2, 1, 'DJI', 5000, 2.000, 'IDLE', NOW())");
+
+        flight(1, 1, "2025-11-03 14:10:00.250000", "2025-11-03 14:25:30.750000", "3.250", 20, 2);
+        flight(2, 1, "2025-11-03 13:30:00.600000", "2025-11-03 15:10:00.200000", "12.500", 65, 1);
+        flight(3, 2, "2025-11-03 23:40:30.250000", "2025-11-04 00:20:10.750000", "8.125", 45, 1);
+        flight(4, 2, "2025-11-04 09:30:00.000000", "2025-11-04 10:00:00.000000", "4.000", 25, 0);
+
+        // 비행 완료 시 누적 (운영 코드와 같이 비행 로그 저장 트랜잭션 안에서)
+        for (FlightLog flightLog : flightLogRepository.findAll()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                FlightLog saved = flightLogRepository.findById(flightLog.getLogId()).orElseThrow();
+                int deliveries = (int) orderRepository.countByRouteIdAndStatus(saved.getRoute().getRouteId(), OrderStatus.FULFILLED);
+                fleetStatsRecorder.recordFlight(saved, saved.getRoute().getStore().getStoreId(), deliveries);
+            });
+        }
+        List<Map<String, Object>> incremental = jdbcTemplate.queryForList(SNAPSHOT);
+
+        // 요약 테이블을 지우고 V6 스크립트로 다시 채움 (임시 테이블을 쓰므로 한 연결에서 실행)
+        jdbcTemplate.execute("DROP TABLE fleet_stat_rollup");
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V6__fleet_stat_rollup.sql"));
+            return null;
+        });
+        List<Map<String, Object>> backfilled = jdbcTemplate.queryForList(SNAPSHOT);
+
+        assertThat(incremental).isNotEmpty();
+        assertThat(backfilled).containsExactlyElementsOf(incremental);
+
+        // 비행 수는 끝난 버킷에만, 비행 시간은 걸친 버킷에 나뉘어 담김
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(flights) FROM fleet_stat_rollup " +
+                "WHERE scope = 'STORE' AND granularity = 'HOUR'", Long.class)).isEqualTo(4L);
+        assertThat(jdbcTemplate.queryForObject("SELECT flight_seconds FROM fleet_stat_rollup " +
+                "WHERE scope = 'DRONE' AND scope_id = 2 AND granularity = 'DAY' AND bucket_start = '2025-11-03'", Long.class))
+                .isEqualTo(1169L);
+        assertThat(jdbcTemplate.queryForObject("SELECT flights FROM fleet_stat_rollup " +
+                "WHERE scope = 'DRONE' AND scope_id = 2 AND granularity = 'DAY' AND bucket_start = '2025-11-03'", Integer.class))
+                .isZero();
+    }
+
+    /**
+     * 완료된 경로와 비행 로그, 배송 완료 주문 생성 (ID는 경로 ID 기준)
+     */
+    private void flight(long routeId, long droneId, String start, String end, String distance, int batteryUsed,
+                        int deliveries) {
+        jdbcTemplate.update("INSERT INTO route (route_id, drone_id, store_id, status, actual_start_at, actual_end_at) " +
+                "VALUES (?, ?, 1, 'COMPLETED', ?, ?)", routeId, droneId, start, end);
+        jdbcTemplate.update("INSERT INTO flight_log (log_id, route_id, drone_id, start_time, end_time, distance, battery_used, result) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, 'SUCCESS')", routeId, routeId, droneId, start, end, distance, batteryUsed);
+        jdbcTemplate.update("INSERT INTO route_stop (stop_id, route_id, stop_sequence, type, lat, lng, status, payload_delta_kg, user_id) " +
+                "VALUES (?, ?, 1, 'DROP', 37.29, 127.05, 'DEPARTED', -0.500, 2)", routeId, routeId);
+        for (int i = 0; i < deliveries; i++) {
+            long orderId = routeId * 10 + i;
+            jdbcTemplate.update("INSERT INTO orders (order_id, store_id, user_id, origin_lat, origin_lng, dest_lat, dest_lng, " +
+                    "total_weight_kg, total_amount, item_count, status, created_at, assigned_at, completed_at) " +
+                    "VALUES (?, 1, 2, 37.28, 127.04, 37.29, 127.05, 0.500, 10000, 1, 'FULFILLED', ?, ?, ?)",
+                    orderId, start, start, end);
+            jdbcTemplate.update("INSERT INTO route_stop_order (route_stop_order_id, stop_id, order_id, created_at) " +
+                    "VALUES (?, ?, ?, ?)", orderId, routeId, orderId, start);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package backend.databaseproject.domain.analytics.service;
+
+import backend.databaseproject.domain.analytics.repository.FleetStatRollupRepository;
+import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.domain.route.entity.FlightLog;
+import backend.databaseproject.domain.route.entity.FlightResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 운항 통계 버킷 누적 테스트
+ * 경계를 넘는 비행은 비행 시간만 버킷별로 나누고, 비행 수/배송 수/거리/배터리는 비행이 끝난 버킷에 한 번만 더하는지 확인합니다.
+ */
+class FleetStatsRecorderTests {
+
+    private static final Long DRONE_ID = 1L;
+    private static final Long STORE_ID = 7L;
+    private static final BigDecimal DISTANCE = new BigDecimal("3.500");
+
+    private FleetStatRollupRepository fleetStatRollupRepository;
+    private FleetStatsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        fleetStatRollupRepository = mock(FleetStatRollupRepository.class);
+        recorder = new FleetStatsRecorder(fleetStatRollupRepository);
+    }
+
+    @Test
+    void flightWithinOneHourFillsSingleBuckets() {
+        recorder.recordFlight(flight(at(3, 14, 10, 0), at(3, 14, 25, 30)), STORE_ID, 2);
+
+        for (String scope : new String[]{"DRONE", "STORE"}) {
+            Long scopeId = scope.equals("DRONE") ? DRONE_ID : STORE_ID;
+            verify(fleetStatRollupRepository).accumulate(scope, scopeId, "HOUR", at(3, 14, 0, 0), 1, 2, DISTANCE, 930L, 40L);
+            verify(fleetStatRollupRepository).accumulate(scope, scopeId, "DAY", at(3, 0, 0, 0), 1, 2, DISTANCE, 930L, 40L);
+        }
+        verify(fleetStatRollupRepository, times(4))
+                .accumulate(anyString(), anyLong(), anyString(), any(), anyInt(), anyInt(), any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void flightAcrossMidnightSplitsSecondsButCountsOnceInEndBucket() {
+        // 3일 23:40:30 -> 4일 00:20:10 (23시 버킷 1170초, 0시 버킷 1210초)
+        recorder.recordFlight(flight(at(3, 23, 40, 30), at(4, 0, 20, 10)), STORE_ID, 2);
+
+        InOrder inOrder = inOrder(fleetStatRollupRepository);
+        for (String scope : new String[]{"DRONE", "STORE"}) {
+            Long scopeId = scope.equals("DRONE") ? DRONE_ID : STORE_ID;
+            inOrder.verify(fleetStatRollupRepository).accumulate(scope, scopeId, "HOUR", at(3, 23, 0, 0), 0, 0, BigDecimal.ZERO, 1170L, 0L);
+            inOrder.verify(fleetStatRollupRepository).accumulate(scope, scopeId, "HOUR", at(4, 0, 0, 0), 1, 2, DISTANCE, 1210L, 40L);
+            inOrder.verify(fleetStatRollupRepository).accumulate(scope, scopeId, "DAY", at(3, 0, 0, 0), 0, 0, BigDecimal.ZERO, 1170L, 0L);
+            inOrder.verify(fleetStatRollupRepository).accumulate(scope, scopeId, "DAY", at(4, 0, 0, 0), 1, 2, DISTANCE, 1210L, 40L);
+        }
+    }
+
+    @Test
+    void flightAcrossSeveralHoursKeepsDaySecondsEqualToHourSum() {
+        // 13:30:00.6 -> 15:10:00.2, 초 미만은 시간 버킷마다 버리고 일 버킷은 그 합
+        LocalDateTime start = at(3, 13, 30, 0).withNano(600_000_000);
+        LocalDateTime end = at(3, 15, 10, 0).withNano(200_000_000);
+        recorder.recordFlight(flight(start, end), STORE_ID, 1);
+
+        verify(fleetStatRollupRepository).accumulate("DRONE", DRONE_ID, "HOUR", at(3, 13, 0, 0), 0, 0, BigDecimal.ZERO, 1799L, 0L);
+        verify(fleetStatRollupRepository).accumulate("DRONE", DRONE_ID, "HOUR", at(3, 14, 0, 0), 0, 0, BigDecimal.ZERO, 3600L, 0L);
+        verify(fleetStatRollupRepository).accumulate("DRONE", DRONE_ID, "HOUR", at(3, 15, 0, 0), 1, 1, DISTANCE, 600L, 40L);
+        verify(fleetStatRollupRepository).accumulate("DRONE", DRONE_ID, "DAY", at(3, 0, 0, 0), 1, 1, DISTANCE, 5999L, 40L);
+    }
+
+    @Test
+    void flightEndingOnBoundaryBelongsToPreviousBucket() {
+        // 23:30 -> 다음 날 00:00 정각: 빈 0시/다음 날 버킷을 만들지 않음
+        recorder.recordFlight(flight(at(3, 23, 30, 0), at(4, 0, 0, 0)), STORE_ID, 1);
+
+        verify(fleetStatRollupRepository).accumulate("DRONE", DRONE_ID, "HOUR", at(3, 23, 0, 0), 1, 1, DISTANCE, 1800L, 40L);
+        verify(fleetStatRollupRepository).accumulate("DRONE", DRONE_ID, "DAY", at(3, 0, 0, 0), 1, 1, DISTANCE, 1800L, 40L);
+        verify(fleetStatRollupRepository, times(0)).accumulate(anyString(), anyLong(), anyString(), eq(at(4, 0, 0, 0)),
+                anyInt(), anyInt(), any(), anyLong(), anyLong());
+    }
+
+    private static FlightLog flight(LocalDateTime start, LocalDateTime end) {
+        Drone drone = Drone.builder().model("TEST").batteryCapacity(5000).maxPayloadKg(new BigDecimal("2.00")).build();
+        ReflectionTestUtils.setField(drone, "droneId", DRONE_ID);
+        return FlightLog.builder()
+                .drone(drone)
+                .startTime(start)
+                .endTime(end)
+                .distance(DISTANCE)
+                .batteryUsed(40)
+                .result(FlightResult.SUCCESS)
+                .build();
+    }
+
+    private static LocalDateTime at(int day, int hour, int minute, int second) {
+        return LocalDateTime.of(2025, 11, day, hour, minute, second);
+    }
+}
@@ -0,0 +1,69 @@
+package backend.databaseproject.domain.drone.service;
+
+import backend.databaseproject.domain.drone.entity.Drone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 드론 에너지 소모 모델 테스트 (application.yml 기본값)
+ */
+class DroneEnergyModelTests {
+
+    private static final double EPSILON = 1e-9;
+
+    private DroneEnergyModel energyModel;
+    private Drone drone;
+
+    @BeforeEach
+    void setUp() {
+        energyModel = new DroneEnergyModel();
+        ReflectionTestUtils.setField(energyModel, "cruiseMahPerKm", 200.0);
+        ReflectionTestUtils.setField(energyModel, "cruiseMahPerKmPerKg", 30.0);
+        ReflectionTestUtils.setField(energyModel, "hoverMahPerSecond", 1.9);
+        ReflectionTestUtils.setField(energyModel, "hoverMahPerSecondPerKg", 0.3);
+        ReflectionTestUtils.setField(energyModel, "dropHoverSeconds", 30.0);
+        ReflectionTestUtils.setField(energyModel, "reserveRatio", 0.2);
+        drone = Drone.builder().model("TEST").batteryCapacity(5000).maxPayloadKg(new BigDecimal("5.00")).build();
+    }
+
+    @Test
+    void cruiseCostGrowsLinearlyWithPayload() {
+        // (200 + 30 * 2kg) * 3km
+        assertThat(energyModel.cruiseMah(3.0, 2.0)).isCloseTo(780.0, within(EPSILON));
+        assertThat(energyModel.cruiseMah(3.0, 0.0)).isCloseTo(600.0, within(EPSILON));
+        // 무게에 선형이므로 적재분만큼의 추가 소모량은 거리와 무게의 곱에 비례 (경로 최적화의 변화량 계산이 이 성질에 의존)
+        double extraPerKgKm = energyModel.cruiseMah(1.0, 1.0) - energyModel.cruiseMah(1.0, 0.0);
+        assertThat(energyModel.cruiseMah(7.5, 3.2) - energyModel.cruiseMah(7.5, 0.0))
+                .isCloseTo(extraPerKgKm * 7.5 * 3.2, within(EPSILON));
+        assertThat(energyModel.cruiseMah(0.0, 5.0)).isZero();
+    }
+
+    @Test
+    void dropHoverUsesPayloadBeforeUnloading() {
+        // (1.9 + 0.3 * 1.5kg) * 30초
+        assertThat(energyModel.dropHoverMah(1.5)).isCloseTo(70.5, within(EPSILON));
+        assertThat(energyModel.dropHoverMah(0.0)).isCloseTo(57.0, within(EPSILON));
+        assertThat(energyModel.hoverMah(10.0, 1.5)).isCloseTo(23.5, within(EPSILON));
+    }
+
+    @Test
+    void reserveRatioIsExcludedFromUsableCapacity() {
+        assertThat(energyModel.usableCapacityMah(drone)).isCloseTo(4000.0, within(EPSILON));
+
+        ReflectionTestUtils.setField(energyModel, "reserveRatio", 0.0);
+        assertThat(energyModel.usableCapacityMah(drone)).isCloseTo(5000.0, within(EPSILON));
+    }
+
+    @Test
+    void batteryPercentIsRelativeToFullCapacity() {
+        // 예비 용량과 관계없이 전체 용량 기준
+        assertThat(energyModel.toBatteryPercent(drone, 1250.0)).isCloseTo(25.0, within(EPSILON));
+        assertThat(energyModel.toBatteryPercent(drone, energyModel.usableCapacityMah(drone))).isCloseTo(80.0, within(EPSILON));
+    }
+}
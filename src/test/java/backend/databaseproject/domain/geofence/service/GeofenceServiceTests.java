@@ -0,0 +1,88 @@
+package backend.databaseproject.domain.geofence.service;
+
+import backend.databaseproject.domain.geofence.entity.NoFlyZone;
+import backend.databaseproject.domain.geofence.exception.NoFlyZoneUnreachableException;
+import backend.databaseproject.domain.geofence.repository.NoFlyZoneRepository;
+import backend.databaseproject.global.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비행 금지 구역 서비스 테스트
+ * (37.00, 127.00) ~ (37.01, 127.01) 정사각형 구역 하나를 두고 막힌 구간, 우회 구간, 도달 불가 구간을 확인합니다.
+ */
+class GeofenceServiceTests {
+
+    private static final double WEST_LAT = 37.005;
+    private static final double WEST_LNG = 126.99;
+    private static final double EAST_LAT = 37.005;
+    private static final double EAST_LNG = 127.02;
+
+    private GeofenceService geofenceService;
+
+    @BeforeEach
+    void setUp() {
+        NoFlyZone zone = NoFlyZone.builder()
+                .name("test-zone")
+                .polygon("37.00,127.00;37.00,127.01;37.01,127.01;37.01,127.00")
+                .build();
+        ReflectionTestUtils.setField(zone, "zoneId", 1L);
+
+        NoFlyZoneRepository repository = mock(NoFlyZoneRepository.class);
+        when(repository.findByIsActiveTrue()).thenReturn(List.of(zone));
+
+        geofenceService = new GeofenceService(repository);
+        geofenceService.refresh();
+    }
+
+    @Test
+    void legCrossingZoneIsBlocked() {
+        assertThat(geofenceService.isLegClear(WEST_LAT, WEST_LNG, EAST_LAT, EAST_LNG)).isFalse();
+        assertThat(geofenceService.isLegClear(37.02, WEST_LNG, 37.02, EAST_LNG)).isTrue();
+        assertThat(geofenceService.isRestricted(37.005, 127.005)).isTrue();
+    }
+
+    @Test
+    void blockedLegIsDetouredAroundZone() {
+        GeofenceIndex.LegPlan plan = geofenceService.planLeg(WEST_LAT, WEST_LNG, EAST_LAT, EAST_LNG);
+
+        assertThat(plan.isDetour()).isTrue();
+        assertThat(plan.distanceKm())
+                .isGreaterThan(GeoUtils.calculateDistance(WEST_LAT, WEST_LNG, EAST_LAT, EAST_LNG));
+
+        // 출발지 -> 경유지들 -> 도착지 모든 구간이 구역을 지나지 않음
+        double lat = WEST_LAT;
+        double lng = WEST_LNG;
+        for (int i = 0; i < plan.waypointLats().length; i++) {
+            assertThat(geofenceService.isRestricted(plan.waypointLats()[i], plan.waypointLngs()[i])).isFalse();
+            assertThat(geofenceService.isLegClear(lat, lng, plan.waypointLats()[i], plan.waypointLngs()[i])).isTrue();
+            lat = plan.waypointLats()[i];
+            lng = plan.waypointLngs()[i];
+        }
+        assertThat(geofenceService.isLegClear(lat, lng, EAST_LAT, EAST_LNG)).isTrue();
+        assertThat(geofenceService.legDistanceKm(WEST_LAT, WEST_LNG, EAST_LAT, EAST_LNG)).isEqualTo(plan.distanceKm());
+    }
+
+    @Test
+    void clearLegIsDirect() {
+        GeofenceIndex.LegPlan plan = geofenceService.planLeg(37.02, WEST_LNG, 37.02, EAST_LNG);
+
+        assertThat(plan.isDetour()).isFalse();
+        assertThat(plan.distanceKm()).isEqualTo(GeoUtils.calculateDistance(37.02, WEST_LNG, 37.02, EAST_LNG));
+    }
+
+    @Test
+    void destinationInsideZoneIsUnreachable() {
+        assertThatThrownBy(() -> geofenceService.planLeg(WEST_LAT, WEST_LNG, 37.005, 127.005))
+                .isInstanceOf(NoFlyZoneUnreachableException.class);
+        assertThat(geofenceService.legDistanceKm(WEST_LAT, WEST_LNG, 37.005, 127.005)).isInfinite();
+    }
+}
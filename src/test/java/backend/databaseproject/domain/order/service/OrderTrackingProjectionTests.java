@@ -0,0 +1,116 @@
+package backend.databaseproject.domain.order.service;
+
+import backend.databaseproject.domain.order.dto.request.OrderCreateRequest;
+import backend.databaseproject.domain.order.dto.request.OrderItemRequest;
+import backend.databaseproject.domain.route.service.DeliveryBatchService;
+import backend.databaseproject.domain.route.service.FlightDispatchListener;
+import backend.databaseproject.domain.route.service.RouteStopProcessingService;
+import backend.databaseproject.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 추적 조회 모델 정합성 테스트
+ * 주문 생성, 배송 배정, 배송 완료 후 order_tracking 행이 원본(orders, store, order_item, route_stop)과 같은지 확인합니다.
+ * 배정 후 비행은 시작하지 않고(비행 시작 리스너 대체), 도착 상태는 SQL로 만든 뒤 출발 처리합니다.
+ */
+class OrderTrackingProjectionTests extends MySqlIntegrationTest {
+
+    private static final long COMPLETION_WAIT_MS = 10000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private DeliveryBatchService deliveryBatchService;
+
+    @Autowired
+    private RouteStopProcessingService routeStopProcessingService;
+
+    @MockitoBean
+    private FlightDispatchListener flightDispatchListener;
+
+    @Test
+    void trackingFollowsOrderThroughCreateAssignAndFulfil() throws Exception {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (1, 'owner', 37.28, 127.04, 'OWNER', NOW())");
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (2, 'customer', 37.285, 127.045, 'CUSTOMER', NOW())");
+        jdbcTemplate.update("INSERT INTO store (store_id, owner_id, name, type, lat, lng, delivery_radius_km, is_active, registered_at) " +
+                "VALUES (1, 1, 'store', 'CONVENIENCE', 37.28, 127.04, 2.00, 1, NOW())");
+        jdbcTemplate.update("INSERT INTO product (product_id, name, category, unit_weight_kg, requires_verification, is_active) " +
+                "VALUES (1, '생수', 'DRINK', 0.500, 0, 1), (2, '김밥', 'FOOD', 0.300, 0, 1)");
+        jdbcTemplate.update("INSERT INTO store_product (store_id, product_id, price, stock_qty, max_qty_per_order, is_active) " +
+                "VALUES (1, 1, 1000, 10, 5, 1), (1, 2, 3000, 10, 5, 1)");
+        jdbcTemplate.update("INSERT INTO drone (drone_id, store_id, model, battery_capacity, max_payload_kg, status, registered_at) " +
+                "VALUES (1, 1, 'DJI', 5000, 2.000, 'IDLE', NOW())");
+
+        // 생성
+        Long orderId = orderService.createOrder(new OrderCreateRequest(1L, 2L,
+                List.of(new OrderItemRequest(1L, 2), new OrderItemRequest(2L, 1)), null)).getOrderId();
+
+        Map<String, Object> created = assertMatchesOrder(orderId);
+        assertThat(created.get("status")).isEqualTo("CREATED");
+        assertThat(created.get("items_summary")).isEqualTo("생수 x2, 김밥 x1");
+        assertThat(created.get("route_id")).isNull();
+        assertThat(orderService.getTracking(orderId).getStatus()).isEqualTo("CREATED");
+
+        // 배정: 경로와 ETA는 주문이 연결된 DROP 정류장 기준
+        deliveryBatchService.processSelectedOrders(List.of(orderId));
+
+        Map<String, Object> assigned = assertMatchesOrder(orderId);
+        Map<String, Object> drop = jdbcTemplate.queryForMap("SELECT rs.stop_id, rs.route_id, rs.planned_arrival_at " +
+                "FROM route_stop rs JOIN route_stop_order rso ON rso.stop_id = rs.stop_id " +
+                "WHERE rso.order_id = ? AND rs.type = 'DROP'", orderId);
+        assertThat(assigned.get("status")).isEqualTo("ASSIGNED");
+        assertThat(assigned.get("route_id")).isEqualTo(drop.get("route_id"));
+        assertThat(assigned.get("eta")).isEqualTo(drop.get("planned_arrival_at"));
+        // 배정은 커밋 후 캐시에서 제거되어 다음 조회가 새 상태를 읽음
+        assertThat(orderService.getTracking(orderId).getStatus()).isEqualTo("ASSIGNED");
+
+        // 완료: ORDER_FULFILLED 아웃박스 이벤트로 커밋 후 반영
+        Long stopId = ((Number) drop.get("stop_id")).longValue();
+        jdbcTemplate.update("UPDATE route_stop SET status = 'ARRIVED', actual_arrival_at = NOW(6) WHERE stop_id = ?", stopId);
+        routeStopProcessingService.depart(stopId);
+
+        long deadline = System.currentTimeMillis() + COMPLETION_WAIT_MS;
+        while (!"FULFILLED".equals(trackingStatus(orderId)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        Map<String, Object> fulfilled = assertMatchesOrder(orderId);
+        assertThat(fulfilled.get("status")).isEqualTo("FULFILLED");
+        assertThat(fulfilled.get("completed_at")).isNotNull();
+        assertThat(orderService.getTracking(orderId).getStatus()).isEqualTo("FULFILLED");
+    }
+
+    /**
+     * order_tracking 행과 원본 값을 비교하고 추적 행을 반환
+     */
+    private Map<String, Object> assertMatchesOrder(Long orderId) {
+        Map<String, Object> order = jdbcTemplate.queryForMap("SELECT o.status, o.store_id, s.name AS store_name, o.user_id, " +
+                "o.item_count, o.total_amount, o.created_at, o.assigned_at, o.completed_at " +
+                "FROM orders o JOIN store s ON s.store_id = o.store_id WHERE o.order_id = ?", orderId);
+        Map<String, Object> tracking = jdbcTemplate.queryForMap("SELECT status, store_id, store_name, user_id, " +
+                "item_count, total_amount, created_at, assigned_at, completed_at, route_id, eta, items_summary " +
+                "FROM order_tracking WHERE order_id = ?", orderId);
+
+        for (Map.Entry<String, Object> column : order.entrySet()) {
+            assertThat(tracking.get(column.getKey())).as(column.getKey()).isEqualTo(column.getValue());
+        }
+        return tracking;
+    }
+
+    private String trackingStatus(Long orderId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM order_tracking WHERE order_id = ?", String.class, orderId);
+    }
+}
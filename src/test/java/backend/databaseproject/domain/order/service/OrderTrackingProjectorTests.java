@@ -0,0 +1,160 @@
+package backend.databaseproject.domain.order.service;
+
+import backend.databaseproject.domain.order.dto.response.OrderTrackingResponse;
+import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.entity.OrderTracking;
+import backend.databaseproject.domain.order.repository.OrderTrackingRepository;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.global.datasource.ReplicaStalenessGuard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 주문 추적 조회 모델 캐시 테스트
+ * 진행 중 주문 조회는 cache-ttl-ms 동안 메모리에서 처리하고, 위치 틱은 캐시에 매번 반영하되 DB에는 position-write-interval-ms마다 기록하는지 확인합니다.
+ */
+class OrderTrackingProjectorTests {
+
+    private static final Long ORDER_ID = 1L;
+    private static final Long ROUTE_ID = 10L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 11, 3, 14, 0);
+
+    private OrderTrackingRepository orderTrackingRepository;
+    private OrderTrackingProjector projector;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderTrackingRepository = mock(OrderTrackingRepository.class);
+        ReplicaStalenessGuard replicaStalenessGuard = mock(ReplicaStalenessGuard.class);
+        projector = new OrderTrackingProjector(orderTrackingRepository, replicaStalenessGuard, mock(SimulationClock.class));
+        ReflectionTestUtils.setField(projector, "cacheSize", 100);
+        ReflectionTestUtils.setField(projector, "cacheTtlMs", 10000L);
+        ReflectionTestUtils.setField(projector, "positionWriteIntervalMs", 10000L);
+
+        // 추적 조회에 필요한 의존성만 전달
+        orderService = new OrderService(null, null, null, null, null, null, null, null, null,
+                replicaStalenessGuard, projector, orderTrackingRepository, null);
+    }
+
+    @Test
+    void activeTrackingIsServedFromCacheUntilTtl() throws Exception {
+        ReflectionTestUtils.setField(projector, "cacheTtlMs", 50L);
+        when(orderTrackingRepository.findById(ORDER_ID))
+                .thenReturn(Optional.of(tracking(OrderStatus.CREATED)), Optional.of(tracking(OrderStatus.ASSIGNED)));
+
+        assertThat(orderService.getTracking(ORDER_ID).getStatus()).isEqualTo("CREATED");
+        assertThat(orderService.getTracking(ORDER_ID).getStatus()).isEqualTo("CREATED");
+        verify(orderTrackingRepository, times(1)).findById(ORDER_ID);
+
+        // cache-ttl-ms가 지나면 DB에서 다시 읽어 다른 노드가 바꾼 상태를 반영
+        Thread.sleep(80);
+        assertThat(orderService.getTracking(ORDER_ID).getStatus()).isEqualTo("ASSIGNED");
+        verify(orderTrackingRepository, times(2)).findById(ORDER_ID);
+    }
+
+    @Test
+    void finishedTrackingIsNotCached() {
+        when(orderTrackingRepository.findById(ORDER_ID)).thenReturn(Optional.of(tracking(OrderStatus.FULFILLED)));
+
+        orderService.getTracking(ORDER_ID);
+        orderService.getTracking(ORDER_ID);
+
+        verify(orderTrackingRepository, times(2)).findById(ORDER_ID);
+    }
+
+    @Test
+    void completionEvictsCachedTracking() {
+        projector.cacheIfActive(response(OrderStatus.ASSIGNED));
+
+        projector.completed(ORDER_ID, CREATED_AT.plusMinutes(20));
+
+        verify(orderTrackingRepository).updateCompleted(ORDER_ID, CREATED_AT.plusMinutes(20), OrderStatus.FULFILLED);
+        assertThat(projector.cached(ORDER_ID)).isNull();
+    }
+
+    @Test
+    void positionTicksUpdateCacheEveryTimeButDbOncePerInterval() {
+        projector.cacheIfActive(response(OrderStatus.ASSIGNED));
+
+        for (int tick = 1; tick <= 5; tick++) {
+            projector.positionUpdated(ROUTE_ID, BigDecimal.valueOf(37 + tick), new BigDecimal("127.000000"),
+                    CREATED_AT.plusSeconds(tick));
+            assertThat(projector.cached(ORDER_ID).getLastLat()).isEqualTo(BigDecimal.valueOf(37 + tick));
+            assertThat(projector.cached(ORDER_ID).getLastPositionAt()).isEqualTo(CREATED_AT.plusSeconds(tick));
+        }
+
+        // 첫 틱만 기록, 나머지는 position-write-interval-ms 안이라 건너뜀
+        verify(orderTrackingRepository, times(1)).updateLastPosition(eq(ROUTE_ID), any(), any(), any(), eq(OrderStatus.ASSIGNED));
+        verify(orderTrackingRepository).updateLastPosition(ROUTE_ID, BigDecimal.valueOf(38), new BigDecimal("127.000000"),
+                CREATED_AT.plusSeconds(1), OrderStatus.ASSIGNED);
+
+        // 간격은 경로별로 따로 계산
+        projector.positionUpdated(ROUTE_ID + 1, BigDecimal.ONE, BigDecimal.ONE, CREATED_AT);
+        verify(orderTrackingRepository).updateLastPosition(eq(ROUTE_ID + 1), any(), any(), any(), eq(OrderStatus.ASSIGNED));
+    }
+
+    @Test
+    void positionIsWrittenAgainAfterInterval() throws Exception {
+        ReflectionTestUtils.setField(projector, "positionWriteIntervalMs", 50L);
+
+        projector.positionUpdated(ROUTE_ID, BigDecimal.ONE, BigDecimal.ONE, CREATED_AT);
+        projector.positionUpdated(ROUTE_ID, BigDecimal.TEN, BigDecimal.TEN, CREATED_AT.plusSeconds(1));
+        Thread.sleep(80);
+        projector.positionUpdated(ROUTE_ID, BigDecimal.valueOf(2), BigDecimal.valueOf(2), CREATED_AT.plusSeconds(2));
+
+        verify(orderTrackingRepository, times(2)).updateLastPosition(eq(ROUTE_ID), any(), any(), any(), any());
+        verify(orderTrackingRepository, never()).updateLastPosition(ROUTE_ID, BigDecimal.TEN, BigDecimal.TEN,
+                CREATED_AT.plusSeconds(1), OrderStatus.ASSIGNED);
+    }
+
+    @Test
+    void routeCompletionDropsCachedOrdersAndWriteThrottle() {
+        projector.cacheIfActive(response(OrderStatus.ASSIGNED));
+        projector.positionUpdated(ROUTE_ID, BigDecimal.ONE, BigDecimal.ONE, CREATED_AT);
+
+        projector.onRouteCompleted(ROUTE_ID, new byte[0]);
+
+        assertThat(projector.cached(ORDER_ID)).isNull();
+        // 같은 경로 ID의 다음 위치는 간격과 관계없이 바로 기록
+        projector.positionUpdated(ROUTE_ID, BigDecimal.TEN, BigDecimal.TEN, CREATED_AT.plusSeconds(1));
+        verify(orderTrackingRepository, times(2)).updateLastPosition(anyLong(), any(), any(), any(), any());
+    }
+
+    private OrderTracking tracking(OrderStatus status) {
+        OrderTracking tracking = OrderTracking.builder()
+                .orderId(ORDER_ID)
+                .storeId(1L)
+                .storeName("store")
+                .userId(2L)
+                .itemsSummary("생수 x2")
+                .itemCount(2)
+                .totalAmount(2000)
+                .createdAt(CREATED_AT)
+                .build();
+        ReflectionTestUtils.setField(tracking, "status", status);
+        if (status != OrderStatus.CREATED) {
+            ReflectionTestUtils.setField(tracking, "routeId", ROUTE_ID);
+        }
+        return tracking;
+    }
+
+    private OrderTrackingResponse response(OrderStatus status) {
+        return OrderTrackingResponse.from(tracking(status));
+    }
+}
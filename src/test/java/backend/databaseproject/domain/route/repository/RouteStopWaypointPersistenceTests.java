@@ -0,0 +1,101 @@
+package backend.databaseproject.domain.route.repository;
+
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.StopType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 우회 경유지(WAYPOINT) 정류장 저장 테스트
+ * ddl-auto로 만들어진 기존 DB처럼 route_stop.type이 ENUM('PICKUP','DROP','RETURN')인 상태에서
+ * Flyway 마이그레이션을 적용한 뒤 WAYPOINT 정류장을 JPA로 저장할 수 있는지 확인합니다.
+ * 마이그레이션 전의 빈 DB가 필요하므로 공유 컨테이너 대신 전용 컨테이너를 씁니다.
+ *
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@SpringBootTest(properties = "simulation.recovery.enabled=false")
+@Testcontainers(disabledWithoutDocker = true)
+class RouteStopWaypointPersistenceTests {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RouteRepository routeRepository;
+
+    @Autowired
+    private RouteStopRepository routeStopRepository;
+
+    @TestConfiguration
+    static class LegacySchemaConfig {
+
+        /**
+         * 마이그레이션 전에 WAYPOINT가 없는 기존 route_stop 테이블을 만들어 둠
+         */
+        @Bean
+        FlywayMigrationStrategy legacyRouteStopThenMigrate() {
+            return flyway -> {
+                new JdbcTemplate(flyway.getConfiguration().getDataSource()).execute(
+                        "CREATE TABLE route_stop (" +
+                        "stop_id BIGINT NOT NULL, route_id BIGINT NOT NULL, stop_sequence INTEGER NOT NULL, " +
+                        "type ENUM ('PICKUP', 'DROP', 'RETURN') NOT NULL, name VARCHAR(120), " +
+                        "lat DECIMAL(9, 6) NOT NULL, lng DECIMAL(9, 6) NOT NULL, " +
+                        "planned_arrival_at DATETIME(6), planned_departure_at DATETIME(6), " +
+                        "actual_arrival_at DATETIME(6), actual_departure_at DATETIME(6), " +
+                        "status ENUM ('PENDING', 'ARRIVED', 'DEPARTED', 'SKIPPED') NOT NULL, " +
+                        "payload_delta_kg DECIMAL(7, 3), store_id BIGINT, user_id BIGINT, note TEXT, " +
+                        "PRIMARY KEY (stop_id)) ENGINE = InnoDB");
+                flyway.migrate();
+            };
+        }
+    }
+
+    @Test
+    void waypointStopIsPersisted() {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (1, 'owner', 37.28, 127.04, 'OWNER', NOW())");
+        jdbcTemplate.update("INSERT INTO store (store_id, owner_id, name, type, lat, lng, delivery_radius_km, is_active, registered_at) " +
+                "VALUES (1, 1, 'store', 'CONVENIENCE', 37.28, 127.04, 2.00, 1, NOW())");
+        jdbcTemplate.update("INSERT INTO drone (drone_id, store_id, model, battery_capacity, max_payload_kg, status, registered_at) " +
+                "VALUES (1, 1, 'DJI', 5000, 2.000, 'IN_FLIGHT', NOW())");
+        jdbcTemplate.update("INSERT INTO route (route_id, drone_id, store_id, status) VALUES (1, 1, 1, 'PLANNED')");
+
+        Long stopId = transactionTemplate.execute(status -> {
+            Route route = routeRepository.findById(1L).orElseThrow();
+            RouteStop waypoint = routeStopRepository.saveAndFlush(RouteStop.builder()
+                    .route(route)
+                    .stopSequence(2)
+                    .stopType(StopType.WAYPOINT)
+                    .name("우회 경유지")
+                    .lat(new BigDecimal("37.285000"))
+                    .lng(new BigDecimal("127.045000"))
+                    .build());
+            return waypoint.getStopId();
+        });
+
+        assertThat(jdbcTemplate.queryForObject("SELECT type FROM route_stop WHERE stop_id = ?", String.class, stopId))
+                .isEqualTo("WAYPOINT");
+    }
+}
@@ -0,0 +1,94 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.order.exception.OrderAlreadyProcessedException;
+import backend.databaseproject.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 동시 배차 테스트
+ * 두 요청이 같은 주문을 CREATED 상태로 읽고 각자 경로를 계획한 뒤 동시에 저장하면,
+ * 조건부 배정 UPDATE의 변경 행 수로 늦은 쪽이 OrderAlreadyProcessedException으로 전체 롤백되는지 확인합니다.
+ * 두 요청이 상태 확인을 모두 통과한 뒤 저장하도록 RoutePlanWriter 진입에서 서로를 기다리게 하고, 비행은 시작하지 않습니다.
+ */
+class ConcurrentAssignmentTests extends MySqlIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DeliveryBatchService deliveryBatchService;
+
+    @MockitoSpyBean
+    private RoutePlanWriter routePlanWriter;
+
+    @MockitoBean
+    private FlightDispatchListener flightDispatchListener;
+
+    @Test
+    void secondAssignmentOfSameOrderRollsBack() throws Exception {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (1, 'owner', 37.28, 127.04, 'OWNER', NOW())");
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (2, 'customer', 37.285, 127.045, 'CUSTOMER', NOW())");
+        jdbcTemplate.update("INSERT INTO store (store_id, owner_id, name, type, lat, lng, delivery_radius_km, is_active, registered_at) " +
+                "VALUES (1, 1, 'store', 'CONVENIENCE', 37.28, 127.04, 2.00, 1, NOW())");
+        jdbcTemplate.update("INSERT INTO drone (drone_id, store_id, model, battery_capacity, max_payload_kg, status, registered_at) " +
+                "VALUES (1, 1, 'DJI', 5000, 2.000, 'IDLE', NOW()), (2, 1, 'DJI', 5000, 2.000, 'IDLE', NOW())");
+        jdbcTemplate.update("INSERT INTO orders (order_id, store_id, user_id, origin_lat, origin_lng, dest_lat, dest_lng, " +
+                "total_weight_kg, total_amount, item_count, status, created_at) " +
+                "VALUES (1, 1, 2, 37.28, 127.04, 37.285, 127.045, 0.500, 10000, 1, 'CREATED', NOW())");
+        jdbcTemplate.update("INSERT INTO order_tracking (order_id, store_id, store_name, user_id, status, items_summary, " +
+                "item_count, total_amount, created_at, updated_at) " +
+                "VALUES (1, 1, 'store', 2, 'CREATED', '생수 x1', 1, 10000, NOW(), NOW())");
+
+        CyclicBarrier bothPlanned = new CyclicBarrier(2);
+        doAnswer(invocation -> {
+            bothPlanned.await(30, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(routePlanWriter).write(any(), any(), any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<CompletableFuture<Void>> dispatches = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            dispatches.add(CompletableFuture.runAsync(() -> deliveryBatchService.processSelectedOrders(List.of(1L)), executor));
+        }
+        List<Throwable> failures = new ArrayList<>();
+        for (CompletableFuture<Void> dispatch : dispatches) {
+            try {
+                dispatch.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        executor.shutdown();
+
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).isInstanceOf(OrderAlreadyProcessedException.class);
+
+        // 늦은 쪽의 경로/드론 출동/아웃박스 기록은 모두 롤백
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE order_id = 1", String.class))
+                .isEqualTo("ASSIGNED");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM route", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM drone WHERE status = 'IN_FLIGHT'", Integer.class))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT route_id FROM order_tracking WHERE order_id = 1", Long.class))
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT route_id FROM route", Long.class));
+    }
+}
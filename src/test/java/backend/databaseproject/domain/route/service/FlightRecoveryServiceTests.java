@@ -0,0 +1,223 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.domain.drone.service.DroneEnergyModel;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RoutePosition;
+import backend.databaseproject.domain.route.entity.RouteStatus;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.StopStatus;
+import backend.databaseproject.domain.route.entity.StopType;
+import backend.databaseproject.domain.route.repository.RoutePositionRepository;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.route.simulation.FlightProgress;
+import backend.databaseproject.global.datasource.DataSourceRole;
+import backend.databaseproject.global.datasource.DataSourceRouting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비행 복구(재시작 후 이어서 비행) 테스트
+ * 매장 -> DROP 1(출발 완료) -> DROP 2(하역 중 중단) -> DROP 3 -> 매장 경로가 DROP 3으로 향하던 중 서버가 내려간 상황을 재현합니다.
+ * 트랜잭션 매니저는 읽기 전용 여부만 스레드에 반영하는 가짜로 대체하여 라우팅 결정을 확인합니다.
+ */
+class FlightRecoveryServiceTests {
+
+    private static final Long ROUTE_ID = 7L;
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private RouteRepository routeRepository;
+    private RouteStopRepository routeStopRepository;
+    private RoutePositionRepository routePositionRepository;
+    private DroneSimulatorService droneSimulatorService;
+    private RouteStopProcessingService routeStopProcessingService;
+    private FlightShardService flightShardService;
+    private FlightRecoveryService flightRecoveryService;
+
+    private Drone drone;
+    private Route route;
+    private List<RouteStop> stops;
+
+    @BeforeEach
+    void setUp() {
+        routeRepository = mock(RouteRepository.class);
+        routeStopRepository = mock(RouteStopRepository.class);
+        routePositionRepository = mock(RoutePositionRepository.class);
+        droneSimulatorService = mock(DroneSimulatorService.class);
+        routeStopProcessingService = mock(RouteStopProcessingService.class);
+        flightShardService = mock(FlightShardService.class);
+        when(flightShardService.owns(anyLong())).thenReturn(true);
+
+        flightRecoveryService = new FlightRecoveryService(routeRepository, routeStopRepository, routePositionRepository,
+                droneSimulatorService, routeStopProcessingService, energyModel(), readOnlyAwareTransactionManager(),
+                flightShardService);
+        ReflectionTestUtils.setField(flightRecoveryService, "enabled", true);
+        ReflectionTestUtils.setField(flightRecoveryService, "parallelism", 2);
+        ReflectionTestUtils.setField(flightRecoveryService, "timeoutMs", 5000L);
+
+        drone = Drone.builder().model("test-drone").batteryCapacity(5000).maxPayloadKg(new BigDecimal("5.0")).build();
+        route = Route.builder().drone(drone).heuristic("NN").build();
+        ReflectionTestUtils.setField(route, "routeId", ROUTE_ID);
+        route.launch(STARTED_AT);
+
+        stops = List.of(
+                stop(1L, 1, StopType.PICKUP, "37.500", null, StopStatus.DEPARTED),
+                stop(2L, 2, StopType.DROP, "37.510", "-1.0", StopStatus.DEPARTED),
+                stop(3L, 3, StopType.DROP, "37.520", "-0.5", StopStatus.ARRIVED),
+                stop(4L, 4, StopType.DROP, "37.530", "-0.5", StopStatus.PENDING),
+                stop(5L, 5, StopType.RETURN, "37.500", null, StopStatus.PENDING));
+        stops.forEach(route::addRouteStop);
+    }
+
+    @Test
+    void launchedRouteResumesMidLegFromLatestPosition() {
+        when(routeRepository.findIdsByStatus(RouteStatus.LAUNCHED)).thenReturn(List.of(ROUTE_ID));
+        AtomicReference<DataSourceRole> readRole = new AtomicReference<>();
+        when(routeRepository.findByIdWithDetails(ROUTE_ID)).thenAnswer(invocation -> {
+            readRole.set(DataSourceRouting.currentRole());
+            return Optional.of(route);
+        });
+        when(routePositionRepository.findLatestByRouteId(ROUTE_ID))
+                .thenReturn(Optional.of(position(stops.get(2), stops.get(3), "37.525")));
+
+        flightRecoveryService.recoverInterruptedFlights();
+
+        // 읽기 전용 트랜잭션이지만 복제본 지연을 피하기 위해 PRIMARY에서 읽어야 함
+        assertThat(readRole.get()).isEqualTo(DataSourceRole.PRIMARY);
+
+        // 하역 중 중단된 DROP 2는 바로 출발 처리
+        verify(routeStopProcessingService).depart(3L);
+        verify(routeStopProcessingService, never()).depart(2L);
+
+        ArgumentCaptor<FlightProgress> progress = ArgumentCaptor.forClass(FlightProgress.class);
+        verify(droneSimulatorService).resumeFlight(eq(ROUTE_ID), anyList(), eq(drone), progress.capture());
+        assertThat(progress.getValue().nextStopIndex()).isEqualTo(3);
+        assertThat(progress.getValue().resumesMidLeg()).isTrue();
+        assertThat(progress.getValue().resumeLat()).isEqualByComparingTo("37.525");
+        assertThat(progress.getValue().payloadKg()).isCloseTo(0.5, within(1e-9));
+        assertThat(progress.getValue().distanceKm()).isCloseTo(2.78, within(0.05));
+        assertThat(progress.getValue().flightStartTime()).isEqualTo(STARTED_AT);
+    }
+
+    @Test
+    void stalePositionResumesFromLastStop() {
+        when(routeRepository.findIdsByStatus(RouteStatus.LAUNCHED)).thenReturn(List.of(ROUTE_ID));
+        when(routeRepository.findByIdWithDetails(ROUTE_ID)).thenReturn(Optional.of(route));
+        // 마지막 기록이 이미 지나간 구간(DROP 2로 향하던 구간)이면 이전 stop에서 출발
+        when(routePositionRepository.findLatestByRouteId(ROUTE_ID))
+                .thenReturn(Optional.of(position(stops.get(1), stops.get(2), "37.515")));
+
+        flightRecoveryService.recoverInterruptedFlights();
+
+        ArgumentCaptor<FlightProgress> progress = ArgumentCaptor.forClass(FlightProgress.class);
+        verify(droneSimulatorService).resumeFlight(eq(ROUTE_ID), anyList(), eq(drone), progress.capture());
+        assertThat(progress.getValue().nextStopIndex()).isEqualTo(3);
+        assertThat(progress.getValue().resumesMidLeg()).isFalse();
+        assertThat(progress.getValue().distanceKm()).isCloseTo(2.22, within(0.05));
+    }
+
+    @Test
+    void routeFinishedElsewhereIsNotResumed() {
+        when(routeRepository.findIdsByStatus(RouteStatus.LAUNCHED)).thenReturn(List.of(ROUTE_ID));
+        when(routeRepository.findByIdWithDetails(ROUTE_ID)).thenReturn(Optional.of(route));
+        route.complete(STARTED_AT.plusMinutes(10));
+
+        flightRecoveryService.recoverInterruptedFlights();
+
+        verify(routeStopProcessingService, never()).depart(anyLong());
+        verify(droneSimulatorService, never()).resumeFlight(anyLong(), anyList(), any(), any());
+    }
+
+    @Test
+    void plannedRouteRestartsAndFlyingRouteIsSkipped() {
+        when(routeRepository.findIdsByStatus(RouteStatus.PLANNED)).thenReturn(List.of(8L, 9L));
+        when(droneSimulatorService.isFlying(9L)).thenReturn(true);
+
+        flightRecoveryService.recoverInterruptedFlights();
+
+        verify(droneSimulatorService).simulateFlight(8L);
+        verify(droneSimulatorService, never()).simulateFlight(9L);
+    }
+
+    private RouteStop stop(Long stopId, int sequence, StopType type, String lat, String payloadDeltaKg, StopStatus status) {
+        RouteStop stop = RouteStop.builder()
+                .stopSequence(sequence)
+                .stopType(type)
+                .name(type.name() + "-" + sequence)
+                .lat(new BigDecimal(lat))
+                .lng(new BigDecimal("127.000"))
+                .payloadDeltaKg(payloadDeltaKg != null ? new BigDecimal(payloadDeltaKg) : null)
+                .build();
+        ReflectionTestUtils.setField(stop, "stopId", stopId);
+        stop.changeStatus(status);
+        return stop;
+    }
+
+    private RoutePosition position(RouteStop from, RouteStop to, String lat) {
+        return RoutePosition.builder()
+                .route(route)
+                .stopFrom(from)
+                .stopTo(to)
+                .lat(new BigDecimal(lat))
+                .lng(new BigDecimal("127.000"))
+                .ts(STARTED_AT.plusMinutes(5))
+                .build();
+    }
+
+    private static DroneEnergyModel energyModel() {
+        DroneEnergyModel model = new DroneEnergyModel();
+        ReflectionTestUtils.setField(model, "cruiseMahPerKm", 200.0);
+        ReflectionTestUtils.setField(model, "cruiseMahPerKmPerKg", 30.0);
+        ReflectionTestUtils.setField(model, "hoverMahPerSecond", 1.9);
+        ReflectionTestUtils.setField(model, "hoverMahPerSecondPerKg", 0.3);
+        ReflectionTestUtils.setField(model, "dropHoverSeconds", 30.0);
+        ReflectionTestUtils.setField(model, "reserveRatio", 0.2);
+        return model;
+    }
+
+    /**
+     * 트랜잭션 정의의 읽기 전용 여부만 현재 스레드에 반영하는 트랜잭션 매니저
+     */
+    private static PlatformTransactionManager readOnlyAwareTransactionManager() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            TransactionDefinition definition = invocation.getArgument(0);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(definition.isReadOnly());
+            return new SimpleTransactionStatus();
+        });
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            return null;
+        }).when(transactionManager).commit(any());
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            return null;
+        }).when(transactionManager).rollback(any());
+        return transactionManager;
+    }
+}
@@ -0,0 +1,192 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.route.repository.FlightNodeRepository;
+import backend.databaseproject.domain.route.repository.FlightShardLeaseRepository;
+import backend.databaseproject.domain.route.repository.TrackingRelayEventRepository;
+import backend.databaseproject.domain.route.tracking.DatabaseTrackingRelay;
+import backend.databaseproject.domain.route.tracking.TrackingStream;
+import backend.databaseproject.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다중 노드 비행 시뮬레이션 테스트
+ * 같은 DB를 쓰는 두 노드의 샤드 임대 서비스와 추적 이벤트 중계기를 한 프로세스에 띄워
+ * 샤드 임대, 노드 합류 시 재분배(비행 중인 샤드는 비행이 멈춘 뒤 반납), 노드 간 이벤트 전달을 확인합니다.
+ */
+class FlightShardClusterTests extends MySqlIntegrationTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FlightShardLeaseRepository flightShardLeaseRepository;
+
+    @Autowired
+    private FlightNodeRepository flightNodeRepository;
+
+    @Autowired
+    private TrackingRelayEventRepository trackingRelayEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM flight_shard_lease");
+        jdbcTemplate.update("DELETE FROM flight_node");
+        jdbcTemplate.update("DELETE FROM tracking_relay_event");
+    }
+
+    @Test
+    void joiningNodeTakesOverShardsAfterLocalFlightsStop() {
+        DroneSimulatorService simulatorA = mock(DroneSimulatorService.class);
+        FlightShardService nodeA = node("node-a", simulatorA);
+        FlightShardService nodeB = node("node-b", mock(DroneSimulatorService.class));
+
+        // 혼자 떠 있는 노드가 모든 샤드 임대
+        nodeA.heartbeat();
+        assertThat(ownedShards(nodeA)).containsExactly(0, 1, 2, 3);
+
+        // 새 노드 합류 (A의 임대가 유효하므로 아직 가져갈 샤드 없음)
+        nodeB.heartbeat();
+        assertThat(ownedShards(nodeB)).isEmpty();
+
+        // A는 공정 몫(2) 초과분을 반납 - 샤드 3은 비행 중이므로 반납 대기, 샤드 2는 바로 반납
+        when(simulatorA.isFlyingInShard(3)).thenReturn(true);
+        nodeA.heartbeat();
+        assertThat(ownedShards(nodeA)).containsExactly(0, 1);
+        assertThat(nodeA.owns(7L)).isFalse();
+        assertThat(leaseOwner(3)).isEqualTo("node-a");
+        assertThat(leaseOwner(2)).isNull();
+
+        // B는 반납된 샤드만 가져감 (비행이 남은 샤드 3은 A가 임대 유지)
+        nodeB.heartbeat();
+        assertThat(ownedShards(nodeB)).containsExactly(2);
+
+        // A의 비행이 멈춘 뒤 반납 -> B가 가져감
+        when(simulatorA.isFlyingInShard(3)).thenReturn(false);
+        nodeA.heartbeat();
+        assertThat(leaseOwner(3)).isNull();
+        nodeB.heartbeat();
+        assertThat(ownedShards(nodeB)).containsExactly(2, 3);
+        assertThat(nodeB.owns(7L)).isTrue();
+        assertThat(nodeA.owns(7L)).isFalse();
+        assertThat(nodeA.owns(4L)).isTrue();
+    }
+
+    @Test
+    void relayDeliversSettledEventsFromOtherNodes() throws InterruptedException {
+        TrackingStream streamA = mock(TrackingStream.class);
+        TrackingStream streamB = mock(TrackingStream.class);
+        DatabaseTrackingRelay relayA = relay(node("node-a", null), streamA, 500);
+        DatabaseTrackingRelay relayB = relay(node("node-b", null), streamB, 500);
+        long cursor = lastEventId(relayB);
+
+        byte[] payload = "{\"status\":\"FULFILLED\"}".getBytes(StandardCharsets.UTF_8);
+        relayA.onOrderStatus(11L, payload);
+
+        // settle-ms가 지나기 전에는 읽지 않고 읽기 위치도 그대로 유지
+        relayB.poll();
+        verify(streamB, never()).deliverRelayedOrderStatus(anyLong(), any());
+        assertThat(lastEventId(relayB)).isEqualTo(cursor);
+
+        Thread.sleep(700);
+        relayB.poll();
+        relayB.poll();
+        verify(streamB, times(1)).deliverRelayedOrderStatus(eq(11L), eq(payload));
+
+        // 자기 노드가 기록한 이벤트는 다시 전달하지 않음
+        relayA.poll();
+        verify(streamA, never()).deliverRelayedOrderStatus(anyLong(), any());
+    }
+
+    @Test
+    void relayCursorSkipsEventsCommittedBelowIt() {
+        TrackingStream stream = mock(TrackingStream.class);
+        DatabaseTrackingRelay relay = relay(node("node-b", null), stream, 100);
+        Timestamp settled = Timestamp.valueOf(LocalDateTime.now().minusSeconds(10));
+
+        insertEvent(1000L, 1L, settled);
+        relay.poll();
+        verify(stream).deliverRelayedOrderStatus(eq(1L), any());
+        assertThat(lastEventId(relay)).isEqualTo(1000L);
+
+        // 읽기 위치보다 작은 ID가 settle-ms 이후에 커밋되면(전제 위반) 전달되지 않음
+        insertEvent(999L, 2L, settled);
+        relay.poll();
+        verify(stream, never()).deliverRelayedOrderStatus(eq(2L), any());
+    }
+
+    private FlightShardService node(String nodeId, DroneSimulatorService simulator) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        if (simulator != null) {
+            beans.addBean("droneSimulatorService", simulator);
+        }
+        ObjectProvider<DroneSimulatorService> simulatorProvider = beans.getBeanProvider(DroneSimulatorService.class);
+        FlightShardService node = new FlightShardService(flightShardLeaseRepository, flightNodeRepository,
+                transactionManager, simulatorProvider);
+        ReflectionTestUtils.setField(node, "enabled", true);
+        ReflectionTestUtils.setField(node, "configuredNodeId", nodeId);
+        ReflectionTestUtils.setField(node, "shardCount", SHARD_COUNT);
+        ReflectionTestUtils.setField(node, "leaseTtlMs", 15000L);
+        ReflectionTestUtils.setField(node, "heartbeatMs", 5000L);
+        ReflectionTestUtils.invokeMethod(node, "init");
+        return node;
+    }
+
+    private DatabaseTrackingRelay relay(FlightShardService node, TrackingStream stream, long settleMs) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("trackingStream", stream);
+        DatabaseTrackingRelay relay = new DatabaseTrackingRelay(trackingRelayEventRepository, node,
+                beans.getBeanProvider(TrackingStream.class));
+        ReflectionTestUtils.setField(relay, "batchSize", 500);
+        ReflectionTestUtils.setField(relay, "settleMs", settleMs);
+        ReflectionTestUtils.setField(relay, "retentionMs", 60000L);
+        ReflectionTestUtils.invokeMethod(relay, "init");
+        return relay;
+    }
+
+    private void insertEvent(Long eventId, Long orderId, Timestamp createdAt) {
+        jdbcTemplate.update("INSERT INTO tracking_relay_event (event_id, origin_node, event_type, order_id, payload, created_at) " +
+                "VALUES (?, 'node-a', 'ORDER_STATUS', ?, ?, ?)", eventId, orderId, new byte[]{'{', '}'}, createdAt);
+    }
+
+    private String leaseOwner(int shardNo) {
+        return jdbcTemplate.queryForObject("SELECT owner_node FROM flight_shard_lease WHERE shard_no = ?",
+                String.class, shardNo);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Integer> ownedShards(FlightShardService node) {
+        return new TreeSet<>((Set<Integer>) ReflectionTestUtils.getField(node, "ownedShards"));
+    }
+
+    private static long lastEventId(DatabaseTrackingRelay relay) {
+        return (long) ReflectionTestUtils.getField(relay, "lastEventId");
+    }
+}
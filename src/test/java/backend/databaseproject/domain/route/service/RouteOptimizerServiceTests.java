@@ -0,0 +1,180 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.drone.service.DroneEnergyModel;
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.route.planning.OptimizedRoute;
+import backend.databaseproject.domain.route.planning.PlanningBatch;
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.util.GeoUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경로 최적화 테스트
+ * 막힌 구간 테스트는 매장과 배송지 A, B, C를 위도 0.01도 간격으로 북쪽에 일렬로 두고, 막힌 구간만 무한대 거리를 반환하는 구간 거리 함수를 사용합니다.
+ */
+class RouteOptimizerServiceTests {
+
+    private static final int A = 0;
+    private static final int B = 1;
+    private static final int C = 2;
+
+    private RouteOptimizerService routeOptimizerService;
+
+    @BeforeEach
+    void setUp() {
+        routeOptimizerService = new RouteOptimizerService(energyModel(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void nearestNeighborDoesNotFlyBlockedLeg() {
+        // A-C 구간만 막힘: 입력 순서 A -> C -> B는 비행할 수 없지만 A -> B -> C는 가능
+        PlanningBatch batch = batch(Set.of(pair(A, C)));
+
+        OptimizedRoute optimized = routeOptimizerService.optimizeRoute(batch, new int[]{A, C, B});
+        int[] route = optimized.indices();
+
+        assertThat(route).containsExactly(A, B, C);
+        assertThat(optimized.heuristic()).isEqualTo(OptimizedRoute.NEAREST_NEIGHBOR_2OPT);
+        assertThat(batch.tourDistanceKm(route)).isFinite();
+    }
+
+    @Test
+    void keepsInputOrderWhenNearestNeighborDeadEnds() {
+        // B-C 구간이 막힘: 가까운 순서 A -> B 뒤에는 C로 갈 수 없지만, 입력 순서 C -> A -> B는 비행 가능
+        PlanningBatch batch = batch(Set.of(pair(B, C)));
+
+        OptimizedRoute optimized = routeOptimizerService.optimizeRoute(batch, new int[]{C, A, B});
+        int[] route = optimized.indices();
+
+        assertThat(route).containsExactly(C, A, B);
+        assertThat(optimized.heuristic()).isEqualTo(OptimizedRoute.INPUT_ORDER);
+        assertThat(batch.tourDistanceKm(route)).isFinite();
+    }
+
+    @Test
+    void dropsOrdersThatCannotBeChained() {
+        // C는 매장과만 오갈 수 있음: 어떤 순서로도 A, B와 함께 비행할 수 없으므로 이번 경로에서 제외
+        PlanningBatch batch = batch(Set.of(pair(A, C), pair(B, C)));
+
+        int[] route = routeOptimizerService.optimizeRoute(batch, new int[]{A, B, C}).indices();
+
+        assertThat(route).containsExactly(A, B);
+        assertThat(batch.tourDistanceKm(route)).isFinite();
+    }
+
+    @Test
+    void singleOrderRecordsNoHeuristic() {
+        OptimizedRoute optimized = routeOptimizerService.optimizeRoute(batch(Set.of()), new int[]{B});
+
+        assertThat(optimized.indices()).containsExactly(B);
+        assertThat(optimized.heuristic()).isEqualTo(OptimizedRoute.NONE);
+    }
+
+    @Test
+    void energyTwoOptLeavesNoImprovingReversal() {
+        // 변화량만 계산하는 2-opt 결과에 대해, 경로 전체 소모량을 다시 계산해도 더 줄일 수 있는 구간 뒤집기가 없어야 함
+        DroneEnergyModel energyModel = energyModel();
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            PlanningBatch batch = randomBatch(random, 8);
+            OptimizedRoute optimized = routeOptimizerService.optimizeRoute(batch, batch.allIndices());
+            int[] route = optimized.indices();
+
+            assertThat(route).hasSize(batch.size());
+            double energy = batch.tourEnergyMah(energyModel, route, route.length);
+            assertThat(energy).isLessThanOrEqualTo(batch.tourEnergyMah(energyModel, batch.allIndices(), batch.size()) + 1e-6);
+            if (!optimized.heuristic().equals(OptimizedRoute.NEAREST_NEIGHBOR_2OPT)) {
+                continue;
+            }
+            for (int i = 0; i < route.length - 1; i++) {
+                for (int j = i + 1; j < route.length; j++) {
+                    int[] candidate = route.clone();
+                    for (int from = i, to = j; from < to; from++, to--) {
+                        int tmp = candidate[from];
+                        candidate[from] = candidate[to];
+                        candidate[to] = tmp;
+                    }
+                    assertThat(batch.tourEnergyMah(energyModel, candidate, candidate.length))
+                            .as("round %d, reverse %d..%d", round, i, j)
+                            .isGreaterThanOrEqualTo(energy - 1e-6);
+                }
+            }
+        }
+    }
+
+    /**
+     * 매장 주변 임의 배송지와 무게로 만든 묶음 (막힌 구간 없음, 직선 거리)
+     */
+    private static PlanningBatch randomBatch(Random random, int size) {
+        Store store = Store.builder().name("매장").lat(new BigDecimal("37.500000")).lng(new BigDecimal("127.000000")).build();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Order order = Order.builder()
+                    .store(store)
+                    .destLat(BigDecimal.valueOf(37.5 + (random.nextDouble() - 0.5) * 0.04).setScale(6, RoundingMode.HALF_UP))
+                    .destLng(BigDecimal.valueOf(127.0 + (random.nextDouble() - 0.5) * 0.04).setScale(6, RoundingMode.HALF_UP))
+                    .totalWeightKg(BigDecimal.valueOf(100 + random.nextInt(2900), 3))
+                    .build();
+            ReflectionTestUtils.setField(order, "orderId", (long) i + 1);
+            orders.add(order);
+        }
+        return PlanningBatch.of(store, orders, GeoUtils::calculateDistance);
+    }
+
+    private static PlanningBatch batch(Set<Long> blockedPairs) {
+        Store store = Store.builder().name("매장").lat(BigDecimal.ZERO).lng(BigDecimal.ZERO).build();
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = Order.builder()
+                    .store(store)
+                    .destLat(new BigDecimal("0.01").multiply(BigDecimal.valueOf(i + 1)))
+                    .destLng(BigDecimal.ZERO)
+                    .totalWeightKg(new BigDecimal("0.500"))
+                    .build();
+            ReflectionTestUtils.setField(order, "orderId", (long) i + 1);
+            orders.add(order);
+        }
+        return PlanningBatch.of(store, orders, (lat1, lng1, lat2, lng2) -> {
+            int from = node(lat1);
+            int to = node(lat2);
+            if (blockedPairs.contains(pair(from, to))) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return Math.abs(lat1 - lat2) * 111.0;
+        });
+    }
+
+    /**
+     * 위도로 노드 번호 복원 (매장은 ORIGIN)
+     */
+    private static int node(double lat) {
+        return (int) Math.round(lat * 100) - 1;
+    }
+
+    private static long pair(int a, int b) {
+        return (long) Math.min(a, b) << 32 | (Math.max(a, b) & 0xffffffffL);
+    }
+
+    private static DroneEnergyModel energyModel() {
+        DroneEnergyModel model = new DroneEnergyModel();
+        ReflectionTestUtils.setField(model, "cruiseMahPerKm", 200.0);
+        ReflectionTestUtils.setField(model, "cruiseMahPerKmPerKg", 30.0);
+        ReflectionTestUtils.setField(model, "hoverMahPerSecond", 1.9);
+        ReflectionTestUtils.setField(model, "hoverMahPerSecondPerKg", 0.3);
+        ReflectionTestUtils.setField(model, "dropHoverSeconds", 30.0);
+        ReflectionTestUtils.setField(model, "reserveRatio", 0.2);
+        return model;
+    }
+}
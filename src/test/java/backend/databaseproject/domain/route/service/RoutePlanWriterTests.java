@@ -0,0 +1,119 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.domain.drone.entity.DroneStatus;
+import backend.databaseproject.domain.drone.exception.DroneNotAvailableException;
+import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.exception.OrderAlreadyProcessedException;
+import backend.databaseproject.domain.order.repository.OrderRepository;
+import backend.databaseproject.domain.order.service.OrderTrackingProjector;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.datasource.ReplicaStalenessGuard;
+import backend.databaseproject.global.outbox.OutboxEventType;
+import backend.databaseproject.global.outbox.OutboxWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 경로 계획 저장 테스트
+ * 조건부 UPDATE가 바꾼 행 수로 다른 배차가 먼저 가져간 주문/드론을 감지하고, 그 경우 출동 이벤트를 기록하지 않는지 확인합니다.
+ * (예외가 호출자의 트랜잭션을 롤백하므로 이미 실행한 문장도 함께 취소됩니다)
+ */
+class RoutePlanWriterTests {
+
+    private static final LocalDateTime PLANNED_START = LocalDateTime.of(2025, 11, 3, 14, 0);
+
+    private RouteRepository routeRepository;
+    private OrderRepository orderRepository;
+    private DroneRepository droneRepository;
+    private OrderTrackingProjector orderTrackingProjector;
+    private OutboxWriter outboxWriter;
+    private RoutePlanWriter routePlanWriter;
+
+    private Route route;
+    private List<Order> orders;
+    private Drone drone;
+
+    @BeforeEach
+    void setUp() {
+        routeRepository = mock(RouteRepository.class);
+        orderRepository = mock(OrderRepository.class);
+        droneRepository = mock(DroneRepository.class);
+        orderTrackingProjector = mock(OrderTrackingProjector.class);
+        outboxWriter = mock(OutboxWriter.class);
+        routePlanWriter = new RoutePlanWriter(routeRepository, orderRepository, droneRepository,
+                orderTrackingProjector, mock(ReplicaStalenessGuard.class), outboxWriter);
+
+        Store store = Store.builder().name("store").build();
+        ReflectionTestUtils.setField(store, "storeId", 1L);
+        drone = Drone.builder().model("TEST").build();
+        ReflectionTestUtils.setField(drone, "droneId", 3L);
+        route = Route.builder().drone(drone).store(store).plannedStartAt(PLANNED_START).build();
+        ReflectionTestUtils.setField(route, "routeId", 10L);
+        orders = List.of(order(100L), order(101L));
+    }
+
+    @Test
+    void assignsOrdersDispatchesDroneAndRecordsRoutePlanned() {
+        when(orderRepository.assignDelivery(List.of(100L, 101L), PLANNED_START, OrderStatus.CREATED, OrderStatus.ASSIGNED))
+                .thenReturn(2);
+        when(droneRepository.changeStatusIf(3L, DroneStatus.IDLE, DroneStatus.IN_FLIGHT)).thenReturn(1);
+
+        assertThat(routePlanWriter.write(route, orders, drone)).isSameAs(route);
+
+        verify(routeRepository).save(route);
+        verify(orderTrackingProjector).assigned(route, List.of(100L, 101L));
+        verify(outboxWriter).append(eq(OutboxEventType.ROUTE_PLANNED), eq(10L), any());
+    }
+
+    @Test
+    void orderTakenByConcurrentDispatchFailsBeforeDroneAndOutbox() {
+        // 두 주문 중 하나는 다른 배차가 먼저 ASSIGNED로 바꿈
+        when(orderRepository.assignDelivery(List.of(100L, 101L), PLANNED_START, OrderStatus.CREATED, OrderStatus.ASSIGNED))
+                .thenReturn(1);
+
+        assertThatThrownBy(() -> routePlanWriter.write(route, orders, drone))
+                .isInstanceOf(OrderAlreadyProcessedException.class);
+
+        verify(droneRepository, never()).changeStatusIf(anyLong(), any(), any());
+        verify(orderTrackingProjector, never()).assigned(any(), any());
+        verify(outboxWriter, never()).append(any(), any(), any());
+    }
+
+    @Test
+    void droneTakenByConcurrentDispatchFailsBeforeOutbox() {
+        when(orderRepository.assignDelivery(List.of(100L, 101L), PLANNED_START, OrderStatus.CREATED, OrderStatus.ASSIGNED))
+                .thenReturn(2);
+        when(droneRepository.changeStatusIf(3L, DroneStatus.IDLE, DroneStatus.IN_FLIGHT)).thenReturn(0);
+
+        assertThatThrownBy(() -> routePlanWriter.write(route, orders, drone))
+                .isInstanceOf(DroneNotAvailableException.class);
+
+        verify(orderTrackingProjector, never()).assigned(any(), any());
+        verify(outboxWriter, never()).append(any(), any(), any());
+    }
+
+    private static Order order(Long orderId) {
+        Order order = Order.builder().build();
+        ReflectionTestUtils.setField(order, "orderId", orderId);
+        return order;
+    }
+}
@@ -0,0 +1,139 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 드론 위치 보관 작업 테스트
+ * 테스트마다 route_position을 p_history(9일 전 0시 이전) / 9일 전 일별 파티션 / p_future로 다시 나눈 뒤 보관 작업을 실행합니다.
+ * 시작 시 자동 실행과 겹치지 않도록 보관 작업을 끈 채로 띄우고, 테스트에서만 켭니다.
+ */
+@TestPropertySource(properties = {
+        "route-position.retention.enabled=false",
+        "route-position.retention.raw-days=7",
+        "route-position.retention.rollup-days=30",
+        "route-position.retention.bucket-seconds=60",
+        "route-position.retention.precreate-days=3"
+})
+class RoutePositionRetentionServiceTests extends MySqlIntegrationTest {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RoutePositionRetentionService retentionService;
+
+    private LocalDate today;
+
+    @BeforeEach
+    void resetPartitions() {
+        today = LocalDate.now();
+        jdbcTemplate.update("DELETE FROM route_position");
+        jdbcTemplate.update("DELETE FROM route_track_rollup");
+        jdbcTemplate.execute("ALTER TABLE route_position PARTITION BY RANGE COLUMNS (ts) (" +
+                "PARTITION p_history VALUES LESS THAN ('" + today.minusDays(9) + "'), " +
+                "PARTITION " + PARTITION_NAME.format(today.minusDays(9)) + " VALUES LESS THAN ('" + today.minusDays(8) + "'), " +
+                "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        ReflectionTestUtils.setField(retentionService, "enabled", true);
+    }
+
+    @AfterEach
+    void disable() {
+        ReflectionTestUtils.setField(retentionService, "enabled", false);
+    }
+
+    @Test
+    void precreatesDailyPartitionsAheadOfToday() {
+        retentionService.maintain();
+
+        List<String> partitions = partitionNames();
+        assertThat(partitions).last().isEqualTo("p_future");
+        for (int day = -7; day <= 3; day++) {
+            assertThat(partitions).contains(PARTITION_NAME.format(today.plusDays(day)));
+        }
+        assertThat(partitions).doesNotContain(PARTITION_NAME.format(today.plusDays(4)));
+    }
+
+    @Test
+    void rollsUpOldPartitionsBeforeDroppingThem() {
+        LocalDate history = today.minusDays(10);
+        LocalDate daily = today.minusDays(9);
+        // 0시 직전/직후 위치는 서로 다른 파티션이며, 버킷도 날짜 0시 기준이라 나뉘어 요약됨
+        insertPosition(1, history.atTime(23, 59, 30), "37.000000");
+        insertPosition(2, history.atTime(23, 59, 50), "37.200000");
+        insertPosition(3, daily.atTime(0, 0, 10), "37.400000");
+        insertPosition(4, daily.atTime(0, 0, 20), "37.500000");
+        insertPosition(5, daily.atTime(0, 0, 40), "37.600000");
+        insertPosition(6, LocalDateTime.now(), "37.700000");
+        // 요약 후 파티션 삭제 전에 중단된 이전 실행이 남긴 요약 (다시 실행하면 덮어씀)
+        jdbcTemplate.update("INSERT INTO route_track_rollup (route_id, bucket_start, lat, lng, sample_count) " +
+                "VALUES (1, ?, 1.000000, 1.000000, 99)", daily.atStartOfDay());
+
+        retentionService.maintain();
+
+        assertThat(partitionNames()).doesNotContain("p_history", PARTITION_NAME.format(daily));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM route_position", Integer.class)).isEqualTo(1);
+        assertRollups(history, daily);
+
+        // 다시 실행해도 같은 결과
+        retentionService.maintain();
+        assertRollups(history, daily);
+    }
+
+    @Test
+    void purgesRollupsOlderThanRetention() {
+        jdbcTemplate.update("INSERT INTO route_track_rollup (route_id, bucket_start, lat, lng, sample_count) " +
+                "VALUES (1, ?, 37.000000, 127.000000, 1), (1, ?, 37.000000, 127.000000, 1)",
+                today.minusDays(31).atStartOfDay(), today.minusDays(29).atStartOfDay());
+
+        retentionService.maintain();
+
+        assertThat(jdbcTemplate.query("SELECT bucket_start FROM route_track_rollup",
+                (rs, rowNum) -> rs.getObject(1, LocalDateTime.class)))
+                .containsExactly(today.minusDays(29).atStartOfDay());
+    }
+
+    private void assertRollups(LocalDate history, LocalDate daily) {
+        List<Rollup> rollups = jdbcTemplate.query(
+                "SELECT bucket_start, lat, sample_count FROM route_track_rollup WHERE route_id = 1 ORDER BY bucket_start",
+                (rs, rowNum) -> new Rollup(rs.getObject(1, LocalDateTime.class), rs.getBigDecimal(2), rs.getInt(3)));
+        assertThat(rollups).hasSize(2);
+        assertThat(rollups.get(0).bucketStart()).isEqualTo(history.atTime(23, 59));
+        assertThat(rollups.get(0).sampleCount()).isEqualTo(2);
+        assertThat(rollups.get(0).lat()).isEqualByComparingTo("37.100000");
+        assertThat(rollups.get(1).bucketStart()).isEqualTo(daily.atStartOfDay());
+        assertThat(rollups.get(1).sampleCount()).isEqualTo(3);
+        assertThat(rollups.get(1).lat()).isEqualByComparingTo("37.500000");
+    }
+
+    private void insertPosition(long posId, LocalDateTime ts, String lat) {
+        jdbcTemplate.update("INSERT INTO route_position (pos_id, route_id, lat, lng, speed_mps, battery_pct, ts) " +
+                "VALUES (?, 1, ?, 127.000000, 8.33, 90.00, ?)", posId, new BigDecimal(lat), ts);
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'route_position' ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class);
+    }
+
+    private record Rollup(LocalDateTime bucketStart, BigDecimal lat, int sampleCount) {
+    }
+}
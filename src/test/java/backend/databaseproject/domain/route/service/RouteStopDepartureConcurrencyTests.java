@@ -0,0 +1,88 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.global.outbox.OutboxEventType;
+import backend.databaseproject.global.outbox.OutboxWriter;
+import backend.databaseproject.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 경유지 출발 처리 동시성 테스트
+ * 샤드 인계 중 이전 소유 노드의 하역 대기 작업과 새 소유 노드의 복구가 같은 DROP 경유지를 동시에 출발 처리하는 상황을 재현하여,
+ * 주문 완료와 배송 완료 알림이 한 번만 기록되는지 확인합니다.
+ */
+class RouteStopDepartureConcurrencyTests extends MySqlIntegrationTest {
+
+    private static final int CONCURRENT_DEPARTURES = 4;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RouteStopProcessingService routeStopProcessingService;
+
+    @MockitoSpyBean
+    private OutboxWriter outboxWriter;
+
+    @Test
+    void concurrentDeparturesCompleteOrderOnce() throws Exception {
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (1, 'owner', 37.28, 127.04, 'OWNER', NOW())");
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (2, 'customer', 37.29, 127.05, 'CUSTOMER', NOW())");
+        jdbcTemplate.update("INSERT INTO store (store_id, owner_id, name, type, lat, lng, delivery_radius_km, is_active, registered_at) " +
+                "VALUES (1, 1, 'store', 'CONVENIENCE', 37.28, 127.04, 2.00, 1, NOW())");
+        jdbcTemplate.update("INSERT INTO drone (drone_id, store_id, model, battery_capacity, max_payload_kg, status, registered_at) " +
+                "VALUES (1, 1, 'DJI', 5000, 2.000, 'IN_FLIGHT', NOW())");
+        jdbcTemplate.update("INSERT INTO route (route_id, drone_id, store_id, status, actual_start_at) " +
+                "VALUES (1, 1, 1, 'LAUNCHED', NOW())");
+        jdbcTemplate.update("INSERT INTO route_stop (stop_id, route_id, stop_sequence, type, lat, lng, status, " +
+                "actual_arrival_at, payload_delta_kg, user_id) " +
+                "VALUES (1, 1, 1, 'DROP', 37.29, 127.05, 'ARRIVED', NOW(), -0.500, 2)");
+        jdbcTemplate.update("INSERT INTO orders (order_id, store_id, user_id, origin_lat, origin_lng, dest_lat, dest_lng, " +
+                "total_weight_kg, total_amount, item_count, status, created_at, assigned_at) " +
+                "VALUES (1, 1, 2, 37.28, 127.04, 37.29, 127.05, 0.500, 10000, 1, 'ASSIGNED', NOW(), NOW())");
+        jdbcTemplate.update("INSERT INTO route_stop_order (route_stop_order_id, stop_id, order_id, created_at) " +
+                "VALUES (1, 1, 1, NOW())");
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_DEPARTURES);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> departures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_DEPARTURES; i++) {
+            departures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                routeStopProcessingService.depart(1L);
+            }, executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(departures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM route_stop WHERE stop_id = 1", String.class))
+                .isEqualTo("DEPARTED");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE order_id = 1", String.class))
+                .isEqualTo("FULFILLED");
+        verify(outboxWriter, times(1)).append(eq(OutboxEventType.ORDER_FULFILLED), eq(1L), any());
+    }
+}
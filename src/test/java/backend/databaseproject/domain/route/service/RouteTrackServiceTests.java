@@ -0,0 +1,109 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.route.dto.response.RouteTrackResponse;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RouteStatus;
+import backend.databaseproject.domain.route.repository.RoutePositionRepository;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 경로 궤적 이력 테스트
+ * 모든 경로가 Google Encoded Polyline 예제의 세 점을 10초 간격으로 지났다고 두고, 결과와 COMPLETED 경로 LRU 캐시를 확인합니다.
+ */
+class RouteTrackServiceTests {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 11, 3, 14, 0);
+
+    private RouteRepository routeRepository;
+    private RoutePositionRepository routePositionRepository;
+    private RouteTrackService routeTrackService;
+
+    @BeforeEach
+    void setUp() {
+        routeRepository = mock(RouteRepository.class);
+        routePositionRepository = mock(RoutePositionRepository.class);
+        routeTrackService = new RouteTrackService(routeRepository, routePositionRepository);
+        ReflectionTestUtils.setField(routeTrackService, "cacheSize", 2);
+
+        when(routePositionRepository.streamTrackByRouteId(anyLong())).thenAnswer(invocation -> Stream.of(
+                new Object[]{new BigDecimal("38.500000"), new BigDecimal("-120.200000"), START},
+                new Object[]{new BigDecimal("40.700000"), new BigDecimal("-120.950000"), START.plusSeconds(10)},
+                new Object[]{new BigDecimal("43.252000"), new BigDecimal("-126.453000"), START.plusSeconds(20)}));
+    }
+
+    @Test
+    void returnsEncodedTrackWithOffsets() {
+        route(1L, RouteStatus.COMPLETED);
+
+        RouteTrackResponse track = routeTrackService.getTrack(1L, 0);
+
+        assertThat(track.getPolyline()).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+        assertThat(track.getSourcePointCount()).isEqualTo(3);
+        assertThat(track.getPointCount()).isEqualTo(3);
+        assertThat(track.getOffsetsMs()).containsExactly(0L, 10_000L, 20_000L);
+        assertThat(track.getStartedAt()).isEqualTo(START);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedCompletedTrack() {
+        route(1L, RouteStatus.COMPLETED);
+        route(2L, RouteStatus.COMPLETED);
+        route(3L, RouteStatus.COMPLETED);
+
+        routeTrackService.getTrack(1L, 5);
+        routeTrackService.getTrack(2L, 5);
+        // 1번을 다시 조회하여 가장 최근 사용으로 만든 뒤 3번 추가 -> 2번이 밀려남 (캐시 크기 2)
+        assertThat(routeTrackService.getTrack(1L, 5)).isSameAs(routeTrackService.getTrack(1L, 5));
+        routeTrackService.getTrack(3L, 5);
+
+        routeTrackService.getTrack(1L, 5);
+        routeTrackService.getTrack(2L, 5);
+
+        verify(routePositionRepository, times(1)).streamTrackByRouteId(1L);
+        verify(routePositionRepository, times(2)).streamTrackByRouteId(2L);
+        verify(routePositionRepository, times(1)).streamTrackByRouteId(3L);
+    }
+
+    @Test
+    void cachesPerToleranceRoundedToDecimeter() {
+        route(1L, RouteStatus.COMPLETED);
+
+        routeTrackService.getTrack(1L, 5.01);
+        routeTrackService.getTrack(1L, 4.96);
+        routeTrackService.getTrack(1L, 10);
+
+        verify(routePositionRepository, times(2)).streamTrackByRouteId(1L);
+    }
+
+    @Test
+    void doesNotCacheTrackOfRouteInFlight() {
+        route(1L, RouteStatus.LAUNCHED);
+
+        routeTrackService.getTrack(1L, 5);
+        routeTrackService.getTrack(1L, 5);
+
+        verify(routePositionRepository, times(2)).streamTrackByRouteId(1L);
+    }
+
+    private void route(Long routeId, RouteStatus status) {
+        Route route = Route.builder().build();
+        ReflectionTestUtils.setField(route, "routeId", routeId);
+        ReflectionTestUtils.setField(route, "status", status);
+        when(routeRepository.findById(routeId)).thenReturn(Optional.of(route));
+    }
+}
@@ -0,0 +1,179 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.global.websocket.CompactSubscriptionRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 압축 바이너리 위치 프레임 테스트
+ * 테스트용 디코더로 프레임을 되읽어 varint/zigzag 인코딩, 키프레임 주기, 새 구독 시 키프레임 강제를 확인합니다.
+ */
+class CompactFrameEncoderTests {
+
+    private static final String ROUTE_COMPACT = "/topic/route/1" + CompactSubscriptionRegistry.COMPACT_SUFFIX;
+
+    @Test
+    void keyframeBytesUseVarintAndZigzag() {
+        CompactFrameEncoder encoder = new CompactFrameEncoder(10);
+
+        encoder.encode(0.000001, -0.000001, 30.0, 100.0, 300L);
+
+        // flags=키프레임, seq=0, lat=+1 -> 2, lng=-1 -> 1, ts=300, speed=300(0.1km/h), battery=1000(0.1%)
+        assertThat(encoder.frameBytes()).containsExactly(
+                0x01, 0x00, 0x02, 0x01, 0xAC, 0x02, 0xAC, 0x02, 0xE8, 0x07);
+    }
+
+    @Test
+    void roundTripsKeyframeAndDeltaFrames() {
+        CompactFrameEncoder encoder = new CompactFrameEncoder(4);
+        Decoder decoder = new Decoder();
+        long epochMs = 1_762_000_000_000L;
+        // 위도/경도가 증가했다가 감소하고(음수 차이), 시각이 역행하는 틱도 포함
+        double[][] ticks = {
+                {37.566535, 126.977969, 30.0, 100.0},
+                {37.566900, 126.978400, 30.0, 99.9},
+                {37.566100, 126.977100, 28.5, 99.8},
+                {-33.868820, 151.209290, 0.0, 99.7},
+                {-33.868821, 151.209291, 30.0, 0.0},
+                {37.566535, 126.977969, 30.0, 55.5},
+        };
+        long[] timestamps = {epochMs, epochMs + 1000, epochMs + 2000, epochMs + 1500, epochMs + 9_000_000L, epochMs};
+
+        for (int i = 0; i < ticks.length; i++) {
+            encoder.encode(ticks[i][0], ticks[i][1], ticks[i][2], ticks[i][3], timestamps[i]);
+            Frame frame = decoder.decode(encoder.frameBytes());
+
+            assertThat(frame.seq()).isEqualTo(i);
+            assertThat(frame.latE6()).isEqualTo(Math.round(ticks[i][0] * 1_000_000.0));
+            assertThat(frame.lngE6()).isEqualTo(Math.round(ticks[i][1] * 1_000_000.0));
+            assertThat(frame.epochMs()).isEqualTo(timestamps[i]);
+            assertThat(frame.speedDeciKmh()).isEqualTo(Math.round(ticks[i][2] * 10.0));
+            assertThat(frame.batteryDeciPct()).isEqualTo(Math.round(ticks[i][3] * 10.0));
+        }
+    }
+
+    @Test
+    void keyframeIntervalRestartsAtEachKeyframe() {
+        CompactFrameEncoder encoder = new CompactFrameEncoder(3);
+
+        List<Boolean> keyframes = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            encoder.encode(37.5 + i * 0.0001, 127.0, 30.0, 90.0, 1000L * i);
+            keyframes.add((encoder.frameBytes()[0] & CompactFrameEncoder.FLAG_KEYFRAME) != 0);
+        }
+
+        assertThat(keyframes).containsExactly(true, false, false, true, false, false, true);
+    }
+
+    @Test
+    void newSubscriptionForcesKeyframeForLateSubscriber() {
+        CompactSubscriptionRegistry registry = new CompactSubscriptionRegistry();
+        CompactFrameEncoder encoder = new CompactFrameEncoder(100);
+        for (int i = 0; i < 5; i++) {
+            encoder.encode(37.5 + i * 0.0001, 127.0, 30.0, 90.0, 1000L * i);
+        }
+        assertThat(isKeyframe(encoder.frameBytes())).isFalse();
+
+        // 시뮬레이션 스레드는 틱마다 새 구독 표시를 확인하고 다음 프레임을 키프레임으로 강제
+        registry.onSubscribe(subscribe("session-1", "sub-1", ROUTE_COMPACT));
+        if (registry.takeKeyframeRequest(ROUTE_COMPACT)) {
+            encoder.requestKeyframe();
+        }
+        encoder.encode(37.5006, 127.0001, 30.0, 89.9, 6000L);
+        byte[] first = encoder.frameBytes();
+        assertThat(isKeyframe(first)).isTrue();
+        assertThat(registry.takeKeyframeRequest(ROUTE_COMPACT)).isFalse();
+
+        // 늦게 구독한 클라이언트는 받은 키프레임부터 이어지는 델타 프레임을 복원
+        Decoder lateSubscriber = new Decoder();
+        Frame keyframe = lateSubscriber.decode(first);
+        assertThat(keyframe.seq()).isEqualTo(5);
+        assertThat(keyframe.latE6()).isEqualTo(37_500_600L);
+
+        encoder.encode(37.5007, 127.0002, 30.0, 89.8, 7000L);
+        byte[] next = encoder.frameBytes();
+        assertThat(isKeyframe(next)).isFalse();
+        Frame delta = lateSubscriber.decode(next);
+        assertThat(delta.seq()).isEqualTo(6);
+        assertThat(delta.latE6()).isEqualTo(37_500_700L);
+        assertThat(delta.lngE6()).isEqualTo(127_000_200L);
+        assertThat(delta.epochMs()).isEqualTo(7000L);
+    }
+
+    private static boolean isKeyframe(byte[] frame) {
+        return (frame[0] & CompactFrameEncoder.FLAG_KEYFRAME) != 0;
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(CompactFrameEncoderTests.class, message);
+    }
+
+    private record Frame(long seq, long latE6, long lngE6, long epochMs, long speedDeciKmh, long batteryDeciPct) {
+    }
+
+    /**
+     * 클라이언트와 같은 방식의 디코더 (키프레임을 받기 전의 델타 프레임은 사용할 수 없음)
+     */
+    private static final class Decoder {
+        private boolean synced;
+        private long latE6;
+        private long lngE6;
+        private long epochMs;
+
+        private byte[] frame;
+        private int offset;
+
+        Frame decode(byte[] bytes) {
+            frame = bytes;
+            offset = 0;
+            boolean keyframe = (frame[offset++] & CompactFrameEncoder.FLAG_KEYFRAME) != 0;
+            long seq = readVarLong();
+            if (keyframe) {
+                latE6 = unzigzag(readVarLong());
+                lngE6 = unzigzag(readVarLong());
+                epochMs = readVarLong();
+                synced = true;
+            } else {
+                assertThat(synced).as("키프레임 이전 델타 프레임").isTrue();
+                latE6 += unzigzag(readVarLong());
+                lngE6 += unzigzag(readVarLong());
+                epochMs += unzigzag(readVarLong());
+            }
+            long speed = readVarLong();
+            long battery = readVarLong();
+            assertThat(offset).as("프레임 끝").isEqualTo(frame.length);
+            return new Frame(seq, latE6, lngE6, epochMs, speed, battery);
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                byte b = frame[offset++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
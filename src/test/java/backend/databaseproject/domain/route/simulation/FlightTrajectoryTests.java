@@ -0,0 +1,101 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.global.util.GeoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 구간 비행 궤적 테스트
+ * 대권 보간과 위경도 선형 보간은 양 끝점에서 같고, 짧은 구간(배송 반경)에서는 사실상 같으며, 긴 구간에서만 차이가 납니다.
+ */
+class FlightTrajectoryTests {
+
+    @Test
+    void bothModesHitEndpointsExactly() {
+        for (boolean greatCircle : new boolean[]{true, false}) {
+            FlightTrajectory trajectory = FlightTrajectory.of(37.566535, 126.977969, 37.497942, 127.027621, 7, greatCircle);
+
+            assertThat(trajectory.steps()).isEqualTo(7);
+            assertThat(trajectory.lat(0)).isEqualTo(37.566535);
+            assertThat(trajectory.lng(0)).isEqualTo(126.977969);
+            assertThat(trajectory.lat(7)).isEqualTo(37.497942);
+            assertThat(trajectory.lng(7)).isEqualTo(127.027621);
+            assertThat(trajectory.scaledLat(7)).isEqualTo(new BigDecimal("37.497942"));
+            assertThat(trajectory.scaledLng(0)).isEqualTo(new BigDecimal("126.977969"));
+            assertThat(trajectory.fraction(0)).isZero();
+            assertThat(trajectory.fraction(7)).isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    void shortLegInterpolationsAgree() {
+        // 시청 -> 강남 약 8.5km: 두 보간의 차이는 약 1m로 위치 표시에는 영향 없음
+        FlightTrajectory greatCircle = FlightTrajectory.of(37.566535, 126.977969, 37.497942, 127.027621, 10, true);
+        FlightTrajectory linear = FlightTrajectory.of(37.566535, 126.977969, 37.497942, 127.027621, 10, false);
+
+        for (int step = 0; step <= 10; step++) {
+            double gapKm = GeoUtils.calculateDistance(greatCircle.lat(step), greatCircle.lng(step),
+                    linear.lat(step), linear.lng(step));
+            assertThat(gapKm).isLessThan(0.002);
+        }
+        assertThat(greatCircle.distanceKm()).isEqualTo(linear.distanceKm());
+    }
+
+    @Test
+    void longLegGreatCircleStaysOnShortestPath() {
+        // 뉴욕 JFK -> 런던 LHR 약 5,550km
+        double lat1 = 40.6413;
+        double lng1 = -73.7781;
+        double lat2 = 51.4700;
+        double lng2 = -0.4543;
+        FlightTrajectory greatCircle = FlightTrajectory.of(lat1, lng1, lat2, lng2, 20, true);
+        FlightTrajectory linear = FlightTrajectory.of(lat1, lng1, lat2, lng2, 20, false);
+        double totalKm = greatCircle.distanceKm();
+
+        // 대권 보간 위치는 최단 경로 위에 있고 진행률만큼 등간격
+        for (int step = 0; step <= 20; step++) {
+            double fromStart = GeoUtils.calculateDistance(lat1, lng1, greatCircle.lat(step), greatCircle.lng(step));
+            double toEnd = GeoUtils.calculateDistance(greatCircle.lat(step), greatCircle.lng(step), lat2, lng2);
+            assertThat(fromStart + toEnd).isCloseTo(totalKm, within(0.01));
+            assertThat(fromStart).isCloseTo(totalKm * greatCircle.fraction(step), within(0.01));
+        }
+
+        // 선형 보간 중간점은 최단 경로에서 벗어나고, 대권 경로는 북쪽으로 휘어 지남
+        double linearDetourKm = GeoUtils.calculateDistance(lat1, lng1, linear.lat(10), linear.lng(10))
+                + GeoUtils.calculateDistance(linear.lat(10), linear.lng(10), lat2, lng2) - totalKm;
+        assertThat(linearDetourKm).isGreaterThan(50.0);
+        assertThat(greatCircle.lat(10)).isGreaterThan(linear.lat(10) + 3.0);
+    }
+
+    @Test
+    void greatCircleCrossesAntimeridianTheShortWay() {
+        FlightTrajectory greatCircle = FlightTrajectory.of(0.0, 179.9, 0.0, -179.9, 2, true);
+        FlightTrajectory linear = FlightTrajectory.of(0.0, 179.9, 0.0, -179.9, 2, false);
+
+        // 대권: 날짜 변경선 위를 지남 / 선형: 경도 0도를 지나 지구 반대편으로 돌아감
+        assertThat(Math.abs(greatCircle.lng(1))).isCloseTo(180.0, within(1e-9));
+        assertThat(linear.lng(1)).isCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    void samePointFallsBackToLinear() {
+        FlightTrajectory trajectory = FlightTrajectory.of(37.5, 127.0, 37.5, 127.0, 4, true);
+
+        for (int step = 0; step <= 4; step++) {
+            assertThat(trajectory.lat(step)).isEqualTo(37.5);
+            assertThat(trajectory.lng(step)).isEqualTo(127.0);
+        }
+        assertThat(trajectory.distanceKm()).isZero();
+    }
+
+    @Test
+    void rejectsNonPositiveSteps() {
+        assertThatThrownBy(() -> FlightTrajectory.of(37.5, 127.0, 37.6, 127.1, 0, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
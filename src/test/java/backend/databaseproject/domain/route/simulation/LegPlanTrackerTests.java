@@ -0,0 +1,88 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.global.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 구간 계획 보정 판단 테스트
+ * 경도 127도 위를 북쪽으로 0.1도(약 11.1km) 시속 30km로 비행하고, 보정 임계값은 50m입니다.
+ * 위도 1도 ≈ 111.2km이므로 1분 뒤 클라이언트 보간 위치는 출발점에서 500m 북쪽입니다.
+ */
+class LegPlanTrackerTests {
+
+    private static final double FROM_LAT = 37.0;
+    private static final double TO_LAT = 37.1;
+    private static final double LNG = 127.0;
+    private static final long START_MS = 1_700_000_000_000L;
+    private static final long ONE_MINUTE_MS = 60_000L;
+    // 1m에 해당하는 위도 차이
+    private static final double METER_LAT = 1.0 / 111_195.0;
+
+    private LegPlanTracker tracker;
+    private double predictedLatAfterOneMinute;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LegPlanTracker(1L, 30.0, 50.0, 1.0);
+        tracker.startLeg(FROM_LAT, LNG, TO_LAT, LNG, START_MS);
+        double legKm = GeoUtils.calculateDistance(FROM_LAT, LNG, TO_LAT, LNG);
+        predictedLatAfterOneMinute = FROM_LAT + (TO_LAT - FROM_LAT) * (0.5 / legKm);
+    }
+
+    @Test
+    void onlyGapsBeyondThresholdNeedCorrection() {
+        long now = START_MS + ONE_MINUTE_MS;
+
+        assertThat(tracker.deviates(predictedLatAfterOneMinute, LNG, now)).isFalse();
+        assertThat(tracker.deviates(predictedLatAfterOneMinute + 40 * METER_LAT, LNG, now)).isFalse();
+        assertThat(tracker.deviates(predictedLatAfterOneMinute - 40 * METER_LAT, LNG, now)).isFalse();
+        assertThat(tracker.deviates(predictedLatAfterOneMinute + 60 * METER_LAT, LNG, now)).isTrue();
+        // 출발점에 머물러 있으면 500m 뒤처짐
+        assertThat(tracker.deviates(FROM_LAT, LNG, now)).isTrue();
+    }
+
+    @Test
+    void correctionRestartsFromActualPositionTowardSameDestination() {
+        long now = START_MS + ONE_MINUTE_MS;
+        double laggingLat = predictedLatAfterOneMinute - 100 * METER_LAT;
+        assertThat(tracker.deviates(laggingLat, LNG, now)).isTrue();
+
+        tracker.correct(laggingLat, LNG, now);
+
+        // 보정 시점부터 다시 보간하므로 같은 속도로 따라가면 벌어지지 않음
+        assertThat(tracker.deviates(laggingLat, LNG, now)).isFalse();
+        assertThat(tracker.deviates(laggingLat + 500 * METER_LAT, LNG, now + ONE_MINUTE_MS)).isFalse();
+
+        LegPlanFrame frame = tracker.frame(80.0, now);
+        assertThat(frame.phase()).isEqualTo(LegPlanTracker.PHASE_CORRECTION);
+        assertThat(frame.fromLat()).isEqualTo(laggingLat);
+        assertThat(frame.toLat()).isEqualTo(TO_LAT);
+        assertThat(frame.startedAt()).isEqualTo(now);
+        assertThat(frame.distanceKm()).isCloseTo(GeoUtils.calculateDistance(laggingLat, LNG, TO_LAT, LNG), within(1e-9));
+    }
+
+    @Test
+    void predictionStopsAtDestination() {
+        // 예정 도착 시각이 한참 지나도 보간 위치는 도착지에 머묾
+        long muchLater = START_MS + 60 * ONE_MINUTE_MS;
+
+        assertThat(tracker.deviates(TO_LAT, LNG, muchLater)).isFalse();
+        assertThat(tracker.deviates(TO_LAT - 60 * METER_LAT, LNG, muchLater)).isTrue();
+    }
+
+    @Test
+    void holdAndZeroLengthLegNeverDeviate() {
+        tracker.hold(FROM_LAT, LNG, START_MS);
+        assertThat(tracker.deviates(TO_LAT, LNG, START_MS + ONE_MINUTE_MS)).isFalse();
+        LegPlanFrame frame = tracker.frame(80.0, START_MS);
+        assertThat(frame.phase()).isEqualTo(LegPlanTracker.PHASE_HOLD);
+        assertThat(frame.speedKmh()).isZero();
+
+        tracker.startLeg(FROM_LAT, LNG, FROM_LAT, LNG, START_MS);
+        assertThat(tracker.deviates(TO_LAT, LNG, START_MS + ONE_MINUTE_MS)).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.RouteStopOrder;
+import backend.databaseproject.domain.route.entity.StopStatus;
+import backend.databaseproject.domain.route.entity.StopType;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 위치 브로드캐스트 대상 계획 테스트
+ * 경로: 0 PICKUP / 1 DROP(주문 11, 12) / 2 WAYPOINT / 3 DROP(주문 13, 이미 도착) / 4 DROP(주문 14) / 5 RETURN
+ */
+class PositionFanOutPlanTests {
+
+    private static final Long ROUTE_ID = 1L;
+
+    @Test
+    void compilesPendingDropOrdersInStopOrder() {
+        PositionFanOutPlan plan = PositionFanOutPlan.compile(ROUTE_ID, stops());
+
+        assertThat(activeOrderIds(plan)).containsExactly(11L, 12L, 14L);
+        assertThat(plan.orderDestination(0)).isEqualTo("/topic/order/11/position");
+        assertThat(plan.orderPlanDestination(1)).isEqualTo("/topic/order/12/plan");
+        assertThat(plan.orderCompactDestination(2)).isEqualTo("/topic/order/14/position/compact");
+        assertThat(plan.orderPrefix(2)).isEqualTo(PositionFrameEncoder.orderPrefix(14L));
+        assertThat(plan.routeDestination()).isEqualTo("/topic/route/1");
+        assertThat(plan.routePlanDestination()).isEqualTo("/topic/route/1/plan");
+        assertThat(plan.routeCompactDestination()).isEqualTo("/topic/route/1/compact");
+    }
+
+    @Test
+    void arrivalAdvancesFirstActivePastDeliveredOrders() {
+        PositionFanOutPlan plan = PositionFanOutPlan.compile(ROUTE_ID, stops());
+
+        // 상차 지점 도착: 배송 대상 변화 없음
+        plan.onStopArrived(0);
+        assertThat(plan.firstActive()).isZero();
+
+        // 첫 DROP 도착: 같은 stop의 두 주문 제외
+        plan.onStopArrived(1);
+        assertThat(plan.firstActive()).isEqualTo(2);
+        assertThat(activeOrderIds(plan)).containsExactly(14L);
+
+        // 경유지/이미 도착해 있던 stop: 남은 주문은 그대로
+        plan.onStopArrived(2);
+        plan.onStopArrived(3);
+        assertThat(activeOrderIds(plan)).containsExactly(14L);
+
+        // 마지막 DROP과 복귀 지점: 모두 제외, 같은 stop 도착이 다시 와도 넘어가지 않음
+        plan.onStopArrived(4);
+        plan.onStopArrived(4);
+        plan.onStopArrived(5);
+        assertThat(plan.firstActive()).isEqualTo(plan.end());
+        assertThat(activeOrderIds(plan)).isEmpty();
+    }
+
+    @Test
+    void arrivalSkippingStopsStillDropsEarlierOrders() {
+        PositionFanOutPlan plan = PositionFanOutPlan.compile(ROUTE_ID, stops());
+
+        // 도착 처리를 건너뛰고 뒤 stop에 도착해도 그 앞 주문은 모두 제외
+        plan.onStopArrived(4);
+
+        assertThat(activeOrderIds(plan)).isEmpty();
+    }
+
+    @Test
+    void relayedPlanKeepsEveryOrderActive() {
+        PositionFanOutPlan plan = PositionFanOutPlan.relayed(ROUTE_ID, new Long[]{12L, 14L});
+
+        assertThat(plan.firstActive()).isZero();
+        assertThat(activeOrderIds(plan)).containsExactly(12L, 14L);
+        assertThat(plan.orderDestination(1)).isEqualTo("/topic/order/14/position");
+    }
+
+    private static List<Long> activeOrderIds(PositionFanOutPlan plan) {
+        List<Long> orderIds = new ArrayList<>();
+        for (int j = plan.firstActive(); j < plan.end(); j++) {
+            orderIds.add(plan.orderId(j));
+        }
+        return orderIds;
+    }
+
+    private static List<RouteStop> stops() {
+        RouteStop arrivedDrop = stop(StopType.DROP, 13L);
+        ReflectionTestUtils.setField(arrivedDrop, "status", StopStatus.ARRIVED);
+        return List.of(
+                stop(StopType.PICKUP),
+                stop(StopType.DROP, 11L, 12L),
+                stop(StopType.WAYPOINT),
+                arrivedDrop,
+                stop(StopType.DROP, 14L),
+                stop(StopType.RETURN));
+    }
+
+    private static RouteStop stop(StopType type, Long... orderIds) {
+        RouteStop stop = RouteStop.builder().stopType(type).build();
+        for (Long orderId : orderIds) {
+            Order order = Order.builder().build();
+            ReflectionTestUtils.setField(order, "orderId", orderId);
+            stop.addRouteStopOrder(RouteStopOrder.builder().routeStop(stop).order(order).build());
+        }
+        return stop;
+    }
+}
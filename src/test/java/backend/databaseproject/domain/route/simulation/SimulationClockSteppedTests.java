@@ -0,0 +1,106 @@
+package backend.databaseproject.domain.route.simulation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단계(STEPPED) 모드 시뮬레이션 시계 테스트
+ * 실제 시간을 기다리지 않고 {@link SimulationClock#advance(Duration)}만으로 비행 틱과 하역 대기가 진행되는지 확인합니다.
+ */
+class SimulationClockSteppedTests {
+
+    private static final long TICK_MS = 2000;
+
+    private SimulationClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new SimulationClock();
+        ReflectionTestUtils.setField(clock, "mode", ClockMode.STEPPED);
+        ReflectionTestUtils.setField(clock, "speed", 1.0);
+        ReflectionTestUtils.setField(clock, "schedulerThreads", 1);
+        ReflectionTestUtils.invokeMethod(clock, "start");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(clock, "stop");
+    }
+
+    @Test
+    void flightTicksAdvanceOnlyWithClock() throws Exception {
+        long startMs = clock.millis();
+        List<Long> tickTimes = new CopyOnWriteArrayList<>();
+
+        // 비행 스레드처럼 틱마다 2초(가상) 대기 후 시각 기록
+        Thread flight = new Thread(() -> {
+            try {
+                for (int tick = 0; tick < 3; tick++) {
+                    clock.sleep(TICK_MS);
+                    tickTimes.add(clock.millis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        flight.start();
+
+        for (int tick = 0; tick < 3; tick++) {
+            // 이전 틱을 기록하고 다시 대기에 들어갈 때까지 기다린 뒤 시계 진행
+            awaitSleeping(tickTimes, tick);
+            clock.advance(Duration.ofMillis(TICK_MS));
+        }
+        flight.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(flight.isAlive()).isFalse();
+        assertThat(tickTimes).containsExactly(startMs + TICK_MS, startMs + 2 * TICK_MS, startMs + 3 * TICK_MS);
+    }
+
+    @Test
+    void scheduledDwellRunsWhenClockPassesDueTime() {
+        long startMs = clock.millis();
+        List<Long> departedAt = new CopyOnWriteArrayList<>();
+
+        // 경유지 도착 후 30초 하역 대기 뒤 출발 처리
+        clock.schedule(() -> departedAt.add(clock.millis()), 30_000);
+        assertThat(clock.pendingTasks()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(29));
+        assertThat(departedAt).isEmpty();
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(departedAt).containsExactly(startMs + 30_000);
+        assertThat(clock.pendingTasks()).isZero();
+    }
+
+    @Test
+    void scheduledTasksRunInDueOrder() {
+        List<String> order = new CopyOnWriteArrayList<>();
+        clock.schedule(() -> order.add("second"), 2000);
+        clock.schedule(() -> order.add("first"), 1000);
+        clock.schedule(() -> order.add("third"), 2000);
+
+        clock.advance(Duration.ofSeconds(5));
+
+        assertThat(order).containsExactly("first", "second", "third");
+    }
+
+    private void awaitSleeping(List<Long> tickTimes, int recordedTicks) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (tickTimes.size() != recordedTicks || clock.sleepingThreads() == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("비행 스레드가 시계 대기에 들어가지 않았습니다");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.order.service.OrderTrackingProjector;
+import backend.databaseproject.global.outbox.OutboxEvent;
+import backend.databaseproject.global.outbox.OutboxEventType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 배송 완료 이벤트 -> 주문 추적 조회 모델 갱신 테스트
+ * 출발 처리에서 기록하는 본문(application.yml과 같은 날짜 직렬화 설정)으로 완료 시각을 그대로 반영하는지 확인합니다.
+ */
+class OrderTrackingOutboxListenerTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void fulfilledEventCompletesTrackingRow() throws Exception {
+        OrderTrackingProjector projector = mock(OrderTrackingProjector.class);
+        OrderTrackingOutboxListener listener = new OrderTrackingOutboxListener(projector, objectMapper);
+        LocalDateTime completedAt = LocalDateTime.of(2025, 11, 3, 14, 25, 7, 123_000_000);
+
+        Map<String, Object> completionData = new LinkedHashMap<>();
+        completionData.put("orderId", 42L);
+        completionData.put("status", "FULFILLED");
+        completionData.put("message", "배송이 완료되었습니다!");
+        completionData.put("completedAt", completedAt);
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(OutboxEventType.ORDER_FULFILLED)
+                .aggregateId(42L)
+                .payload(objectMapper.writeValueAsString(completionData))
+                .build();
+
+        assertThat(listener.supports(OutboxEventType.ORDER_FULFILLED)).isTrue();
+        assertThat(listener.supports(OutboxEventType.ROUTE_COMPLETED)).isFalse();
+        listener.onEvent(event);
+
+        verify(projector).completed(42L, completedAt);
+    }
+}
@@ -0,0 +1,208 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.route.controller.RouteController;
+import backend.databaseproject.domain.route.service.RouteService;
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * SSE 추적 테스트
+ * 경로 스트림은 RouteController(/api/routes/{routeId}/tracking/stream)를 MockMvc로 호출하여 열고,
+ * 추적 이벤트는 허브에 직접 넣습니다 (전체 컨텍스트/DB 없이 실행).
+ */
+class SseTrackingHubTests {
+
+    private static final long ROUTE_ID = 1L;
+    private static final long ORDER_ID = 7L;
+    private static final byte[] PLAN = "{\"leg\":1}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMPLETED = "{\"status\":\"COMPLETED\"}".getBytes(StandardCharsets.UTF_8);
+
+    private SseTrackingHub hub;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        hub = new SseTrackingHub();
+        ReflectionTestUtils.setField(hub, "emitterTimeoutMs", 60000L);
+        ReflectionTestUtils.setField(hub, "bufferSize", 4);
+        ReflectionTestUtils.setField(hub, "heartbeatMs", 15000L);
+        ReflectionTestUtils.setField(hub, "idleTimeoutMs", 600000L);
+        ReflectionTestUtils.setField(hub, "senderThreads", 1);
+        ReflectionTestUtils.invokeMethod(hub, "start");
+
+        RouteService routeService = mock(RouteService.class);
+        when(routeService.subscribeTracking(anyLong()))
+                .thenAnswer(invocation -> hub.subscribeRoute(invocation.getArgument(0)));
+        mockMvc = MockMvcBuilders.standaloneSetup(new RouteController(routeService, null, null)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(hub, "stop");
+    }
+
+    @Test
+    void routeStreamDeliversEventsAndEndsOnRouteCompleted() throws Exception {
+        MvcResult stream = openRouteStream();
+        awaitSent();
+        // 연결 직후 하트비트로 프록시 버퍼링 없이 스트림이 열렸음을 알림
+        assertThat(content(stream)).startsWith(":heartbeat");
+
+        hub.onPlan(PositionFanOutPlan.relayed(ROUTE_ID, new Long[]{ORDER_ID}), PLAN);
+        hub.onRouteCompleted(ROUTE_ID, COMPLETED);
+        awaitSent();
+
+        assertThat(content(stream))
+                .contains("event:plan\ndata:{\"leg\":1}\n\n")
+                .endsWith("event:status\ndata:{\"status\":\"COMPLETED\"}\n\n");
+        assertThat(routeConnections()).isEmpty();
+
+        // 종료 후 이벤트는 전달되지 않음
+        hub.onPlan(PositionFanOutPlan.relayed(ROUTE_ID, new Long[]{ORDER_ID}), PLAN);
+        awaitSent();
+        assertThat(content(stream)).endsWith("event:status\ndata:{\"status\":\"COMPLETED\"}\n\n");
+    }
+
+    @Test
+    void bufferOverflowClosesConnection() throws Exception {
+        // 전송 스레드를 막아 큐가 비워지지 않게 함
+        CountDownLatch blocked = new CountDownLatch(1);
+        sender().execute(() -> awaitQuietly(blocked));
+
+        MvcResult stream = openRouteStream();
+        hub.subscribeOrder(ORDER_ID);
+
+        // 위치/계획은 가장 최신 것 하나만 남으므로 아무리 많아도 큐가 넘치지 않음
+        for (int i = 0; i < 20; i++) {
+            hub.onPlan(PositionFanOutPlan.relayed(ROUTE_ID, new Long[]{ORDER_ID}), PLAN);
+        }
+        assertThat(routeConnections()).containsKey(ROUTE_ID);
+        assertThat(orderConnections()).containsKey(ORDER_ID);
+
+        // 버리지 않는 상태 이벤트가 쌓여 큐(4개: 하트비트/계획 + 상태 2개)를 넘으면 연결 종료
+        hub.onOrderStatus(ORDER_ID, COMPLETED);
+        hub.onOrderStatus(ORDER_ID, COMPLETED);
+        assertThat(orderConnections()).containsKey(ORDER_ID);
+        hub.onOrderStatus(ORDER_ID, COMPLETED);
+        assertThat(orderConnections()).isEmpty();
+
+        // 다른 연결에는 영향 없음
+        blocked.countDown();
+        awaitSent();
+        assertThat(routeConnections()).containsKey(ROUTE_ID);
+        assertThat(content(stream)).contains("event:plan");
+    }
+
+    @Test
+    void heartbeatKeepsActiveConnectionsAndClosesIdleOnes() throws Exception {
+        ReflectionTestUtils.setField(hub, "idleTimeoutMs", 200L);
+        MvcResult idle = openRouteStream();
+        hub.subscribeOrder(ORDER_ID);
+        awaitSent();
+
+        Thread.sleep(300);
+        // 주문 연결만 데이터 이벤트를 받음 (하트비트는 유휴 시간을 늘리지 않음)
+        hub.onPlan(PositionFanOutPlan.relayed(2L, new Long[]{ORDER_ID}), PLAN);
+        hub.heartbeat();
+        awaitSent();
+
+        assertThat(routeConnections()).isEmpty();
+        assertThat(orderConnections()).containsKey(ORDER_ID);
+        assertThat(content(idle)).isEqualTo(":heartbeat\n\n");
+        assertThat(sessionCount(orderConnections())).isEqualTo(1);
+    }
+
+    @Test
+    void reconnectAfterEmitterTimeoutReceivesLaterEvents() throws Exception {
+        MvcResult first = openRouteStream();
+        awaitSent();
+
+        // 연결 유지 시간(timeout-ms) 만료 -> 허브에서 제거, EventSource가 다시 연결
+        MockAsyncContext asyncContext = (MockAsyncContext) first.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+        assertThat(routeConnections()).isEmpty();
+
+        MvcResult second = openRouteStream();
+        hub.onPlan(PositionFanOutPlan.relayed(ROUTE_ID, new Long[]{ORDER_ID}), PLAN);
+        awaitSent();
+
+        assertThat(sessionCount(routeConnections())).isEqualTo(1);
+        assertThat(content(second)).contains("event:plan");
+        assertThat(content(first)).doesNotContain("event:plan");
+    }
+
+    private MvcResult openRouteStream() throws Exception {
+        return mockMvc.perform(get("/api/routes/{routeId}/tracking/stream", ROUTE_ID))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static String content(MvcResult stream) throws Exception {
+        MockHttpServletResponse response = stream.getResponse();
+        return response.getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Set<?>> routeConnections() {
+        return (Map<Long, Set<?>>) ReflectionTestUtils.getField(hub, "routeConnections");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Set<?>> orderConnections() {
+        return (Map<Long, Set<?>>) ReflectionTestUtils.getField(hub, "orderConnections");
+    }
+
+    private static int sessionCount(Map<Long, Set<?>> connections) {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private ThreadPoolExecutor sender() {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(hub, "sender");
+    }
+
+    /**
+     * 전송 스레드가 받은 작업을 모두 끝낼 때까지 대기
+     */
+    private void awaitSent() throws InterruptedException {
+        ThreadPoolExecutor sender = sender();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sender.getCompletedTaskCount() < sender.getTaskCount()) {
+            assertThat(System.nanoTime()).as("SSE 전송 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package backend.databaseproject.domain.route.tracking;
+
+import backend.databaseproject.domain.route.simulation.PositionFanOutPlan;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 내부 추적 스트림 전달 테스트
+ * 앞 구독자가 예외를 던져도 뒤 구독자가 모든 이벤트를 받고, 다른 노드에서 받은 이벤트는 중계 구독자에게 다시 보내지 않는지 확인합니다.
+ */
+class TrackingStreamTests {
+
+    private static final Long ROUTE_ID = 1L;
+    private static final Long ORDER_ID = 7L;
+    private static final byte[] PAYLOAD = "{}".getBytes();
+
+    private TrackingListener failing;
+    private TrackingListener healthy;
+    private TrackingRelay relay;
+    private TrackingStream stream;
+    private PositionFanOutPlan plan;
+    private PositionFrameEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        failing = mock(TrackingListener.class);
+        healthy = mock(TrackingListener.class);
+        relay = mock(TrackingRelay.class);
+        stream = new TrackingStream(List.of(failing, relay, healthy));
+        plan = PositionFanOutPlan.relayed(ROUTE_ID, new Long[]{ORDER_ID});
+        encoder = PositionFrameEncoder.relayed("{}".getBytes(), new byte[0]);
+
+        RuntimeException broken = new IllegalStateException("broken subscriber");
+        doThrow(broken).when(failing).onPosition(any(), any());
+        doThrow(broken).when(failing).onPlan(any(), any());
+        doThrow(broken).when(failing).onOrderStatus(anyLong(), any());
+        doThrow(broken).when(failing).onRouteCompleted(anyLong(), any());
+    }
+
+    @Test
+    void failingListenerDoesNotStopLocalEvents() {
+        stream.publishPosition(plan, encoder);
+        stream.publishPlan(plan, PAYLOAD);
+        stream.publishOrderStatus(ORDER_ID, PAYLOAD);
+        stream.publishRouteCompleted(ROUTE_ID, PAYLOAD);
+
+        for (TrackingListener listener : List.of(relay, healthy)) {
+            verify(listener).onPosition(plan, encoder);
+            verify(listener).onPlan(plan, PAYLOAD);
+            verify(listener).onOrderStatus(ORDER_ID, PAYLOAD);
+            verify(listener).onRouteCompleted(ROUTE_ID, PAYLOAD);
+        }
+    }
+
+    @Test
+    void relayedEventsSkipRelayAndSurviveFailingListener() {
+        stream.deliverRelayedPosition(plan, encoder);
+        stream.deliverRelayedPlan(plan, PAYLOAD);
+        stream.deliverRelayedOrderStatus(ORDER_ID, PAYLOAD);
+        stream.deliverRelayedRouteCompleted(ROUTE_ID, PAYLOAD);
+
+        verify(healthy).onPosition(plan, encoder);
+        verify(healthy).onPlan(plan, PAYLOAD);
+        verify(healthy).onOrderStatus(ORDER_ID, PAYLOAD);
+        verify(healthy).onRouteCompleted(ROUTE_ID, PAYLOAD);
+
+        // 다른 노드에서 받은 이벤트를 다시 중계하지 않음
+        verify(relay, never()).onPosition(any(), any());
+        verify(relay, never()).onPlan(any(), any());
+        verify(relay, never()).onOrderStatus(anyLong(), any());
+        verify(relay, never()).onRouteCompleted(anyLong(), any());
+    }
+}
@@ -0,0 +1,74 @@
+package backend.databaseproject.domain.store.search;
+
+import backend.databaseproject.domain.store.entity.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장명 n-gram 색인 테스트
+ * 1글자 검색어는 1-gram, 2글자 이상은 2-gram 교집합으로 후보를 찾습니다.
+ */
+class StoreNameSearchIndexTests {
+
+    private StoreNameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreNameSearchIndex();
+        index.rebuild(List.of(
+                store(1L, "김밥천국", true),
+                store(2L, "천국분식", true),
+                store(3L, "김 밥 나라", true),
+                store(4L, "국밥집", false)));
+    }
+
+    @Test
+    void singleCharacterQueryMatchesAnyPosition() {
+        assertThat(storeIds(index.search("국", null, null))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(storeIds(index.search("밥", null, null))).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void twoCharacterQueryRequiresAdjacentCharacters() {
+        // "천국"은 두 매장 모두 포함, 접두 일치가 먼저
+        assertThat(storeIds(index.search("천국", null, null))).containsExactly(2L, 1L);
+        // 공백은 정규화로 제거되어 "김 밥 나라"도 "김밥"에 일치
+        assertThat(storeIds(index.search("김밥", null, null))).containsExactly(1L, 3L);
+        // 두 글자가 모두 있어도 붙어 있지 않으면 제외
+        assertThat(index.search("김국", null, null)).isEmpty();
+    }
+
+    @Test
+    void inactiveStoreIsNotIndexed() {
+        assertThat(index.search("국밥", null, null)).isEmpty();
+    }
+
+    @Test
+    void upsertReplacesPreviousName() {
+        index.upsert(store(2L, "떡볶이", true));
+
+        assertThat(storeIds(index.search("천국", null, null))).containsExactly(1L);
+        assertThat(storeIds(index.search("떡", null, null))).containsExactly(2L);
+    }
+
+    private static List<Long> storeIds(List<StoreNameSearchIndex.SearchHit> hits) {
+        return hits.stream().map(StoreNameSearchIndex.SearchHit::storeId).toList();
+    }
+
+    static Store store(Long storeId, String name, boolean active) {
+        Store store = Store.builder()
+                .name(name)
+                .lat(new BigDecimal("37.500000"))
+                .lng(new BigDecimal("127.000000"))
+                .isActive(active)
+                .build();
+        ReflectionTestUtils.setField(store, "storeId", storeId);
+        return store;
+    }
+}
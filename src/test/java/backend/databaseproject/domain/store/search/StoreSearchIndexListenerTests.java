@@ -0,0 +1,102 @@
+package backend.databaseproject.domain.store.search;
+
+import backend.databaseproject.domain.store.entity.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static backend.databaseproject.domain.store.search.StoreNameSearchIndexTests.store;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매장 엔티티 변경 리스너 테스트
+ * DB 없이 트랜잭션 동기화만 수행하는 트랜잭션 매니저로 커밋/롤백 시점의 색인 반영을 확인합니다.
+ */
+class StoreSearchIndexListenerTests {
+
+    private StoreNameSearchIndex index;
+    private StoreSearchIndexListener listener;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreNameSearchIndex();
+        index.rebuild(List.of(store(1L, "김밥천국", true)));
+        listener = new StoreSearchIndexListener(index);
+        transactionTemplate = new TransactionTemplate(new SynchronizationOnlyTransactionManager());
+    }
+
+    @Test
+    void updateIsIndexedOnlyAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            listener.onSave(store(1L, "떡볶이나라", true));
+            // flush 직후(커밋 전)에는 이전 이름으로 검색됨
+            assertThat(index.search("떡볶이", null, null)).isEmpty();
+            assertThat(index.search("김밥", null, null)).hasSize(1);
+        });
+
+        assertThat(index.search("떡볶이", null, null)).hasSize(1);
+        assertThat(index.search("김밥", null, null)).isEmpty();
+    }
+
+    @Test
+    void rolledBackUpdateIsNotIndexed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            listener.onSave(store(1L, "떡볶이나라", true));
+            listener.onSave(store(2L, "천국분식", true));
+            status.setRollbackOnly();
+        });
+
+        assertThat(index.search("떡볶이", null, null)).isEmpty();
+        assertThat(index.search("천국", null, null))
+                .extracting(StoreNameSearchIndex.SearchHit::storeId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void rolledBackRemovalKeepsStore() {
+        transactionTemplate.executeWithoutResult(status -> {
+            listener.onRemove(store(1L, "김밥천국", true));
+            status.setRollbackOnly();
+        });
+        assertThat(index.search("김밥", null, null)).hasSize(1);
+
+        transactionTemplate.executeWithoutResult(status -> listener.onRemove(store(1L, "김밥천국", true)));
+        assertThat(index.search("김밥", null, null)).isEmpty();
+    }
+
+    @Test
+    void changeOutsideTransactionIsIndexedImmediately() {
+        listener.onSave(store(2L, "천국분식", true));
+
+        assertThat(index.search("분식", null, null)).hasSize(1);
+    }
+
+    /**
+     * 실제 리소스 없이 트랜잭션 동기화(커밋/롤백 콜백)만 수행하는 트랜잭션 매니저
+     */
+    private static class SynchronizationOnlyTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
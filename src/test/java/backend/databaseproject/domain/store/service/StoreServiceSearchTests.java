@@ -0,0 +1,76 @@
+package backend.databaseproject.domain.store.service;
+
+import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.store.dto.response.StoreResponse;
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.domain.store.entity.StoreType;
+import backend.databaseproject.domain.store.repository.StoreProductRepository;
+import backend.databaseproject.domain.store.repository.StoreRepository;
+import backend.databaseproject.domain.store.search.StoreNameSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 매장명 검색 테스트
+ * 색인 구축 전에는 DB 부분 일치(LIKE) 조회로, 구축 후에는 색인 결과의 매장만 PK로 조회합니다.
+ */
+class StoreServiceSearchTests {
+
+    private StoreRepository storeRepository;
+    private StoreNameSearchIndex storeNameSearchIndex;
+    private StoreService storeService;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository = mock(StoreRepository.class);
+        storeNameSearchIndex = new StoreNameSearchIndex();
+        storeService = new StoreService(storeRepository, mock(StoreProductRepository.class),
+                mock(DroneRepository.class), storeNameSearchIndex);
+    }
+
+    @Test
+    void usesDatabaseLikeSearchBeforeIndexIsReady() {
+        when(storeRepository.findByNameContainingAndIsActiveTrue("김밥")).thenReturn(List.of(store(1L, "김밥천국")));
+
+        List<StoreResponse> result = storeService.searchStoresByName("김밥", null, null);
+
+        assertThat(result).extracting(StoreResponse::getStoreId).containsExactly(1L);
+        verify(storeRepository).findByNameContainingAndIsActiveTrue("김밥");
+        verify(storeRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    void usesIndexOnceReady() {
+        Store store = store(1L, "김밥천국");
+        storeNameSearchIndex.rebuild(List.of(store, store(2L, "천국분식")));
+        when(storeRepository.findAllById(List.of(1L))).thenReturn(List.of(store));
+
+        List<StoreResponse> result = storeService.searchStoresByName("밥", null, null);
+
+        assertThat(result).extracting(StoreResponse::getStoreId).containsExactly(1L);
+        verify(storeRepository, never()).findByNameContainingAndIsActiveTrue(anyString());
+    }
+
+    private static Store store(Long storeId, String name) {
+        Store store = Store.builder()
+                .name(name)
+                .type(StoreType.CONVENIENCE)
+                .lat(new BigDecimal("37.500000"))
+                .lng(new BigDecimal("127.000000"))
+                .build();
+        ReflectionTestUtils.setField(store, "storeId", storeId);
+        return store;
+    }
+}
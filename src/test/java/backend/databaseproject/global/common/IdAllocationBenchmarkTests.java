@@ -0,0 +1,201 @@
+package backend.databaseproject.global.common;
+
+import backend.databaseproject.DatabaseProjectApplication;
+import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RoutePosition;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.StopType;
+import backend.databaseproject.domain.route.repository.RoutePositionRepository;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.domain.store.repository.StoreRepository;
+import backend.databaseproject.support.SharedMySqlContainer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ID 할당 크기와 JDBC 배치에 따른 쓰기 왕복 측정
+ * 같은 MySQL에 설정만 다른 애플리케이션 컨텍스트를 차례로 띄워, 같은 쓰기 작업을 하는 동안 서버가 실행한 INSERT/UPDATE 문장 수
+ * (SHOW GLOBAL STATUS의 Com_insert + Com_update, rewriteBatchedStatements로 묶인 배치는 1회)와 걸린 시간을 비교합니다.
+ *
+ * - 변경 전: ID를 1개씩 할당(id_sequence UPDATE가 행마다 발생)하고 배치 없이 INSERT - IDENTITY와 같은 행당 왕복
+ * - 변경 후: 기본 할당 크기(pooled-lo) + hibernate.jdbc.batch_size=50
+ *
+ * 위치 틱은 생성기의 id_sequence 접근 횟수로 ID 구간 1회가 할당 크기만큼의 INSERT를 감당하는지도 확인합니다.
+ *
+ * 측정값은 로그로 출력합니다 (./gradlew test --tests IdAllocationBenchmarkTests -i).
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IdAllocationBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(IdAllocationBenchmarkTests.class);
+
+    private static final int POSITION_TICKS = 500;
+    private static final int ROUTES = 20;
+    private static final int STOPS_PER_ROUTE = 12;
+
+    private static MySQLContainer<?> mysql;
+    private static JdbcTemplate status;
+
+    @BeforeAll
+    static void setUp() {
+        mysql = SharedMySqlContainer.get();
+        SharedMySqlContainer.truncateTables();
+        status = new JdbcTemplate(new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword()));
+    }
+
+    @Test
+    void pooledAllocationWithBatchingReducesWriteRoundTrips() {
+        Measurement before = measure("변경 전 (할당 1, 배치 없음)", 1, 0);
+        Measurement after = measure("변경 후 (할당 " + IdSequences.DEFAULT_ALLOCATION_SIZE + ", 배치 50)",
+                IdSequences.DEFAULT_ALLOCATION_SIZE, 50);
+
+        // 위치 틱은 틱마다 커밋하므로 배치 효과는 없고 ID 할당 UPDATE만 줄어듦
+        assertThat(after.positionStatements()).isLessThan(before.positionStatements());
+        assertThat(after.positionStatements()).isGreaterThanOrEqualTo(POSITION_TICKS);
+        // id_sequence 접근 1회가 할당 크기만큼의 INSERT를 감당
+        assertThat(before.positionSequenceAccesses()).isEqualTo(POSITION_TICKS);
+        assertThat(after.positionSequenceAccesses())
+                .isEqualTo((POSITION_TICKS + IdSequences.DEFAULT_ALLOCATION_SIZE - 1) / IdSequences.DEFAULT_ALLOCATION_SIZE);
+        // 경로 생성은 한 트랜잭션의 route_stop INSERT가 배치로 묶임
+        assertThat(after.routeStatements()).isLessThan(before.routeStatements() / 4);
+    }
+
+    private Measurement measure(String label, int allocationSize, int batchSize) {
+        try (ConfigurableApplicationContext context = start(allocationSize, batchSize)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+            RouteRepository routeRepository = context.getBean(RouteRepository.class);
+            RoutePositionRepository routePositionRepository = context.getBean(RoutePositionRepository.class);
+            seed(jdbcTemplate);
+
+            // 1. 위치 틱 저장 (시뮬레이터와 같이 틱마다 트랜잭션 없이 save)
+            Long routeId = jdbcTemplate.queryForObject("SELECT MIN(route_id) FROM route", Long.class);
+            Route routeRef = routeRepository.getReferenceById(routeId);
+            TableGenerator positionIds = generator(context, RoutePosition.class);
+            assertThat(positionIds.getIncrementSize()).isEqualTo(allocationSize);
+            long sequenceAccesses = positionIds.getTableAccessCount();
+            long statements = writeStatements();
+            long startedNanos = System.nanoTime();
+            for (int i = 0; i < POSITION_TICKS; i++) {
+                routePositionRepository.save(RoutePosition.builder()
+                        .route(routeRef)
+                        .lat(new BigDecimal("37.280000"))
+                        .lng(new BigDecimal("127.040000"))
+                        .ts(LocalDateTime.now())
+                        .build());
+            }
+            long positionMs = (System.nanoTime() - startedNanos) / 1_000_000;
+            long positionStatements = writeStatements() - statements;
+            long positionSequenceAccesses = positionIds.getTableAccessCount() - sequenceAccesses;
+
+            // 2. 경로 생성 (경로 1건 + 정류장 12건을 한 트랜잭션에서 cascade 저장)
+            DroneRepository droneRepository = context.getBean(DroneRepository.class);
+            StoreRepository storeRepository = context.getBean(StoreRepository.class);
+            statements = writeStatements();
+            startedNanos = System.nanoTime();
+            for (int r = 0; r < ROUTES; r++) {
+                transactionTemplate.executeWithoutResult(tx -> {
+                    Route route = Route.builder()
+                            .drone(droneRepository.getReferenceById(1L))
+                            .store(storeRepository.getReferenceById(1L))
+                            .heuristic("BENCHMARK")
+                            .build();
+                    for (int s = 1; s <= STOPS_PER_ROUTE; s++) {
+                        route.addRouteStop(RouteStop.builder()
+                                .stopSequence(s)
+                                .stopType(s == 1 ? StopType.PICKUP : s == STOPS_PER_ROUTE ? StopType.RETURN : StopType.DROP)
+                                .lat(new BigDecimal("37.280000"))
+                                .lng(new BigDecimal("127.040000"))
+                                .build());
+                    }
+                    routeRepository.save(route);
+                });
+            }
+            long routeMs = (System.nanoTime() - startedNanos) / 1_000_000;
+            long routeStatements = writeStatements() - statements;
+
+            Measurement measurement = new Measurement(positionStatements, positionSequenceAccesses, positionMs,
+                    routeStatements, routeMs);
+            log.info("{} - 위치 틱 {}건: INSERT/UPDATE {}회, id_sequence 접근 {}회, {}ms / 경로 {}건(정류장 {}개씩): INSERT/UPDATE {}회, {}ms",
+                    label, POSITION_TICKS, positionStatements, positionSequenceAccesses, positionMs,
+                    ROUTES, STOPS_PER_ROUTE, routeStatements, routeMs);
+            return measurement;
+        }
+    }
+
+    private static ConfigurableApplicationContext start(int allocationSize, int batchSize) {
+        return new SpringApplicationBuilder(DatabaseProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(Map.of(
+                        "DB_HOST", mysql.getHost(),
+                        "DB_PORT", String.valueOf(mysql.getFirstMappedPort()),
+                        "DB_NAME", mysql.getDatabaseName(),
+                        "DB_USERNAME", mysql.getUsername(),
+                        "DB_PASSWORD", mysql.getPassword(),
+                        "simulation.recovery.enabled", "false",
+                        "spring.jpa.properties.hibernate.show_sql", "false",
+                        "spring.jpa.properties.id-sequence.allocation-size", String.valueOf(allocationSize),
+                        "spring.jpa.properties.hibernate.jdbc.batch_size", String.valueOf(batchSize)))
+                .run();
+    }
+
+    private static TableGenerator generator(ConfigurableApplicationContext context, Class<?> entityClass) {
+        return (TableGenerator) context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getGenerator();
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM route", Long.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO `user` (user_id, name, lat, lng, role, registered_at) " +
+                "VALUES (1, 'owner', 37.28, 127.04, 'OWNER', NOW())");
+        jdbcTemplate.update("INSERT INTO store (store_id, owner_id, name, type, lat, lng, delivery_radius_km, is_active, registered_at) " +
+                "VALUES (1, 1, 'store', 'CONVENIENCE', 37.28, 127.04, 2.00, 1, NOW())");
+        jdbcTemplate.update("INSERT INTO drone (drone_id, store_id, model, battery_capacity, max_payload_kg, status, registered_at) " +
+                "VALUES (1, 1, 'DJI', 5000, 2.000, 'IN_FLIGHT', NOW())");
+        jdbcTemplate.update("INSERT INTO route (route_id, drone_id, store_id, status) VALUES (1, 1, 1, 'LAUNCHED')");
+    }
+
+    /**
+     * 서버가 지금까지 실행한 INSERT + UPDATE 문장 수
+     */
+    private static long writeStatements() {
+        return status.query("SHOW GLOBAL STATUS WHERE Variable_name IN ('Com_insert', 'Com_update')",
+                rs -> {
+                    long total = 0;
+                    while (rs.next()) {
+                        total += rs.getLong("Value");
+                    }
+                    return total;
+                });
+    }
+
+    private record Measurement(long positionStatements, long positionSequenceAccesses, long positionMs,
+                               long routeStatements, long routeMs) {
+    }
+}
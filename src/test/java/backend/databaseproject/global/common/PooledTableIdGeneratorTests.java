@@ -0,0 +1,102 @@
+package backend.databaseproject.global.common;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테이블 기반 ID 생성기 테스트
+ * 내장 H2에 &#64;PooledTableId 엔티티 하나로 SessionFactory를 만들어, 설정한 할당 크기가 생성기에 반영되고
+ * id_sequence 조회/갱신 1회가 할당 크기만큼의 INSERT를 감당하는지 확인합니다.
+ */
+class PooledTableIdGeneratorTests {
+
+    private final List<SessionFactory> sessionFactories = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        sessionFactories.forEach(SessionFactory::close);
+    }
+
+    @Test
+    void allocationSizeSettingConfiguresGenerator() {
+        TableGenerator generator = generator(buildSessionFactory("5"));
+
+        assertThat(generator.getTableName()).isEqualTo(IdSequences.TABLE);
+        assertThat(generator.getSegmentValue()).isEqualTo("sample");
+        assertThat(generator.getIncrementSize()).isEqualTo(5);
+        assertThat(generator.getOptimizer()).isInstanceOf(PooledLoOptimizer.class);
+    }
+
+    @Test
+    void defaultAllocationSizeIsUsedWithoutSetting() {
+        TableGenerator generator = generator(buildSessionFactory(null));
+
+        assertThat(generator.getIncrementSize()).isEqualTo(IdSequences.DEFAULT_ALLOCATION_SIZE);
+    }
+
+    @Test
+    void oneSequenceRoundTripCoversAllocationSizeInserts() {
+        SessionFactory sessionFactory = buildSessionFactory("5");
+        TableGenerator generator = generator(sessionFactory);
+        long accessesBefore = generator.getTableAccessCount();
+
+        List<Long> ids = new ArrayList<>();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < 12; i++) {
+                Sample sample = new Sample();
+                session.persist(sample);
+                ids.add(sample.id);
+            }
+        });
+
+        // 12건 = 5 + 5 + 2 -> id_sequence 접근 3회
+        assertThat(generator.getTableAccessCount() - accessesBefore).isEqualTo(3);
+        assertThat(ids).doesNotHaveDuplicates().hasSize(12);
+    }
+
+    private SessionFactory buildSessionFactory(String allocationSize) {
+        StandardServiceRegistryBuilder builder = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:pooled_" + sessionFactories.size() + ";DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "create-drop");
+        if (allocationSize != null) {
+            builder.applySetting(PooledTableIdGenerator.ALLOCATION_SIZE_SETTING, allocationSize);
+        }
+        StandardServiceRegistry registry = builder.build();
+        SessionFactory sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(Sample.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        sessionFactories.add(sessionFactory);
+        return sessionFactory;
+    }
+
+    private static TableGenerator generator(SessionFactory sessionFactory) {
+        return (TableGenerator) sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(Sample.class)
+                .getGenerator();
+    }
+
+    @Entity(name = "PooledSample")
+    static class Sample {
+
+        @Id
+        @PooledTableId("sample")
+        Long id;
+    }
+}
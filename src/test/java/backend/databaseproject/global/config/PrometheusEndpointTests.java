@@ -0,0 +1,57 @@
+package backend.databaseproject.global.config;
+
+import backend.databaseproject.support.MySqlIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Prometheus 수집 엔드포인트 테스트
+ * 직접 등록한 지표가 /actuator/prometheus에 Prometheus 이름으로 노출되고, 모두 application 태그를 갖는지 확인합니다.
+ * (테스트에서는 지표 내보내기가 기본으로 꺼지므로 @AutoConfigureObservability로 켭니다)
+ */
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class PrometheusEndpointTests extends MySqlIntegrationTest {
+
+    private static final String APPLICATION_TAG = "application=\"drone-delivery\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exposesCustomMetersWithApplicationTag() throws Exception {
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // DroneSimulatorService
+        assertExposed(body, "drone_flights_active");
+        assertExposed(body, "drone_simulator_tick_lag_milliseconds");
+        // MetricsConfig (실행기별 대기열 길이)
+        assertExposed(body, "drone_executor_queue_depth", "executor=\"simulation-clock\"");
+        assertExposed(body, "drone_executor_queue_depth", "executor=\"sse-sender\"");
+        // OutboxRelay, PositionFrameConflator
+        assertExposed(body, "outbox_events_dead");
+        assertExposed(body, "drone_websocket_messages_sent_total");
+        // Hikari 커넥션 풀 (자동 등록)
+        assertExposed(body, "hikaricp_connections_active");
+    }
+
+    private static void assertExposed(String body, String name, String... labels) {
+        assertThat(Arrays.stream(body.split("\n"))
+                .filter(line -> line.startsWith(name + "{"))
+                .filter(line -> line.contains(APPLICATION_TAG))
+                .anyMatch(line -> Arrays.stream(labels).allMatch(line::contains)))
+                .as("%s%s", name, Arrays.toString(labels))
+                .isTrue();
+    }
+}
@@ -0,0 +1,131 @@
+package backend.databaseproject.global.datasource;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 테스트
+ * 내장 H2 DB 두 개를 PRIMARY/REPLICA로 두고, 각 DB에 자기 이름을 기록해 어느 쪽에서 읽었는지 확인합니다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadWriteRoutingDataSourceTests {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private ReplicaStalenessGuard guard;
+
+    @BeforeAll
+    void setUp() {
+        primary = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("routing_primary").build();
+        replica = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("routing_replica").build();
+        for (EmbeddedDatabase db : new EmbeddedDatabase[]{primary, replica}) {
+            JdbcTemplate template = new JdbcTemplate(db);
+            template.execute("CREATE TABLE whoami (name VARCHAR(16))");
+            template.update("INSERT INTO whoami VALUES (?)", db == primary ? "primary" : "replica");
+        }
+
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        guard = new ReplicaStalenessGuard();
+        ReflectionTestUtils.setField(guard, "routingEnabled", true);
+        ReflectionTestUtils.setField(guard, "stalenessMs", 60000L);
+    }
+
+    @AfterAll
+    void tearDown() {
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    private String whoami() {
+        return jdbcTemplate.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private String whoami(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> whoami());
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        assertThat(whoami(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(whoami(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void noTransactionUsesPrimary() {
+        assertThat(whoami()).isEqualTo("primary");
+    }
+
+    @Test
+    void forcePrimaryOverridesReadOnly() {
+        String forced = DataSourceRouting.forcePrimary(() -> whoami(readOnly));
+        assertThat(forced).isEqualTo("primary");
+        assertThat(whoami(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void pinIsReleasedWhenTransactionEnds() {
+        String pinned = readOnly.execute(status -> {
+            DataSourceRouting.pinPrimary();
+            return whoami();
+        });
+        assertThat(pinned).isEqualTo("primary");
+        assertThat(whoami(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void recentlyWrittenKeyIsReadFromPrimary() {
+        readWrite.executeWithoutResult(status -> guard.markWritten("order:1"));
+
+        String written = readOnly.execute(status -> {
+            guard.pinIfRecentlyWritten("order:1");
+            return whoami();
+        });
+        String other = readOnly.execute(status -> {
+            guard.pinIfRecentlyWritten("order:2");
+            return whoami();
+        });
+
+        assertThat(written).isEqualTo("primary");
+        assertThat(other).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteIsNotGuarded() {
+        readWrite.executeWithoutResult(status -> {
+            guard.markWritten("order:3");
+            status.setRollbackOnly();
+        });
+
+        String read = readOnly.execute(status -> {
+            guard.pinIfRecentlyWritten("order:3");
+            return whoami();
+        });
+        assertThat(read).isEqualTo("replica");
+    }
+}
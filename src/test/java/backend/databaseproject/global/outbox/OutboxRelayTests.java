@@ -0,0 +1,149 @@
+package backend.databaseproject.global.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 릴레이 재시도 테스트
+ * 구독자가 계속 실패하는 이벤트가 지수적으로 늘어나는 간격으로 재시도되고,
+ * max-attempts회 실패하면 삭제되지 않고 DEAD 상태로 보관되어 게이지에 반영되는지 확인합니다.
+ * 리스너는 선점 트랜잭션이 커밋된 뒤에 호출되어야 합니다.
+ */
+class OutboxRelayTests {
+
+    private OutboxEventRepository outboxEventRepository;
+    private OutboxEventListener listener;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        listener = mock(OutboxEventListener.class);
+        when(listener.supports(any())).thenReturn(true);
+        doThrow(new IllegalStateException("notifier down")).when(listener).onEvent(any());
+
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("listener", listener);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+
+        outboxRelay = new OutboxRelay(outboxEventRepository, beans.getBeanProvider(OutboxEventListener.class),
+                transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 10);
+        ReflectionTestUtils.setField(outboxRelay, "backoffInitialMs", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "backoffMaxMs", 300000L);
+        ReflectionTestUtils.setField(outboxRelay, "leaseMs", 60000L);
+        ReflectionTestUtils.invokeMethod(outboxRelay, "registerMetrics");
+    }
+
+    @Test
+    void failedEventIsRetriedWithExponentialBackoff() {
+        OutboxEvent event = event();
+        ReflectionTestUtils.setField(event, "attempts", 3);
+        when(outboxEventRepository.claimBatch(any(), anyInt())).thenReturn(List.of(event));
+
+        LocalDateTime before = LocalDateTime.now();
+        outboxRelay.poll();
+
+        // 4번째 실패 -> 1초 * 2^3
+        assertThat(event.getAttempts()).isEqualTo(4);
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.PENDING);
+        assertThat(Duration.between(before, event.getNextAttemptAt()).toMillis()).isCloseTo(8000L, within(1000L));
+        assertThat(event.getLastError()).contains("notifier down");
+        verify(outboxEventRepository).deleteAllInBatch(List.of());
+    }
+
+    @Test
+    void retryIntervalIsCapped() {
+        OutboxEvent event = event();
+        ReflectionTestUtils.setField(event, "attempts", 8);
+        ReflectionTestUtils.setField(outboxRelay, "backoffMaxMs", 60000L);
+        when(outboxEventRepository.claimBatch(any(), anyInt())).thenReturn(List.of(event));
+
+        LocalDateTime before = LocalDateTime.now();
+        outboxRelay.poll();
+
+        // 1초 * 2^8 = 256초 -> 상한 60초
+        assertThat(Duration.between(before, event.getNextAttemptAt()).toMillis()).isCloseTo(60000L, within(1000L));
+    }
+
+    @Test
+    void exhaustedEventIsKeptAsDeadLetter() {
+        OutboxEvent event = event();
+        ReflectionTestUtils.setField(event, "attempts", 9);
+        when(outboxEventRepository.claimBatch(any(), anyInt())).thenReturn(List.of(event));
+
+        outboxRelay.poll();
+
+        assertThat(event.getStatus()).isEqualTo(OutboxEventStatus.DEAD);
+        assertThat(event.getNextAttemptAt()).isNull();
+        verify(outboxEventRepository).deleteAllInBatch(List.of());
+        assertThat(meterRegistry.get("outbox.events.dead.lettered").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("outbox.events.dead").gauge().value()).isEqualTo(1.0);
+
+        // 주기 점검은 DB에 보관된 수로 게이지를 맞춤
+        when(outboxEventRepository.countByStatus(OutboxEventStatus.DEAD)).thenReturn(3L);
+        outboxRelay.reportDeadLetters();
+        assertThat(meterRegistry.get("outbox.events.dead").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void claimIsCommittedBeforeListenersRun() throws Exception {
+        OutboxEvent event = event();
+        when(outboxEventRepository.claimBatch(any(), anyInt())).thenReturn(List.of(event));
+        List<LocalDateTime> leasedUntil = new ArrayList<>();
+        doAnswer(invocation -> {
+            leasedUntil.add(event.getNextAttemptAt());
+            return null;
+        }).when(listener).onEvent(any());
+
+        LocalDateTime before = LocalDateTime.now();
+        outboxRelay.poll();
+
+        // 선점 커밋 -> 리스너 호출 -> 결과 트랜잭션(삭제) 커밋
+        InOrder inOrder = inOrder(transactionManager, listener, outboxEventRepository);
+        inOrder.verify(outboxEventRepository).claimBatch(any(), anyInt());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(listener).onEvent(event);
+        inOrder.verify(outboxEventRepository).deleteAllInBatch(List.of(event));
+        inOrder.verify(transactionManager).commit(any());
+        // 리스너가 도는 동안에는 lease-ms 뒤까지 다른 노드가 가져가지 않음
+        assertThat(Duration.between(before, leasedUntil.get(0)).toMillis()).isCloseTo(60000L, within(1000L));
+    }
+
+    private static OutboxEvent event() {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(OutboxEventType.ORDER_FULFILLED)
+                .aggregateId(1L)
+                .payload("{}")
+                .build();
+        ReflectionTestUtils.setField(event, "eventId", 100L);
+        return event;
+    }
+}
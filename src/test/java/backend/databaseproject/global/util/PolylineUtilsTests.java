@@ -0,0 +1,74 @@
+package backend.databaseproject.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 궤적 단순화/인코딩 테스트
+ * 인코딩은 Google Encoded Polyline 문서의 예제, 단순화는 적도 부근(경도 1도 ≈ 위도 1도 ≈ 111.2km)에서 편차를 알고 있는 점으로 확인합니다.
+ */
+class PolylineUtilsTests {
+
+    // Google 문서 예제: (38.5, -120.2), (40.7, -120.95), (43.252, -126.453)
+    private static final double[] GOOGLE_LATS = {38.5, 40.7, 43.252};
+    private static final double[] GOOGLE_LNGS = {-120.2, -120.95, -126.453};
+    private static final String GOOGLE_POLYLINE = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+
+    @Test
+    void encodesGoogleReferenceExample() {
+        assertThat(PolylineUtils.encode(GOOGLE_LATS, GOOGLE_LNGS, 3, null)).isEqualTo(GOOGLE_POLYLINE);
+    }
+
+    @Test
+    void encodesOnlyKeptPointsWithDeltasBetweenThem() {
+        // 버린 점은 차이 계산에서도 빠지므로 남은 점만 인코딩한 결과와 같아야 함
+        double[] lats = {38.5, 39.0, 40.7, 43.252};
+        double[] lngs = {-120.2, -121.0, -120.95, -126.453};
+
+        String encoded = PolylineUtils.encode(lats, lngs, 4, new boolean[]{true, false, true, true});
+
+        assertThat(encoded).isEqualTo(GOOGLE_POLYLINE);
+    }
+
+    @Test
+    void removesPointsWithinToleranceRecursively() {
+        // 경도 0.001도(≈111m) 간격, 가운데 점은 위도 0.0002도(≈22m), 양옆 점은 0.00005도(≈5.6m) 벗어남
+        double[] lats = {0, 0.00005, 0.0002, 0.00005, 0};
+        double[] lngs = {0, 0.001, 0.002, 0.003, 0.004};
+
+        // 15m: 가운데 점(22m)만 유지, 가운데 점으로 나눈 두 구간에서 양옆 점(≈5.5m)은 제거
+        assertThat(PolylineUtils.simplify(lats, lngs, 5, 15.0)).containsExactly(true, false, true, false, true);
+        // 3m: 나눈 구간에서도 양옆 점이 허용 오차를 넘음
+        assertThat(PolylineUtils.simplify(lats, lngs, 5, 3.0)).containsExactly(true, true, true, true, true);
+        // 30m: 양 끝점만 남음
+        assertThat(PolylineUtils.simplify(lats, lngs, 5, 30.0)).containsExactly(true, false, false, false, true);
+    }
+
+    @Test
+    void keepsEveryPointWithoutTolerance() {
+        double[] lats = {0, 0, 0};
+        double[] lngs = {0, 0.001, 0.002};
+
+        assertThat(PolylineUtils.simplify(lats, lngs, 3, 0)).containsExactly(true, true, true);
+        assertThat(PolylineUtils.simplify(lats, lngs, 3, 1.0)).containsExactly(true, false, true);
+    }
+
+    @Test
+    void simplifiesLongZigzagWithoutStackOverflow() {
+        // 점마다 방향이 바뀌는 지그재그는 모든 점이 유지되어 분할 깊이가 점 수에 비례
+        int count = 10_000;
+        double[] lats = new double[count];
+        double[] lngs = new double[count];
+        for (int i = 0; i < count; i++) {
+            lats[i] = (i % 2) * 0.001;
+            lngs[i] = i * 0.00001;
+        }
+
+        boolean[] keep = PolylineUtils.simplify(lats, lngs, count, 1.0);
+
+        for (boolean kept : keep) {
+            assertThat(kept).isTrue();
+        }
+    }
+}
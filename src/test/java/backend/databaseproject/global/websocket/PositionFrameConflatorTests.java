@@ -0,0 +1,156 @@
+package backend.databaseproject.global.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 위치 프레임 최신값 병합 테스트
+ * 전송 완료 신호는 세션 데코레이터에 STOMP MESSAGE 프레임을 써서 발생시키고, 보관 프레임 재전송은 기록용 채널로 확인합니다.
+ */
+class PositionFrameConflatorTests {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String ROUTE = "/topic/route/1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private PositionFrameConflator conflator;
+    private RecordingChannel channel;
+    private WebSocketSession trackedSession;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        conflator = new PositionFrameConflator(meterRegistry);
+        ReflectionTestUtils.setField(conflator, "inFlightTimeoutMs", 10000L);
+        ReflectionTestUtils.invokeMethod(conflator, "registerMetrics");
+        channel = new RecordingChannel();
+
+        // 하위 STOMP 핸들러가 받는 (전송 완료 추적) 세션
+        WebSocketHandler delegate = mock(WebSocketHandler.class);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(SESSION_ID);
+        conflator.decorate(delegate).afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(delegate).afterConnectionEstablished(captor.capture());
+        trackedSession = captor.getValue();
+    }
+
+    @Test
+    void newerFrameReplacesPendingFrame() throws Exception {
+        Message<?> first = position(ROUTE, "1");
+        assertThat(conflator.preSend(first, channel)).isSameAs(first);
+
+        // 첫 프레임이 쓰이기 전 도착한 프레임은 가장 최신 것 하나만 보관
+        assertThat(conflator.preSend(position(ROUTE, "2"), channel)).isNull();
+        Message<?> third = position(ROUTE, "3");
+        assertThat(conflator.preSend(third, channel)).isNull();
+        assertThat(dropped("conflated")).isEqualTo(1.0);
+
+        written(ROUTE);
+        assertThat(channel.sent).containsExactly(third);
+
+        // 보관 프레임까지 쓰이면 다음 프레임은 바로 통과
+        written(ROUTE);
+        Message<?> fourth = position(ROUTE, "4");
+        assertThat(conflator.preSend(fourth, channel)).isSameAs(fourth);
+        assertThat(channel.sent).containsExactly(third);
+        assertThat(meterRegistry.get("drone.websocket.messages.sent").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void inFlightFrameIsTreatedAsLostAfterTimeout() throws Exception {
+        ReflectionTestUtils.setField(conflator, "inFlightTimeoutMs", 50L);
+        conflator.preSend(position(ROUTE, "1"), channel);
+        assertThat(conflator.preSend(position(ROUTE, "2"), channel)).isNull();
+
+        // 전송 완료 신호 없이 in-flight-timeout-ms가 지나면 새 프레임을 바로 보내고, 더 오래된 보관 프레임은 버림
+        Thread.sleep(80);
+        Message<?> third = position(ROUTE, "3");
+        assertThat(conflator.preSend(third, channel)).isSameAs(third);
+        assertThat(dropped("conflated")).isEqualTo(1.0);
+
+        written(ROUTE);
+        assertThat(channel.sent).isEmpty();
+    }
+
+    @Test
+    void slotsAreKeptPerDestination() {
+        Message<?> route = position(ROUTE, "1");
+        Message<?> order = position("/topic/order/7/position", "1");
+
+        assertThat(conflator.preSend(route, channel)).isSameAs(route);
+        assertThat(conflator.preSend(order, channel)).isSameAs(order);
+    }
+
+    @Test
+    void nonPositionMessagesPassThrough() {
+        conflator.preSend(position(ROUTE, "1"), channel);
+
+        // 배송 완료 알림, 구간 계획, 압축 프레임은 병합하지 않음
+        for (String destination : List.of("/topic/order/7", "/topic/route/1/plan", "/topic/route/1/compact")) {
+            Message<?> message = position(destination, "status");
+            assertThat(conflator.preSend(message, channel)).isSameAs(message);
+            assertThat(conflator.preSend(message, channel)).isSameAs(message);
+        }
+    }
+
+    @Test
+    void disconnectDropsPendingFrames() {
+        conflator.preSend(position(ROUTE, "1"), channel);
+        conflator.preSend(position(ROUTE, "2"), channel);
+
+        conflator.removeSession(SESSION_ID);
+
+        assertThat(dropped("closed")).isEqualTo(1.0);
+        Message<?> next = position(ROUTE, "3");
+        assertThat(conflator.preSend(next, channel)).isSameAs(next);
+    }
+
+    private void written(String destination) throws Exception {
+        trackedSession.sendMessage(new TextMessage("MESSAGE\ndestination:" + destination + "\nsubscription:sub-0\n\n{}\u0000"));
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("drone.websocket.messages.dropped").tag("reason", reason).counter().count();
+    }
+
+    private static Message<?> position(String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload.getBytes(), accessor.getMessageHeaders());
+    }
+
+    /**
+     * 보관 프레임 재전송 기록용 채널
+     */
+    private static final class RecordingChannel implements MessageChannel {
+        private final List<Message<?>> sent = new ArrayList<>();
+
+        @Override
+        public boolean send(Message<?> message, long timeout) {
+            sent.add(message);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package backend.databaseproject.support;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.annotation.DirtiesContext;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MySQL 통합 테스트 기반 클래스
+ * 모든 테스트 클래스가 {@link SharedMySqlContainer} 하나에 연결하고, 클래스마다 빈 테이블에서 시작합니다.
+ *
+ * - 시작 시 비행 복구는 끕니다 (다른 테스트가 남긴 비행을 이어서 시뮬레이션하지 않도록).
+ * - 클래스가 끝나면 컨텍스트를 닫아, 남아 있는 스케줄러가 다음 테스트 클래스의 데이터를 건드리지 않게 합니다.
+ *
+ * Docker가 없는 환경에서는 건너뜁니다.
+ */
+@SpringBootTest(properties = "simulation.recovery.enabled=false")
+@Testcontainers(disabledWithoutDocker = true)
+@DirtiesContext
+public abstract class MySqlIntegrationTest {
+
+    @ServiceConnection
+    protected static final MySQLContainer<?> mysql = SharedMySqlContainer.get();
+
+    @BeforeAll
+    static void truncateTables() {
+        SharedMySqlContainer.truncateTables();
+    }
+}
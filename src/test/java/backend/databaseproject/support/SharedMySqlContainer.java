@@ -0,0 +1,59 @@
+package backend.databaseproject.support;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 테스트 전체가 함께 쓰는 MySQL 컨테이너
+ * 처음 사용할 때 한 번만 띄우고 JVM이 끝날 때까지 유지합니다 (종료는 Testcontainers가 처리).
+ * 테스트 클래스 사이의 데이터는 {@link #truncateTables()}로 비웁니다.
+ */
+public final class SharedMySqlContainer {
+
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    // 비우지 않는 테이블 (마이그레이션 이력, 한 번 나눠 준 ID를 다시 주지 않도록 ID 시퀀스)
+    private static final List<String> KEPT_TABLES = List.of("flyway_schema_history", "id_sequence");
+
+    private SharedMySqlContainer() {
+    }
+
+    /**
+     * 실행 중인 컨테이너 반환 (처음 호출 시 시작)
+     */
+    public static synchronized MySQLContainer<?> get() {
+        if (!MYSQL.isRunning()) {
+            MYSQL.start();
+        }
+        return MYSQL;
+    }
+
+    /**
+     * 마이그레이션으로 만든 테이블의 데이터를 모두 삭제 (스키마는 유지)
+     */
+    public static void truncateTables() {
+        MySQLContainer<?> mysql = get();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword()));
+        List<String> tables = jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM information_schema.TABLES " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_TYPE = 'BASE TABLE'", String.class);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+                for (String table : tables) {
+                    if (!KEPT_TABLES.contains(table)) {
+                        statement.execute("TRUNCATE TABLE `" + table + "`");
+                    }
+                }
+                statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+            }
+            return null;
+        });
+    }
+}